@@ -23,11 +23,16 @@
  */
 package dev.triumphteam.nova;
 
+import com.google.common.collect.MapMaker;
 import dev.triumphteam.nova.builtin.SimpleMutableState;
 import dev.triumphteam.nova.policy.StateMutationPolicy;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 /**
@@ -39,9 +44,24 @@ import java.util.function.Function;
  */
 public abstract class AbstractMutableState<T> extends AbstractState implements MutableState<T> {
 
+    private static final VarHandle GENERATION;
+
+    static {
+        try {
+            GENERATION = MethodHandles.lookup().findVarHandle(AbstractMutableState.class, "generation", long.class);
+        } catch (final ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
     private final StateMutationPolicy<T> mutationPolicy;
     private T value;
 
+    // Counts the triggers, used by the selector groups to evaluate once per trigger
+    private volatile long generation;
+    // Lazily created, the groups are weakly held so they go away with their last listener
+    private volatile @Nullable ConcurrentMap<Function<?, ?>, SelectorGroup<T, ?>> selectorGroups;
+
     public AbstractMutableState(final T value, final @NotNull StateMutationPolicy<T> mutationPolicy) {
         this.value = value;
         this.mutationPolicy = mutationPolicy;
@@ -54,11 +74,32 @@ public abstract class AbstractMutableState<T> extends AbstractState implements M
 
     @Override
     public void set(final T value) {
-        // Will only mutate the value if the policy allows it
-        if (!mutationPolicy.shouldMutate(this.value, value)) return;
+        if (mutate(value)) trigger();
+    }
 
-        this.value = value;
-        trigger();
+    @Override
+    public void trigger() {
+        GENERATION.getAndAdd(this, 1L);
+        super.trigger();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Listeners using equal selectors share a single evaluation of the selector per trigger.
+     */
+    @Override
+    public <R> void addListener(
+        final @NotNull Object stateful,
+        final @NotNull Function<? super T, ? extends R> selector,
+        final @NotNull StateMutationPolicy<R> mutationPolicy,
+        final @NotNull Runnable listener
+    ) {
+        @SuppressWarnings("unchecked")
+        final var group = (SelectorGroup<T, R>) selectorGroups().computeIfAbsent(
+            selector,
+            ignored -> new SelectorGroup<>(this, selector)
+        );
+        addListener(stateful, new SelectorListener<>(this, group, mutationPolicy, listener));
     }
 
     @Override
@@ -68,6 +109,53 @@ public abstract class AbstractMutableState<T> extends AbstractState implements M
         return value;
     }
 
+    /**
+     * Replaces the value without triggering the listeners.
+     * Will only mutate the value if the {@link StateMutationPolicy} allows it.
+     *
+     * @param value The new value of the state.
+     * @return Whether the value was replaced.
+     */
+    protected boolean mutate(final T value) {
+        if (!mutationPolicy.shouldMutate(this.value, value)) return false;
+
+        this.value = value;
+        return true;
+    }
+
+    /**
+     * Sets the value ignoring the {@link StateMutationPolicy} and without triggering,
+     * used by states that compute their first value late.
+     *
+     * @param value The value of the state.
+     */
+    protected void initialize(final T value) {
+        this.value = value;
+    }
+
+    /**
+     * The amount of times this state was triggered.
+     *
+     * @return The current generation.
+     */
+    long generation() {
+        return generation;
+    }
+
+    private @NotNull ConcurrentMap<Function<?, ?>, SelectorGroup<T, ?>> selectorGroups() {
+        var groups = selectorGroups;
+        if (groups != null) return groups;
+
+        synchronized (this) {
+            groups = selectorGroups;
+            if (groups == null) {
+                groups = new MapMaker().weakValues().makeMap();
+                selectorGroups = groups;
+            }
+            return groups;
+        }
+    }
+
     @Override
     public @NotNull StateMutationPolicy<T> stateMutationPolicy() {
         return mutationPolicy;
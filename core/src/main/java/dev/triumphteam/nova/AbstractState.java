@@ -23,7 +23,12 @@
  */
 package dev.triumphteam.nova;
 
+import dev.triumphteam.nova.jfr.NovaRecording;
+import dev.triumphteam.nova.jfr.StateTriggerEvent;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.ObjIntConsumer;
 
 /**
  * This class provides basic functionality for managing state, such as registering
@@ -34,18 +39,132 @@ import org.jetbrains.annotations.NotNull;
  *
  * @see State
  * @see StateListenerContainer
+ * @see StateDispatcher
  */
 public abstract class AbstractState implements State {
 
-    private final StateListenerContainer listenerContainer = new StateListenerContainer();
+    // Created on the first listener, most states are never observed
+    private volatile @Nullable StateListenerContainer listenerContainer;
+    // Plain field, it's only read by diagnostics so a lost increment doesn't matter
+    private long triggerCount;
 
+    /**
+     * {@inheritDoc}
+     * Triggers raised while listeners are running are queued by the {@link StateDispatcher}
+     * and run after the current listeners, instead of recursing.
+     */
     @Override
     public void trigger() {
-        listenerContainer.triggerAll();
+        triggerCount++;
+        final var listenerContainer = this.listenerContainer;
+        if (!NovaRecording.isTriggerRecorded()) {
+            if (listenerContainer != null) StateDispatcher.dispatch(this, listenerContainer);
+            return;
+        }
+
+        final var event = new StateTriggerEvent();
+        event.begin();
+        // States that were never listened to have nothing to dispatch, the trigger is still recorded
+        if (listenerContainer != null) StateDispatcher.dispatch(this, listenerContainer);
+        event.end();
+        if (event.shouldCommit()) {
+            event.stateType = getClass();
+            event.holderType = NovaRecording.holderType(this);
+            event.fanOut = listenerContainer != null ? listenerContainer.size() : 0;
+            event.commit();
+        }
     }
 
     @Override
     public void addListener(final @NotNull Object stateful, final @NotNull Runnable listener) {
-        listenerContainer.addListener(stateful, listener);
+        listenerContainer().addListener(stateful, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The replaced listener keeps its place in the order the listeners run in.
+     */
+    @Override
+    public void addListener(final @NotNull Object stateful, final @NotNull Object key, final @NotNull Runnable listener) {
+        listenerContainer().addListener(stateful, KeyedListener.of(key, listener));
+    }
+
+    @Override
+    public boolean removeListener(final @NotNull Object stateful, final @NotNull Runnable listener) {
+        final var listenerContainer = this.listenerContainer;
+        return listenerContainer != null && listenerContainer.removeListener(stateful, listener);
+    }
+
+    /**
+     * The amount of times this state was triggered, meant for diagnostics.
+     *
+     * @return The trigger count.
+     */
+    public long getTriggerCount() {
+        return triggerCount;
+    }
+
+    /**
+     * Visits the stateful objects listening to this state with the amount of listeners each of them added,
+     * meant for diagnostics.
+     *
+     * @param consumer Receives each stateful object and its listener count.
+     */
+    public void forEachListenerOwner(final @NotNull ObjIntConsumer<Object> consumer) {
+        final var listenerContainer = this.listenerContainer;
+        if (listenerContainer != null) listenerContainer.forEachOwner(consumer);
+    }
+
+    /**
+     * Visits the stateful objects listening to the described changes of this state
+     * with the amount of change listeners each of them added, meant for diagnostics.
+     *
+     * @param consumer Receives each stateful object and its change listener count.
+     */
+    public void forEachChangeListenerOwner(final @NotNull ObjIntConsumer<Object> consumer) {
+        final var container = changeListenerContainer();
+        if (container != null) container.forEachOwner(consumer);
+    }
+
+    /**
+     * Opts this state into running its listeners in parallel once there are enough of them,
+     * meant for global states observed by a very large amount of stateful objects.
+     *
+     * @param parallelDispatch The parallel dispatch to use or {@code null} to run the listeners sequentially.
+     * @see ParallelDispatch
+     */
+    public void setParallelDispatch(final @Nullable ParallelDispatch parallelDispatch) {
+        listenerContainer().setParallelDispatch(parallelDispatch);
+    }
+
+    /**
+     * Drops every listener of this state, used by states released to a pool, see dev.triumphteam.nova.pool.StatePool.
+     */
+    protected final void clearListeners() {
+        final var listenerContainer = this.listenerContainer;
+        if (listenerContainer != null) listenerContainer.clear();
+    }
+
+    /**
+     * The change listeners of states that describe their changes, such as list states.
+     *
+     * @return The change listener container or {@code null} if there are none.
+     */
+    protected @Nullable ChangeListenerContainer<?, ?> changeListenerContainer() {
+        return null;
+    }
+
+    private @NotNull StateListenerContainer listenerContainer() {
+        var container = listenerContainer;
+        if (container != null) return container;
+
+        synchronized (this) {
+            container = listenerContainer;
+            if (container == null) {
+                container = new StateListenerContainer();
+                listenerContainer = container;
+            }
+            return container;
+        }
     }
 }
@@ -0,0 +1,154 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A container for listeners that receive a description of the change, such as {@link ListChangeListener}.
+ * The listeners are kept in a {@link StateListenerContainer}, tied to the lifecycle of a weakly referenced
+ * stateful object, and delivered through the {@link StateDispatcher}, so the triggers they raise are queued
+ * and the listeners are recorded like any other.
+ * <p>
+ * A change is delivered right away, even while dispatching, since it describes the contents of its state
+ * at that point, later changes would make it wrong once it runs.
+ * Like the states using it, the container is not meant to describe changes from several threads at once.
+ *
+ * @param <L> The type of the listener.
+ * @param <C> The type of the change.
+ */
+public final class ChangeListenerContainer<L, C> {
+
+    private final StateListenerContainer listeners = new StateListenerContainer();
+    private final BiConsumer<? super L, ? super C> delivery;
+    // The change being delivered, read by the listener adapters
+    private @Nullable C change;
+
+    /**
+     * Creates an empty container.
+     *
+     * @param delivery Hands a change to a listener, such as {@code ListChangeListener::onChange}.
+     */
+    public ChangeListenerContainer(final @NotNull BiConsumer<? super L, ? super C> delivery) {
+        this.delivery = delivery;
+    }
+
+    /**
+     * Adds listener tied to the {@link Object} lifecycle.
+     *
+     * @param stateful The stateful object to be used as the reference.
+     * @param listener The listener to run when the state changes.
+     */
+    public void addListener(final @NotNull Object stateful, final @NotNull L listener) {
+        listeners.addListener(stateful, new Listener(listener));
+    }
+
+    /**
+     * Removes a listener tied to the {@link Object}.
+     *
+     * @param stateful The stateful object the listener was added with.
+     * @param listener The listener to remove.
+     * @return Whether the listener was present.
+     */
+    public boolean removeListener(final @NotNull Object stateful, final @NotNull L listener) {
+        return listeners.removeListener(stateful, new Listener(listener));
+    }
+
+    /**
+     * Whether there are no listeners, used to skip building change descriptions nobody reads.
+     *
+     * @return True if there are no listeners.
+     */
+    public boolean isEmpty() {
+        return listeners.isEmpty();
+    }
+
+    /**
+     * Delivers the change to every listener.
+     *
+     * @param state  The state that changed.
+     * @param change The description of the change.
+     */
+    public void emit(final @NotNull State state, final @NotNull C change) {
+        // Restored after, a listener may change the state again, which delivers its change before this one returns
+        final var previous = this.change;
+        this.change = change;
+        try {
+            StateDispatcher.deliver(state, listeners);
+        } finally {
+            this.change = previous;
+        }
+    }
+
+    /**
+     * Counts the listeners of the stateful objects that are still alive.
+     *
+     * @return The amount of listeners.
+     */
+    public int size() {
+        return listeners.size();
+    }
+
+    /**
+     * Visits the stateful objects that are still alive, with the amount of listeners each of them added.
+     *
+     * @param consumer Receives each stateful object and its listener count.
+     */
+    public void forEachOwner(final @NotNull ObjIntConsumer<Object> consumer) {
+        listeners.forEachOwner(consumer);
+    }
+
+    /**
+     * Runs a change listener with the change being delivered, equal to any adapter of the same listener.
+     */
+    private final class Listener implements Runnable {
+
+        private final L listener;
+
+        private Listener(final @NotNull L listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void run() {
+            delivery.accept(listener, change);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ChangeListenerContainer.Listener)) return false;
+            return listener.equals(((ChangeListenerContainer<?, ?>.Listener) o).listener);
+        }
+
+        @Override
+        public int hashCode() {
+            return listener.hashCode();
+        }
+    }
+}
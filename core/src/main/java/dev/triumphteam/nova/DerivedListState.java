@@ -0,0 +1,52 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A read-only {@link ListState} computed from another one, such as {@link ListState#filtered(java.util.function.Predicate)}
+ * or {@link ListState#sorted(java.util.Comparator)}.
+ * The view is maintained incrementally from the changes of its source and is only triggered when its own contents change.
+ * <p>
+ * The view is only weakly referenced by its source, it stops listening once it is no longer used.
+ *
+ * @param <T> The type of the elements of the list.
+ */
+public interface DerivedListState<T> extends ListState<T> {
+
+    /**
+     * The list this view is computed from.
+     *
+     * @return The source {@link ListState}.
+     */
+    @NotNull ListState<T> source();
+
+    /**
+     * Computes the view again from the source, triggering it only if the contents changed.
+     * Needed when the elements themselves change in a way that affects the view without the source being notified,
+     * for example a mutable element whose sort key changed.
+     */
+    void refresh();
+}
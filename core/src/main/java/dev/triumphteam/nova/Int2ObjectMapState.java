@@ -0,0 +1,101 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import dev.triumphteam.nova.builtin.Int2ObjectOpenHashMapState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link MapState} specialized for {@code int} keys.
+ * Keys are stored unboxed, the primitive accessors should be preferred over the {@link Integer} ones
+ * to avoid boxing.
+ * An update is triggered when the map entries change.
+ *
+ * @param <V> The type of the value of the map.
+ */
+public interface Int2ObjectMapState<V> extends MapState<Integer, V> {
+
+    /**
+     * Creates a new empty {@link Int2ObjectMapState} backed by an open addressing hash table.
+     *
+     * @param <V> The type of the value of the map.
+     * @return A new {@link Int2ObjectMapState}.
+     */
+    static <V> @NotNull Int2ObjectMapState<V> of() {
+        return new Int2ObjectOpenHashMapState<>();
+    }
+
+    /**
+     * Gets the value mapped to the given key.
+     *
+     * @param key The key to look for.
+     * @return The value or {@code null} if the key is not present.
+     */
+    @Nullable V get(final int key);
+
+    /**
+     * Gets the value mapped to the given key, or the default value if not present.
+     *
+     * @param key          The key to look for.
+     * @param defaultValue The value to return if the key is not present.
+     * @return The value or the default value.
+     */
+    V getOrDefault(final int key, final V defaultValue);
+
+    /**
+     * Maps the value to the given key.
+     *
+     * @param key   The key of the entry.
+     * @param value The value of the entry.
+     * @return The previously mapped value or {@code null}.
+     */
+    @CanIgnoreReturnValue
+    @Nullable V put(final int key, final V value);
+
+    /**
+     * Removes the entry with the given key.
+     *
+     * @param key The key of the entry.
+     * @return The removed value or {@code null}.
+     */
+    @CanIgnoreReturnValue
+    @Nullable V remove(final int key);
+
+    /**
+     * Checks if the map contains the given key.
+     *
+     * @param key The key to look for.
+     * @return Whether the key is present.
+     */
+    boolean containsKey(final int key);
+
+    /**
+     * Copies the keys of the map into a new array, in no particular order.
+     *
+     * @return A new array with the keys of the map.
+     */
+    int @NotNull [] toKeyArray();
+}
@@ -0,0 +1,147 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import dev.triumphteam.nova.builtin.IntArrayListState;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link ListState} specialized for {@code int} elements.
+ * Elements are stored unboxed, the primitive accessors should be preferred over the {@link Integer} ones
+ * to avoid boxing.
+ * An update is triggered when the list elements change.
+ */
+public interface IntListState extends ListState<Integer> {
+
+    /**
+     * Creates a new empty {@link IntListState} backed by an {@code int[]}.
+     *
+     * @return A new {@link IntListState}.
+     */
+    static @NotNull IntListState of() {
+        return new IntArrayListState();
+    }
+
+    /**
+     * Creates a new {@link IntListState} from the given elements.
+     *
+     * @param elements The elements to create a new list from.
+     * @return A new {@link IntListState}.
+     */
+    static @NotNull IntListState of(final int @NotNull ... elements) {
+        return new IntArrayListState(elements);
+    }
+
+    /**
+     * Gets the element at the given index.
+     *
+     * @param index The index of the element.
+     * @return The element at the index.
+     */
+    int getInt(final int index);
+
+    /**
+     * Replaces the element at the given index.
+     *
+     * @param index   The index of the element to replace.
+     * @param element The new element.
+     * @return The element previously at the index.
+     */
+    @CanIgnoreReturnValue
+    int setInt(final int index, final int element);
+
+    /**
+     * Appends the element to the end of the list.
+     *
+     * @param element The element to add.
+     */
+    void addInt(final int element);
+
+    /**
+     * Inserts the element at the given index.
+     *
+     * @param index   The index to insert the element at.
+     * @param element The element to add.
+     */
+    void addInt(final int index, final int element);
+
+    /**
+     * Appends all the given elements to the end of the list, triggering only once.
+     *
+     * @param elements The elements to add.
+     * @return Whether the list changed.
+     */
+    @CanIgnoreReturnValue
+    boolean addAllInts(final int @NotNull ... elements);
+
+    /**
+     * Removes the element at the given index.
+     *
+     * @param index The index of the element to remove.
+     * @return The removed element.
+     */
+    @CanIgnoreReturnValue
+    int removeIntAt(final int index);
+
+    /**
+     * Removes the first occurrence of the element.
+     *
+     * @param element The element to remove.
+     * @return Whether the element was present.
+     */
+    @CanIgnoreReturnValue
+    boolean removeInt(final int element);
+
+    /**
+     * Gets the index of the first occurrence of the element.
+     *
+     * @param element The element to look for.
+     * @return The index of the element or {@code -1} if not present.
+     */
+    int indexOfInt(final int element);
+
+    /**
+     * Gets the index of the last occurrence of the element.
+     *
+     * @param element The element to look for.
+     * @return The index of the element or {@code -1} if not present.
+     */
+    int lastIndexOfInt(final int element);
+
+    /**
+     * Checks if the list contains the element.
+     *
+     * @param element The element to look for.
+     * @return Whether the element is present.
+     */
+    boolean containsInt(final int element);
+
+    /**
+     * Copies the elements of the list into a new array.
+     *
+     * @return A new array with the elements of the list.
+     */
+    int @NotNull [] toIntArray();
+}
@@ -0,0 +1,98 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import dev.triumphteam.nova.builtin.IntOpenHashSetState;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link SetState} specialized for {@code int} elements.
+ * Elements are stored unboxed, the primitive accessors should be preferred over the {@link Integer} ones
+ * to avoid boxing.
+ * An update is triggered only when the membership of the set changes.
+ */
+public interface IntSetState extends SetState<Integer> {
+
+    /**
+     * Creates a new empty {@link IntSetState} backed by an open addressing hash table.
+     *
+     * @return A new {@link IntSetState}.
+     */
+    static @NotNull IntSetState of() {
+        return new IntOpenHashSetState();
+    }
+
+    /**
+     * Creates a new {@link IntSetState} from the given elements.
+     *
+     * @param elements The elements to create a new set from.
+     * @return A new {@link IntSetState}.
+     */
+    static @NotNull IntSetState of(final int @NotNull ... elements) {
+        return new IntOpenHashSetState(elements);
+    }
+
+    /**
+     * Adds the element to the set.
+     *
+     * @param element The element to add.
+     * @return Whether the element was not already present.
+     */
+    @CanIgnoreReturnValue
+    boolean addInt(final int element);
+
+    /**
+     * Adds all the given elements, triggering only once.
+     *
+     * @param elements The elements to add.
+     * @return Whether the set changed.
+     */
+    @CanIgnoreReturnValue
+    boolean addAllInts(final int @NotNull ... elements);
+
+    /**
+     * Removes the element from the set.
+     *
+     * @param element The element to remove.
+     * @return Whether the element was present.
+     */
+    @CanIgnoreReturnValue
+    boolean removeInt(final int element);
+
+    /**
+     * Checks if the set contains the element.
+     *
+     * @param element The element to look for.
+     * @return Whether the element is present.
+     */
+    boolean containsInt(final int element);
+
+    /**
+     * Copies the elements of the set into a new array, in no particular order.
+     *
+     * @return A new array with the elements of the set.
+     */
+    int @NotNull [] toIntArray();
+}
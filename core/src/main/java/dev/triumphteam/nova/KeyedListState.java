@@ -0,0 +1,130 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import dev.triumphteam.nova.builtin.KeyedArrayListState;
+import dev.triumphteam.nova.diff.ListDiff;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@link ListState} whose elements are identified by a unique key.
+ * A key to index map is kept in sync with the list, so looking elements up by key,
+ * {@link #indexOf(Object)} and {@link #contains(Object)} don't scan the list.
+ * Adding an element with a key that is already present throws an {@link IllegalArgumentException}.
+ * An update is triggered when the list elements change.
+ *
+ * @param <K> The type of the keys.
+ * @param <T> The type of the elements of the list.
+ */
+public interface KeyedListState<K, T> extends ListState<T> {
+
+    /**
+     * Creates a new empty {@link KeyedListState}.
+     *
+     * @param keyExtractor Extracts the key of an element, must stay the same while the element is in the list.
+     * @param <K>          The type of the keys.
+     * @param <T>          The type of the elements of the list.
+     * @return A new {@link KeyedListState}.
+     */
+    static <K, T> @NotNull KeyedListState<K, T> of(final @NotNull Function<? super T, ? extends K> keyExtractor) {
+        return new KeyedArrayListState<>(keyExtractor);
+    }
+
+    /**
+     * Creates a new {@link KeyedListState} from the given elements.
+     *
+     * @param keyExtractor Extracts the key of an element, must stay the same while the element is in the list.
+     * @param elements     The starting elements.
+     * @param <K>          The type of the keys.
+     * @param <T>          The type of the elements of the list.
+     * @return A new {@link KeyedListState}.
+     * @throws IllegalArgumentException If two elements have the same key.
+     */
+    static <K, T> @NotNull KeyedListState<K, T> of(
+        final @NotNull Function<? super T, ? extends K> keyExtractor,
+        final @NotNull Collection<? extends T> elements
+    ) {
+        final var state = new KeyedArrayListState<K, T>(keyExtractor);
+        state.addAll(elements);
+        return state;
+    }
+
+    /**
+     * The function used to extract the key of the elements.
+     *
+     * @return The key extractor.
+     */
+    @NotNull Function<? super T, ? extends K> keyExtractor();
+
+    /**
+     * Gets the element with the given key.
+     *
+     * @param key The key to look for.
+     * @return The element or {@code null} if no element has the key.
+     */
+    @Nullable T getByKey(final K key);
+
+    /**
+     * Gets the index of the element with the given key.
+     *
+     * @param key The key to look for.
+     * @return The index of the element or {@code -1} if no element has the key.
+     */
+    int indexOfKey(final K key);
+
+    /**
+     * Checks if an element with the given key is present.
+     *
+     * @param key The key to look for.
+     * @return Whether an element has the key.
+     */
+    boolean containsKey(final K key);
+
+    /**
+     * Removes the element with the given key.
+     *
+     * @param key The key of the element to remove.
+     * @return The removed element or {@code null} if no element had the key.
+     */
+    @CanIgnoreReturnValue
+    @Nullable T removeByKey(final K key);
+
+    /**
+     * Replaces the contents of the list with the given elements, matching them by key,
+     * so reordered elements are moved and only the elements that changed are replaced.
+     * The state is triggered once.
+     *
+     * @param elements The new contents of the list.
+     * @throws IllegalArgumentException If two elements have the same key.
+     */
+    default void update(final @NotNull List<? extends T> elements) {
+        ListDiff.apply(this, elements, keyExtractor());
+    }
+}
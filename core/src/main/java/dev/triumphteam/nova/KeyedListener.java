@@ -0,0 +1,78 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A listener registered under a key, equal to any other keyed listener with the same key
+ * so registering it again replaces the previous one.
+ */
+final class KeyedListener implements Runnable {
+
+    private static final Runnable NOTHING = () -> {};
+
+    private final Object key;
+    private final Runnable listener;
+
+    private KeyedListener(final @NotNull Object key, final @NotNull Runnable listener) {
+        this.key = key;
+        this.listener = listener;
+    }
+
+    static @NotNull KeyedListener of(final @NotNull Object key, final @NotNull Runnable listener) {
+        return new KeyedListener(key, listener);
+    }
+
+    /**
+     * Creates a keyed listener that is only used to look up the listener with the same key.
+     */
+    static @NotNull KeyedListener lookup(final @NotNull Object key) {
+        return new KeyedListener(key, NOTHING);
+    }
+
+    @Override
+    public void run() {
+        listener.run();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof KeyedListener)) return false;
+        return key.equals(((KeyedListener) o).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(KeyedListener.class, key);
+    }
+
+    @Override
+    public String toString() {
+        return "KeyedListener{" + "key=" + key + ",listener=" + listener + "}";
+    }
+}
@@ -0,0 +1,235 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A single granular change done to a {@link ListState}.
+ * Indexes are relative to the list as it was right before the change,
+ * so a sequence of changes can be replayed in order on a copy of the list.
+ *
+ * @param <T> The type of the elements of the list.
+ * @see ListChangeListener
+ */
+public final class ListChange<T> {
+
+    private static final ListChange<?> RESET = new ListChange<>(Type.RESET, 0, 0, List.of(), List.of());
+
+    private final Type type;
+    private final int index;
+    private final int toIndex;
+    private final List<T> elements;
+    private final List<T> removed;
+
+    private ListChange(
+        final @NotNull Type type,
+        final int index,
+        final int toIndex,
+        final @NotNull List<T> elements,
+        final @NotNull List<T> removed
+    ) {
+        this.type = type;
+        this.index = index;
+        this.toIndex = toIndex;
+        this.elements = elements;
+        this.removed = removed;
+    }
+
+    /**
+     * Elements were inserted, starting at the index.
+     *
+     * @param index    The index of the first inserted element.
+     * @param elements The inserted elements.
+     * @param <T>      The type of the elements of the list.
+     * @return A new {@link ListChange}.
+     */
+    public static <T> @NotNull ListChange<T> insert(final int index, final @NotNull Collection<? extends T> elements) {
+        return new ListChange<>(Type.INSERT, index, index, copy(elements), List.of());
+    }
+
+    /**
+     * A range of elements was removed, starting at the index.
+     *
+     * @param index   The index of the first removed element.
+     * @param removed The removed elements.
+     * @param <T>     The type of the elements of the list.
+     * @return A new {@link ListChange}.
+     */
+    public static <T> @NotNull ListChange<T> remove(final int index, final @NotNull Collection<? extends T> removed) {
+        return new ListChange<>(Type.REMOVE, index, index, List.of(), copy(removed));
+    }
+
+    /**
+     * The element at the index was replaced.
+     *
+     * @param index    The index of the element.
+     * @param previous The element that was replaced.
+     * @param element  The new element.
+     * @param <T>      The type of the elements of the list.
+     * @return A new {@link ListChange}.
+     */
+    public static <T> @NotNull ListChange<T> replace(final int index, final T previous, final T element) {
+        return new ListChange<>(Type.REPLACE, index, index, single(element), single(previous));
+    }
+
+    /**
+     * The element at the index was removed and inserted again at the target index,
+     * the target index is relative to the list without the element.
+     *
+     * @param index   The index the element was at.
+     * @param toIndex The index the element is now at.
+     * @param element The moved element.
+     * @param <T>     The type of the elements of the list.
+     * @return A new {@link ListChange}.
+     */
+    public static <T> @NotNull ListChange<T> move(final int index, final int toIndex, final T element) {
+        return new ListChange<>(Type.MOVE, index, toIndex, single(element), List.of());
+    }
+
+    /**
+     * The list changed in a way that is not described, the whole list must be read again.
+     *
+     * @param <T> The type of the elements of the list.
+     * @return The reset {@link ListChange}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull ListChange<T> reset() {
+        return (ListChange<T>) RESET;
+    }
+
+    /**
+     * The type of the change.
+     *
+     * @return The type.
+     */
+    public @NotNull Type type() {
+        return type;
+    }
+
+    /**
+     * The index where the change happened.
+     *
+     * @return The index.
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * The index the element was moved to, only meaningful for {@link Type#MOVE}.
+     *
+     * @return The target index.
+     */
+    public int toIndex() {
+        return toIndex;
+    }
+
+    /**
+     * The elements that were inserted, the new element for {@link Type#REPLACE} or the moved element for {@link Type#MOVE}.
+     *
+     * @return The added elements.
+     */
+    public @NotNull List<T> elements() {
+        return elements;
+    }
+
+    /**
+     * The elements that were removed, or the previous element for {@link Type#REPLACE}.
+     *
+     * @return The removed elements.
+     */
+    public @NotNull List<T> removed() {
+        return removed;
+    }
+
+    /**
+     * Replays this change on the given list.
+     *
+     * @param list The list to apply the change to.
+     * @throws IllegalStateException If the change is a {@link Type#RESET}, which cannot be replayed.
+     */
+    public void applyTo(final @NotNull List<? super T> list) {
+        switch (type) {
+            case INSERT:
+                list.addAll(index, elements);
+                break;
+            case REMOVE:
+                list.subList(index, index + removed.size()).clear();
+                break;
+            case REPLACE:
+                list.set(index, elements.get(0));
+                break;
+            case MOVE:
+                move(list, index, toIndex);
+                break;
+            default:
+                throw new IllegalStateException("A reset cannot be replayed.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case INSERT:
+                return "ListChange{insert " + elements + " at " + index + "}";
+            case REMOVE:
+                return "ListChange{remove " + removed + " at " + index + "}";
+            case REPLACE:
+                return "ListChange{replace " + removed.get(0) + " with " + elements.get(0) + " at " + index + "}";
+            case MOVE:
+                return "ListChange{move " + elements.get(0) + " from " + index + " to " + toIndex + "}";
+            default:
+                return "ListChange{reset}";
+        }
+    }
+
+    private static <E> void move(final @NotNull List<E> list, final int from, final int to) {
+        list.add(to, list.remove(from));
+    }
+
+    private static <T> @NotNull List<T> copy(final @NotNull Collection<? extends T> elements) {
+        return Collections.unmodifiableList(new ArrayList<>(elements));
+    }
+
+    private static <T> @NotNull List<T> single(final T element) {
+        return Collections.singletonList(element);
+    }
+
+    /**
+     * The types of changes.
+     */
+    public enum Type {
+        INSERT,
+        REMOVE,
+        REPLACE,
+        MOVE,
+        RESET
+    }
+}
@@ -23,12 +23,20 @@
  */
 package dev.triumphteam.nova;
 
+import dev.triumphteam.nova.builtin.FilteredListState;
+import dev.triumphteam.nova.builtin.LazyListBackedListState;
 import dev.triumphteam.nova.builtin.ListBackedListState;
+import dev.triumphteam.nova.builtin.ListWindowState;
+import dev.triumphteam.nova.builtin.SortedListState;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * A {@link List} representation of a state.
@@ -70,4 +78,94 @@ public interface ListState<T> extends State, List<T>, RandomAccess {
     static <T> @NotNull ListState<T> of(final @NotNull List<T> backing) {
         return new ListBackedListState<>(backing);
     }
+
+    /**
+     * Creates a new {@link ListState} whose backing list is only built when the state is first accessed.
+     *
+     * @param backingFactory Builds the backing {@link List}, called at most once.
+     * @param <T>            The type of the elements of the list.
+     * @return A new {@link ListState}.
+     */
+    static <T> @NotNull ListState<T> lazy(final @NotNull Supplier<? extends List<T>> backingFactory) {
+        return new LazyListBackedListState<>(backingFactory);
+    }
+
+    /**
+     * Moves the element at the given index to the target index, triggering only once.
+     * The target index is relative to the list without the element.
+     *
+     * @param from The index of the element to move.
+     * @param to   The index the element should end up at.
+     */
+    default void move(final int from, final int to) {
+        Objects.checkIndex(from, size());
+        Objects.checkIndex(to, size());
+        if (from == to) return;
+        StateDispatcher.batch(() -> add(to, remove(from)));
+    }
+
+    /**
+     * Removes the elements from the first index, inclusive, to the second one, exclusive, triggering only once.
+     *
+     * @param fromIndex The index of the first element to remove.
+     * @param toIndex   The index after the last element to remove.
+     */
+    default void removeRange(final int fromIndex, final int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        if (fromIndex == toIndex) return;
+        StateDispatcher.batch(() -> subList(fromIndex, toIndex).clear());
+    }
+
+    /**
+     * Adds a listener that receives the granular changes of this list, tied to the {@link Object} lifecycle.
+     * Implementations that cannot describe their changes report a {@link ListChange.Type#RESET} when triggered.
+     *
+     * @param stateful The stateful object to be used as the reference.
+     * @param listener The listener to call with each change.
+     */
+    default void addChangeListener(final @NotNull Object stateful, final @NotNull ListChangeListener<? super T> listener) {
+        addListener(stateful, ResetChangeListener.ofList(listener));
+    }
+
+    /**
+     * Removes a change listener tied to the {@link Object}.
+     *
+     * @param stateful The stateful object the listener was added with.
+     * @param listener The listener to remove.
+     * @return Whether the listener was present.
+     */
+    default boolean removeChangeListener(final @NotNull Object stateful, final @NotNull ListChangeListener<? super T> listener) {
+        return removeListener(stateful, ResetChangeListener.ofList(listener));
+    }
+
+    /**
+     * Creates a view of a range of this list that is only triggered when the range is affected.
+     *
+     * @param offset The index the window starts at.
+     * @param size   The maximum amount of elements visible through the window.
+     * @return A new {@link ListWindow}.
+     */
+    default @NotNull ListWindow<T> window(final int offset, final int size) {
+        return new ListWindowState<>(this, offset, size);
+    }
+
+    /**
+     * Creates a live view of the elements of this list that match the predicate, in the same order.
+     *
+     * @param predicate The predicate the elements must match.
+     * @return A new {@link DerivedListState}.
+     */
+    default @NotNull DerivedListState<T> filtered(final @NotNull Predicate<? super T> predicate) {
+        return new FilteredListState<>(this, predicate);
+    }
+
+    /**
+     * Creates a live view of the elements of this list sorted by the comparator.
+     *
+     * @param comparator The comparator to sort the elements with.
+     * @return A new {@link DerivedListState}.
+     */
+    default @NotNull DerivedListState<T> sorted(final @NotNull Comparator<? super T> comparator) {
+        return new SortedListState<>(this, comparator);
+    }
 }
@@ -0,0 +1,72 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A read-only view of a range of a {@link ListState}, for example a page of a paginated menu.
+ * The window is a state of its own, it is only triggered when a change of the source list affects the visible range,
+ * either by changing an element in it or by shifting it, or when the offset is moved.
+ * <p>
+ * How precise the window is depends on how well the source describes its changes, see {@link ListChange}.
+ * The window is only weakly referenced by its source, it stops listening once it is no longer used.
+ *
+ * @param <T> The type of the elements of the list.
+ * @see ListState#window(int, int)
+ */
+public interface ListWindow<T> extends State, List<T> {
+
+    /**
+     * The list this window is a view of.
+     *
+     * @return The source {@link ListState}.
+     */
+    @NotNull ListState<T> source();
+
+    /**
+     * The index of the source list the window starts at.
+     *
+     * @return The offset of the window.
+     */
+    int offset();
+
+    /**
+     * Moves the window to the given offset, triggering it if the offset changed.
+     * The listeners stay registered.
+     *
+     * @param offset The new offset, must not be negative.
+     */
+    void setOffset(final int offset);
+
+    /**
+     * The maximum amount of elements visible through the window,
+     * {@link #size()} is lower when the source list ends before the window does.
+     *
+     * @return The size of the window.
+     */
+    int windowSize();
+}
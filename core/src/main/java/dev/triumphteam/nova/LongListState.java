@@ -0,0 +1,147 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import dev.triumphteam.nova.builtin.LongArrayListState;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link ListState} specialized for {@code long} elements.
+ * Elements are stored unboxed, the primitive accessors should be preferred over the {@link Long} ones
+ * to avoid boxing.
+ * An update is triggered when the list elements change.
+ */
+public interface LongListState extends ListState<Long> {
+
+    /**
+     * Creates a new empty {@link LongListState} backed by an {@code long[]}.
+     *
+     * @return A new {@link LongListState}.
+     */
+    static @NotNull LongListState of() {
+        return new LongArrayListState();
+    }
+
+    /**
+     * Creates a new {@link LongListState} from the given elements.
+     *
+     * @param elements The elements to create a new list from.
+     * @return A new {@link LongListState}.
+     */
+    static @NotNull LongListState of(final long @NotNull ... elements) {
+        return new LongArrayListState(elements);
+    }
+
+    /**
+     * Gets the element at the given index.
+     *
+     * @param index The index of the element.
+     * @return The element at the index.
+     */
+    long getLong(final int index);
+
+    /**
+     * Replaces the element at the given index.
+     *
+     * @param index   The index of the element to replace.
+     * @param element The new element.
+     * @return The element previously at the index.
+     */
+    @CanIgnoreReturnValue
+    long setLong(final int index, final long element);
+
+    /**
+     * Appends the element to the end of the list.
+     *
+     * @param element The element to add.
+     */
+    void addLong(final long element);
+
+    /**
+     * Inserts the element at the given index.
+     *
+     * @param index   The index to insert the element at.
+     * @param element The element to add.
+     */
+    void addLong(final int index, final long element);
+
+    /**
+     * Appends all the given elements to the end of the list, triggering only once.
+     *
+     * @param elements The elements to add.
+     * @return Whether the list changed.
+     */
+    @CanIgnoreReturnValue
+    boolean addAllLongs(final long @NotNull ... elements);
+
+    /**
+     * Removes the element at the given index.
+     *
+     * @param index The index of the element to remove.
+     * @return The removed element.
+     */
+    @CanIgnoreReturnValue
+    long removeLongAt(final int index);
+
+    /**
+     * Removes the first occurrence of the element.
+     *
+     * @param element The element to remove.
+     * @return Whether the element was present.
+     */
+    @CanIgnoreReturnValue
+    boolean removeLong(final long element);
+
+    /**
+     * Gets the index of the first occurrence of the element.
+     *
+     * @param element The element to look for.
+     * @return The index of the element or {@code -1} if not present.
+     */
+    int indexOfLong(final long element);
+
+    /**
+     * Gets the index of the last occurrence of the element.
+     *
+     * @param element The element to look for.
+     * @return The index of the element or {@code -1} if not present.
+     */
+    int lastIndexOfLong(final long element);
+
+    /**
+     * Checks if the list contains the element.
+     *
+     * @param element The element to look for.
+     * @return Whether the element is present.
+     */
+    boolean containsLong(final long element);
+
+    /**
+     * Copies the elements of the list into a new array.
+     *
+     * @return A new array with the elements of the list.
+     */
+    long @NotNull [] toLongArray();
+}
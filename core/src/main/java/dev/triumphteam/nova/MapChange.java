@@ -0,0 +1,162 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A single granular change done to a {@link MapState}.
+ *
+ * @param <K> The type of the key of the map.
+ * @param <V> The type of the value of the map.
+ * @see MapChangeListener
+ */
+public final class MapChange<K, V> {
+
+    private static final MapChange<?, ?> RESET = new MapChange<>(Type.RESET, null, null, null);
+
+    private final Type type;
+    private final K key;
+    private final V value;
+    private final V previous;
+
+    private MapChange(final @NotNull Type type, final K key, final V value, final V previous) {
+        this.type = type;
+        this.key = key;
+        this.value = value;
+        this.previous = previous;
+    }
+
+    /**
+     * A new entry was added.
+     *
+     * @param key   The key of the entry.
+     * @param value The value of the entry.
+     * @param <K>   The type of the key of the map.
+     * @param <V>   The type of the value of the map.
+     * @return A new {@link MapChange}.
+     */
+    public static <K, V> @NotNull MapChange<K, V> add(final K key, final V value) {
+        return new MapChange<>(Type.ADD, key, value, null);
+    }
+
+    /**
+     * The value of an existing entry was replaced.
+     *
+     * @param key      The key of the entry.
+     * @param previous The value that was replaced.
+     * @param value    The new value.
+     * @param <K>      The type of the key of the map.
+     * @param <V>      The type of the value of the map.
+     * @return A new {@link MapChange}.
+     */
+    public static <K, V> @NotNull MapChange<K, V> replace(final K key, final V previous, final V value) {
+        return new MapChange<>(Type.REPLACE, key, value, previous);
+    }
+
+    /**
+     * An entry was removed.
+     *
+     * @param key     The key of the entry.
+     * @param removed The value of the removed entry.
+     * @param <K>     The type of the key of the map.
+     * @param <V>     The type of the value of the map.
+     * @return A new {@link MapChange}.
+     */
+    public static <K, V> @NotNull MapChange<K, V> remove(final K key, final V removed) {
+        return new MapChange<>(Type.REMOVE, key, null, removed);
+    }
+
+    /**
+     * The map changed in a way that is not described, the whole map must be read again.
+     *
+     * @param <K> The type of the key of the map.
+     * @param <V> The type of the value of the map.
+     * @return The reset {@link MapChange}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> @NotNull MapChange<K, V> reset() {
+        return (MapChange<K, V>) RESET;
+    }
+
+    /**
+     * The type of the change.
+     *
+     * @return The type.
+     */
+    public @NotNull Type type() {
+        return type;
+    }
+
+    /**
+     * The key of the entry that changed, {@code null} for {@link Type#RESET}.
+     *
+     * @return The key.
+     */
+    public K key() {
+        return key;
+    }
+
+    /**
+     * The new value of the entry for {@link Type#ADD} and {@link Type#REPLACE}.
+     *
+     * @return The new value.
+     */
+    public V value() {
+        return value;
+    }
+
+    /**
+     * The previous value of the entry for {@link Type#REPLACE} and {@link Type#REMOVE}.
+     *
+     * @return The previous value.
+     */
+    public V previous() {
+        return previous;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case ADD:
+                return "MapChange{add " + key + "=" + value + "}";
+            case REPLACE:
+                return "MapChange{replace " + key + "=" + previous + " with " + value + "}";
+            case REMOVE:
+                return "MapChange{remove " + key + "=" + previous + "}";
+            default:
+                return "MapChange{reset}";
+        }
+    }
+
+    /**
+     * The types of changes.
+     */
+    public enum Type {
+        ADD,
+        REPLACE,
+        REMOVE,
+        RESET
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+
+/**
+ * A secondary index of a {@link MapState}, grouping the keys of the map by a value extracted from their map values.
+ * For example, indexing a map of players by team gives the players of a team without scanning the map.
+ * <p>
+ * Each index key has a bucket holding the map keys whose value has that index key,
+ * listeners can be added to a single bucket and are triggered when map keys join or leave it,
+ * or when the value of one of its map keys is replaced.
+ * Values for which the extractor returns {@code null} are not indexed.
+ *
+ * @param <I> The type of the index keys.
+ * @param <K> The type of the keys of the map.
+ * @see MapState#index(String, java.util.function.Function)
+ */
+public interface MapIndex<I, K> {
+
+    /**
+     * The name of the index.
+     *
+     * @return The name.
+     */
+    @NotNull String name();
+
+    /**
+     * Gets the map keys whose value has the given index key.
+     * The returned set is a read-only view, it stops updating if the bucket empties and is dropped.
+     *
+     * @param indexKey The index key to look for.
+     * @return The map keys in the bucket, empty if there are none.
+     */
+    @NotNull Set<K> get(final I indexKey);
+
+    /**
+     * Checks if any map value has the given index key.
+     *
+     * @param indexKey The index key to look for.
+     * @return Whether the bucket has map keys.
+     */
+    boolean contains(final I indexKey);
+
+    /**
+     * The amount of map keys whose value has the given index key.
+     *
+     * @param indexKey The index key to look for.
+     * @return The size of the bucket.
+     */
+    int count(final I indexKey);
+
+    /**
+     * All the index keys that currently have map keys.
+     *
+     * @return A read-only view of the index keys.
+     */
+    @NotNull Set<I> indexKeys();
+
+    /**
+     * Adds a listener to a single bucket, tied to the {@link Object} lifecycle.
+     *
+     * @param stateful The stateful object to be used as the reference.
+     * @param indexKey The index key of the bucket.
+     * @param listener The listener to run when the bucket changes.
+     */
+    void addListener(final @NotNull Object stateful, final I indexKey, final @NotNull Runnable listener);
+
+    /**
+     * Removes a listener from a bucket.
+     *
+     * @param stateful The stateful object the listener was added with.
+     * @param indexKey The index key of the bucket.
+     * @param listener The listener to remove.
+     * @return Whether the listener was present.
+     */
+    boolean removeListener(final @NotNull Object stateful, final I indexKey, final @NotNull Runnable listener);
+}
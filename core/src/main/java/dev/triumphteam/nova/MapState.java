@@ -23,11 +23,15 @@
  */
 package dev.triumphteam.nova;
 
+import dev.triumphteam.nova.builtin.HashMapIndex;
+import dev.triumphteam.nova.builtin.LazyMapBackedMapState;
 import dev.triumphteam.nova.builtin.MapBackedMapState;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A {@link Map} representation of a state.
@@ -60,4 +64,52 @@ public interface MapState<K, V> extends State, Map<K, V> {
     static <K, V> @NotNull MapState<K, V> of(final @NotNull Map<K, V> backing) {
         return new MapBackedMapState<>(backing);
     }
+
+    /**
+     * Creates a new {@link MapState} whose backing map is only built when the state is first accessed.
+     *
+     * @param backingFactory Builds the backing {@link Map}, called at most once.
+     * @param <K>            The type of the key of the map.
+     * @param <V>            The type of the value of the map.
+     * @return A new {@link MapState}.
+     */
+    static <K, V> @NotNull MapState<K, V> lazy(final @NotNull Supplier<? extends Map<K, V>> backingFactory) {
+        return new LazyMapBackedMapState<>(backingFactory);
+    }
+
+    /**
+     * Adds a listener that receives the granular changes of this map, tied to the {@link Object} lifecycle.
+     * Implementations that cannot describe their changes report a {@link MapChange.Type#RESET} when triggered.
+     *
+     * @param stateful The stateful object to be used as the reference.
+     * @param listener The listener to call with each change.
+     */
+    default void addChangeListener(final @NotNull Object stateful, final @NotNull MapChangeListener<? super K, ? super V> listener) {
+        addListener(stateful, ResetChangeListener.ofMap(listener));
+    }
+
+    /**
+     * Removes a change listener tied to the {@link Object}.
+     *
+     * @param stateful The stateful object the listener was added with.
+     * @param listener The listener to remove.
+     * @return Whether the listener was present.
+     */
+    default boolean removeChangeListener(final @NotNull Object stateful, final @NotNull MapChangeListener<? super K, ? super V> listener) {
+        return removeListener(stateful, ResetChangeListener.ofMap(listener));
+    }
+
+    /**
+     * Creates a secondary index of this map, grouping its keys by a value extracted from their map values.
+     * The default implementation keeps the index in sync through the change listeners and creates a new index every call,
+     * implementations may keep the index in sync directly and return the existing index with the same name.
+     *
+     * @param name         The name of the index.
+     * @param keyExtractor Extracts the index key of a map value, must stay the same while the value is in the map.
+     * @param <I>          The type of the index keys.
+     * @return The {@link MapIndex}.
+     */
+    default <I> @NotNull MapIndex<I, K> index(final @NotNull String name, final @NotNull Function<? super V, ? extends I> keyExtractor) {
+        return HashMapIndex.listening(this, name, keyExtractor);
+    }
 }
@@ -24,12 +24,23 @@
 package dev.triumphteam.nova;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import dev.triumphteam.nova.builtin.LazyMutableState;
 import dev.triumphteam.nova.builtin.SimpleMutableState;
+import dev.triumphteam.nova.builtin.SoftMutableState;
+import dev.triumphteam.nova.concurrent.StateWaiter;
 import dev.triumphteam.nova.policy.StateMutationPolicy;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * A representation of a {@link State} that is mutable.
@@ -102,6 +113,60 @@ public interface MutableState<T> extends State {
         return new SimpleMutableState<>(value, policy);
     }
 
+    /**
+     * Creates a new mutable state that holds its value softly, rebuilding it with the supplier once collected.
+     * Using {@link StateMutationPolicy.StructuralEquality}.
+     *
+     * @param recompute Builds the value, called right away and whenever the value was collected.
+     * @param <T>       The type of the value.
+     * @return A new {@link SoftMutableState}.
+     */
+    static <T> @NotNull SoftMutableState<@NotNull T> soft(final @NotNull Supplier<? extends T> recompute) {
+        return soft(recompute, new StateMutationPolicy.StructuralEquality<>());
+    }
+
+    /**
+     * Creates a new mutable state that holds its value softly, rebuilding it with the supplier once collected.
+     *
+     * @param recompute Builds the value, called right away and whenever the value was collected.
+     * @param policy    The {@link StateMutationPolicy} to be used.
+     * @param <T>       The type of the value.
+     * @return A new {@link SoftMutableState}.
+     */
+    static <T> @NotNull SoftMutableState<@NotNull T> soft(
+        final @NotNull Supplier<? extends T> recompute,
+        final @NotNull StateMutationPolicy<T> policy
+    ) {
+        return new SoftMutableState<>(recompute, policy);
+    }
+
+    /**
+     * Creates a new mutable state whose starting value is only computed when the state is first accessed.
+     * Using {@link StateMutationPolicy.StructuralEquality}.
+     *
+     * @param initializer Computes the starting value, called at most once.
+     * @param <T>         The type of the value.
+     * @return A new {@link LazyMutableState}.
+     */
+    static <T> @NotNull LazyMutableState<T> lazy(final @NotNull Supplier<? extends T> initializer) {
+        return lazy(initializer, new StateMutationPolicy.StructuralEquality<>());
+    }
+
+    /**
+     * Creates a new mutable state whose starting value is only computed when the state is first accessed.
+     *
+     * @param initializer Computes the starting value, called at most once.
+     * @param policy      The {@link StateMutationPolicy} to be used.
+     * @param <T>         The type of the value.
+     * @return A new {@link LazyMutableState}.
+     */
+    static <T> @NotNull LazyMutableState<T> lazy(
+        final @NotNull Supplier<? extends T> initializer,
+        final @NotNull StateMutationPolicy<T> policy
+    ) {
+        return new LazyMutableState<>(initializer, policy);
+    }
+
     /**
      * Gets the current value of the state.
      * The nullability of this value depends on the value passed.
@@ -137,4 +202,98 @@ public interface MutableState<T> extends State {
      */
     @NotNull
     StateMutationPolicy<T> stateMutationPolicy();
+
+    /**
+     * Creates a future that completes with the value of the state the next time it is triggered.
+     * The future removes its listener once it is completed, cancelled or timed out,
+     * a future that never completes stays registered, so prefer pairing it with {@link CompletableFuture#orTimeout}.
+     *
+     * @return A new {@link CompletableFuture}.
+     */
+    default @NotNull CompletableFuture<T> nextChange() {
+        return StateWaiter.nextChange(this);
+    }
+
+    /**
+     * Creates a future that completes with the first value of the state that matches the predicate,
+     * it is already completed if the current value matches.
+     * The predicate is tested on the thread that triggers the state.
+     * The future removes its listener once it is completed, cancelled or timed out,
+     * a future that never completes stays registered, so prefer pairing it with {@link CompletableFuture#orTimeout}.
+     *
+     * @param predicate The condition the value must match.
+     * @return A new {@link CompletableFuture}.
+     */
+    default @NotNull CompletableFuture<T> when(final @NotNull Predicate<? super T> predicate) {
+        return StateWaiter.when(this, predicate);
+    }
+
+    /**
+     * Blocks the current thread until the value of the state matches the predicate.
+     * Meant for virtual threads or other threads that can afford to block, never call it from the thread
+     * that sets the state, as it would never be released.
+     *
+     * @param predicate The condition the value must match.
+     * @param timeout   The maximum time to wait.
+     * @return The first value that matched the predicate.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     * @throws TimeoutException     If the timeout elapses before the value matches.
+     */
+    default T awaitUntil(
+        final @NotNull Predicate<? super T> predicate,
+        final @NotNull Duration timeout
+    ) throws InterruptedException, TimeoutException {
+        final var future = when(predicate);
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final ExecutionException exception) {
+            final var cause = exception.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new CompletionException(cause);
+        } finally {
+            // Does nothing if it already completed, otherwise unregisters the waiter
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Adds a listener that only runs when the value returned by the selector changes.
+     * Using {@link StateMutationPolicy.StructuralEquality} to compare the selected values.
+     *
+     * @param stateful The {@link Object} object which will be handling this state.
+     * @param selector Selects the part of the value the listener cares about.
+     * @param listener The listener to be called when the selected value changes.
+     * @param <R>      The type of the selected value.
+     * @see #addListener(Object, Function, StateMutationPolicy, Runnable)
+     */
+    default <R> void addListener(
+        final @NotNull Object stateful,
+        final @NotNull Function<? super T, ? extends R> selector,
+        final @NotNull Runnable listener
+    ) {
+        addListener(stateful, selector, new StateMutationPolicy.StructuralEquality<>(), listener);
+    }
+
+    /**
+     * Adds a listener that only runs when the value returned by the selector changes.
+     * The last selected value is cached per listener and compared using the given {@link StateMutationPolicy}.
+     * <p>
+     * Implementations may share the evaluation of equal selectors between listeners,
+     * so keep selectors free of side effects and reuse the same instance when possible.
+     *
+     * @param stateful       The {@link Object} object which will be handling this state.
+     * @param selector       Selects the part of the value the listener cares about.
+     * @param mutationPolicy The policy used to compare the selected values.
+     * @param listener       The listener to be called when the selected value changes.
+     * @param <R>            The type of the selected value.
+     */
+    default <R> void addListener(
+        final @NotNull Object stateful,
+        final @NotNull Function<? super T, ? extends R> selector,
+        final @NotNull StateMutationPolicy<R> mutationPolicy,
+        final @NotNull Runnable listener
+    ) {
+        addListener(stateful, new SelectorListener<>(this, selector, mutationPolicy, listener));
+    }
 }
@@ -0,0 +1,195 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import dev.triumphteam.nova.jfr.NovaRecording;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Opt-in parallel dispatch for states observed by a very large amount of listeners.
+ * When a state with more listeners than the threshold is triggered, its listeners are split into chunks
+ * that run on a {@link ForkJoinPool}, the triggering thread runs one of the chunks and waits for the others.
+ * Listeners added with the same stateful object always end up in the same chunk and run in the order they were added.
+ * <p>
+ * The listeners of a parallel state must be safe to run concurrently with each other.
+ * States triggered from a listener running on the pool are dispatched on that pool thread,
+ * instead of being queued behind the current trigger.
+ *
+ * @see AbstractState#setParallelDispatch(ParallelDispatch)
+ */
+public final class ParallelDispatch {
+
+    // Chunks per pool thread, a few more than one keeps the threads busy when chunks are uneven
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final int threshold;
+    private final ForkJoinPool pool;
+
+    private ParallelDispatch(final int threshold, final @NotNull ForkJoinPool pool) {
+        if (threshold < 1) throw new IllegalArgumentException("The threshold must be positive.");
+        this.threshold = threshold;
+        this.pool = pool;
+    }
+
+    /**
+     * Creates a parallel dispatch running on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param threshold The amount of listeners above which the listeners run in parallel.
+     * @return A new {@link ParallelDispatch}.
+     */
+    public static @NotNull ParallelDispatch of(final int threshold) {
+        return new ParallelDispatch(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a parallel dispatch running on the given pool.
+     *
+     * @param threshold The amount of listeners above which the listeners run in parallel.
+     * @param pool      The pool to run the listeners on.
+     * @return A new {@link ParallelDispatch}.
+     */
+    public static @NotNull ParallelDispatch of(final int threshold, final @NotNull ForkJoinPool pool) {
+        return new ParallelDispatch(threshold, pool);
+    }
+
+    /**
+     * The amount of listeners above which the listeners run in parallel.
+     *
+     * @return The listener threshold.
+     */
+    public int threshold() {
+        return threshold;
+    }
+
+    /**
+     * The pool the listeners run on.
+     *
+     * @return The {@link ForkJoinPool}.
+     */
+    public @NotNull ForkJoinPool pool() {
+        return pool;
+    }
+
+    /**
+     * Runs the listener groups of the entries, each entry holding the listeners of one stateful object.
+     * Falls back to running them on the current thread when they are not above the threshold.
+     *
+     * @param entries The entries of a {@link StateListenerContainer}, empty slots are skipped.
+     * @return Whether some of the stateful objects were collected, so the container can forget them.
+     */
+    boolean run(final StateListenerContainer.Entry @NotNull [] entries) {
+        var total = 0;
+        var groups = 0;
+        var collected = false;
+        for (final var entry : entries) {
+            if (entry == null) continue;
+            if (entry.stateful.get() == null) {
+                collected = true;
+                continue;
+            }
+            total += entry.listeners.length;
+            groups++;
+        }
+
+        // Read once, so every chunk of this trigger is recorded the same way
+        final var recorded = NovaRecording.isListenerRecorded();
+        if (total <= threshold || groups < 2) {
+            runGroups(entries, 0, entries.length, recorded);
+            return collected;
+        }
+
+        // Groups are never split, so the listeners of a stateful object keep their order
+        final var chunkSize = Math.max(1, total / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        final var tasks = new ArrayList<ForkJoinTask<?>>();
+        var start = 0;
+        var size = 0;
+        for (int i = 0; i < entries.length - 1; i++) {
+            final var entry = entries[i];
+            if (entry == null) continue;
+            size += entry.listeners.length;
+            if (size < chunkSize) continue;
+
+            final var from = start;
+            final var to = i + 1;
+            tasks.add(pool.submit(() -> runGroups(entries, from, to, recorded)));
+            start = to;
+            size = 0;
+        }
+
+        // The last chunk runs on the triggering thread
+        Throwable failure = null;
+        try {
+            runGroups(entries, start, entries.length, recorded);
+        } catch (final Throwable throwable) {
+            // Errors too, the other chunks must be joined before anything leaves the trigger
+            failure = throwable;
+        }
+
+        join(tasks, failure);
+        return collected;
+    }
+
+    private static void runGroups(
+        final StateListenerContainer.Entry @NotNull [] entries,
+        final int from,
+        final int to,
+        final boolean recorded
+    ) {
+        for (int i = from; i < to; i++) {
+            final var entry = entries[i];
+            if (entry == null) continue;
+            final var owner = entry.stateful.get();
+            if (owner == null) continue;
+            for (final var listener : entry.listeners) {
+                if (recorded) NovaRecording.runRecorded(owner, listener);
+                else listener.run();
+            }
+        }
+    }
+
+    private static void join(final @NotNull List<ForkJoinTask<?>> tasks, final @Nullable Throwable first) {
+        // Every chunk is waited for before rethrowing, so no listener is still running when the trigger returns
+        var failure = first;
+        for (final var task : tasks) {
+            try {
+                task.join();
+            } catch (final Throwable throwable) {
+                if (failure == null) failure = throwable;
+                else failure.addSuppressed(throwable);
+            }
+        }
+
+        if (failure == null) return;
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+        if (failure instanceof Error) throw (Error) failure;
+        // Listeners are runnables, a checked exception can only get here if it was sneakily thrown
+        throw new IllegalStateException("A parallel listener failed.", failure);
+    }
+}
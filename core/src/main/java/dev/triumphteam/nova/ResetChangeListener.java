@@ -0,0 +1,68 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Adapts a change listener, such as {@link ListChangeListener}, to a plain listener, reporting every trigger as a reset.
+ * Equality is based on the wrapped listener so it can be removed again.
+ */
+final class ResetChangeListener implements Runnable {
+
+    private final Object listener;
+    private final Runnable reset;
+
+    ResetChangeListener(final @NotNull Object listener, final @NotNull Runnable reset) {
+        this.listener = listener;
+        this.reset = reset;
+    }
+
+    static @NotNull ResetChangeListener ofList(final @NotNull ListChangeListener<?> listener) {
+        return new ResetChangeListener(listener, () -> listener.onChange(ListChange.reset()));
+    }
+
+    static @NotNull ResetChangeListener ofMap(final @NotNull MapChangeListener<?, ?> listener) {
+        return new ResetChangeListener(listener, () -> listener.onChange(MapChange.reset()));
+    }
+
+    static @NotNull ResetChangeListener ofSet(final @NotNull SetChangeListener<?> listener) {
+        return new ResetChangeListener(listener, () -> listener.onChange(SetChange.reset()));
+    }
+
+    @Override
+    public void run() {
+        reset.run();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof ResetChangeListener && ((ResetChangeListener) o).listener.equals(listener);
+    }
+
+    @Override
+    public int hashCode() {
+        return listener.hashCode();
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+/**
+ * Shares the evaluation of a selector between all the listeners of a state that use an equal selector.
+ * The selector is evaluated at most once per trigger of the state.
+ *
+ * @param <T> The type of the value of the state.
+ * @param <R> The type of the projection.
+ */
+final class SelectorGroup<T, R> implements Function<T, R> {
+
+    private final AbstractMutableState<T> state;
+    private final Function<? super T, ? extends R> selector;
+
+    private long evaluatedAt = -1;
+    private R cached;
+
+    SelectorGroup(final @NotNull AbstractMutableState<T> state, final @NotNull Function<? super T, ? extends R> selector) {
+        this.state = state;
+        this.selector = selector;
+    }
+
+    @Override
+    public synchronized R apply(final T value) {
+        final var generation = state.generation();
+        if (generation != evaluatedAt) {
+            cached = selector.apply(value);
+            evaluatedAt = generation;
+        }
+        return cached;
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import dev.triumphteam.nova.policy.StateMutationPolicy;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+/**
+ * A listener that only runs when the projection of the state value changes.
+ * The last projection is cached per listener and compared with a {@link StateMutationPolicy}.
+ *
+ * @param <T> The type of the value of the state.
+ * @param <R> The type of the projection.
+ * @see MutableState#addListener(Object, Function, StateMutationPolicy, Runnable)
+ */
+final class SelectorListener<T, R> implements Runnable {
+
+    private final MutableState<T> state;
+    private final Function<? super T, ? extends R> selector;
+    private final StateMutationPolicy<R> mutationPolicy;
+    private final Runnable listener;
+
+    private R last;
+
+    SelectorListener(
+        final @NotNull MutableState<T> state,
+        final @NotNull Function<? super T, ? extends R> selector,
+        final @NotNull StateMutationPolicy<R> mutationPolicy,
+        final @NotNull Runnable listener
+    ) {
+        this.state = state;
+        this.selector = selector;
+        this.mutationPolicy = mutationPolicy;
+        this.listener = listener;
+        this.last = selector.apply(state.get());
+    }
+
+    @Override
+    public void run() {
+        final R selected = selector.apply(state.get());
+        if (!mutationPolicy.shouldMutate(last, selected)) return;
+
+        last = selected;
+        listener.run();
+    }
+}
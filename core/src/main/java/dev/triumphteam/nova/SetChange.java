@@ -0,0 +1,123 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A single granular change done to a {@link SetState}.
+ * Only actual membership changes are reported, adding an element that was already present reports nothing.
+ *
+ * @param <T> The type of the elements of the set.
+ * @see SetChangeListener
+ */
+public final class SetChange<T> {
+
+    private static final SetChange<?> RESET = new SetChange<>(Type.RESET, List.of());
+
+    private final Type type;
+    private final Collection<T> elements;
+
+    private SetChange(final @NotNull Type type, final @NotNull Collection<T> elements) {
+        this.type = type;
+        this.elements = elements;
+    }
+
+    /**
+     * Elements were added to the set.
+     *
+     * @param elements The added elements, none of them were present before.
+     * @param <T>      The type of the elements of the set.
+     * @return A new {@link SetChange}.
+     */
+    public static <T> @NotNull SetChange<T> add(final @NotNull Collection<T> elements) {
+        return new SetChange<>(Type.ADD, Collections.unmodifiableCollection(elements));
+    }
+
+    /**
+     * Elements were removed from the set.
+     *
+     * @param elements The removed elements.
+     * @param <T>      The type of the elements of the set.
+     * @return A new {@link SetChange}.
+     */
+    public static <T> @NotNull SetChange<T> remove(final @NotNull Collection<T> elements) {
+        return new SetChange<>(Type.REMOVE, Collections.unmodifiableCollection(elements));
+    }
+
+    /**
+     * The set changed in a way that is not described, the whole set must be read again.
+     *
+     * @param <T> The type of the elements of the set.
+     * @return The reset {@link SetChange}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull SetChange<T> reset() {
+        return (SetChange<T>) RESET;
+    }
+
+    /**
+     * The type of the change.
+     *
+     * @return The type.
+     */
+    public @NotNull Type type() {
+        return type;
+    }
+
+    /**
+     * The added or removed elements, empty for {@link Type#RESET}.
+     *
+     * @return The elements that changed.
+     */
+    public @Unmodifiable @NotNull Collection<T> elements() {
+        return elements;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case ADD:
+                return "SetChange{add " + elements + "}";
+            case REMOVE:
+                return "SetChange{remove " + elements + "}";
+            default:
+                return "SetChange{reset}";
+        }
+    }
+
+    /**
+     * The types of changes.
+     */
+    public enum Type {
+        ADD,
+        REMOVE,
+        RESET
+    }
+}
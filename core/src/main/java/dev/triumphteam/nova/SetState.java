@@ -0,0 +1,110 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import dev.triumphteam.nova.builtin.SetBackedSetState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A {@link Set} representation of a state.
+ * An update is triggered only when the membership of the set changes,
+ * adding an element that is already present or removing one that isn't doesn't trigger.
+ *
+ * @param <T> The type of the elements of the set.
+ */
+public interface SetState<T> extends State, Set<T> {
+
+    /**
+     * Creates a new {@link SetState} with a backing {@link HashSet}.
+     *
+     * @param <T> The type of the elements of the set.
+     * @return A new {@link SetState}.
+     */
+    static <T> @NotNull SetState<T> of() {
+        return of(new HashSet<>());
+    }
+
+    /**
+     * Creates a new {@link SetState} with a backing {@link LinkedHashSet}, keeping the insertion order.
+     *
+     * @param <T> The type of the elements of the set.
+     * @return A new {@link SetState}.
+     */
+    static <T> @NotNull SetState<T> linked() {
+        return of(new LinkedHashSet<>());
+    }
+
+    /**
+     * Creates a new {@link SetState} from the given elements, keeping their order.
+     *
+     * @param elements The elements to create a new set from.
+     * @param <T>      The type of the elements of the set.
+     * @return A new {@link SetState}.
+     */
+    @SafeVarargs
+    static <T> @NotNull SetState<T> of(final T... elements) {
+        final var backing = new LinkedHashSet<T>(elements.length * 2);
+        for (final var element : elements) {
+            backing.add(element);
+        }
+        return of(backing);
+    }
+
+    /**
+     * Creates a new {@link SetState} with the given set as backing.
+     *
+     * @param backing The backing {@link Set} for the state to use.
+     * @param <T>     The type of the elements of the set.
+     * @return A new {@link SetState}.
+     */
+    static <T> @NotNull SetState<T> of(final @NotNull Set<T> backing) {
+        return new SetBackedSetState<>(backing);
+    }
+
+    /**
+     * Adds a listener of the granular changes of the set.
+     * The default implementation reports every trigger as a {@link SetChange.Type#RESET}.
+     *
+     * @param stateful The {@link Object} the listener is tied to.
+     * @param listener The listener to add.
+     */
+    default void addChangeListener(final @NotNull Object stateful, final @NotNull SetChangeListener<? super T> listener) {
+        addListener(stateful, ResetChangeListener.ofSet(listener));
+    }
+
+    /**
+     * Removes a listener previously added with {@link #addChangeListener(Object, SetChangeListener)}.
+     *
+     * @param stateful The {@link Object} the listener was added with.
+     * @param listener The listener to remove.
+     * @return Whether the listener was registered.
+     */
+    default boolean removeChangeListener(final @NotNull Object stateful, final @NotNull SetChangeListener<? super T> listener) {
+        return removeListener(stateful, ResetChangeListener.ofSet(listener));
+    }
+}
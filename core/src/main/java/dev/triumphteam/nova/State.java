@@ -64,4 +64,43 @@ public interface State {
      * @param listener The listener to be called when a state is triggered.
      */
     void addListener(final @NotNull Object stateful, final @NotNull Runnable listener);
+
+    /**
+     * Removes a listener previously added with {@link #addListener(Object, Runnable)}.
+     * The default implementation can't remove anything and returns {@code false},
+     * states that support removing listeners override it.
+     *
+     * @param stateful The {@link Object} the listener was added with.
+     * @param listener The listener to remove.
+     * @return Whether the listener was registered.
+     */
+    default boolean removeListener(final @NotNull Object stateful, final @NotNull Runnable listener) {
+        return false;
+    }
+
+    /**
+     * Adds a listener under a key, replacing the listener previously added by the {@link Object} with an equal key.
+     * Meant for code that registers its listeners every time it runs, such as rendering,
+     * so the listeners don't pile up.
+     *
+     * @param stateful The {@link Object} object which will be handling this state.
+     * @param key      The key of the listener, unique per {@link Object}.
+     * @param listener The listener to be called when a state is triggered.
+     */
+    default void addListener(final @NotNull Object stateful, final @NotNull Object key, final @NotNull Runnable listener) {
+        final var keyed = KeyedListener.of(key, listener);
+        removeListener(stateful, keyed);
+        addListener(stateful, keyed);
+    }
+
+    /**
+     * Removes a listener previously added with {@link #addListener(Object, Object, Runnable)}.
+     *
+     * @param stateful The {@link Object} the listener was added with.
+     * @param key      The key the listener was added under.
+     * @return Whether a listener was registered under the key.
+     */
+    default boolean removeKeyedListener(final @NotNull Object stateful, final @NotNull Object key) {
+        return removeListener(stateful, KeyedListener.lookup(key));
+    }
 }
@@ -33,9 +33,15 @@ import java.util.function.Supplier;
 /**
  * Cache factory for states to use.
  * By default, it uses guava's cache, but has a method to allow overriding it and using something like caffeine instead.
+ *
+ * @deprecated {@link StateListenerContainer} no longer uses a cache, it keeps its listeners in copy-on-write arrays
+ * so triggering doesn't allocate. The factory is no longer used by any state and will be removed.
  */
+@Deprecated(forRemoval = true)
 public final class StateCacheFactory {
 
+    private static final System.Logger LOGGER = System.getLogger(StateCacheFactory.class.getName());
+
     private static Supplier<Map<Object, Queue<Runnable>>> factory = defaultFactory();
 
     private StateCacheFactory() {}
@@ -45,8 +51,14 @@ public final class StateCacheFactory {
      * <strong>MAKE SURE THAT THE CACHE HAS WEAK KEYS.</strong>
      *
      * @param factory The provided factory to be used by all states.
+     * @deprecated States no longer use the factory, setting it has no effect on them and logs a warning.
      */
+    @Deprecated(forRemoval = true)
     public static void setFactory(final @NotNull Supplier<@NotNull Map<@NotNull Object, @NotNull Queue<@NotNull Runnable>>> factory) {
+        LOGGER.log(
+            System.Logger.Level.WARNING,
+            "StateCacheFactory#setFactory has no effect, states keep their listeners without a cache. Remove the call."
+        );
         StateCacheFactory.factory = factory;
     }
 
@@ -0,0 +1,330 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Dispatches state triggers without recursing.
+ * The first trigger on a thread runs its listeners directly, any trigger raised by those listeners,
+ * directly or not, is queued and run after them, in order, from the same loop.
+ * A state that is already queued is not queued again, so repeated triggers are merged into one.
+ * <p>
+ * Each queued trigger is one level deeper than the trigger whose listeners raised it,
+ * when the depth goes over {@link #getMaxPropagationDepth()} a {@link StatePropagationException}
+ * describing the chain of states is thrown.
+ * <p>
+ * A listener that throws doesn't stop the dispatch, the remaining queued triggers still run,
+ * since they may belong to states unrelated to the failing one and dropping them would leave their observers stale.
+ * Once the queue is empty the first failure is rethrown to the thread that started the dispatch,
+ * with every later failure added to it as suppressed.
+ */
+public final class StateDispatcher {
+
+    private static final ThreadLocal<Frame> FRAME = ThreadLocal.withInitial(Frame::new);
+
+    private static volatile int maxPropagationDepth = 100;
+
+    private StateDispatcher() {}
+
+    /**
+     * Set the maximum amount of nested triggers a single trigger can cause.
+     *
+     * @param maxPropagationDepth The new maximum depth, must be positive.
+     */
+    public static void setMaxPropagationDepth(final int maxPropagationDepth) {
+        if (maxPropagationDepth < 1) throw new IllegalArgumentException("The maximum propagation depth must be positive.");
+        StateDispatcher.maxPropagationDepth = maxPropagationDepth;
+    }
+
+    /**
+     * The maximum amount of nested triggers a single trigger can cause.
+     *
+     * @return The maximum propagation depth.
+     */
+    public static int getMaxPropagationDepth() {
+        return maxPropagationDepth;
+    }
+
+    /**
+     * Checks if the current thread is running listeners.
+     *
+     * @return Whether a dispatch is in progress on the current thread.
+     */
+    public static boolean isDispatching() {
+        return FRAME.get().dispatching;
+    }
+
+    /**
+     * Runs the action deferring the triggers it raises until it is done,
+     * so every state triggered by the action runs its listeners only once.
+     * If the current thread is already dispatching, the action runs directly and its triggers are queued as usual.
+     *
+     * @param action The action to run.
+     */
+    public static void batch(final @NotNull Runnable action) {
+        final var frame = FRAME.get();
+        if (frame.dispatching) {
+            action.run();
+            return;
+        }
+
+        frame.dispatching = true;
+        Throwable failure = null;
+        try {
+            frame.current = frame.root;
+            try {
+                action.run();
+            } catch (final Throwable throwable) {
+                failure = throwable;
+            }
+            // Whatever changed before a failure is still notified
+            failure = frame.drain(failure);
+        } finally {
+            frame.clear();
+        }
+        rethrow(failure);
+    }
+
+    /**
+     * Runs the listeners of the container, or queues them if the current thread is already dispatching.
+     *
+     * @param state     The state being triggered.
+     * @param container The listeners of the state.
+     */
+    static void dispatch(final @NotNull State state, final @NotNull StateListenerContainer container) {
+        dispatch(state, container, null);
+    }
+
+    /**
+     * Runs the listeners of a state that keeps its listeners itself instead of in a {@link StateListenerContainer},
+     * or queues them if the current thread is already dispatching.
+     *
+     * @param state     The state being triggered.
+     * @param listeners Runs all the listeners of the state.
+     */
+    public static void dispatch(final @NotNull State state, final @NotNull Runnable listeners) {
+        dispatch(state, null, listeners);
+    }
+
+    /**
+     * Runs the change listeners of a state right away, since a change describes the current contents of its state.
+     * Triggers raised by the change listeners are queued like those raised by listeners,
+     * and run once the change is delivered when the current thread wasn't dispatching yet.
+     *
+     * @param state     The state that changed.
+     * @param container The change listeners of the state, adapted to read the change being delivered.
+     */
+    static void deliver(final @NotNull State state, final @NotNull StateListenerContainer container) {
+        final var frame = FRAME.get();
+        if (frame.dispatching) {
+            container.triggerAll();
+            return;
+        }
+
+        frame.dispatching = true;
+        Throwable failure;
+        try {
+            frame.root.reset(state, container, null);
+            frame.current = frame.root;
+            failure = frame.drain(frame.root.runCatching());
+        } finally {
+            frame.clear();
+        }
+        rethrow(failure);
+    }
+
+    private static void dispatch(
+        final @NotNull State state,
+        final @Nullable StateListenerContainer container,
+        final @Nullable Runnable listeners
+    ) {
+        final var frame = FRAME.get();
+        if (frame.dispatching) {
+            frame.enqueue(state, container, listeners);
+            return;
+        }
+
+        frame.dispatching = true;
+        Throwable failure;
+        try {
+            frame.root.reset(state, container, listeners);
+            frame.current = frame.root;
+            failure = frame.drain(frame.root.runCatching());
+        } finally {
+            frame.clear();
+        }
+        rethrow(failure);
+    }
+
+    private static void rethrow(final @Nullable Throwable failure) {
+        if (failure == null) return;
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+        if (failure instanceof Error) throw (Error) failure;
+        // Listeners are runnables, only a sneaky throw gets here
+        throw new IllegalStateException("A state listener failed.", failure);
+    }
+
+    /**
+     * The dispatch state of a thread.
+     */
+    private static final class Frame {
+
+        private final Entry root = new Entry();
+        private final Queue<Entry> queue = new ArrayDeque<>();
+        private final Set<State> queued = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private boolean dispatching;
+        private @Nullable Entry current;
+
+        private void enqueue(
+            final @NotNull State state,
+            final @Nullable StateListenerContainer container,
+            final @Nullable Runnable listeners
+        ) {
+            if (!queued.add(state)) return;
+
+            final var parent = current;
+            final var entry = new Entry();
+            entry.reset(state, container, listeners);
+            entry.parent = parent;
+            entry.depth = parent == null ? 0 : parent.depth + 1;
+
+            if (entry.depth > maxPropagationDepth) {
+                queued.remove(state);
+                throw new StatePropagationException(
+                    "Triggering states exceeded the maximum propagation depth of " + maxPropagationDepth + ": " + describe(entry)
+                );
+            }
+
+            queue.add(entry);
+        }
+
+        /**
+         * Runs every queued trigger, including the ones queued while draining, even if some of them fail.
+         *
+         * @param failure The failure that happened before draining, if any.
+         * @return The first failure with the later ones suppressed, or {@code null} if nothing failed.
+         */
+        private @Nullable Throwable drain(final @Nullable Throwable failure) {
+            var first = failure;
+            Entry entry;
+            while ((entry = queue.poll()) != null) {
+                queued.remove(entry.state);
+                current = entry;
+                final var throwable = entry.runCatching();
+                if (throwable == null) continue;
+                if (first == null) first = throwable;
+                else if (first != throwable) first.addSuppressed(throwable);
+            }
+            return first;
+        }
+
+        private void clear() {
+            dispatching = false;
+            current = null;
+            root.reset(null, null, null);
+            queue.clear();
+            queued.clear();
+        }
+
+        /**
+         * Describes the chain of states that led to the entry, pointing out the cycle if there is one.
+         */
+        private static @NotNull String describe(final @NotNull Entry last) {
+            final var chain = new ArrayList<State>();
+            for (var entry = last; entry != null; entry = entry.parent) {
+                chain.add(entry.state);
+            }
+            Collections.reverse(chain);
+
+            final var builder = new StringBuilder();
+            for (int i = 0; i < chain.size(); i++) {
+                if (i > 0) builder.append(" -> ");
+                builder.append(name(chain.get(i)));
+            }
+
+            // The cycle is between the last state and its previous occurrence
+            final var lastState = chain.get(chain.size() - 1);
+            for (int i = chain.size() - 2; i >= 0; i--) {
+                if (chain.get(i) != lastState) continue;
+                builder.append(" (cycle: ");
+                for (int j = i; j < chain.size(); j++) {
+                    if (j > i) builder.append(" -> ");
+                    builder.append(name(chain.get(j)));
+                }
+                builder.append(')');
+                break;
+            }
+            return builder.toString();
+        }
+
+        private static @NotNull String name(final @Nullable State state) {
+            if (state == null) return "batch";
+            return state.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(state));
+        }
+    }
+
+    /**
+     * A trigger waiting to be dispatched.
+     */
+    private static final class Entry {
+
+        private @Nullable State state;
+        private @Nullable StateListenerContainer container;
+        private @Nullable Runnable listeners;
+        private @Nullable Entry parent;
+        private int depth;
+
+        private void reset(
+            final @Nullable State state,
+            final @Nullable StateListenerContainer container,
+            final @Nullable Runnable listeners
+        ) {
+            this.state = state;
+            this.container = container;
+            this.listeners = listeners;
+            this.parent = null;
+            this.depth = 0;
+        }
+
+        private @Nullable Throwable runCatching() {
+            try {
+                if (container != null) container.triggerAll();
+                else if (listeners != null) listeners.run();
+                return null;
+            } catch (final Throwable throwable) {
+                return throwable;
+            }
+        }
+    }
+}
@@ -23,40 +23,337 @@
  */
 package dev.triumphteam.nova;
 
+import com.google.common.collect.MapMaker;
+import dev.triumphteam.nova.jfr.NovaRecording;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.ObjIntConsumer;
 
 /**
- * A map-backed container for state listeners.
- * This container uses a map with weak keys, so instances of the {@link Object} can prevent
- * values from being garbage collected correctly.
+ * A copy-on-write container for state listeners.
+ * Listeners are grouped by the {@link Object} they were added with, which is weakly referenced,
+ * so instances of the {@link Object} can still be garbage collected correctly.
+ * <p>
+ * Each {@link Object} has a slot in an array that grows with spare room, adding or removing a listener
+ * only replaces the slot of its {@link Object}, triggering iterates the current array directly,
+ * so triggering a state whose listeners don't change allocates nothing.
+ * Once a state has many listening objects, their slots are looked up through a weak index instead of a scan.
+ * Listeners added while the state is being triggered may or may not run in that trigger.
  */
 public final class StateListenerContainer {
 
+    private static final Entry[] EMPTY = new Entry[0];
+    private static final int MIN_CAPACITY = 4;
+    // Listening objects above which their slots are indexed instead of scanned for
+    private static final int INDEX_THRESHOLD = 16;
+    private static final System.Logger LOGGER = System.getLogger(StateListenerContainer.class.getName());
+
+    private static volatile int duplicateWarningThreshold = 16;
+
+    // Slots are only filled or replaced by new entries, a removed entry leaves a null slot until the array is compacted
+    private volatile Entry[] entries = EMPTY;
+    private volatile @Nullable ParallelDispatch parallelDispatch;
+
+    // Guarded by this, the slots used so far and how many of them were emptied since the last compaction
+    private int used;
+    private int removed;
+    // Guarded by this, the slot of each listening object once there are enough of them
+    private @Nullable Map<Object, Integer> slots;
+
     /**
-     * Listener cache.
-     * The keys of the map are weak.
-     * The value of the map is a {@link ConcurrentLinkedQueue}.
+     * Sets how many listeners of the same class a single {@link Object} can add to a state before a warning is logged.
+     * Listeners piling up like this usually mean they are added every time something renders,
+     * which should use {@link State#addListener(Object, Object, Runnable)} instead.
+     *
+     * @param threshold The amount of listeners of the same class, {@code 0} disables the warning.
      */
-    private final Map<Object, Queue<Runnable>> listeners = StateCacheFactory.create();
+    public static void setDuplicateWarningThreshold(final int threshold) {
+        if (threshold < 0) throw new IllegalArgumentException("The threshold must not be negative.");
+        duplicateWarningThreshold = threshold;
+    }
+
+    /**
+     * The amount of listeners of the same class a single {@link Object} can add to a state before a warning is logged.
+     *
+     * @return The duplicate warning threshold, {@code 0} if disabled.
+     */
+    public static int getDuplicateWarningThreshold() {
+        return duplicateWarningThreshold;
+    }
 
     /**
      * Adds listener tied to the {@link Object} lifecycle.
+     * A listener added through {@link State#addListener(Object, Object, Runnable)} replaces
+     * the listener of the {@link Object} with the same key.
      *
      * @param stateful The stateful object to be used as the reference.
      * @param listener The listener to run when a state is triggered.
      */
-    public void addListener(final @NotNull Object stateful, final @NotNull Runnable listener) {
-        listeners.computeIfAbsent(stateful, ignored -> new ConcurrentLinkedQueue<>()).add(listener);
+    public synchronized void addListener(final @NotNull Object stateful, final @NotNull Runnable listener) {
+        final var index = slotOf(stateful);
+        if (index >= 0) {
+            final var entry = entries[index];
+            final var listeners = entry.listeners;
+
+            // Keyed listeners replace the one with the same key in place
+            if (listener instanceof KeyedListener) {
+                final var keyIndex = Arrays.asList(listeners).indexOf(listener);
+                if (keyIndex >= 0) {
+                    final var replaced = listeners.clone();
+                    replaced[keyIndex] = listener;
+                    replace(index, new Entry(entry.stateful, replaced));
+                    return;
+                }
+            } else {
+                checkDuplicates(stateful, listeners, listener);
+            }
+
+            final var added = Arrays.copyOf(listeners, listeners.length + 1);
+            added[added.length - 1] = listener;
+            replace(index, new Entry(entry.stateful, added));
+            return;
+        }
+
+        if (used == entries.length) compact(1);
+        final var current = entries;
+        final var slot = used++;
+        current[slot] = new Entry(new WeakReference<>(stateful), new Runnable[]{listener});
+        final var slots = this.slots;
+        if (slots != null) slots.put(stateful, slot);
+        else if (used - removed > INDEX_THRESHOLD) index();
+        // Publishes the filled slot
+        entries = current;
+    }
+
+    /**
+     * Removes a listener tied to the {@link Object}.
+     * The {@link Object} is forgotten once it has no listeners left.
+     *
+     * @param stateful The stateful object the listener was added with.
+     * @param listener The listener to remove.
+     * @return Whether the listener was present.
+     */
+    public synchronized boolean removeListener(final @NotNull Object stateful, final @NotNull Runnable listener) {
+        final var index = slotOf(stateful);
+        if (index < 0) return false;
+
+        final var entry = entries[index];
+        final var listenerIndex = Arrays.asList(entry.listeners).indexOf(listener);
+        if (listenerIndex < 0) return false;
+
+        if (entry.listeners.length == 1) {
+            replace(index, null);
+            final var slots = this.slots;
+            if (slots != null) slots.remove(stateful);
+            // Compacts once half of the slots are empty, so removals stay cheap on average
+            if (++removed > used / 2) compact(0);
+            return true;
+        }
+
+        final var listeners = new Runnable[entry.listeners.length - 1];
+        System.arraycopy(entry.listeners, 0, listeners, 0, listenerIndex);
+        System.arraycopy(entry.listeners, listenerIndex + 1, listeners, listenerIndex, listeners.length - listenerIndex);
+        replace(index, new Entry(entry.stateful, listeners));
+        return true;
     }
 
     /**
      * Triggers all listeners that this state uses.
      */
     public void triggerAll() {
-        listeners.values().forEach(listeners -> listeners.forEach(Runnable::run));
+        final var current = entries;
+        final var parallel = parallelDispatch;
+        if (parallel != null) {
+            if (parallel.run(current)) expunge();
+            return;
+        }
+
+        final var recorded = NovaRecording.isListenerRecorded();
+        var collected = false;
+        for (final var entry : current) {
+            if (entry == null) continue;
+            final var stateful = entry.stateful.get();
+            if (stateful == null) {
+                collected = true;
+                continue;
+            }
+            for (final var listener : entry.listeners) {
+                if (recorded) NovaRecording.runRecorded(stateful, listener);
+                else listener.run();
+            }
+        }
+
+        if (collected) expunge();
+    }
+
+    /**
+     * Counts the listeners of the stateful objects that are still alive.
+     *
+     * @return The amount of listeners.
+     */
+    public int size() {
+        var size = 0;
+        for (final var entry : entries) {
+            if (entry != null && entry.stateful.get() != null) size += entry.listeners.length;
+        }
+        return size;
+    }
+
+    /**
+     * Whether no {@link Object} is listening, without checking if the listening objects are still alive.
+     *
+     * @return True if there are no listeners.
+     */
+    public boolean isEmpty() {
+        for (final var entry : entries) {
+            if (entry != null) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Visits the stateful objects that are still alive, with the amount of listeners each of them added.
+     *
+     * @param consumer Receives each stateful object and its listener count.
+     */
+    public void forEachOwner(final @NotNull ObjIntConsumer<Object> consumer) {
+        for (final var entry : entries) {
+            if (entry == null) continue;
+            final var stateful = entry.stateful.get();
+            if (stateful != null) consumer.accept(stateful, entry.listeners.length);
+        }
+    }
+
+    /**
+     * Sets how the listeners are run when triggered, {@code null} runs them one after another on the triggering thread.
+     *
+     * @param parallelDispatch The parallel dispatch to use or {@code null}.
+     */
+    public void setParallelDispatch(final @Nullable ParallelDispatch parallelDispatch) {
+        this.parallelDispatch = parallelDispatch;
+    }
+
+    /**
+     * Removes all listeners.
+     */
+    public synchronized void clear() {
+        entries = EMPTY;
+        used = 0;
+        removed = 0;
+        slots = null;
+    }
+
+    private synchronized void expunge() {
+        compact(0);
+    }
+
+    /**
+     * Warns once when the listener makes the {@link Object} reach the threshold of listeners of the same class.
+     */
+    private static void checkDuplicates(
+        final @NotNull Object stateful,
+        final Runnable @NotNull [] listeners,
+        final @NotNull Runnable listener
+    ) {
+        final var threshold = duplicateWarningThreshold;
+        if (threshold == 0) return;
+
+        var same = 1;
+        for (final var existing : listeners) {
+            if (existing.getClass() == listener.getClass()) same++;
+        }
+        if (same != threshold) return;
+
+        LOGGER.log(
+            System.Logger.Level.WARNING,
+            "{0} added {1} listeners of {2} to the same state, they are likely added again on every render."
+                + " Use State#addListener(Object, Object, Runnable) to replace them instead.",
+            stateful.getClass().getName(),
+            same,
+            listener.getClass().getName()
+        );
+    }
+
+    private int slotOf(final @NotNull Object stateful) {
+        final var slots = this.slots;
+        if (slots != null) {
+            final var slot = slots.get(stateful);
+            return slot == null ? -1 : slot;
+        }
+
+        final var current = entries;
+        for (int i = 0; i < used; i++) {
+            final var entry = current[i];
+            if (entry != null && entry.stateful.get() == stateful) return i;
+        }
+        return -1;
+    }
+
+    private void replace(final int slot, final @Nullable Entry entry) {
+        final var current = entries;
+        current[slot] = entry;
+        // Publishes the replaced slot
+        entries = current;
+    }
+
+    /**
+     * Moves the entries whose stateful object is still alive to a new array, with room for at least the extra entries.
+     */
+    private void compact(final int extra) {
+        final var current = entries;
+        var alive = 0;
+        for (int i = 0; i < used; i++) {
+            final var entry = current[i];
+            if (entry != null && entry.stateful.get() != null) alive++;
+        }
+
+        removed = 0;
+        if (alive + extra == 0) {
+            entries = EMPTY;
+            used = 0;
+            slots = null;
+            return;
+        }
+
+        // Triggers still iterating the old array are not affected, its slots are never touched again
+        final var result = new Entry[Math.max(MIN_CAPACITY, (alive + extra) * 2)];
+        var index = 0;
+        for (int i = 0; i < used; i++) {
+            final var entry = current[i];
+            if (entry != null && entry.stateful.get() != null) result[index++] = entry;
+        }
+        used = index;
+        entries = result;
+        slots = null;
+        if (used > INDEX_THRESHOLD) index();
+    }
+
+    private void index() {
+        final Map<Object, Integer> slots = new MapMaker().weakKeys().makeMap();
+        final var current = entries;
+        for (int i = 0; i < used; i++) {
+            final var entry = current[i];
+            final var stateful = entry == null ? null : entry.stateful.get();
+            if (stateful != null) slots.put(stateful, i);
+        }
+        this.slots = slots;
+    }
+
+    /**
+     * The listeners added with a stateful object, in the order they were added.
+     */
+    static final class Entry {
+
+        final WeakReference<Object> stateful;
+        final Runnable[] listeners;
+
+        private Entry(final @NotNull WeakReference<Object> stateful, final Runnable @NotNull [] listeners) {
+            this.stateful = stateful;
+            this.listeners = listeners;
+        }
     }
 }
@@ -0,0 +1,81 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.aggregate;
+
+import dev.triumphteam.nova.ListState;
+import dev.triumphteam.nova.MapState;
+import dev.triumphteam.nova.State;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A read-only state holding an aggregate of a collection state, such as a count, a sum or a maximum.
+ * The aggregate is updated from the changes of the collection, one element at a time,
+ * and the state is only triggered when the result changes.
+ * <p>
+ * How incremental the updates are depends on how well the collection describes its changes,
+ * collections that cannot describe them are aggregated again on every trigger.
+ * The state is only weakly referenced by its collection, it stops listening once it is no longer used.
+ *
+ * <pre>{@code
+ * AggregateState<Long> total = AggregateState.of(players, Aggregates.sum(Player::getScore));
+ * AggregateState<Map<Team, Integer>> perTeam = AggregateState.of(players, Aggregates.groupingCount(Player::getTeam));
+ * }</pre>
+ *
+ * @param <R> The type of the result.
+ */
+public interface AggregateState<R> extends State {
+
+    /**
+     * Creates an aggregate of the elements of a list.
+     *
+     * @param source     The list to aggregate.
+     * @param aggregator The aggregator to use, it must not be shared.
+     * @param <T>        The type of the elements.
+     * @param <R>        The type of the result.
+     * @return A new {@link AggregateState}.
+     */
+    static <T, R> @NotNull AggregateState<R> of(final @NotNull ListState<T> source, final @NotNull Aggregator<? super T, R> aggregator) {
+        return SourceAggregateState.ofList(source, aggregator);
+    }
+
+    /**
+     * Creates an aggregate of the values of a map.
+     *
+     * @param source     The map whose values to aggregate.
+     * @param aggregator The aggregator to use, it must not be shared.
+     * @param <V>        The type of the values.
+     * @param <R>        The type of the result.
+     * @return A new {@link AggregateState}.
+     */
+    static <V, R> @NotNull AggregateState<R> ofValues(final @NotNull MapState<?, V> source, final @NotNull Aggregator<? super V, R> aggregator) {
+        return SourceAggregateState.ofMap(source, aggregator);
+    }
+
+    /**
+     * The current result of the aggregate.
+     *
+     * @return The result.
+     */
+    @NotNull R get();
+}
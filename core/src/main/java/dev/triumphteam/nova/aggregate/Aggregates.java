@@ -0,0 +1,178 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.aggregate;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * The built-in {@link Aggregator}s, each call creates a new aggregator that must not be shared between states.
+ */
+public final class Aggregates {
+
+    private Aggregates() {}
+
+    /**
+     * Counts the elements, in constant time.
+     *
+     * @param <T> The type of the elements.
+     * @return A new {@link Aggregator}.
+     */
+    public static <T> @NotNull Aggregator<T, Integer> count() {
+        return new CountAggregator<>(element -> true);
+    }
+
+    /**
+     * Counts the elements that match the predicate, in constant time.
+     * The predicate must give the same answer for an element while it is in the collection.
+     *
+     * @param predicate The predicate the elements must match.
+     * @param <T>       The type of the elements.
+     * @return A new {@link Aggregator}.
+     */
+    public static <T> @NotNull Aggregator<T, Integer> count(final @NotNull Predicate<? super T> predicate) {
+        return new CountAggregator<>(predicate);
+    }
+
+    /**
+     * Sums a {@code long} value of the elements, in constant time.
+     *
+     * @param mapper Extracts the value to sum.
+     * @param <T>    The type of the elements.
+     * @return A new {@link Aggregator}.
+     */
+    public static <T> @NotNull Aggregator<T, Long> sum(final @NotNull ToLongFunction<? super T> mapper) {
+        return new LongSumAggregator<>(mapper);
+    }
+
+    /**
+     * Sums a {@code double} value of the elements, in constant time.
+     * Uses compensated summation so adding and removing values does not accumulate rounding errors as fast.
+     *
+     * @param mapper Extracts the value to sum.
+     * @param <T>    The type of the elements.
+     * @return A new {@link Aggregator}.
+     */
+    public static <T> @NotNull Aggregator<T, Double> sumDouble(final @NotNull ToDoubleFunction<? super T> mapper) {
+        return new DoubleSumAggregator<>(mapper);
+    }
+
+    /**
+     * The lowest value of the elements, in logarithmic time, {@code null} values are ignored.
+     *
+     * @param mapper Extracts the value to compare.
+     * @param <T>    The type of the elements.
+     * @param <C>    The type of the value.
+     * @return A new {@link Aggregator} whose result is empty when there are no values.
+     */
+    public static <T, C extends Comparable<? super C>> @NotNull Aggregator<T, Optional<C>> min(
+        final @NotNull Function<? super T, ? extends C> mapper
+    ) {
+        return new ExtremumAggregator<>(mapper, Comparator.naturalOrder());
+    }
+
+    /**
+     * The highest value of the elements, in logarithmic time, {@code null} values are ignored.
+     *
+     * @param mapper Extracts the value to compare.
+     * @param <T>    The type of the elements.
+     * @param <C>    The type of the value.
+     * @return A new {@link Aggregator} whose result is empty when there are no values.
+     */
+    public static <T, C extends Comparable<? super C>> @NotNull Aggregator<T, Optional<C>> max(
+        final @NotNull Function<? super T, ? extends C> mapper
+    ) {
+        return new ExtremumAggregator<>(mapper, Comparator.<C>naturalOrder().reversed());
+    }
+
+    /**
+     * The lowest value of the elements according to the comparator, in logarithmic time, {@code null} values are ignored.
+     *
+     * @param mapper     Extracts the value to compare.
+     * @param comparator The comparator of the values.
+     * @param <T>        The type of the elements.
+     * @param <C>        The type of the value.
+     * @return A new {@link Aggregator} whose result is empty when there are no values.
+     */
+    public static <T, C> @NotNull Aggregator<T, Optional<C>> min(
+        final @NotNull Function<? super T, ? extends C> mapper,
+        final @NotNull Comparator<? super C> comparator
+    ) {
+        return new ExtremumAggregator<>(mapper, comparator);
+    }
+
+    /**
+     * The highest value of the elements according to the comparator, in logarithmic time, {@code null} values are ignored.
+     *
+     * @param mapper     Extracts the value to compare.
+     * @param comparator The comparator of the values.
+     * @param <T>        The type of the elements.
+     * @param <C>        The type of the value.
+     * @return A new {@link Aggregator} whose result is empty when there are no values.
+     */
+    public static <T, C> @NotNull Aggregator<T, Optional<C>> max(
+        final @NotNull Function<? super T, ? extends C> mapper,
+        final @NotNull Comparator<? super C> comparator
+    ) {
+        return new ExtremumAggregator<>(mapper, comparator.reversed());
+    }
+
+    /**
+     * Aggregates the elements of each group separately, a group exists while it has elements.
+     * The group of an element must stay the same while it is in the collection.
+     *
+     * @param classifier Extracts the group of an element.
+     * @param downstream Creates the aggregator of a new group.
+     * @param <T>        The type of the elements.
+     * @param <K>        The type of the group keys.
+     * @param <R>        The type of the result of each group.
+     * @return A new {@link Aggregator} whose result is an immutable map of group to result.
+     */
+    public static <T, K, R> @NotNull Aggregator<T, Map<K, R>> groupingBy(
+        final @NotNull Function<? super T, ? extends K> classifier,
+        final @NotNull Supplier<? extends Aggregator<? super T, ? extends R>> downstream
+    ) {
+        return new GroupingAggregator<>(classifier, downstream);
+    }
+
+    /**
+     * Counts the elements of each group.
+     *
+     * @param classifier Extracts the group of an element.
+     * @param <T>        The type of the elements.
+     * @param <K>        The type of the group keys.
+     * @return A new {@link Aggregator} whose result is an immutable map of group to count.
+     */
+    public static <T, K> @NotNull Aggregator<T, Map<K, Integer>> groupingCount(final @NotNull Function<? super T, ? extends K> classifier) {
+        return groupingBy(classifier, Aggregates::count);
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.aggregate;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An incremental fold over the elements of a collection, updated one element at a time.
+ * Implementations should update in constant or logarithmic time and report whether the result changed,
+ * so the {@link AggregateState} using it is only triggered when needed.
+ * <p>
+ * Results should be values, {@link #result()} is compared with {@link Object#equals(Object)}
+ * when the whole collection has to be aggregated again.
+ *
+ * @param <T> The type of the elements.
+ * @param <R> The type of the result.
+ * @see Aggregates
+ */
+public interface Aggregator<T, R> {
+
+    /**
+     * Adds an element to the aggregate.
+     *
+     * @param element The added element.
+     * @return Whether the result changed.
+     */
+    boolean add(final T element);
+
+    /**
+     * Removes an element that was previously added from the aggregate.
+     *
+     * @param element The removed element.
+     * @return Whether the result changed.
+     */
+    boolean remove(final T element);
+
+    /**
+     * Replaces an element that was previously added with another one.
+     *
+     * @param previous The replaced element.
+     * @param element  The new element.
+     * @return Whether the result changed.
+     */
+    default boolean replace(final T previous, final T element) {
+        return remove(previous) | add(element);
+    }
+
+    /**
+     * Removes all elements from the aggregate.
+     */
+    void clear();
+
+    /**
+     * The current result of the aggregate.
+     *
+     * @return The result.
+     */
+    @NotNull R result();
+}
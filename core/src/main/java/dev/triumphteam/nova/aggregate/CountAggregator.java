@@ -0,0 +1,72 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.aggregate;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Predicate;
+
+/**
+ * Counts the elements matching a predicate.
+ */
+final class CountAggregator<T> implements Aggregator<T, Integer> {
+
+    private final Predicate<? super T> predicate;
+    private int count;
+
+    CountAggregator(final @NotNull Predicate<? super T> predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean add(final T element) {
+        if (!predicate.test(element)) return false;
+        count++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(final T element) {
+        if (!predicate.test(element)) return false;
+        count--;
+        return true;
+    }
+
+    @Override
+    public boolean replace(final T previous, final T element) {
+        final var delta = (predicate.test(element) ? 1 : 0) - (predicate.test(previous) ? 1 : 0);
+        count += delta;
+        return delta != 0;
+    }
+
+    @Override
+    public void clear() {
+        count = 0;
+    }
+
+    @Override
+    public @NotNull Integer result() {
+        return count;
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.aggregate;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Sums a {@code double} value of the elements with Kahan-Babuska (Neumaier) compensated summation.
+ */
+final class DoubleSumAggregator<T> implements Aggregator<T, Double> {
+
+    private final ToDoubleFunction<? super T> mapper;
+    private double sum;
+    private double compensation;
+
+    DoubleSumAggregator(final @NotNull ToDoubleFunction<? super T> mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean add(final T element) {
+        return accumulate(mapper.applyAsDouble(element));
+    }
+
+    @Override
+    public boolean remove(final T element) {
+        return accumulate(-mapper.applyAsDouble(element));
+    }
+
+    @Override
+    public boolean replace(final T previous, final T element) {
+        final var before = result();
+        accumulate(mapper.applyAsDouble(element));
+        accumulate(-mapper.applyAsDouble(previous));
+        return Double.compare(before, result()) != 0;
+    }
+
+    @Override
+    public void clear() {
+        sum = 0;
+        compensation = 0;
+    }
+
+    @Override
+    public @NotNull Double result() {
+        return sum + compensation;
+    }
+
+    private boolean accumulate(final double value) {
+        if (value == 0) return false;
+        final var before = sum + compensation;
+        final var total = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - total) + value;
+        } else {
+            compensation += (value - total) + sum;
+        }
+        sum = total;
+        return Double.compare(before, sum + compensation) != 0;
+    }
+}
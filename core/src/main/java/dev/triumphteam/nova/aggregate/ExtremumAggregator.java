@@ -0,0 +1,120 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.aggregate;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Keeps the first value of the elements according to a comparator,
+ * the values are kept in a {@link TreeMap} used as a multiset so removing the current extreme is logarithmic too.
+ */
+final class ExtremumAggregator<T, C> implements Aggregator<T, Optional<C>> {
+
+    private final Function<? super T, ? extends C> mapper;
+    private final TreeMap<C, int[]> values;
+    private @Nullable C first;
+    private Optional<C> result = Optional.empty();
+
+    ExtremumAggregator(final @NotNull Function<? super T, ? extends C> mapper, final @NotNull Comparator<? super C> comparator) {
+        this.mapper = mapper;
+        this.values = new TreeMap<>(comparator);
+    }
+
+    @Override
+    public boolean add(final T element) {
+        return insert(element) && updated();
+    }
+
+    @Override
+    public boolean remove(final T element) {
+        return delete(element) && updated();
+    }
+
+    @Override
+    public boolean replace(final T previous, final T element) {
+        // The extreme is compared once, replacing it with an equal value is not a change
+        final var inserted = insert(element);
+        final var deleted = delete(previous);
+        return (inserted || deleted) && updated();
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+        first = null;
+        result = Optional.empty();
+    }
+
+    @Override
+    public @NotNull Optional<C> result() {
+        return result;
+    }
+
+    /**
+     * Whether the first value changed after a value was added or removed from the tree.
+     */
+    private boolean updated() {
+        final var current = values.isEmpty() ? null : values.firstKey();
+        if (Objects.equals(current, first)) return false;
+        first = current;
+        result = Optional.ofNullable(current);
+        return true;
+    }
+
+    /**
+     * Adds the value of the element to the tree, returns whether a new value was added.
+     */
+    private boolean insert(final T element) {
+        final C value = mapper.apply(element);
+        if (value == null) return false;
+
+        final var count = values.get(value);
+        if (count != null) {
+            count[0]++;
+            return false;
+        }
+        values.put(value, new int[]{1});
+        return true;
+    }
+
+    /**
+     * Removes the value of the element from the tree, returns whether a value was removed.
+     */
+    private boolean delete(final T element) {
+        final C value = mapper.apply(element);
+        if (value == null) return false;
+
+        final var count = values.get(value);
+        if (count == null || --count[0] > 0) return false;
+        values.remove(value);
+        return true;
+    }
+}
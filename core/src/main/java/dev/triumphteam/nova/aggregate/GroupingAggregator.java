@@ -0,0 +1,129 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.aggregate;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Aggregates each group with its own aggregator.
+ * The result map is updated in place, only the entry of the group an element belongs to is touched,
+ * so a change costs as much as the downstream aggregator update.
+ * The result is a read-only view that keeps following the groups until the aggregator is cleared,
+ * clearing starts a new result and leaves the previous one as it was.
+ */
+final class GroupingAggregator<T, K, R> implements Aggregator<T, Map<K, R>> {
+
+    private final Function<? super T, ? extends K> classifier;
+    private final Supplier<? extends Aggregator<? super T, ? extends R>> downstream;
+    private final Map<K, Group<T, R>> groups = new HashMap<>();
+    private Map<K, R> results = new HashMap<>();
+    private Map<K, R> result = Collections.unmodifiableMap(results);
+
+    GroupingAggregator(
+        final @NotNull Function<? super T, ? extends K> classifier,
+        final @NotNull Supplier<? extends Aggregator<? super T, ? extends R>> downstream
+    ) {
+        this.classifier = classifier;
+        this.downstream = downstream;
+    }
+
+    @Override
+    public boolean add(final T element) {
+        final K key = classifier.apply(element);
+        var group = groups.get(key);
+        final var created = group == null;
+        if (created) {
+            group = new Group<>(downstream.get());
+            groups.put(key, group);
+        }
+        group.size++;
+        return changed(key, group, group.aggregator.add(element) || created);
+    }
+
+    @Override
+    public boolean remove(final T element) {
+        final K key = classifier.apply(element);
+        final var group = groups.get(key);
+        if (group == null) return false;
+
+        final var changed = group.aggregator.remove(element);
+        if (--group.size > 0) return changed(key, group, changed);
+        groups.remove(key);
+        results.remove(key);
+        return true;
+    }
+
+    @Override
+    public boolean replace(final T previous, final T element) {
+        final K previousKey = classifier.apply(previous);
+        final K key = classifier.apply(element);
+        if (!Objects.equals(previousKey, key)) return remove(previous) | add(element);
+
+        final var group = groups.get(key);
+        if (group == null) return add(element);
+        return changed(key, group, group.aggregator.replace(previous, element));
+    }
+
+    @Override
+    public void clear() {
+        groups.clear();
+        // The previous result is left untouched, so it can still be compared with the rebuilt one
+        results = new HashMap<>();
+        result = Collections.unmodifiableMap(results);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The returned map is a live view, see the class documentation.
+     */
+    @Override
+    public @NotNull Map<K, R> result() {
+        return result;
+    }
+
+    private boolean changed(final K key, final @NotNull Group<T, R> group, final boolean changed) {
+        if (changed) results.put(key, group.aggregator.result());
+        return changed;
+    }
+
+    /**
+     * The aggregator of a group and the amount of elements in it.
+     */
+    private static final class Group<T, R> {
+
+        private final Aggregator<? super T, ? extends R> aggregator;
+        private int size;
+
+        private Group(final @NotNull Aggregator<? super T, ? extends R> aggregator) {
+            this.aggregator = aggregator;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.aggregate;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Sums a {@code long} value of the elements.
+ */
+final class LongSumAggregator<T> implements Aggregator<T, Long> {
+
+    private final ToLongFunction<? super T> mapper;
+    private long sum;
+
+    LongSumAggregator(final @NotNull ToLongFunction<? super T> mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean add(final T element) {
+        final var value = mapper.applyAsLong(element);
+        sum += value;
+        return value != 0;
+    }
+
+    @Override
+    public boolean remove(final T element) {
+        final var value = mapper.applyAsLong(element);
+        sum -= value;
+        return value != 0;
+    }
+
+    @Override
+    public boolean replace(final T previous, final T element) {
+        final var delta = mapper.applyAsLong(element) - mapper.applyAsLong(previous);
+        sum += delta;
+        return delta != 0;
+    }
+
+    @Override
+    public void clear() {
+        sum = 0;
+    }
+
+    @Override
+    public @NotNull Long result() {
+        return sum;
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.aggregate;
+
+import dev.triumphteam.nova.AbstractState;
+import dev.triumphteam.nova.ListChange;
+import dev.triumphteam.nova.ListChangeListener;
+import dev.triumphteam.nova.ListState;
+import dev.triumphteam.nova.MapChange;
+import dev.triumphteam.nova.MapChangeListener;
+import dev.triumphteam.nova.MapState;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The {@link AggregateState} implementation, feeding the changes of a list or map to an {@link Aggregator}.
+ * The collection only holds the state through a {@link WeakReference}.
+ */
+final class SourceAggregateState<T, R> extends AbstractState implements AggregateState<R> {
+
+    private final Aggregator<? super T, R> aggregator;
+    private final Supplier<? extends Iterable<? extends T>> elements;
+
+    private SourceAggregateState(
+        final @NotNull Aggregator<? super T, R> aggregator,
+        final @NotNull Supplier<? extends Iterable<? extends T>> elements
+    ) {
+        this.aggregator = aggregator;
+        this.elements = elements;
+        aggregator.clear();
+        elements.get().forEach(aggregator::add);
+    }
+
+    static <T, R> @NotNull SourceAggregateState<T, R> ofList(
+        final @NotNull ListState<T> source,
+        final @NotNull Aggregator<? super T, R> aggregator
+    ) {
+        final var state = new SourceAggregateState<T, R>(aggregator, () -> source);
+        source.addChangeListener(state, new ListSource<>(state));
+        return state;
+    }
+
+    static <V, R> @NotNull SourceAggregateState<V, R> ofMap(
+        final @NotNull MapState<?, V> source,
+        final @NotNull Aggregator<? super V, R> aggregator
+    ) {
+        final var state = new SourceAggregateState<V, R>(aggregator, source::values);
+        source.addChangeListener(state, new MapSource<>(state));
+        return state;
+    }
+
+    @Override
+    public @NotNull R get() {
+        return aggregator.result();
+    }
+
+    @Override
+    public String toString() {
+        return "AggregateState{" + aggregator.result() + "}";
+    }
+
+    private void changed(final boolean changed) {
+        if (changed) trigger();
+    }
+
+    private void reset() {
+        final var before = aggregator.result();
+        aggregator.clear();
+        elements.get().forEach(aggregator::add);
+        changed(!Objects.equals(before, aggregator.result()));
+    }
+
+    /**
+     * Feeds the changes of a list, without keeping the state reachable.
+     */
+    private static final class ListSource<T> implements ListChangeListener<T> {
+
+        private final WeakReference<SourceAggregateState<T, ?>> state;
+
+        private ListSource(final @NotNull SourceAggregateState<T, ?> state) {
+            this.state = new WeakReference<>(state);
+        }
+
+        @Override
+        public void onChange(final @NotNull ListChange<? extends T> change) {
+            final var state = this.state.get();
+            if (state == null) return;
+
+            final var aggregator = state.aggregator;
+            var changed = false;
+            switch (change.type()) {
+                case INSERT:
+                    for (final T element : change.elements()) {
+                        changed |= aggregator.add(element);
+                    }
+                    break;
+                case REMOVE:
+                    for (final T element : change.removed()) {
+                        changed |= aggregator.remove(element);
+                    }
+                    break;
+                case REPLACE:
+                    changed = aggregator.replace(change.removed().get(0), change.elements().get(0));
+                    break;
+                case MOVE:
+                    break;
+                default:
+                    state.reset();
+                    return;
+            }
+            state.changed(changed);
+        }
+    }
+
+    /**
+     * Feeds the value changes of a map, without keeping the state reachable.
+     */
+    private static final class MapSource<V> implements MapChangeListener<Object, V> {
+
+        private final WeakReference<SourceAggregateState<V, ?>> state;
+
+        private MapSource(final @NotNull SourceAggregateState<V, ?> state) {
+            this.state = new WeakReference<>(state);
+        }
+
+        @Override
+        public void onChange(final @NotNull MapChange<?, ? extends V> change) {
+            final var state = this.state.get();
+            if (state == null) return;
+
+            final var aggregator = state.aggregator;
+            switch (change.type()) {
+                case ADD:
+                    state.changed(aggregator.add(change.value()));
+                    break;
+                case REPLACE:
+                    state.changed(aggregator.replace(change.previous(), change.value()));
+                    break;
+                case REMOVE:
+                    state.changed(aggregator.remove(change.previous()));
+                    break;
+                default:
+                    state.reset();
+            }
+        }
+    }
+}
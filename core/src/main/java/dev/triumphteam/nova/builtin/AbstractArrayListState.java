@@ -0,0 +1,96 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The storage shared by the primitive list states backed by a growable array,
+ * the array is handled as an {@link Object} so the size, growth and gap moves work for every element width.
+ *
+ * @param <E> The boxed type of the elements.
+ */
+abstract class AbstractArrayListState<E> extends AbstractPrimitiveListState<E> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    int size;
+
+    AbstractArrayListState(final int size) {
+        this.size = size;
+    }
+
+    /**
+     * The backing array, replaced whenever the list grows.
+     *
+     * @return The current primitive array.
+     */
+    abstract @NotNull Object array();
+
+    /**
+     * The length of the backing array.
+     *
+     * @return The amount of elements the list can hold without growing.
+     */
+    abstract int capacity();
+
+    /**
+     * Replaces the backing array by a copy of the given length.
+     *
+     * @param capacity The length of the new array.
+     */
+    abstract void resize(final int capacity);
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    void openGap(final int index, final int length) {
+        grow(size + length);
+        final var array = array();
+        System.arraycopy(array, index, array, index + length, size - index);
+        size += length;
+    }
+
+    @Override
+    void closeGap(final int index, final int length) {
+        final var from = index + length;
+        final var array = array();
+        System.arraycopy(array, from, array, index, size - from);
+        size -= length;
+    }
+
+    @Override
+    void truncate(final int size) {
+        this.size = size;
+    }
+
+    private void grow(final int minCapacity) {
+        final var capacity = capacity();
+        if (minCapacity <= capacity) return;
+        resize(Math.max(Math.max(minCapacity, capacity + (capacity >> 1)), DEFAULT_CAPACITY));
+    }
+}
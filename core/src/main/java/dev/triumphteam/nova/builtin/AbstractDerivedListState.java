@@ -0,0 +1,285 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.AbstractState;
+import dev.triumphteam.nova.ChangeListenerContainer;
+import dev.triumphteam.nova.DerivedListState;
+import dev.triumphteam.nova.ListChange;
+import dev.triumphteam.nova.ListChangeListener;
+import dev.triumphteam.nova.ListState;
+import dev.triumphteam.nova.diff.ListDiff;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Base for the {@link DerivedListState} implementations.
+ * Subclasses keep their own copy of the visible elements and update it from the source changes,
+ * a {@link ListChange.Type#RESET} computes the view again and only reports the difference.
+ */
+abstract class AbstractDerivedListState<T> extends AbstractState implements DerivedListState<T> {
+
+    private final ListState<T> source;
+    private volatile @Nullable ChangeListenerContainer<ListChangeListener<? super T>, ListChange<T>> changeListeners;
+
+    AbstractDerivedListState(final @NotNull ListState<T> source) {
+        this.source = source;
+    }
+
+    /**
+     * The current elements of the view, read-only access only.
+     */
+    abstract @NotNull List<T> elements();
+
+    /**
+     * Computes the elements again from the current contents of the source.
+     */
+    abstract void recompute();
+
+    /**
+     * Updates the elements from a granular change of the source, emitting the changes of the view.
+     *
+     * @return Whether the view changed.
+     */
+    abstract boolean apply(final @NotNull ListChange<? extends T> change);
+
+    /**
+     * Starts listening to the source, called by the subclasses once they are initialized.
+     */
+    final void listen() {
+        source.addChangeListener(this, new SourceListener<>(this));
+    }
+
+    final void emit(final @NotNull ListChange<T> change) {
+        final var container = changeListeners;
+        if (container == null || container.isEmpty()) return;
+        container.emit(this, change);
+    }
+
+    @Override
+    public @NotNull ListState<T> source() {
+        return source;
+    }
+
+    @Override
+    public void refresh() {
+        final var before = new ArrayList<>(elements());
+        recompute();
+        final var changes = ListDiff.diff(before, elements());
+        if (changes.isEmpty()) return;
+        changes.forEach(this::emit);
+        trigger();
+    }
+
+    @Override
+    public void addChangeListener(final @NotNull Object stateful, final @NotNull ListChangeListener<? super T> listener) {
+        var container = changeListeners;
+        if (container == null) {
+            synchronized (this) {
+                container = changeListeners;
+                if (container == null) {
+                    container = new ChangeListenerContainer<>(ListChangeListener::onChange);
+                    changeListeners = container;
+                }
+            }
+        }
+        container.addListener(stateful, listener);
+    }
+
+    @Override
+    public boolean removeChangeListener(final @NotNull Object stateful, final @NotNull ListChangeListener<? super T> listener) {
+        final var container = changeListeners;
+        return container != null && container.removeListener(stateful, listener);
+    }
+
+    @Override
+    protected @Nullable ChangeListenerContainer<?, ?> changeListenerContainer() {
+        return changeListeners;
+    }
+
+    @Override
+    public T get(final int index) {
+        return elements().get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements().isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return elements().contains(o);
+    }
+
+    @Override
+    public boolean containsAll(final @NotNull Collection<?> c) {
+        return elements().containsAll(c);
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return elements().indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        return elements().lastIndexOf(o);
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return readOnly().iterator();
+    }
+
+    @Override
+    public @NotNull ListIterator<T> listIterator() {
+        return readOnly().listIterator();
+    }
+
+    @Override
+    public @NotNull ListIterator<T> listIterator(final int index) {
+        return readOnly().listIterator(index);
+    }
+
+    @Override
+    public @NotNull List<T> subList(final int fromIndex, final int toIndex) {
+        return readOnly().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public @NotNull Object @NotNull [] toArray() {
+        return elements().toArray();
+    }
+
+    @Override
+    public <A> @NotNull A @NotNull [] toArray(final @NotNull A @NotNull [] a) {
+        return elements().toArray(a);
+    }
+
+    @Override
+    public boolean add(final T t) {
+        throw unsupported();
+    }
+
+    @Override
+    public void add(final int index, final T element) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean addAll(final @NotNull Collection<? extends T> c) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean addAll(final int index, final @NotNull Collection<? extends T> c) {
+        throw unsupported();
+    }
+
+    @Override
+    public T set(final int index, final T element) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        throw unsupported();
+    }
+
+    @Override
+    public T remove(final int index) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean removeAll(final @NotNull Collection<?> c) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean retainAll(final @NotNull Collection<?> c) {
+        throw unsupported();
+    }
+
+    @Override
+    public void clear() {
+        throw unsupported();
+    }
+
+    @Override
+    public void move(final int from, final int to) {
+        throw unsupported();
+    }
+
+    @Override
+    public String toString() {
+        return elements().toString();
+    }
+
+    private @NotNull List<T> readOnly() {
+        return Collections.unmodifiableList(elements());
+    }
+
+    private static @NotNull UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("A derived list is read-only, modify the source list instead.");
+    }
+
+    /**
+     * Listens to the source without keeping the view reachable.
+     */
+    private static final class SourceListener<T> implements ListChangeListener<T> {
+
+        private final WeakReference<AbstractDerivedListState<T>> view;
+
+        private SourceListener(final @NotNull AbstractDerivedListState<T> view) {
+            this.view = new WeakReference<>(view);
+        }
+
+        @Override
+        public void onChange(final @NotNull ListChange<? extends T> change) {
+            final var view = this.view.get();
+            if (view == null) return;
+
+            if (change.type() == ListChange.Type.RESET) {
+                view.refresh();
+                return;
+            }
+            if (view.apply(change)) view.trigger();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * The storage shared by the off-heap primitive list states, the gap moves work on bytes
+ * so only the element width differs between them.
+ *
+ * @param <E> The boxed type of the elements.
+ */
+abstract class AbstractOffHeapListState<E> extends AbstractPrimitiveListState<E> implements AutoCloseable {
+
+    final OffHeapStorage storage;
+    final int elementBytes;
+
+    AbstractOffHeapListState(final @NotNull OffHeapStorage storage, final int elementBytes) {
+        this.storage = storage;
+        this.elementBytes = elementBytes;
+    }
+
+    /**
+     * Writes the changes to the storage device, if the list is backed by a file.
+     */
+    public void force() {
+        storage.force();
+    }
+
+    /**
+     * Closes the list, for mapped lists the changes are written to the file first.
+     * The memory itself is left to the garbage collector, see the class documentation.
+     */
+    @Override
+    public void close() {
+        storage.close();
+    }
+
+    /**
+     * Whether the list has been closed.
+     *
+     * @return True if {@link #close()} was called.
+     */
+    public boolean isClosed() {
+        return storage.isClosed();
+    }
+
+    @Override
+    public int size() {
+        return storage.size();
+    }
+
+    @Override
+    public String toString() {
+        return storage.isClosed() ? getClass().getSimpleName() + "{closed}" : super.toString();
+    }
+
+    /**
+     * A little endian slice of the data covering a range of elements.
+     *
+     * @param index  The index of the first element.
+     * @param length The amount of elements.
+     * @return The slice, sharing the off-heap memory.
+     */
+    @NotNull ByteBuffer region(final int index, final int length) {
+        return storage.data().slice(index * elementBytes, length * elementBytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Makes a range writable, growing the list when the range extends past its end.
+     *
+     * @param index  The index of the first element of the range, at most the size of the list.
+     * @param length The amount of elements in the range.
+     * @return The slice covering exactly the range.
+     */
+    @NotNull ByteBuffer writable(final int index, final int length) {
+        Objects.checkIndex(index, storage.size() + 1);
+        if (length < 0) throw new IllegalArgumentException("The length must be nonnegative.");
+        final var end = index + length;
+        if (end > storage.size()) {
+            storage.ensureCapacity(end);
+            storage.size(end);
+        }
+        return region(index, length);
+    }
+
+    @Override
+    void openGap(final int index, final int length) {
+        final var size = storage.size();
+        storage.ensureCapacity(size + length);
+        final var data = storage.data();
+        data.put((index + length) * elementBytes, data, index * elementBytes, (size - index) * elementBytes);
+        storage.size(size + length);
+    }
+
+    @Override
+    void closeGap(final int index, final int length) {
+        final var size = storage.size();
+        final var data = storage.data();
+        final var from = index + length;
+        data.put(index * elementBytes, data, from * elementBytes, (size - from) * elementBytes);
+        storage.size(size - length);
+    }
+
+    @Override
+    void truncate(final int size) {
+        storage.size(size);
+    }
+}
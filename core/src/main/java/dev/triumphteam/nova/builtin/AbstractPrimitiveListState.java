@@ -0,0 +1,267 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.AbstractState;
+import dev.triumphteam.nova.ListState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The boxed {@link List} operations shared by the primitive list states, whatever their storage and element width.
+ * Implementations only provide unchecked element access and the gap moves, every mutation triggers once,
+ * same as {@link ListBackedListState}.
+ *
+ * @param <E> The boxed type of the elements.
+ */
+abstract class AbstractPrimitiveListState<E> extends AbstractState implements ListState<E> {
+
+    private final List<E> view = new View();
+
+    /**
+     * Reads an element, the index was already checked.
+     *
+     * @param index The index of the element.
+     * @return The boxed element.
+     */
+    abstract @NotNull E load(final int index);
+
+    /**
+     * Writes an element, the index was already checked.
+     *
+     * @param index   The index of the element.
+     * @param element The element to unbox and write.
+     */
+    abstract void store(final int index, final @NotNull E element);
+
+    /**
+     * Makes room for elements at the given index, shifting the following ones and growing the size.
+     * The content of the gap is left unspecified, callers fill it right after.
+     *
+     * @param index  The index of the gap, at most the size.
+     * @param length The amount of elements to make room for.
+     */
+    abstract void openGap(final int index, final int length);
+
+    /**
+     * Removes a range of elements, shifting the following ones and shrinking the size.
+     *
+     * @param index  The index of the first element to remove.
+     * @param length The amount of elements to remove.
+     */
+    abstract void closeGap(final int index, final int length);
+
+    /**
+     * Drops every element past the given size.
+     *
+     * @param size The new size, at most the current one.
+     */
+    abstract void truncate(final int size);
+
+    @Override
+    public boolean add(final E element) {
+        add(size(), element);
+        return true;
+    }
+
+    @Override
+    public void add(final int index, final E element) {
+        Objects.checkIndex(index, size() + 1);
+        Objects.requireNonNull(element);
+        openGap(index, 1);
+        store(index, element);
+        trigger();
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        final var index = indexOf(o);
+        if (index < 0) return false;
+        closeGap(index, 1);
+        trigger();
+        return true;
+    }
+
+    @Override
+    public boolean addAll(final @NotNull Collection<? extends E> c) {
+        return addAll(size(), c);
+    }
+
+    @Override
+    public boolean addAll(final int index, final @NotNull Collection<? extends E> c) {
+        Objects.checkIndex(index, size() + 1);
+        final var added = c.size();
+        if (added == 0) return false;
+        openGap(index, added);
+        var cursor = index;
+        for (final var element : c) {
+            store(cursor++, element);
+        }
+        trigger();
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(final @NotNull Collection<?> c) {
+        return batchRemove(c, false);
+    }
+
+    @Override
+    public boolean retainAll(final @NotNull Collection<?> c) {
+        return batchRemove(c, true);
+    }
+
+    @Override
+    public E set(final int index, final E element) {
+        Objects.checkIndex(index, size());
+        Objects.requireNonNull(element);
+        final var previous = load(index);
+        store(index, element);
+        trigger();
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        truncate(0);
+        trigger();
+    }
+
+    @Override
+    public E remove(final int index) {
+        Objects.checkIndex(index, size());
+        final var removed = load(index);
+        closeGap(index, 1);
+        trigger();
+        return removed;
+    }
+
+    @Override
+    public E get(final int index) {
+        Objects.checkIndex(index, size());
+        return load(index);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean containsAll(final @NotNull Collection<?> c) {
+        return view.containsAll(c);
+    }
+
+    @Override
+    public @NotNull Iterator<E> iterator() {
+        return view.iterator();
+    }
+
+    @Override
+    public @NotNull ListIterator<E> listIterator() {
+        return view.listIterator();
+    }
+
+    @Override
+    public @NotNull ListIterator<E> listIterator(final int index) {
+        return view.listIterator(index);
+    }
+
+    @Override
+    public @NotNull List<E> subList(final int fromIndex, final int toIndex) {
+        return view.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public @NotNull Object @NotNull [] toArray() {
+        return view.toArray();
+    }
+
+    @Override
+    public <A> @NotNull A @NotNull [] toArray(final @NotNull A @NotNull [] a) {
+        return view.toArray(a);
+    }
+
+    @Override
+    public String toString() {
+        return view.toString();
+    }
+
+    private boolean batchRemove(final @NotNull Collection<?> c, final boolean retain) {
+        final var size = size();
+        var kept = 0;
+        for (int i = 0; i < size; i++) {
+            final var element = load(i);
+            if (c.contains(element) == retain) store(kept++, element);
+        }
+        if (kept == size) return false;
+        truncate(kept);
+        trigger();
+        return true;
+    }
+
+    /**
+     * Boxed view used for the {@link List} operations that have no primitive counterpart.
+     * Mutations go through the state so they still trigger.
+     */
+    private final class View extends AbstractList<E> implements RandomAccess {
+
+        @Override
+        public E get(final int index) {
+            return AbstractPrimitiveListState.this.get(index);
+        }
+
+        @Override
+        public E set(final int index, final E element) {
+            return AbstractPrimitiveListState.this.set(index, element);
+        }
+
+        @Override
+        public void add(final int index, final E element) {
+            AbstractPrimitiveListState.this.add(index, element);
+        }
+
+        @Override
+        public E remove(final int index) {
+            return AbstractPrimitiveListState.this.remove(index);
+        }
+
+        @Override
+        public int size() {
+            return AbstractPrimitiveListState.this.size();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.ListChange;
+import dev.triumphteam.nova.ListState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A live view of the elements of a {@link ListState} that match a predicate.
+ * The source index of each visible element is kept in a sorted {@code int[]}, so a source change is located
+ * in the view with a binary search and the predicate is only tested on the elements that were added or replaced.
+ */
+public final class FilteredListState<T> extends AbstractDerivedListState<T> {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Predicate<? super T> predicate;
+    private final List<T> elements = new ArrayList<>();
+    // The source index of each element of the view, in ascending order
+    private int[] indexes = EMPTY;
+
+    public FilteredListState(final @NotNull ListState<T> source, final @NotNull Predicate<? super T> predicate) {
+        super(source);
+        this.predicate = predicate;
+        recompute();
+        listen();
+    }
+
+    @Override
+    @NotNull List<T> elements() {
+        return elements;
+    }
+
+    @Override
+    void recompute() {
+        final var source = source();
+        elements.clear();
+        indexes = new int[Math.max(source.size(), 1)];
+        for (int i = 0; i < source.size(); i++) {
+            final var element = source.get(i);
+            if (!predicate.test(element)) continue;
+            indexes[elements.size()] = i;
+            elements.add(element);
+        }
+    }
+
+    @Override
+    boolean apply(final @NotNull ListChange<? extends T> change) {
+        final var index = change.index();
+        switch (change.type()) {
+            case INSERT: {
+                final var at = lowerBound(index);
+                final var count = change.elements().size();
+                shift(at, count);
+
+                final var inserted = new ArrayList<T>();
+                for (int i = 0; i < count; i++) {
+                    final T element = change.elements().get(i);
+                    if (!predicate.test(element)) continue;
+                    insert(at + inserted.size(), index + i, element);
+                    inserted.add(element);
+                }
+                if (inserted.isEmpty()) return false;
+                emit(ListChange.insert(at, inserted));
+                return true;
+            }
+            case REMOVE: {
+                final var count = change.removed().size();
+                final var from = lowerBound(index);
+                final var to = lowerBound(index + count);
+                final var removed = from == to ? Collections.<T>emptyList() : new ArrayList<>(elements.subList(from, to));
+                removeVisible(from, to);
+                shift(from, -count);
+                if (removed.isEmpty()) return false;
+                emit(ListChange.remove(from, removed));
+                return true;
+            }
+            case REPLACE: {
+                final var at = lowerBound(index);
+                final var present = at < elements.size() && indexes[at] == index;
+                final T element = change.elements().get(0);
+                final var matches = predicate.test(element);
+                if (present && matches) {
+                    final var previous = elements.set(at, element);
+                    if (Objects.equals(previous, element)) return false;
+                    emit(ListChange.replace(at, previous, element));
+                    return true;
+                }
+                if (present) {
+                    final var previous = elements.get(at);
+                    removeVisible(at, at + 1);
+                    emit(ListChange.remove(at, Collections.singletonList(previous)));
+                    return true;
+                }
+                if (matches) {
+                    insert(at, index, element);
+                    emit(ListChange.insert(at, Collections.singletonList(element)));
+                    return true;
+                }
+                return false;
+            }
+            case MOVE: {
+                final var from = lowerBound(index);
+                final var present = from < elements.size() && indexes[from] == index;
+                final var element = present ? elements.get(from) : null;
+                if (present) removeVisible(from, from + 1);
+                shift(from, -1);
+
+                final var to = lowerBound(change.toIndex());
+                shift(to, 1);
+                if (!present) return false;
+                insert(to, change.toIndex(), element);
+                if (from == to) return false;
+                emit(ListChange.move(from, to, element));
+                return true;
+            }
+            default:
+                throw new IllegalArgumentException("Unexpected change " + change + ".");
+        }
+    }
+
+    /**
+     * The first position of the view whose source index is equal or greater than the given one.
+     */
+    private int lowerBound(final int sourceIndex) {
+        var low = 0;
+        var high = elements.size();
+        while (low < high) {
+            final var middle = (low + high) >>> 1;
+            if (indexes[middle] < sourceIndex) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    private void shift(final int from, final int delta) {
+        for (int i = from; i < elements.size(); i++) {
+            indexes[i] += delta;
+        }
+    }
+
+    private void insert(final int position, final int sourceIndex, final T element) {
+        final var size = elements.size();
+        if (size == indexes.length) indexes = Arrays.copyOf(indexes, Math.max(size + (size >> 1), 10));
+        System.arraycopy(indexes, position, indexes, position + 1, size - position);
+        indexes[position] = sourceIndex;
+        elements.add(position, element);
+    }
+
+    private void removeVisible(final int from, final int to) {
+        if (from == to) return;
+        final var size = elements.size();
+        System.arraycopy(indexes, to, indexes, from, size - to);
+        elements.subList(from, to).clear();
+    }
+}
@@ -0,0 +1,249 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.AbstractState;
+import dev.triumphteam.nova.MapChange;
+import dev.triumphteam.nova.MapChangeListener;
+import dev.triumphteam.nova.MapIndex;
+import dev.triumphteam.nova.MapState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A {@link MapIndex} implementation backed by a {@link HashMap} of index key to bucket.
+ * {@link MapBackedMapState} updates its indexes directly from its mutators,
+ * other maps use {@link #listening(MapState, String, Function)} which follows their change listeners.
+ */
+public final class HashMapIndex<I, K, V> implements MapIndex<I, K> {
+
+    private final String name;
+    private final Function<? super V, ? extends I> keyExtractor;
+    private final Map<I, Bucket<K>> buckets = new HashMap<>();
+    private final Set<I> indexKeys = Collections.unmodifiableSet(buckets.keySet());
+
+    HashMapIndex(final @NotNull String name, final @NotNull Function<? super V, ? extends I> keyExtractor) {
+        this.name = name;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Creates an index of the map that is kept in sync through the change listeners of the map,
+     * a {@link MapChange.Type#RESET} builds the index again.
+     * The map only holds the index through a {@link WeakReference}.
+     *
+     * @param map          The map to index.
+     * @param name         The name of the index.
+     * @param keyExtractor Extracts the index key of a map value.
+     * @param <I>          The type of the index keys.
+     * @param <K>          The type of the keys of the map.
+     * @param <V>          The type of the values of the map.
+     * @return A new {@link HashMapIndex}.
+     */
+    public static <I, K, V> @NotNull HashMapIndex<I, K, V> listening(
+        final @NotNull MapState<K, V> map,
+        final @NotNull String name,
+        final @NotNull Function<? super V, ? extends I> keyExtractor
+    ) {
+        final var index = new HashMapIndex<I, K, V>(name, keyExtractor);
+        index.rebuild(map);
+        map.addChangeListener(index, new SourceListener<>(index, map));
+        return index;
+    }
+
+    @Override
+    public @NotNull String name() {
+        return name;
+    }
+
+    @Override
+    public @NotNull Set<K> get(final I indexKey) {
+        final var bucket = buckets.get(indexKey);
+        return bucket == null ? Collections.emptySet() : bucket.view;
+    }
+
+    @Override
+    public boolean contains(final I indexKey) {
+        final var bucket = buckets.get(indexKey);
+        return bucket != null && !bucket.keys.isEmpty();
+    }
+
+    @Override
+    public int count(final I indexKey) {
+        final var bucket = buckets.get(indexKey);
+        return bucket == null ? 0 : bucket.keys.size();
+    }
+
+    @Override
+    public @NotNull Set<I> indexKeys() {
+        return indexKeys;
+    }
+
+    @Override
+    public void addListener(final @NotNull Object stateful, final I indexKey, final @NotNull Runnable listener) {
+        final var bucket = buckets.computeIfAbsent(indexKey, ignored -> new Bucket<>());
+        bucket.watched = true;
+        bucket.addListener(stateful, listener);
+    }
+
+    @Override
+    public boolean removeListener(final @NotNull Object stateful, final I indexKey, final @NotNull Runnable listener) {
+        final var bucket = buckets.get(indexKey);
+        return bucket != null && bucket.removeListener(stateful, listener);
+    }
+
+    @Override
+    public String toString() {
+        return "MapIndex{" + name + "=" + buckets + "}";
+    }
+
+    void added(final K key, final V value) {
+        final I indexKey = keyExtractor.apply(value);
+        if (indexKey == null) return;
+        final var bucket = buckets.computeIfAbsent(indexKey, ignored -> new Bucket<>());
+        bucket.keys.add(key);
+        bucket.changed();
+    }
+
+    void removed(final K key, final V value) {
+        final I indexKey = keyExtractor.apply(value);
+        if (indexKey == null) return;
+        final var bucket = buckets.get(indexKey);
+        if (bucket == null || !bucket.keys.remove(key)) return;
+        if (bucket.keys.isEmpty() && !bucket.watched) buckets.remove(indexKey);
+        bucket.changed();
+    }
+
+    void replaced(final K key, final V previous, final V value) {
+        final I previousIndexKey = keyExtractor.apply(previous);
+        final I indexKey = keyExtractor.apply(value);
+        if (!Objects.equals(previousIndexKey, indexKey)) {
+            removed(key, previous);
+            added(key, value);
+            return;
+        }
+        if (indexKey == null) return;
+
+        // Same bucket, the value of one of its keys changed
+        final var bucket = buckets.get(indexKey);
+        if (bucket != null) bucket.changed();
+    }
+
+    void cleared() {
+        final var iterator = buckets.values().iterator();
+        while (iterator.hasNext()) {
+            final var bucket = iterator.next();
+            if (bucket.keys.isEmpty()) continue;
+            bucket.keys.clear();
+            if (!bucket.watched) iterator.remove();
+            bucket.changed();
+        }
+    }
+
+    void rebuild(final @NotNull Map<K, V> map) {
+        final var previous = new HashMap<I, Set<K>>();
+        buckets.forEach((indexKey, bucket) -> {
+            previous.put(indexKey, new HashSet<>(bucket.keys));
+            bucket.keys.clear();
+        });
+        map.forEach((key, value) -> {
+            final I indexKey = keyExtractor.apply(value);
+            if (indexKey != null) buckets.computeIfAbsent(indexKey, ignored -> new Bucket<>()).keys.add(key);
+        });
+
+        final var iterator = buckets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final var entry = iterator.next();
+            final var bucket = entry.getValue();
+            final var before = previous.get(entry.getKey());
+            if (bucket.keys.isEmpty() && !bucket.watched) iterator.remove();
+            // Without change descriptions, replaced values can't be told apart, only membership changes are reported
+            if (!bucket.keys.equals(before == null ? Collections.emptySet() : before)) bucket.changed();
+        }
+    }
+
+    /**
+     * The map keys of an index key, a state of its own so it can be listened to.
+     */
+    private static final class Bucket<K> extends AbstractState {
+
+        private final Set<K> keys = new HashSet<>();
+        private final Set<K> view = Collections.unmodifiableSet(keys);
+        // Buckets with listeners are kept even when empty, so the listeners survive
+        private boolean watched;
+
+        private void changed() {
+            if (watched) trigger();
+        }
+
+        @Override
+        public String toString() {
+            return keys.toString();
+        }
+    }
+
+    /**
+     * Follows the changes of a map, without keeping the index reachable.
+     */
+    private static final class SourceListener<I, K, V> implements MapChangeListener<K, V> {
+
+        private final WeakReference<HashMapIndex<I, K, V>> index;
+        private final WeakReference<MapState<K, V>> map;
+
+        private SourceListener(final @NotNull HashMapIndex<I, K, V> index, final @NotNull MapState<K, V> map) {
+            this.index = new WeakReference<>(index);
+            this.map = new WeakReference<>(map);
+        }
+
+        @Override
+        public void onChange(final @NotNull MapChange<? extends K, ? extends V> change) {
+            final var index = this.index.get();
+            if (index == null) return;
+
+            switch (change.type()) {
+                case ADD:
+                    index.added(change.key(), change.value());
+                    break;
+                case REPLACE:
+                    index.replaced(change.key(), change.previous(), change.value());
+                    break;
+                case REMOVE:
+                    index.removed(change.key(), change.previous());
+                    break;
+                default:
+                    final @Nullable MapState<K, V> map = this.map.get();
+                    if (map != null) index.rebuild(map);
+            }
+        }
+    }
+}
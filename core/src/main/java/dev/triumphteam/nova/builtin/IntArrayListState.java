@@ -0,0 +1,168 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.IntListState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An {@link IntListState} implementation backed by a growable {@code int[]}.
+ * An update is triggered when the list elements change, same as {@link ListBackedListState}.
+ */
+public final class IntArrayListState extends AbstractArrayListState<Integer> implements IntListState {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[] elements;
+
+    public IntArrayListState() {
+        super(0);
+        this.elements = EMPTY;
+    }
+
+    public IntArrayListState(final int @NotNull ... elements) {
+        super(elements.length);
+        this.elements = elements.clone();
+    }
+
+    @Override
+    public int getInt(final int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public int setInt(final int index, final int element) {
+        Objects.checkIndex(index, size);
+        final var previous = elements[index];
+        elements[index] = element;
+        trigger();
+        return previous;
+    }
+
+    @Override
+    public void addInt(final int element) {
+        addInt(size, element);
+    }
+
+    @Override
+    public void addInt(final int index, final int element) {
+        Objects.checkIndex(index, size + 1);
+        openGap(index, 1);
+        elements[index] = element;
+        trigger();
+    }
+
+    @Override
+    public boolean addAllInts(final int @NotNull ... elements) {
+        if (elements.length == 0) return false;
+        final var index = size;
+        openGap(index, elements.length);
+        System.arraycopy(elements, 0, this.elements, index, elements.length);
+        trigger();
+        return true;
+    }
+
+    @Override
+    public int removeIntAt(final int index) {
+        Objects.checkIndex(index, size);
+        final var removed = elements[index];
+        closeGap(index, 1);
+        trigger();
+        return removed;
+    }
+
+    @Override
+    public boolean removeInt(final int element) {
+        final var index = indexOfInt(element);
+        if (index < 0) return false;
+        closeGap(index, 1);
+        trigger();
+        return true;
+    }
+
+    @Override
+    public int indexOfInt(final int element) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == element) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOfInt(final int element) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[i] == element) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean containsInt(final int element) {
+        return indexOfInt(element) >= 0;
+    }
+
+    @Override
+    public int @NotNull [] toIntArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return o instanceof Integer ? indexOfInt((Integer) o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        return o instanceof Integer ? lastIndexOfInt((Integer) o) : -1;
+    }
+
+    @Override
+    @NotNull Integer load(final int index) {
+        return elements[index];
+    }
+
+    @Override
+    void store(final int index, final @NotNull Integer element) {
+        elements[index] = element;
+    }
+
+    @Override
+    @NotNull Object array() {
+        return elements;
+    }
+
+    @Override
+    int capacity() {
+        return elements.length;
+    }
+
+    @Override
+    void resize(final int capacity) {
+        elements = Arrays.copyOf(elements, capacity);
+    }
+}
@@ -0,0 +1,465 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.AbstractState;
+import dev.triumphteam.nova.ChangeListenerContainer;
+import dev.triumphteam.nova.IntSetState;
+import dev.triumphteam.nova.SetChange;
+import dev.triumphteam.nova.SetChangeListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An {@link IntSetState} implementation backed by an open addressing hash table with linear probing,
+ * same as {@link Int2ObjectOpenHashMapState} without the values.
+ * An update is triggered only when elements are actually added or removed.
+ * Change listeners receive the added and removed elements, boxed,
+ * the changes are only described when there are change listeners.
+ */
+public final class IntOpenHashSetState extends AbstractState implements IntSetState {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Set<Integer> view = new View();
+    private volatile @Nullable ChangeListenerContainer<SetChangeListener<? super Integer>, SetChange<Integer>> changeListeners;
+
+    // 0 marks free slots, so whether 0 is in the set is kept apart
+    private int[] keys;
+    private boolean containsZero;
+    private int mask;
+    private int maxFill;
+    private int size;
+
+    public IntOpenHashSetState() {
+        allocate(tableSize(DEFAULT_CAPACITY));
+    }
+
+    public IntOpenHashSetState(final int @NotNull ... elements) {
+        allocate(tableSize(Math.max(elements.length, DEFAULT_CAPACITY)));
+        for (final var element : elements) {
+            insert(element);
+        }
+    }
+
+    @Override
+    public boolean addInt(final int element) {
+        if (!insert(element)) return false;
+        if (observed()) emit(SetChange.add(Collections.singletonList(element)));
+        trigger();
+        return true;
+    }
+
+    @Override
+    public boolean addAllInts(final int @NotNull ... elements) {
+        final var observed = observed();
+        final var added = observed ? new ArrayList<Integer>() : null;
+        var changed = false;
+        for (final var element : elements) {
+            if (!insert(element)) continue;
+            changed = true;
+            if (added != null) added.add(element);
+        }
+        if (!changed) return false;
+        if (added != null) emit(SetChange.add(added));
+        trigger();
+        return true;
+    }
+
+    @Override
+    public boolean removeInt(final int element) {
+        if (!delete(element)) return false;
+        if (observed()) emit(SetChange.remove(Collections.singletonList(element)));
+        trigger();
+        return true;
+    }
+
+    @Override
+    public boolean containsInt(final int element) {
+        if (element == 0) return containsZero;
+
+        var slot = mix(element) & mask;
+        int current;
+        while ((current = keys[slot]) != 0) {
+            if (current == element) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    @Override
+    public int @NotNull [] toIntArray() {
+        final var result = new int[size];
+        var cursor = 0;
+        if (containsZero) cursor++;
+        for (final var key : keys) {
+            if (key != 0) result[cursor++] = key;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean add(final Integer element) {
+        return addInt(element);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        return o instanceof Integer && removeInt((Integer) o);
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return o instanceof Integer && containsInt((Integer) o);
+    }
+
+    @Override
+    public boolean addAll(final @NotNull Collection<? extends Integer> c) {
+        final var observed = observed();
+        final var added = observed ? new ArrayList<Integer>() : null;
+        var changed = false;
+        for (final var element : c) {
+            if (!insert(element)) continue;
+            changed = true;
+            if (added != null) added.add(element);
+        }
+        if (!changed) return false;
+        if (added != null) emit(SetChange.add(added));
+        trigger();
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(final @NotNull Collection<?> c) {
+        return batchRemove(c, false);
+    }
+
+    @Override
+    public boolean retainAll(final @NotNull Collection<?> c) {
+        return batchRemove(c, true);
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) return;
+        final var removed = observed() ? toIntArray() : null;
+        Arrays.fill(keys, 0);
+        containsZero = false;
+        size = 0;
+        if (removed != null) emit(SetChange.remove(boxed(removed)));
+        trigger();
+    }
+
+    @Override
+    public void addChangeListener(final @NotNull Object stateful, final @NotNull SetChangeListener<? super Integer> listener) {
+        var container = changeListeners;
+        if (container == null) {
+            synchronized (this) {
+                container = changeListeners;
+                if (container == null) {
+                    container = new ChangeListenerContainer<>(SetChangeListener::onChange);
+                    changeListeners = container;
+                }
+            }
+        }
+        container.addListener(stateful, listener);
+    }
+
+    @Override
+    public boolean removeChangeListener(final @NotNull Object stateful, final @NotNull SetChangeListener<? super Integer> listener) {
+        final var container = changeListeners;
+        return container != null && container.removeListener(stateful, listener);
+    }
+
+    @Override
+    protected @Nullable ChangeListenerContainer<?, ?> changeListenerContainer() {
+        return changeListeners;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsAll(final @NotNull Collection<?> c) {
+        return view.containsAll(c);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Removing through the iterator triggers the state.
+     */
+    @Override
+    public @NotNull Iterator<Integer> iterator() {
+        return new KeyIterator();
+    }
+
+    @Override
+    public @NotNull Object @NotNull [] toArray() {
+        return view.toArray();
+    }
+
+    @Override
+    public <A> @NotNull A @NotNull [] toArray(final @NotNull A @NotNull [] a) {
+        return view.toArray(a);
+    }
+
+    @Override
+    public String toString() {
+        return view.toString();
+    }
+
+    private boolean batchRemove(final @NotNull Collection<?> c, final boolean retain) {
+        final var present = toIntArray();
+        final var removed = new ArrayList<Integer>();
+        for (final var element : present) {
+            if (c.contains(element) == retain) continue;
+            delete(element);
+            removed.add(element);
+        }
+        if (removed.isEmpty()) return false;
+        if (observed()) emit(SetChange.remove(removed));
+        trigger();
+        return true;
+    }
+
+    private boolean insert(final int element) {
+        if (element == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+        } else {
+            var slot = mix(element) & mask;
+            int current;
+            while ((current = keys[slot]) != 0) {
+                if (current == element) return false;
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = element;
+        }
+
+        if (size++ >= maxFill) rehash(tableSize(size + 1));
+        return true;
+    }
+
+    private boolean delete(final int element) {
+        if (element == 0) {
+            if (!containsZero) return false;
+            containsZero = false;
+            size--;
+            return true;
+        }
+
+        var slot = mix(element) & mask;
+        int current;
+        while ((current = keys[slot]) != 0) {
+            if (current == element) {
+                size--;
+                shiftKeys(slot, null);
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Backward shift deletion, moves the following keys of the probe sequence into the freed slot.
+     *
+     * @param slot    The slot that was freed.
+     * @param wrapped Iterator being used to remove, receives the keys that wrapped around the table.
+     */
+    private void shiftKeys(int slot, final @Nullable KeyIterator wrapped) {
+        int last;
+        int current;
+        while (true) {
+            slot = ((last = slot) + 1) & mask;
+            while (true) {
+                if ((current = keys[slot]) == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+                final var home = mix(current) & mask;
+                if (last <= slot ? last >= home || home > slot : last >= home && home > slot) break;
+                slot = (slot + 1) & mask;
+            }
+            if (wrapped != null && slot < last) wrapped.addWrapped(current);
+            keys[last] = current;
+        }
+    }
+
+    private void rehash(final int capacity) {
+        final var oldKeys = keys;
+        allocate(capacity);
+
+        for (final var key : oldKeys) {
+            if (key == 0) continue;
+            var slot = mix(key) & mask;
+            while (keys[slot] != 0) slot = (slot + 1) & mask;
+            keys[slot] = key;
+        }
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new int[capacity];
+        this.mask = capacity - 1;
+        this.maxFill = Math.min((int) Math.ceil(capacity * LOAD_FACTOR), capacity - 1);
+    }
+
+    private boolean observed() {
+        final var container = changeListeners;
+        return container != null && !container.isEmpty();
+    }
+
+    private void emit(final @NotNull SetChange<Integer> change) {
+        final var container = changeListeners;
+        if (container != null) container.emit(this, change);
+    }
+
+    private static @NotNull Collection<Integer> boxed(final int @NotNull [] elements) {
+        final var result = new ArrayList<Integer>(elements.length);
+        for (final var element : elements) {
+            result.add(element);
+        }
+        return result;
+    }
+
+    private static int tableSize(final int expected) {
+        final var needed = (long) Math.ceil(Math.max(expected, 2) / LOAD_FACTOR);
+        if (needed > (1 << 30)) throw new IllegalStateException("Too many elements for the set: " + expected);
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private static int mix(final int key) {
+        final var hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Iterates the table backwards so the backward shift deletion only moves keys into visited slots,
+     * the keys that wrap around the end of the table are remembered and returned last.
+     */
+    private final class KeyIterator implements Iterator<Integer> {
+
+        private static final int ZERO = -2;
+        private static final int WRAPPED = Integer.MIN_VALUE;
+
+        private int slot = mask + 1;
+        private int last = -1;
+        private int lastKey;
+        private int remaining = size;
+        private boolean mustReturnZero = containsZero;
+        private int[] wrapped;
+        private int wrappedSize;
+
+        @Override
+        public boolean hasNext() {
+            return remaining != 0;
+        }
+
+        @Override
+        public Integer next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            remaining--;
+
+            if (mustReturnZero) {
+                mustReturnZero = false;
+                last = ZERO;
+                lastKey = 0;
+                return 0;
+            }
+
+            while (true) {
+                if (--slot < 0) {
+                    last = WRAPPED;
+                    lastKey = wrapped[-slot - 1];
+                    return lastKey;
+                }
+                if (keys[slot] != 0) {
+                    last = slot;
+                    lastKey = keys[slot];
+                    return lastKey;
+                }
+            }
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1) throw new IllegalStateException();
+
+            if (last == WRAPPED || last == ZERO) {
+                delete(lastKey);
+            } else {
+                size--;
+                shiftKeys(last, this);
+            }
+
+            last = -1;
+            if (observed()) emit(SetChange.remove(Collections.singletonList(lastKey)));
+            trigger();
+        }
+
+        private void addWrapped(final int key) {
+            if (wrapped == null) wrapped = new int[2];
+            else if (wrappedSize == wrapped.length) wrapped = Arrays.copyOf(wrapped, wrappedSize * 2);
+            wrapped[wrappedSize++] = key;
+        }
+    }
+
+    /**
+     * Boxed view used for the {@link Set} operations that have no primitive counterpart.
+     */
+    private final class View extends AbstractSet<Integer> {
+
+        @Override
+        public @NotNull Iterator<Integer> iterator() {
+            return new KeyIterator();
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return IntOpenHashSetState.this.contains(o);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,514 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.AbstractState;
+import dev.triumphteam.nova.ChangeListenerContainer;
+import dev.triumphteam.nova.KeyedListState;
+import dev.triumphteam.nova.ListChange;
+import dev.triumphteam.nova.ListChangeListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link KeyedListState} implementation backed by an {@link ArrayList} and a {@link HashMap} of key to index.
+ * Indexes are validated lazily, inserting or removing in the middle of the list only marks
+ * the indexes after it as stale, they are fixed up on the next lookup that needs them.
+ * Change listeners receive the exact insertions, removals, replacements and moves.
+ * <p>
+ * Keys stay unique at every step, so {@link #set(int, Object)} rejects a key held by another position.
+ * Reorder the elements with {@link #sort(Comparator)} or {@link #move(int, int)} rather than
+ * swapping them through {@code set}, as {@link Collections#swap(List, int, int)} and {@link Collections#reverse(List)} do.
+ */
+public final class KeyedArrayListState<K, T> extends AbstractState implements KeyedListState<K, T> {
+
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final List<T> elements = new ArrayList<>();
+    private final Map<K, Integer> indexes = new HashMap<>();
+    private final List<T> view = new View();
+    // Every index stored for a position below this one is correct, stale ones are never below it
+    private int validUpTo;
+    private volatile @Nullable ChangeListenerContainer<ListChangeListener<? super T>, ListChange<T>> changeListeners;
+
+    public KeyedArrayListState(final @NotNull Function<? super T, ? extends K> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    public @NotNull Function<? super T, ? extends K> keyExtractor() {
+        return keyExtractor;
+    }
+
+    @Override
+    public @Nullable T getByKey(final K key) {
+        final var index = indexOfKey(key);
+        return index < 0 ? null : elements.get(index);
+    }
+
+    @Override
+    public int indexOfKey(final K key) {
+        final var index = indexes.get(key);
+        if (index == null) return -1;
+        if (index < validUpTo) return index;
+        reindex();
+        return indexes.get(key);
+    }
+
+    @Override
+    public boolean containsKey(final K key) {
+        return indexes.containsKey(key);
+    }
+
+    @Override
+    public @Nullable T removeByKey(final K key) {
+        final var index = indexOfKey(key);
+        return index < 0 ? null : remove(index);
+    }
+
+    @Override
+    public boolean add(final T t) {
+        add(elements.size(), t);
+        return true;
+    }
+
+    @Override
+    public void add(final int index, final T element) {
+        Objects.checkIndex(index, elements.size() + 1);
+        final K key = keyExtractor.apply(element);
+        if (indexes.containsKey(key)) throw duplicate(key);
+
+        elements.add(index, element);
+        indexes.put(key, index);
+        inserted(index, 1);
+        if (observed()) emit(ListChange.insert(index, Collections.singletonList(element)));
+        trigger();
+    }
+
+    @Override
+    public boolean addAll(final @NotNull Collection<? extends T> c) {
+        return addAll(elements.size(), c);
+    }
+
+    @Override
+    public boolean addAll(final int index, final @NotNull Collection<? extends T> c) {
+        Objects.checkIndex(index, elements.size() + 1);
+        if (c.isEmpty()) return false;
+
+        final var added = new ArrayList<T>(c);
+        final var keys = new HashSet<K>();
+        for (final var element : added) {
+            final K key = keyExtractor.apply(element);
+            if (indexes.containsKey(key) || !keys.add(key)) throw duplicate(key);
+        }
+
+        elements.addAll(index, added);
+        for (int i = 0; i < added.size(); i++) {
+            indexes.put(keyExtractor.apply(added.get(i)), index + i);
+        }
+        inserted(index, added.size());
+        if (observed()) emit(ListChange.insert(index, added));
+        trigger();
+        return true;
+    }
+
+    @Override
+    public T set(final int index, final T element) {
+        final var previous = elements.get(index);
+        final K previousKey = keyExtractor.apply(previous);
+        final K key = keyExtractor.apply(element);
+        if (!Objects.equals(previousKey, key)) {
+            if (indexes.containsKey(key)) throw duplicate(key);
+            indexes.remove(previousKey);
+            indexes.put(key, index);
+        }
+
+        elements.set(index, element);
+        if (observed()) emit(ListChange.replace(index, previous, element));
+        trigger();
+        return previous;
+    }
+
+    @Override
+    public T remove(final int index) {
+        final var removed = elements.remove(index);
+        indexes.remove(keyExtractor.apply(removed));
+        validUpTo = Math.min(validUpTo, index);
+        if (observed()) emit(ListChange.remove(index, Collections.singletonList(removed)));
+        trigger();
+        return removed;
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        final var index = indexOf(o);
+        if (index < 0) return false;
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(final @NotNull Collection<?> c) {
+        return batchRemove(element -> c.contains(element));
+    }
+
+    @Override
+    public boolean retainAll(final @NotNull Collection<?> c) {
+        return batchRemove(element -> !c.contains(element));
+    }
+
+    @Override
+    public boolean removeIf(final @NotNull Predicate<? super T> filter) {
+        return batchRemove(filter);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The replaced elements must have unique keys, otherwise nothing is replaced.
+     * Change listeners receive a replacement for every element that isn't replaced by itself.
+     *
+     * @throws IllegalArgumentException If two of the replaced elements have the same key.
+     */
+    @Override
+    public void replaceAll(final @NotNull UnaryOperator<T> operator) {
+        final var size = elements.size();
+        if (size == 0) return;
+
+        // Applied and checked up front so a duplicate key leaves the list untouched
+        final var replaced = new ArrayList<T>(size);
+        final var keys = new HashMap<K, Integer>(indexes.size());
+        for (int i = 0; i < size; i++) {
+            final var element = operator.apply(elements.get(i));
+            final K key = keyExtractor.apply(element);
+            if (keys.putIfAbsent(key, i) != null) throw duplicate(key);
+            replaced.add(element);
+        }
+
+        final var observed = observed();
+        for (int i = 0; i < size; i++) {
+            final var element = replaced.get(i);
+            final var previous = elements.set(i, element);
+            if (observed && previous != element) emit(ListChange.replace(i, previous, element));
+        }
+        indexes.clear();
+        indexes.putAll(keys);
+        validUpTo = size;
+        trigger();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The indexes are rebuilt in a single pass, change listeners receive a {@link ListChange.Type#RESET}.
+     */
+    @Override
+    public void sort(final @Nullable Comparator<? super T> c) {
+        if (elements.size() < 2) return;
+        elements.sort(c);
+        validUpTo = 0;
+        reindex();
+        if (observed()) emit(ListChange.reset());
+        trigger();
+    }
+
+    @Override
+    public void clear() {
+        if (observed() && !elements.isEmpty()) {
+            final var removed = new ArrayList<>(elements);
+            clearElements();
+            emit(ListChange.remove(0, removed));
+        } else {
+            clearElements();
+        }
+        trigger();
+    }
+
+    @Override
+    public void move(final int from, final int to) {
+        Objects.checkIndex(from, elements.size());
+        Objects.checkIndex(to, elements.size());
+        if (from == to) return;
+
+        final var element = elements.remove(from);
+        elements.add(to, element);
+        indexes.put(keyExtractor.apply(element), to);
+        validUpTo = Math.min(validUpTo, Math.min(from, to));
+        if (observed()) emit(ListChange.move(from, to, element));
+        trigger();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Change listeners receive a single removal of the whole range.
+     */
+    @Override
+    public void removeRange(final int fromIndex, final int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, elements.size());
+        if (fromIndex == toIndex) return;
+
+        final var range = elements.subList(fromIndex, toIndex);
+        final var removed = observed() ? new ArrayList<>(range) : null;
+        for (final var element : range) {
+            indexes.remove(keyExtractor.apply(element));
+        }
+        range.clear();
+        validUpTo = Math.min(validUpTo, fromIndex);
+        if (removed != null) emit(ListChange.remove(fromIndex, removed));
+        trigger();
+    }
+
+    @Override
+    public void addChangeListener(final @NotNull Object stateful, final @NotNull ListChangeListener<? super T> listener) {
+        var container = changeListeners;
+        if (container == null) {
+            synchronized (this) {
+                container = changeListeners;
+                if (container == null) {
+                    container = new ChangeListenerContainer<>(ListChangeListener::onChange);
+                    changeListeners = container;
+                }
+            }
+        }
+        container.addListener(stateful, listener);
+    }
+
+    @Override
+    public boolean removeChangeListener(final @NotNull Object stateful, final @NotNull ListChangeListener<? super T> listener) {
+        final var container = changeListeners;
+        return container != null && container.removeListener(stateful, listener);
+    }
+
+    @Override
+    protected @Nullable ChangeListenerContainer<?, ?> changeListenerContainer() {
+        return changeListeners;
+    }
+
+    @Override
+    public T get(final int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int indexOf(final Object o) {
+        final K key;
+        try {
+            key = keyExtractor.apply((T) o);
+        } catch (final ClassCastException | NullPointerException exception) {
+            return -1;
+        }
+        final var index = indexOfKey(key);
+        return index >= 0 && Objects.equals(elements.get(index), o) ? index : -1;
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        // Keys are unique, so is every element
+        return indexOf(o);
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean containsAll(final @NotNull Collection<?> c) {
+        for (final var element : c) {
+            if (!contains(element)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return view.iterator();
+    }
+
+    @Override
+    public @NotNull ListIterator<T> listIterator() {
+        return view.listIterator();
+    }
+
+    @Override
+    public @NotNull ListIterator<T> listIterator(final int index) {
+        return view.listIterator(index);
+    }
+
+    @Override
+    public @NotNull List<T> subList(final int fromIndex, final int toIndex) {
+        return view.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public @NotNull Object @NotNull [] toArray() {
+        return elements.toArray();
+    }
+
+    @Override
+    public <A> @NotNull A @NotNull [] toArray(final @NotNull A @NotNull [] a) {
+        return elements.toArray(a);
+    }
+
+    @Override
+    public String toString() {
+        return elements.toString();
+    }
+
+    private void inserted(final int index, final int count) {
+        // Appending to a fully indexed list keeps it fully indexed, anything else shifts the elements after it
+        if (index == validUpTo && index + count == elements.size()) validUpTo += count;
+        else validUpTo = Math.min(validUpTo, index);
+    }
+
+    private void reindex() {
+        for (int i = validUpTo; i < elements.size(); i++) {
+            indexes.put(keyExtractor.apply(elements.get(i)), i);
+        }
+        validUpTo = elements.size();
+    }
+
+    private void clearElements() {
+        elements.clear();
+        indexes.clear();
+        validUpTo = 0;
+    }
+
+    private boolean batchRemove(final @NotNull Predicate<? super T> filter) {
+        final var size = elements.size();
+        // The filter is only called once per element, the removed ranges are found from the flags
+        final var removed = new boolean[size];
+        var first = -1;
+        for (int i = 0; i < size; i++) {
+            if (!filter.test(elements.get(i))) continue;
+            removed[i] = true;
+            if (first < 0) first = i;
+        }
+        if (first < 0) return false;
+
+        final var before = observed() ? new ArrayList<>(elements) : null;
+        // Compacted in one pass instead of shifting the tail once per removed range
+        var kept = first;
+        for (int i = first; i < size; i++) {
+            final var element = elements.get(i);
+            if (removed[i]) indexes.remove(keyExtractor.apply(element));
+            else elements.set(kept++, element);
+        }
+        elements.subList(kept, size).clear();
+        validUpTo = Math.min(validUpTo, first);
+
+        if (before != null) {
+            // Ranges are reported from the end so the indexes of the ones before are still valid
+            var end = size;
+            while (end > first) {
+                if (!removed[end - 1]) {
+                    end--;
+                    continue;
+                }
+                var start = end - 1;
+                while (start > 0 && removed[start - 1]) start--;
+                emit(ListChange.remove(start, before.subList(start, end)));
+                end = start;
+            }
+        }
+        trigger();
+        return true;
+    }
+
+    private boolean observed() {
+        final var container = changeListeners;
+        return container != null && !container.isEmpty();
+    }
+
+    private void emit(final @NotNull ListChange<T> change) {
+        final var container = changeListeners;
+        if (container == null) return;
+        container.emit(this, change);
+    }
+
+    private static @NotNull IllegalArgumentException duplicate(final Object key) {
+        return new IllegalArgumentException("An element with the key '" + key + "' is already in the list.");
+    }
+
+    /**
+     * View used for the iterators and sub lists, mutations go through the state so the indexes stay in sync.
+     */
+    private final class View extends AbstractList<T> implements RandomAccess {
+
+        @Override
+        public T get(final int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public T set(final int index, final T element) {
+            return KeyedArrayListState.this.set(index, element);
+        }
+
+        @Override
+        public void add(final int index, final T element) {
+            KeyedArrayListState.this.add(index, element);
+        }
+
+        @Override
+        public T remove(final int index) {
+            return KeyedArrayListState.this.remove(index);
+        }
+
+        @Override
+        protected void removeRange(final int fromIndex, final int toIndex) {
+            KeyedArrayListState.this.removeRange(fromIndex, toIndex);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ListBackedListState} whose backing list is only built by the factory when first accessed,
+ * for expensive contents that might never be needed.
+ * The factory runs at most once, even when the first accesses race.
+ * Only this class pays for reading the backing list safely across threads, eager states read a plain field.
+ *
+ * @see dev.triumphteam.nova.ListState#lazy(Supplier)
+ */
+public final class LazyListBackedListState<T> extends ListBackedListState<T> {
+
+    // Null until first accessed, see #backing()
+    private volatile @Nullable List<T> backing;
+    private @Nullable Supplier<? extends List<T>> backingFactory;
+
+    /**
+     * Creates a state whose backing list is built by the factory when first accessed.
+     *
+     * @param backingFactory Builds the backing list, called at most once.
+     */
+    public LazyListBackedListState(final @NotNull Supplier<? extends List<T>> backingFactory) {
+        this.backingFactory = backingFactory;
+    }
+
+    /**
+     * Whether the backing list was built yet.
+     *
+     * @return True if the backing list was built.
+     */
+    public boolean isInitialized() {
+        return backing != null;
+    }
+
+    @Override
+    @NotNull List<T> backing() {
+        checkNotReleased();
+        final var current = backing;
+        if (current != null) return current;
+
+        synchronized (this) {
+            var created = backing;
+            if (created == null) {
+                created = Objects.requireNonNull(backingFactory, "backingFactory").get();
+                backingFactory = null;
+                backing = created;
+            }
+            return created;
+        }
+    }
+
+    @Override
+    @Nullable List<T> builtBacking() {
+        return backing;
+    }
+
+    @Override
+    void markReleased() {
+        super.markReleased();
+        backing = null;
+        backingFactory = null;
+    }
+}
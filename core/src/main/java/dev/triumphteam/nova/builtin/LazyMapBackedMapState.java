@@ -0,0 +1,93 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A {@link MapBackedMapState} whose backing map is only built by the factory when first accessed,
+ * for expensive contents that might never be needed.
+ * The factory runs at most once, even when the first accesses race.
+ * Only this class pays for reading the backing map safely across threads, eager states read a plain field.
+ *
+ * @see dev.triumphteam.nova.MapState#lazy(Supplier)
+ */
+public final class LazyMapBackedMapState<K, V> extends MapBackedMapState<K, V> {
+
+    // Null until first accessed, see #backing()
+    private volatile @Nullable Map<K, V> backing;
+    private @Nullable Supplier<? extends Map<K, V>> backingFactory;
+
+    /**
+     * Creates a state whose backing map is built by the factory when first accessed.
+     *
+     * @param backingFactory Builds the backing map, called at most once.
+     */
+    public LazyMapBackedMapState(final @NotNull Supplier<? extends Map<K, V>> backingFactory) {
+        this.backingFactory = backingFactory;
+    }
+
+    /**
+     * Whether the backing map was built yet.
+     *
+     * @return True if the backing map was built.
+     */
+    public boolean isInitialized() {
+        return backing != null;
+    }
+
+    @Override
+    @NotNull Map<K, V> backing() {
+        checkNotReleased();
+        final var current = backing;
+        if (current != null) return current;
+
+        synchronized (this) {
+            var created = backing;
+            if (created == null) {
+                created = Objects.requireNonNull(backingFactory, "backingFactory").get();
+                backingFactory = null;
+                backing = created;
+            }
+            return created;
+        }
+    }
+
+    @Override
+    @Nullable Map<K, V> builtBacking() {
+        return backing;
+    }
+
+    @Override
+    void markReleased() {
+        super.markReleased();
+        backing = null;
+        backingFactory = null;
+    }
+}
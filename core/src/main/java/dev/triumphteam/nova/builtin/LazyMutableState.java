@@ -0,0 +1,110 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.AbstractMutableState;
+import dev.triumphteam.nova.MutableState;
+import dev.triumphteam.nova.policy.StateMutationPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link MutableState} whose starting value is only computed when the state is first accessed,
+ * for expensive defaults that might never be needed.
+ * The initializer runs at most once, even when the first accesses race, and doesn't trigger the state.
+ *
+ * @param <T> The type of the value.
+ */
+public final class LazyMutableState<T> extends AbstractMutableState<T> {
+
+    // Cleared once the value is computed, also publishes the value to other threads
+    private volatile @Nullable Supplier<? extends T> initializer;
+
+    public LazyMutableState(
+        final @NotNull Supplier<? extends T> initializer,
+        final @NotNull StateMutationPolicy<T> mutationPolicy
+    ) {
+        super(null, mutationPolicy);
+        this.initializer = initializer;
+    }
+
+    @Override
+    public T get() {
+        if (initializer != null) initializeValue();
+        return super.get();
+    }
+
+    @Override
+    public T update(final @NotNull Function<T, T> update) {
+        if (initializer != null) initializeValue();
+        return super.update(update);
+    }
+
+    /**
+     * Whether the starting value was computed yet.
+     *
+     * @return True if the value was computed.
+     */
+    public boolean isInitialized() {
+        return initializer == null;
+    }
+
+    @Override
+    protected boolean mutate(final T value) {
+        if (initializer != null) initializeValue();
+        return super.mutate(value);
+    }
+
+    private synchronized void initializeValue() {
+        final var supplier = initializer;
+        if (supplier == null) return;
+
+        initialize(supplier.get());
+        initializer = null;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (initializer != null) initializeValue();
+        if (o instanceof LazyMutableState && ((LazyMutableState<?>) o).initializer != null) {
+            ((LazyMutableState<?>) o).initializeValue();
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        if (initializer != null) initializeValue();
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        if (initializer != null) return "LazyMutableState{uninitialized}";
+        return super.toString();
+    }
+}
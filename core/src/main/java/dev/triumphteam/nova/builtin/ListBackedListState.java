@@ -24,158 +24,540 @@
 package dev.triumphteam.nova.builtin;
 
 import dev.triumphteam.nova.AbstractState;
+import dev.triumphteam.nova.ChangeListenerContainer;
+import dev.triumphteam.nova.ListChange;
+import dev.triumphteam.nova.ListChangeListener;
 import dev.triumphteam.nova.ListState;
-import dev.triumphteam.nova.MapState;
+import dev.triumphteam.nova.pool.Recyclable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
-import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * A {@link ListState} implementation backed by a provided {@link List} implementation.
  * An update is triggered when the list elements change.
+ * Change listeners receive the exact insertions, removals, replacements and moves,
+ * the changes are only described when there are change listeners.
  */
-public final class ListBackedListState<T> extends AbstractState implements ListState<T> {
+public class ListBackedListState<T> extends AbstractState implements ListState<T>, Recyclable {
 
-    private final List<T> backing;
+    // Null for lazy states, which keep their own backing, and once released
+    private @Nullable List<T> backing;
+    // Only flipped by the thread closing the owning holder, the same thread the pool hands storage to
+    private boolean released;
+    private volatile @Nullable ChangeListenerContainer<ListChangeListener<? super T>, ListChange<T>> changeListeners;
+    private final List<T> view = new View();
 
     public ListBackedListState(final @NotNull List<T> backing) {
         this.backing = backing;
     }
 
+    /**
+     * Used by {@link LazyListBackedListState}, which overrides {@link #backing()}.
+     */
+    ListBackedListState() {
+    }
+
     @Override
     public boolean add(final T t) {
+        final var backing = backing();
         backing.add(t);
+        if (observed()) emit(ListChange.insert(backing.size() - 1, Collections.singletonList(t)));
         trigger();
         return true;
     }
 
     @Override
     public boolean remove(final Object o) {
-        final var removed = backing.remove(o);
-        if (removed) trigger();
-        return removed;
+        final var backing = backing();
+        if (!observed()) {
+            final var removed = backing.remove(o);
+            if (removed) trigger();
+            return removed;
+        }
+
+        final var index = backing.indexOf(o);
+        if (index < 0) return false;
+        remove(index);
+        return true;
     }
 
     @Override
     public boolean addAll(final @NotNull Collection<? extends T> c) {
-        final var added = backing.addAll(c);
-        if (added) trigger();
-        return added;
+        return addAll(backing().size(), c);
     }
 
     @Override
     public boolean addAll(final int index, final @NotNull Collection<? extends T> c) {
-        final var added = backing.addAll(index, c);
-        if (added) trigger();
-        return added;
+        final var added = backing().addAll(index, c);
+        if (!added) return false;
+        if (observed()) emit(ListChange.insert(index, c));
+        trigger();
+        return true;
     }
 
     @Override
     public boolean removeAll(final @NotNull Collection<?> c) {
-        final var removed = backing.removeAll(c);
-        if (removed) trigger();
-        return removed;
+        return batchRemove(c, false);
     }
 
     @Override
     public boolean retainAll(final @NotNull Collection<?> c) {
-        final var retained = backing.retainAll(c);
-        if (retained) trigger();
-        return retained;
+        return batchRemove(c, true);
     }
 
     @Override
     public T set(final int index, final T element) {
-        final var updated = backing.set(index, element);
+        final var updated = backing().set(index, element);
+        if (observed()) emit(ListChange.replace(index, updated, element));
         trigger();
         return updated;
     }
 
     @Override
     public void clear() {
-        backing.clear();
+        final var backing = backing();
+        if (observed() && !backing.isEmpty()) {
+            final var removed = new ArrayList<>(backing);
+            backing.clear();
+            emit(ListChange.remove(0, removed));
+        } else {
+            backing.clear();
+        }
         trigger();
     }
 
     @Override
     public T remove(final int index) {
-        final var updated = backing.remove(index);
+        final var updated = backing().remove(index);
+        if (observed()) emit(ListChange.remove(index, Collections.singletonList(updated)));
         trigger();
         return updated;
     }
 
     @Override
     public void add(final int index, final T element) {
-        backing.add(index, element);
+        backing().add(index, element);
+        if (observed()) emit(ListChange.insert(index, Collections.singletonList(element)));
+        trigger();
+    }
+
+    @Override
+    public void move(final int from, final int to) {
+        final var backing = backing();
+        Objects.checkIndex(from, backing.size());
+        Objects.checkIndex(to, backing.size());
+        if (from == to) return;
+        final var element = backing.remove(from);
+        backing.add(to, element);
+        if (observed()) emit(ListChange.move(from, to, element));
         trigger();
     }
 
+    /**
+     * {@inheritDoc}
+     * Change listeners receive a single removal of the whole range.
+     */
+    @Override
+    public void removeRange(final int fromIndex, final int toIndex) {
+        final var backing = backing();
+        Objects.checkFromToIndex(fromIndex, toIndex, backing.size());
+        if (fromIndex == toIndex) return;
+
+        final var range = backing.subList(fromIndex, toIndex);
+        final var removed = observed() ? new ArrayList<>(range) : null;
+        range.clear();
+        if (removed != null) emit(ListChange.remove(fromIndex, removed));
+        trigger();
+    }
+
+    @Override
+    public void addChangeListener(final @NotNull Object stateful, final @NotNull ListChangeListener<? super T> listener) {
+        checkNotReleased();
+        var container = changeListeners;
+        if (container == null) {
+            synchronized (this) {
+                container = changeListeners;
+                if (container == null) {
+                    container = new ChangeListenerContainer<>(ListChangeListener::onChange);
+                    changeListeners = container;
+                }
+            }
+        }
+        container.addListener(stateful, listener);
+    }
+
+    @Override
+    public boolean removeChangeListener(final @NotNull Object stateful, final @NotNull ListChangeListener<? super T> listener) {
+        final var container = changeListeners;
+        return container != null && container.removeListener(stateful, listener);
+    }
+
+    @Override
+    protected @Nullable ChangeListenerContainer<?, ?> changeListenerContainer() {
+        return changeListeners;
+    }
+
     @Override
     public int size() {
-        return backing.size();
+        return backing().size();
     }
 
     @Override
     public boolean isEmpty() {
-        return backing.isEmpty();
+        return backing().isEmpty();
     }
 
     @Override
     public boolean contains(final Object o) {
-        return backing.contains(o);
+        return backing().contains(o);
     }
 
+    /**
+     * {@inheritDoc}
+     * Removing through the iterator triggers the state.
+     */
     @Override
     public @NotNull Iterator<T> iterator() {
-        return backing.iterator();
+        return new StateListIterator(backing().listIterator());
     }
 
     @Override
     public @NotNull Object @NotNull [] toArray() {
-        return backing.toArray();
+        return backing().toArray();
     }
 
     @Override
     public <A> @NotNull A @NotNull [] toArray(final @NotNull A @NotNull [] a) {
-        return backing.toArray(a);
+        return backing().toArray(a);
     }
 
     @Override
     public boolean containsAll(final @NotNull Collection<?> c) {
-        return backing.containsAll(c);
+        return backing().containsAll(c);
     }
 
     @Override
     public T get(final int index) {
-        return backing.get(index);
+        return backing().get(index);
     }
 
     @Override
     public int indexOf(final Object o) {
-        return backing.indexOf(o);
+        return backing().indexOf(o);
     }
 
     @Override
     public int lastIndexOf(final Object o) {
-        return backing.lastIndexOf(o);
+        return backing().lastIndexOf(o);
     }
 
+    /**
+     * {@inheritDoc}
+     * Mutating through the iterator triggers the state.
+     */
     @Override
     public @NotNull ListIterator<T> listIterator() {
-        return backing.listIterator();
+        return new StateListIterator(backing().listIterator());
     }
 
+    /**
+     * {@inheritDoc}
+     * Mutating through the iterator triggers the state.
+     */
     @Override
     public @NotNull ListIterator<T> listIterator(final int index) {
-        return backing.listIterator(index);
+        return new StateListIterator(backing().listIterator(index));
     }
 
+    /**
+     * {@inheritDoc}
+     * Mutating the sub list triggers the state.
+     */
     @Override
     public @NotNull List<T> subList(final int fromIndex, final int toIndex) {
-        return backing.subList(fromIndex, toIndex);
+        return view.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean removeIf(final @NotNull Predicate<? super T> filter) {
+        final var backing = backing();
+        if (!observed()) {
+            final var changed = backing.removeIf(filter);
+            if (changed) trigger();
+            return changed;
+        }
+        return batchRemove(filter);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Change listeners receive a replacement for every element that isn't replaced by itself.
+     */
+    @Override
+    public void replaceAll(final @NotNull UnaryOperator<T> operator) {
+        final var iterator = backing().listIterator();
+        if (!iterator.hasNext()) return;
+
+        final var observed = observed();
+        while (iterator.hasNext()) {
+            final var index = iterator.nextIndex();
+            final var previous = iterator.next();
+            final var element = operator.apply(previous);
+            iterator.set(element);
+            if (observed && previous != element) emit(ListChange.replace(index, previous, element));
+        }
+        trigger();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Change listeners receive a {@link ListChange.Type#RESET}.
+     */
+    @Override
+    public void sort(final @Nullable Comparator<? super T> c) {
+        final var backing = backing();
+        if (backing.size() < 2) return;
+        backing.sort(c);
+        if (observed()) emit(ListChange.reset());
+        trigger();
+    }
+
+    private boolean batchRemove(final @NotNull Collection<?> c, final boolean retain) {
+        final var backing = backing();
+        if (!observed()) {
+            final var changed = retain ? backing.retainAll(c) : backing.removeAll(c);
+            if (changed) trigger();
+            return changed;
+        }
+        return batchRemove(element -> c.contains(element) != retain);
+    }
+
+    private boolean batchRemove(final @NotNull Predicate<? super T> filter) {
+        final var backing = backing();
+        final var before = new ArrayList<>(backing);
+        // The filter is only called once per element, the removed ranges are found from the flags
+        final var removed = new boolean[before.size()];
+        var changed = false;
+        final var iterator = backing.iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            if (!filter.test(iterator.next())) continue;
+            iterator.remove();
+            removed[i] = true;
+            changed = true;
+        }
+        if (!changed) return false;
+
+        // Ranges are reported from the end so the indexes of the ones before are still valid
+        var end = before.size();
+        while (end > 0) {
+            if (!removed[end - 1]) {
+                end--;
+                continue;
+            }
+            var start = end - 1;
+            while (start > 0 && removed[start - 1]) start--;
+            emit(ListChange.remove(start, before.subList(start, end)));
+            end = start;
+        }
+        trigger();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The backing list is cleared, so only states over a backing list owned by the pool should be released.
+     */
+    @Override
+    public void release() {
+        if (released) return;
+        // A lazy backing that was never built has nothing to clear
+        final var backing = builtBacking();
+        if (backing != null) backing.clear();
+        markReleased();
+    }
+
+    @Override
+    public boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Releases the state and hands over its cleared backing list, which the state no longer uses,
+     * so a pool can reuse the storage under a new state.
+     *
+     * @return The cleared backing list.
+     */
+    public @NotNull List<T> detach() {
+        final var backing = backing();
+        backing.clear();
+        markReleased();
+        return backing;
+    }
+
+    /**
+     * The backing list if it was built, without building it.
+     *
+     * @return The backing list or {@code null}.
+     */
+    @Nullable List<T> builtBacking() {
+        return backing;
+    }
+
+    void markReleased() {
+        changeListeners = null;
+        clearListeners();
+        released = true;
+        this.backing = null;
+    }
+
+    void checkNotReleased() {
+        if (released) throw new IllegalStateException("The state was used after being returned to its pool.");
+    }
+
+    private boolean observed() {
+        final var container = changeListeners;
+        return container != null && !container.isEmpty();
+    }
+
+    private void emit(final @NotNull ListChange<T> change) {
+        final var container = changeListeners;
+        if (container == null) return;
+        container.emit(this, change);
+    }
+
+    /**
+     * The backing list, every read and mutation goes through here, a released state never touches the storage again.
+     *
+     * @return The backing list.
+     */
+    @NotNull List<T> backing() {
+        checkNotReleased();
+        return Objects.requireNonNull(backing, "backing");
+    }
+
+    /**
+     * Wraps an iterator of the backing list so the mutations done through it are described and trigger the state.
+     */
+    private final class StateListIterator implements ListIterator<T> {
+
+        private final ListIterator<T> iterator;
+        private int lastIndex = -1;
+        private T last;
+
+        private StateListIterator(final @NotNull ListIterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            checkNotReleased();
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            checkNotReleased();
+            lastIndex = iterator.nextIndex();
+            return last = iterator.next();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            checkNotReleased();
+            return iterator.hasPrevious();
+        }
+
+        @Override
+        public T previous() {
+            checkNotReleased();
+            lastIndex = iterator.previousIndex();
+            return last = iterator.previous();
+        }
+
+        @Override
+        public int nextIndex() {
+            return iterator.nextIndex();
+        }
+
+        @Override
+        public int previousIndex() {
+            return iterator.previousIndex();
+        }
+
+        @Override
+        public void remove() {
+            checkNotReleased();
+            iterator.remove();
+            if (observed()) emit(ListChange.remove(lastIndex, Collections.singletonList(last)));
+            lastIndex = -1;
+            trigger();
+        }
+
+        @Override
+        public void set(final T element) {
+            checkNotReleased();
+            iterator.set(element);
+            if (observed()) emit(ListChange.replace(lastIndex, last, element));
+            last = element;
+            trigger();
+        }
+
+        @Override
+        public void add(final T element) {
+            checkNotReleased();
+            final var index = iterator.nextIndex();
+            iterator.add(element);
+            if (observed()) emit(ListChange.insert(index, Collections.singletonList(element)));
+            lastIndex = -1;
+            trigger();
+        }
+    }
+
+    /**
+     * View used for the sub lists, mutations go through the state so they are described and trigger.
+     */
+    private final class View extends AbstractList<T> {
+
+        @Override
+        public T get(final int index) {
+            return backing().get(index);
+        }
+
+        @Override
+        protected void removeRange(final int fromIndex, final int toIndex) {
+            ListBackedListState.this.removeRange(fromIndex, toIndex);
+        }
+
+        @Override
+        public T set(final int index, final T element) {
+            return ListBackedListState.this.set(index, element);
+        }
+
+        @Override
+        public void add(final int index, final T element) {
+            ListBackedListState.this.add(index, element);
+        }
+
+        @Override
+        public T remove(final int index) {
+            return ListBackedListState.this.remove(index);
+        }
+
+        @Override
+        public int size() {
+            return backing().size();
+        }
     }
 }
@@ -0,0 +1,267 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.AbstractState;
+import dev.triumphteam.nova.ListChange;
+import dev.triumphteam.nova.ListChangeListener;
+import dev.triumphteam.nova.ListState;
+import dev.triumphteam.nova.ListWindow;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.WeakReference;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+/**
+ * A {@link ListWindow} implementation that listens to the changes of the source {@link ListState}.
+ * The source only holds the window through a {@link WeakReference}, so the window can be collected
+ * while the source is still in use.
+ */
+public final class ListWindowState<T> extends AbstractState implements ListWindow<T> {
+
+    private final ListState<T> source;
+    private final int windowSize;
+    private final List<T> view = new View();
+    private volatile int offset;
+
+    public ListWindowState(final @NotNull ListState<T> source, final int offset, final int windowSize) {
+        if (offset < 0) throw new IllegalArgumentException("The offset must not be negative.");
+        if (windowSize < 1) throw new IllegalArgumentException("The window size must be positive.");
+        this.source = source;
+        this.offset = offset;
+        this.windowSize = windowSize;
+        source.addChangeListener(this, new SourceListener<>(this));
+    }
+
+    @Override
+    public @NotNull ListState<T> source() {
+        return source;
+    }
+
+    @Override
+    public int offset() {
+        return offset;
+    }
+
+    @Override
+    public void setOffset(final int offset) {
+        if (offset < 0) throw new IllegalArgumentException("The offset must not be negative.");
+        if (this.offset == offset) return;
+        this.offset = offset;
+        trigger();
+    }
+
+    @Override
+    public int windowSize() {
+        return windowSize;
+    }
+
+    @Override
+    public T get(final int index) {
+        return view.get(index);
+    }
+
+    @Override
+    public int size() {
+        return view.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return view.isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return view.contains(o);
+    }
+
+    @Override
+    public boolean containsAll(final @NotNull Collection<?> c) {
+        return view.containsAll(c);
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return view.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        return view.lastIndexOf(o);
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return view.iterator();
+    }
+
+    @Override
+    public @NotNull ListIterator<T> listIterator() {
+        return view.listIterator();
+    }
+
+    @Override
+    public @NotNull ListIterator<T> listIterator(final int index) {
+        return view.listIterator(index);
+    }
+
+    @Override
+    public @NotNull List<T> subList(final int fromIndex, final int toIndex) {
+        return view.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public @NotNull Object @NotNull [] toArray() {
+        return view.toArray();
+    }
+
+    @Override
+    public <A> @NotNull A @NotNull [] toArray(final @NotNull A @NotNull [] a) {
+        return view.toArray(a);
+    }
+
+    @Override
+    public boolean add(final T t) {
+        throw readOnly();
+    }
+
+    @Override
+    public void add(final int index, final T element) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean addAll(final @NotNull Collection<? extends T> c) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean addAll(final int index, final @NotNull Collection<? extends T> c) {
+        throw readOnly();
+    }
+
+    @Override
+    public T set(final int index, final T element) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        throw readOnly();
+    }
+
+    @Override
+    public T remove(final int index) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean removeAll(final @NotNull Collection<?> c) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean retainAll(final @NotNull Collection<?> c) {
+        throw readOnly();
+    }
+
+    @Override
+    public void clear() {
+        throw readOnly();
+    }
+
+    @Override
+    public String toString() {
+        return view.toString();
+    }
+
+    /**
+     * Whether the change touches or shifts the visible range.
+     */
+    private boolean affectedBy(final @NotNull ListChange<?> change) {
+        final var start = offset;
+        final var end = start + windowSize;
+        switch (change.type()) {
+            case INSERT:
+            case REMOVE:
+                // Anything before the end of the window either changes it or shifts it
+                return change.index() < end;
+            case REPLACE:
+                return change.index() >= start && change.index() < end;
+            case MOVE:
+                // Elements between the two indexes shift by one
+                return Math.min(change.index(), change.toIndex()) < end && Math.max(change.index(), change.toIndex()) >= start;
+            default:
+                return true;
+        }
+    }
+
+    private static @NotNull UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("A list window is read-only, modify the source list instead.");
+    }
+
+    /**
+     * Listens to the source without keeping the window reachable.
+     */
+    private static final class SourceListener<T> implements ListChangeListener<T> {
+
+        private final WeakReference<ListWindowState<T>> window;
+
+        private SourceListener(final @NotNull ListWindowState<T> window) {
+            this.window = new WeakReference<>(window);
+        }
+
+        @Override
+        public void onChange(final @NotNull ListChange<? extends T> change) {
+            final var window = this.window.get();
+            if (window != null && window.affectedBy(change)) window.trigger();
+        }
+    }
+
+    /**
+     * The visible range of the source.
+     */
+    private final class View extends AbstractList<T> implements RandomAccess {
+
+        @Override
+        public T get(final int index) {
+            final var size = size();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            return source.get(offset + index);
+        }
+
+        @Override
+        public int size() {
+            return Math.max(0, Math.min(windowSize, source.size() - offset));
+        }
+    }
+}
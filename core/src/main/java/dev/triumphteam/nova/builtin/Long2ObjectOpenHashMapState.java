@@ -0,0 +1,537 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.AbstractState;
+import dev.triumphteam.nova.ChangeListenerContainer;
+import dev.triumphteam.nova.Long2ObjectMapState;
+import dev.triumphteam.nova.MapChange;
+import dev.triumphteam.nova.MapChangeListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An {@link Long2ObjectMapState} implementation backed by an open addressing hash table with linear probing.
+ * Keys and values are kept in two flat arrays, so no entry nodes are allocated.
+ * An update is triggered when elements change, same as {@link MapBackedMapState}.
+ * Change listeners receive the exact additions, replacements and removals, so indexes and aggregates
+ * over the map are updated per entry, the changes are only described when there are change listeners.
+ *
+ * @param <V> The type of the value of the map.
+ */
+public final class Long2ObjectOpenHashMapState<V> extends AbstractState implements Long2ObjectMapState<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<Long, V> view = new View();
+    private volatile @Nullable ChangeListenerContainer<MapChangeListener<? super Long, ? super V>, MapChange<Long, V>> changeListeners;
+
+    // The table has one extra slot at the end, used to hold the value of the key 0, since 0 marks free slots
+    private long[] keys;
+    private Object[] values;
+    private boolean containsZeroKey;
+    private int mask;
+    private int maxFill;
+    private int size;
+
+    public Long2ObjectOpenHashMapState() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public Long2ObjectOpenHashMapState(final int expected) {
+        if (expected < 0) throw new IllegalArgumentException("The expected number of elements must be nonnegative.");
+        allocate(tableSize(expected));
+    }
+
+    @Override
+    public @Nullable V get(final long key) {
+        final var slot = find(key);
+        return slot < 0 ? null : value(slot);
+    }
+
+    @Override
+    public V getOrDefault(final long key, final V defaultValue) {
+        final var slot = find(key);
+        return slot < 0 ? defaultValue : value(slot);
+    }
+
+    @Override
+    public @Nullable V put(final long key, final V value) {
+        final var previous = store(key, value);
+        trigger();
+        return previous;
+    }
+
+    @Override
+    public @Nullable V remove(final long key) {
+        final var slot = find(key);
+        final var previous = slot < 0 ? null : removeSlot(slot);
+        if (slot >= 0 && observed()) emit(MapChange.remove(key, previous));
+        trigger();
+        return previous;
+    }
+
+    @Override
+    public boolean containsKey(final long key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public long @NotNull [] toKeyArray() {
+        final var result = new long[size];
+        var cursor = 0;
+        if (containsZeroKey) cursor++;
+        for (int slot = 0; slot < mask + 1; slot++) {
+            if (keys[slot] != 0) result[cursor++] = keys[slot];
+        }
+        return result;
+    }
+
+    @Override
+    public V get(final Object key) {
+        return key instanceof Long ? get((long) (Long) key) : null;
+    }
+
+    @Override
+    public @Nullable V put(final Long key, final V value) {
+        return put((long) key, value);
+    }
+
+    @Override
+    public V remove(final Object key) {
+        if (key instanceof Long) return remove((long) (Long) key);
+        trigger();
+        return null;
+    }
+
+    @Override
+    public void putAll(final @NotNull Map<? extends Long, ? extends V> m) {
+        for (final var entry : m.entrySet()) {
+            store(entry.getKey(), entry.getValue());
+        }
+        trigger();
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            final var removed = observed() ? new ArrayList<Entry<Long, V>>(size) : null;
+            if (removed != null) {
+                for (final var entry : view.entrySet()) {
+                    removed.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+                }
+            }
+            Arrays.fill(keys, 0);
+            Arrays.fill(values, null);
+            containsZeroKey = false;
+            size = 0;
+            if (removed != null) {
+                for (final var entry : removed) {
+                    emit(MapChange.remove(entry.getKey(), entry.getValue()));
+                }
+            }
+        }
+        trigger();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof Long && containsKey((long) (Long) key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        final var zeroSlot = mask + 1;
+        if (containsZeroKey && Objects.equals(values[zeroSlot], value)) return true;
+        for (int slot = 0; slot < zeroSlot; slot++) {
+            if (keys[slot] != 0 && Objects.equals(values[slot], value)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public @NotNull Set<Long> keySet() {
+        return view.keySet();
+    }
+
+    @Override
+    public @NotNull Collection<V> values() {
+        return view.values();
+    }
+
+    @Override
+    public @NotNull Set<Entry<Long, V>> entrySet() {
+        return view.entrySet();
+    }
+
+    @Override
+    public void addChangeListener(final @NotNull Object stateful, final @NotNull MapChangeListener<? super Long, ? super V> listener) {
+        var container = changeListeners;
+        if (container == null) {
+            synchronized (this) {
+                container = changeListeners;
+                if (container == null) {
+                    container = new ChangeListenerContainer<>(MapChangeListener::onChange);
+                    changeListeners = container;
+                }
+            }
+        }
+        container.addListener(stateful, listener);
+    }
+
+    @Override
+    public boolean removeChangeListener(final @NotNull Object stateful, final @NotNull MapChangeListener<? super Long, ? super V> listener) {
+        final var container = changeListeners;
+        return container != null && container.removeListener(stateful, listener);
+    }
+
+    @Override
+    protected @Nullable ChangeListenerContainer<?, ?> changeListenerContainer() {
+        return changeListeners;
+    }
+
+    @Override
+    public String toString() {
+        return view.toString();
+    }
+
+    private boolean observed() {
+        final var container = changeListeners;
+        return container != null && !container.isEmpty();
+    }
+
+    private void emit(final @NotNull MapChange<Long, V> change) {
+        final var container = changeListeners;
+        if (container == null) return;
+        container.emit(this, change);
+    }
+
+    /**
+     * Inserts or replaces the value of the key, describing the change when observed.
+     */
+    private @Nullable V store(final long key, final V value) {
+        if (!observed()) return insert(key, value);
+
+        final var existed = find(key) >= 0;
+        final var previous = insert(key, value);
+        emit(existed ? MapChange.replace(key, previous, value) : MapChange.add(key, value));
+        return previous;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(final int slot) {
+        return (V) values[slot];
+    }
+
+    private int find(final long key) {
+        if (key == 0) return containsZeroKey ? mask + 1 : -1;
+
+        var slot = mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private @Nullable V insert(final long key, final V value) {
+        final int slot;
+        if (key == 0) {
+            slot = mask + 1;
+            if (containsZeroKey) return replace(slot, value);
+            containsZeroKey = true;
+        } else {
+            var probe = mix(key) & mask;
+            long current;
+            while ((current = keys[probe]) != 0) {
+                if (current == key) return replace(probe, value);
+                probe = (probe + 1) & mask;
+            }
+            slot = probe;
+            keys[slot] = key;
+        }
+
+        values[slot] = value;
+        if (size++ >= maxFill) rehash(tableSize(size + 1));
+        return null;
+    }
+
+    private V replace(final int slot, final V value) {
+        final var previous = value(slot);
+        values[slot] = value;
+        return previous;
+    }
+
+    private V removeSlot(final int slot) {
+        final var previous = value(slot);
+        size--;
+        if (slot == mask + 1) {
+            containsZeroKey = false;
+            values[slot] = null;
+        } else {
+            shiftKeys(slot, null);
+        }
+        return previous;
+    }
+
+    /**
+     * Backward shift deletion, moves the following entries of the probe sequence into the freed slot.
+     *
+     * @param slot    The slot that was freed.
+     * @param wrapped Iterator being used to remove, receives the entries that wrapped around the table.
+     */
+    private void shiftKeys(int slot, final @Nullable EntryIterator wrapped) {
+        int last;
+        long current;
+        while (true) {
+            slot = ((last = slot) + 1) & mask;
+            while (true) {
+                if ((current = keys[slot]) == 0) {
+                    keys[last] = 0;
+                    values[last] = null;
+                    return;
+                }
+                final var home = mix(current) & mask;
+                if (last <= slot ? last >= home || home > slot : last >= home && home > slot) break;
+                slot = (slot + 1) & mask;
+            }
+            if (wrapped != null && slot < last) wrapped.addWrapped(current);
+            keys[last] = current;
+            values[last] = values[slot];
+        }
+    }
+
+    private void rehash(final int capacity) {
+        final var oldKeys = keys;
+        final var oldValues = values;
+        final var oldCapacity = mask + 1;
+        allocate(capacity);
+
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            final var key = oldKeys[slot];
+            if (key == 0) continue;
+            var probe = mix(key) & mask;
+            while (keys[probe] != 0) probe = (probe + 1) & mask;
+            keys[probe] = key;
+            values[probe] = oldValues[slot];
+        }
+        values[capacity] = oldValues[oldCapacity];
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new long[capacity + 1];
+        this.values = new Object[capacity + 1];
+        this.mask = capacity - 1;
+        this.maxFill = Math.min((int) Math.ceil(capacity * LOAD_FACTOR), capacity - 1);
+    }
+
+    private static int tableSize(final int expected) {
+        final var needed = (long) Math.ceil(Math.max(expected, 2) / LOAD_FACTOR);
+        if (needed > (1 << 30)) throw new IllegalStateException("Too many elements for the map: " + expected);
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private static int mix(final long key) {
+        var hash = key * 0x9E3779B97F4A7C15L;
+        hash ^= (hash >>> 32);
+        return (int) (hash ^ (hash >>> 16));
+    }
+
+    /**
+     * Iterates the table backwards so the backward shift deletion only moves entries into visited slots,
+     * the entries that wrap around the end of the table are remembered and returned last.
+     */
+    private final class EntryIterator implements Iterator<Entry<Long, V>> {
+
+        private int slot = mask + 1;
+        private int last = -1;
+        private int remaining = size;
+        private boolean mustReturnZeroKey = containsZeroKey;
+        private long[] wrapped;
+        private int wrappedSize;
+
+        @Override
+        public boolean hasNext() {
+            return remaining != 0;
+        }
+
+        @Override
+        public Entry<Long, V> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            remaining--;
+
+            if (mustReturnZeroKey) {
+                mustReturnZeroKey = false;
+                last = mask + 1;
+                return new SlotEntry(0, last);
+            }
+
+            while (true) {
+                if (--slot < 0) {
+                    final var key = wrapped[-slot - 1];
+                    last = Integer.MIN_VALUE;
+                    return new SlotEntry(key, find(key));
+                }
+                if (keys[slot] != 0) {
+                    last = slot;
+                    return new SlotEntry(keys[slot], slot);
+                }
+            }
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1) throw new IllegalStateException();
+
+            final var removedSlot = last == Integer.MIN_VALUE ? find(wrapped[-slot - 1]) : last;
+            final long key = removedSlot == mask + 1 ? 0 : keys[removedSlot];
+            final var previous = value(removedSlot);
+            if (last == Integer.MIN_VALUE) {
+                removeSlot(find(wrapped[-slot - 1]));
+            } else if (last == mask + 1) {
+                removeSlot(last);
+            } else {
+                size--;
+                shiftKeys(last, this);
+            }
+
+            last = -1;
+            if (observed()) emit(MapChange.remove(key, previous));
+            trigger();
+        }
+
+        private void addWrapped(final long key) {
+            if (wrapped == null) wrapped = new long[2];
+            else if (wrappedSize == wrapped.length) wrapped = Arrays.copyOf(wrapped, wrappedSize * 2);
+            wrapped[wrappedSize++] = key;
+        }
+    }
+
+    private final class SlotEntry implements Entry<Long, V> {
+
+        private final long key;
+        private final int slot;
+
+        private SlotEntry(final long key, final int slot) {
+            this.key = key;
+            this.slot = slot;
+        }
+
+        @Override
+        public Long getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value(slot);
+        }
+
+        @Override
+        public V setValue(final V value) {
+            final var previous = replace(slot, value);
+            if (observed()) emit(MapChange.replace(key, previous, value));
+            trigger();
+            return previous;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Entry)) return false;
+            final var that = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), that.getKey()) && Objects.equals(getValue(), that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    /**
+     * Boxed view used for the {@link Map} operations that have no primitive counterpart.
+     */
+    private final class View extends AbstractMap<Long, V> {
+
+        private final Set<Entry<Long, V>> entries = new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<Long, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+
+        @Override
+        public @NotNull Set<Entry<Long, V>> entrySet() {
+            return entries;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return Long2ObjectOpenHashMapState.this.containsKey(key);
+        }
+
+        @Override
+        public V get(final Object key) {
+            return Long2ObjectOpenHashMapState.this.get(key);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.LongListState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An {@link LongListState} implementation backed by a growable {@code long[]}.
+ * An update is triggered when the list elements change, same as {@link ListBackedListState}.
+ */
+public final class LongArrayListState extends AbstractArrayListState<Long> implements LongListState {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] elements;
+
+    public LongArrayListState() {
+        super(0);
+        this.elements = EMPTY;
+    }
+
+    public LongArrayListState(final long @NotNull ... elements) {
+        super(elements.length);
+        this.elements = elements.clone();
+    }
+
+    @Override
+    public long getLong(final int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public long setLong(final int index, final long element) {
+        Objects.checkIndex(index, size);
+        final var previous = elements[index];
+        elements[index] = element;
+        trigger();
+        return previous;
+    }
+
+    @Override
+    public void addLong(final long element) {
+        addLong(size, element);
+    }
+
+    @Override
+    public void addLong(final int index, final long element) {
+        Objects.checkIndex(index, size + 1);
+        openGap(index, 1);
+        elements[index] = element;
+        trigger();
+    }
+
+    @Override
+    public boolean addAllLongs(final long @NotNull ... elements) {
+        if (elements.length == 0) return false;
+        final var index = size;
+        openGap(index, elements.length);
+        System.arraycopy(elements, 0, this.elements, index, elements.length);
+        trigger();
+        return true;
+    }
+
+    @Override
+    public long removeLongAt(final int index) {
+        Objects.checkIndex(index, size);
+        final var removed = elements[index];
+        closeGap(index, 1);
+        trigger();
+        return removed;
+    }
+
+    @Override
+    public boolean removeLong(final long element) {
+        final var index = indexOfLong(element);
+        if (index < 0) return false;
+        closeGap(index, 1);
+        trigger();
+        return true;
+    }
+
+    @Override
+    public int indexOfLong(final long element) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == element) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOfLong(final long element) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[i] == element) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean containsLong(final long element) {
+        return indexOfLong(element) >= 0;
+    }
+
+    @Override
+    public long @NotNull [] toLongArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return o instanceof Long ? indexOfLong((Long) o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        return o instanceof Long ? lastIndexOfLong((Long) o) : -1;
+    }
+
+    @Override
+    @NotNull Long load(final int index) {
+        return elements[index];
+    }
+
+    @Override
+    void store(final int index, final @NotNull Long element) {
+        elements[index] = element;
+    }
+
+    @Override
+    @NotNull Object array() {
+        return elements;
+    }
+
+    @Override
+    int capacity() {
+        return elements.length;
+    }
+
+    @Override
+    void resize(final int capacity) {
+        elements = Arrays.copyOf(elements, capacity);
+    }
+}
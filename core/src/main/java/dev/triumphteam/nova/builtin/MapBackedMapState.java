@@ -24,89 +24,526 @@
 package dev.triumphteam.nova.builtin;
 
 import dev.triumphteam.nova.AbstractState;
+import dev.triumphteam.nova.ChangeListenerContainer;
+import dev.triumphteam.nova.MapChange;
+import dev.triumphteam.nova.MapChangeListener;
+import dev.triumphteam.nova.MapIndex;
 import dev.triumphteam.nova.MapState;
+import dev.triumphteam.nova.pool.Recyclable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * A {@link MapState} implementation backed by a {@link Map}.
  * An update is triggered when elements change.
+ * Change listeners receive each added, replaced and removed entry,
+ * the changes are only described when there are change listeners.
+ * Indexes created with {@link #index(String, Function)} are updated directly by the mutators.
+ * Removals and {@link Map.Entry#setValue(Object)} done through the {@link #keySet()}, {@link #values()}
+ * and {@link #entrySet()} views go through the state, so they are described and trigger as well.
  */
-public final class MapBackedMapState<K, V> extends AbstractState implements MapState<K, V> {
+public class MapBackedMapState<K, V> extends AbstractState implements MapState<K, V>, Recyclable {
 
-    private final Map<K, V> backing;
+    // Null for lazy states, which keep their own backing, and once released
+    private @Nullable Map<K, V> backing;
+    // Only flipped by the thread closing the owning holder, the same thread the pool hands storage to
+    private boolean released;
+    private volatile @Nullable ChangeListenerContainer<MapChangeListener<? super K, ? super V>, MapChange<K, V>> changeListeners;
+    private final Map<String, HashMapIndex<?, K, V>> indexes = new LinkedHashMap<>(0);
 
     public MapBackedMapState(final @NotNull Map<K, V> backing) {
         this.backing = backing;
     }
 
+    /**
+     * Used by {@link LazyMapBackedMapState}, which overrides {@link #backing()}.
+     */
+    MapBackedMapState() {
+    }
+
     @Override
     public @Nullable V put(final K key, final V value) {
-        final var val = backing.put(key, value);
+        final var val = tracked() ? trackedPut(key, value) : backing().put(key, value);
         trigger();
         return val;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public V remove(final Object key) {
+        final var backing = backing();
+        if (!tracked()) {
+            final var val = backing.remove(key);
+            trigger();
+            return val;
+        }
+
+        final var existed = backing.containsKey(key);
         final var val = backing.remove(key);
+        if (existed) removed((K) key, val);
         trigger();
         return val;
     }
 
+    /**
+     * {@inheritDoc}
+     * Change listeners receive a replacement for every entry, the state triggers once.
+     */
+    @Override
+    public void replaceAll(final @NotNull BiFunction<? super K, ? super V, ? extends V> function) {
+        final var backing = backing();
+        if (backing.isEmpty()) return;
+
+        final var tracked = tracked();
+        for (final var entry : backing.entrySet()) {
+            final var key = entry.getKey();
+            final var value = function.apply(key, entry.getValue());
+            final var previous = entry.setValue(value);
+            if (tracked) replaced(key, previous, value);
+        }
+        trigger();
+    }
+
     @Override
     public void putAll(final @NotNull Map<? extends K, ? extends V> m) {
-        backing.putAll(m);
+        if (tracked()) {
+            m.forEach(this::trackedPut);
+        } else {
+            backing().putAll(m);
+        }
         trigger();
     }
 
     @Override
     public void clear() {
-        backing.clear();
+        final var backing = backing();
+        if (observed() && !backing.isEmpty()) {
+            final var removed = new ArrayList<Map.Entry<K, V>>(backing.size());
+            for (final var entry : backing.entrySet()) {
+                removed.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+            }
+            backing.clear();
+            indexes.values().forEach(HashMapIndex::cleared);
+            for (final var entry : removed) {
+                emit(MapChange.remove(entry.getKey(), entry.getValue()));
+            }
+        } else {
+            backing.clear();
+            indexes.values().forEach(HashMapIndex::cleared);
+        }
         trigger();
     }
 
+    /**
+     * {@inheritDoc}
+     * The index is updated directly by the mutators of this map.
+     * The name identifies the index, calling this again with the same name returns the existing index
+     * and ignores the given key extractor, since lambdas written at different call sites are never equal.
+     * Use different names for indexes that extract different keys.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <I> @NotNull MapIndex<I, K> index(final @NotNull String name, final @NotNull Function<? super V, ? extends I> keyExtractor) {
+        final var existing = indexes.get(name);
+        if (existing != null) return (MapIndex<I, K>) existing;
+
+        final var index = new HashMapIndex<I, K, V>(name, keyExtractor);
+        index.rebuild(backing());
+        indexes.put(name, index);
+        return index;
+    }
+
+    @Override
+    public void addChangeListener(final @NotNull Object stateful, final @NotNull MapChangeListener<? super K, ? super V> listener) {
+        checkNotReleased();
+        var container = changeListeners;
+        if (container == null) {
+            synchronized (this) {
+                container = changeListeners;
+                if (container == null) {
+                    container = new ChangeListenerContainer<>(MapChangeListener::onChange);
+                    changeListeners = container;
+                }
+            }
+        }
+        container.addListener(stateful, listener);
+    }
+
+    @Override
+    public boolean removeChangeListener(final @NotNull Object stateful, final @NotNull MapChangeListener<? super K, ? super V> listener) {
+        final var container = changeListeners;
+        return container != null && container.removeListener(stateful, listener);
+    }
+
+    @Override
+    protected @Nullable ChangeListenerContainer<?, ?> changeListenerContainer() {
+        return changeListeners;
+    }
+
     @Override
     public int size() {
-        return backing.size();
+        return backing().size();
     }
 
     @Override
     public boolean isEmpty() {
-        return backing.isEmpty();
+        return backing().isEmpty();
     }
 
     @Override
     public boolean containsKey(final Object key) {
-        return backing.containsKey(key);
+        return backing().containsKey(key);
     }
 
     @Override
     public boolean containsValue(final Object value) {
-        return backing.containsValue(value);
+        return backing().containsValue(value);
     }
 
     @Override
     public V get(final Object key) {
-        return backing.get(key);
+        return backing().get(key);
     }
 
+    /**
+     * {@inheritDoc}
+     * Removing through the view or its iterator triggers the state.
+     */
     @Override
     public @NotNull Set<K> keySet() {
-        return backing.keySet();
+        return new KeySet();
     }
 
+    /**
+     * {@inheritDoc}
+     * Removing through the view or its iterator triggers the state.
+     */
     @Override
     public @NotNull Collection<V> values() {
-        return backing.values();
+        return new Values();
     }
 
+    /**
+     * {@inheritDoc}
+     * Removing through the view or its iterator and setting the value of an entry triggers the state.
+     */
     @Override
     public @NotNull Set<Entry<K, V>> entrySet() {
-        return backing.entrySet();
+        return new EntrySet();
+    }
+
+    private @Nullable V trackedPut(final K key, final V value) {
+        final var backing = backing();
+        final var existed = backing.containsKey(key);
+        final var previous = backing.put(key, value);
+        if (existed) {
+            replaced(key, previous, value);
+        } else {
+            for (final var index : indexes.values()) {
+                index.added(key, value);
+            }
+            if (observed()) emit(MapChange.add(key, value));
+        }
+        return previous;
+    }
+
+    private void replaced(final K key, final V previous, final V value) {
+        for (final var index : indexes.values()) {
+            index.replaced(key, previous, value);
+        }
+        if (observed()) emit(MapChange.replace(key, previous, value));
+    }
+
+    private void removed(final K key, final V value) {
+        for (final var index : indexes.values()) {
+            index.removed(key, value);
+        }
+        if (observed()) emit(MapChange.remove(key, value));
+    }
+
+    private boolean tracked() {
+        return !indexes.isEmpty() || observed();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The backing map is cleared, so only states over a backing map owned by the pool should be released.
+     */
+    @Override
+    public void release() {
+        if (released) return;
+        // A lazy backing that was never built has nothing to clear
+        final var backing = builtBacking();
+        if (backing != null) backing.clear();
+        markReleased();
+    }
+
+    @Override
+    public boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Releases the state and hands over its cleared backing map, which the state no longer uses,
+     * so a pool can reuse the storage under a new state.
+     *
+     * @return The cleared backing map.
+     */
+    public @NotNull Map<K, V> detach() {
+        final var backing = backing();
+        backing.clear();
+        markReleased();
+        return backing;
+    }
+
+    /**
+     * The backing map if it was built, without building it.
+     *
+     * @return The backing map or {@code null}.
+     */
+    @Nullable Map<K, V> builtBacking() {
+        return backing;
+    }
+
+    void markReleased() {
+        changeListeners = null;
+        indexes.clear();
+        clearListeners();
+        released = true;
+        this.backing = null;
+    }
+
+    void checkNotReleased() {
+        if (released) throw new IllegalStateException("The state was used after being returned to its pool.");
+    }
+
+    private boolean observed() {
+        final var container = changeListeners;
+        return container != null && !container.isEmpty();
+    }
+
+    private void emit(final @NotNull MapChange<K, V> change) {
+        final var container = changeListeners;
+        if (container == null) return;
+        container.emit(this, change);
+    }
+
+    /**
+     * The backing map, every read and mutation goes through here, a released state never touches the storage again.
+     *
+     * @return The backing map.
+     */
+    @NotNull Map<K, V> backing() {
+        checkNotReleased();
+        return Objects.requireNonNull(backing, "backing");
+    }
+
+    /**
+     * Iterates the backing entries, removals are described and trigger the state.
+     *
+     * @param <E> The type of the elements handed out, built from each backing entry.
+     */
+    private abstract class BackingIterator<E> implements Iterator<E> {
+
+        private final Iterator<Entry<K, V>> iterator = backing().entrySet().iterator();
+        private @Nullable Entry<K, V> last;
+
+        @Override
+        public boolean hasNext() {
+            checkNotReleased();
+            return iterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+            checkNotReleased();
+            final var entry = iterator.next();
+            last = entry;
+            return element(entry);
+        }
+
+        protected abstract E element(final @NotNull Entry<K, V> entry);
+
+        @Override
+        public void remove() {
+            checkNotReleased();
+            final var entry = last;
+            if (entry == null) throw new IllegalStateException();
+            final var key = entry.getKey();
+            final var value = entry.getValue();
+            iterator.remove();
+            last = null;
+            removed(key, value);
+            trigger();
+        }
+    }
+
+    private final class EntryIterator extends BackingIterator<Entry<K, V>> {
+
+        @Override
+        protected Entry<K, V> element(final @NotNull Entry<K, V> entry) {
+            return new StateEntry(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private final class KeyIterator extends BackingIterator<K> {
+
+        @Override
+        protected K element(final @NotNull Entry<K, V> entry) {
+            return entry.getKey();
+        }
+    }
+
+    private final class ValueIterator extends BackingIterator<V> {
+
+        @Override
+        protected V element(final @NotNull Entry<K, V> entry) {
+            return entry.getValue();
+        }
+    }
+
+    /**
+     * Entry handed out by the views, setting its value puts it in the state.
+     */
+    private final class StateEntry implements Entry<K, V> {
+
+        private final K key;
+        private V value;
+
+        private StateEntry(final K key, final V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(final V value) {
+            put(key, value);
+            final var previous = this.value;
+            this.value = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Entry)) return false;
+            final var that = (Entry<?, ?>) o;
+            return Objects.equals(key, that.getKey()) && Objects.equals(value, that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public @NotNull Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return MapBackedMapState.this.size();
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return backing().entrySet().contains(o);
+        }
+
+        @Override
+        public boolean remove(final Object o) {
+            if (!contains(o)) return false;
+            MapBackedMapState.this.remove(((Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            MapBackedMapState.this.clear();
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K> {
+
+        @Override
+        public @NotNull Iterator<K> iterator() {
+            return new KeyIterator();
+        }
+
+        @Override
+        public int size() {
+            return MapBackedMapState.this.size();
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(final Object o) {
+            if (!containsKey(o)) return false;
+            MapBackedMapState.this.remove(o);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            MapBackedMapState.this.clear();
+        }
+    }
+
+    private final class Values extends AbstractCollection<V> {
+
+        @Override
+        public @NotNull Iterator<V> iterator() {
+            return new ValueIterator();
+        }
+
+        @Override
+        public int size() {
+            return MapBackedMapState.this.size();
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return containsValue(o);
+        }
+
+        @Override
+        public void clear() {
+            MapBackedMapState.this.clear();
+        }
     }
 }
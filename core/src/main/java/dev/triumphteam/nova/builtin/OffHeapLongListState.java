@@ -0,0 +1,243 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.LongListState;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * An {@link LongListState} that keeps its elements outside the Java heap, either in direct memory
+ * or in a memory-mapped file so the data survives restarts.
+ * Bulk operations copy straight from and to the off-heap memory and trigger only once.
+ * <p>
+ * After {@link #close()} the list can no longer be used, the memory is released by the garbage collector
+ * once no buffer views of it remain, so views obtained before closing stay safe to read.
+ * Buffers returned by {@link #asLongBuffer()} or passed to {@link #write(int, int, Consumer)}
+ * no longer reflect the list after it is closed.
+ */
+public final class OffHeapLongListState extends AbstractOffHeapListState<Long> implements LongListState {
+
+    private static final int ELEMENT_BYTES = Long.BYTES;
+
+    private OffHeapLongListState(final @NotNull OffHeapStorage storage) {
+        super(storage, ELEMENT_BYTES);
+    }
+
+    /**
+     * Creates a new {@link OffHeapLongListState} in direct memory.
+     *
+     * @param initialCapacity The amount of elements to reserve memory for.
+     * @return A new {@link OffHeapLongListState}.
+     */
+    public static @NotNull OffHeapLongListState allocate(final int initialCapacity) {
+        return new OffHeapLongListState(OffHeapStorage.allocate(ELEMENT_BYTES, initialCapacity));
+    }
+
+    /**
+     * Creates a new {@link OffHeapLongListState} backed by the given file.
+     * If the file already holds a list, its elements are loaded, otherwise the file is created.
+     *
+     * @param path The file to map.
+     * @return A new {@link OffHeapLongListState}.
+     * @throws IOException If the file cannot be mapped or is not a list of {@code long} elements.
+     */
+    public static @NotNull OffHeapLongListState mapped(final @NotNull Path path) throws IOException {
+        return new OffHeapLongListState(OffHeapStorage.map(ELEMENT_BYTES, path));
+    }
+
+    /**
+     * A read-only view of the elements, sharing the off-heap memory.
+     * The view is no longer valid after the list grows or is closed.
+     *
+     * @return A read-only {@link LongBuffer} over the elements.
+     */
+    public @NotNull LongBuffer asLongBuffer() {
+        return region(0, storage.size()).asLongBuffer().asReadOnlyBuffer();
+    }
+
+    /**
+     * Copies a range of elements into the given array.
+     *
+     * @param index       The index of the first element to copy.
+     * @param destination The array to copy into.
+     * @param offset      The offset in the array.
+     * @param length      The amount of elements to copy.
+     */
+    public void getLongs(final int index, final long @NotNull [] destination, final int offset, final int length) {
+        Objects.checkFromIndexSize(index, length, storage.size());
+        storage.data().asLongBuffer().get(index, destination, offset, length);
+    }
+
+    /**
+     * Replaces a range of elements with the ones in the given array, triggering once.
+     *
+     * @param index  The index of the first element to replace.
+     * @param source The array to copy from.
+     * @param offset The offset in the array.
+     * @param length The amount of elements to copy.
+     */
+    public void setLongs(final int index, final long @NotNull [] source, final int offset, final int length) {
+        Objects.checkFromIndexSize(index, length, storage.size());
+        storage.data().asLongBuffer().put(index, source, offset, length);
+        trigger();
+    }
+
+    /**
+     * Appends the remaining elements of the buffer, triggering once.
+     *
+     * @param source The buffer to copy from, its position is advanced to its limit.
+     * @return Whether the list changed.
+     */
+    public boolean addAllLongs(final @NotNull LongBuffer source) {
+        final var added = source.remaining();
+        if (added == 0) return false;
+        final var size = storage.size();
+        openGap(size, added);
+        storage.data().asLongBuffer().position(size).put(source);
+        trigger();
+        return true;
+    }
+
+    /**
+     * Gives direct write access to a range of the list and triggers once the writer is done.
+     * The range may extend past the end of the list, in which case the list grows to fit it.
+     *
+     * @param index  The index of the first element of the range, at most the size of the list.
+     * @param length The amount of elements in the range.
+     * @param writer Writes the elements, the buffer covers exactly the range.
+     */
+    public void write(final int index, final int length, final @NotNull Consumer<@NotNull LongBuffer> writer) {
+        writer.accept(writable(index, length).asLongBuffer());
+        trigger();
+    }
+
+    @Override
+    public long getLong(final int index) {
+        Objects.checkIndex(index, storage.size());
+        return storage.data().getLong(index * ELEMENT_BYTES);
+    }
+
+    @Override
+    public long setLong(final int index, final long element) {
+        Objects.checkIndex(index, storage.size());
+        final var data = storage.data();
+        final var previous = data.getLong(index * ELEMENT_BYTES);
+        data.putLong(index * ELEMENT_BYTES, element);
+        trigger();
+        return previous;
+    }
+
+    @Override
+    public void addLong(final long element) {
+        addLong(storage.size(), element);
+    }
+
+    @Override
+    public void addLong(final int index, final long element) {
+        Objects.checkIndex(index, storage.size() + 1);
+        openGap(index, 1);
+        storage.data().putLong(index * ELEMENT_BYTES, element);
+        trigger();
+    }
+
+    @Override
+    public boolean addAllLongs(final long @NotNull ... elements) {
+        return addAllLongs(LongBuffer.wrap(elements));
+    }
+
+    @Override
+    public long removeLongAt(final int index) {
+        Objects.checkIndex(index, storage.size());
+        final var removed = storage.data().getLong(index * ELEMENT_BYTES);
+        closeGap(index, 1);
+        trigger();
+        return removed;
+    }
+
+    @Override
+    public boolean removeLong(final long element) {
+        final var index = indexOfLong(element);
+        if (index < 0) return false;
+        closeGap(index, 1);
+        trigger();
+        return true;
+    }
+
+    @Override
+    public int indexOfLong(final long element) {
+        final var data = storage.data();
+        final var size = storage.size();
+        for (int i = 0; i < size; i++) {
+            if (data.getLong(i * ELEMENT_BYTES) == element) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOfLong(final long element) {
+        final var data = storage.data();
+        for (int i = storage.size() - 1; i >= 0; i--) {
+            if (data.getLong(i * ELEMENT_BYTES) == element) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean containsLong(final long element) {
+        return indexOfLong(element) >= 0;
+    }
+
+    @Override
+    public long @NotNull [] toLongArray() {
+        final var result = new long[storage.size()];
+        storage.data().asLongBuffer().get(0, result);
+        return result;
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return o instanceof Long ? indexOfLong((Long) o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        return o instanceof Long ? lastIndexOfLong((Long) o) : -1;
+    }
+
+    @Override
+    @NotNull Long load(final int index) {
+        return storage.data().getLong(index * ELEMENT_BYTES);
+    }
+
+    @Override
+    void store(final int index, final @NotNull Long element) {
+        storage.data().putLong(index * ELEMENT_BYTES, element);
+    }
+}
@@ -0,0 +1,213 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Off-heap storage for fixed-width elements, used by the off-heap list states.
+ * The memory is either a direct {@link ByteBuffer} or a memory-mapped file.
+ * <p>
+ * Mapped files start with a small header holding the element width and the number of elements,
+ * so the data can be mapped again after a restart.
+ */
+final class OffHeapStorage implements AutoCloseable {
+
+    private static final int MAGIC = 0x4E4F5641; // "NOVA"
+    private static final int HEADER_BYTES = 16;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int elementBytes;
+    private final int headerBytes;
+    private final @Nullable FileChannel channel;
+
+    private @Nullable ByteBuffer region;
+    private ByteBuffer data;
+    private int capacity;
+    private int size;
+
+    private OffHeapStorage(final int elementBytes, final @Nullable FileChannel channel) {
+        this.elementBytes = elementBytes;
+        this.headerBytes = channel == null ? 0 : HEADER_BYTES;
+        this.channel = channel;
+    }
+
+    static @NotNull OffHeapStorage allocate(final int elementBytes, final int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("The initial capacity must be nonnegative.");
+        final var storage = new OffHeapStorage(elementBytes, null);
+        storage.remap(initialCapacity);
+        return storage;
+    }
+
+    static @NotNull OffHeapStorage map(final int elementBytes, final @NotNull Path path) throws IOException {
+        final var channel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+
+        try {
+            final var storage = new OffHeapStorage(elementBytes, channel);
+            final var fileSize = channel.size();
+            if (fileSize == 0) {
+                storage.remap(DEFAULT_CAPACITY);
+                storage.writeHeader();
+                return storage;
+            }
+
+            if (fileSize < HEADER_BYTES) throw new IOException("File '" + path + "' is not a valid off-heap list.");
+            storage.remap(checkedCapacity(elementBytes, (fileSize - HEADER_BYTES) / elementBytes));
+            final var header = storage.region();
+            if (header.getInt(0) != MAGIC || header.getInt(4) != elementBytes) {
+                storage.close();
+                throw new IOException("File '" + path + "' is not an off-heap list of " + elementBytes + " byte elements.");
+            }
+
+            final var size = header.getLong(8);
+            if (size < 0 || size > storage.capacity) {
+                storage.close();
+                throw new IOException("File '" + path + "' has a corrupted header.");
+            }
+            storage.size = (int) size;
+            return storage;
+        } catch (final IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * The data region, without the header, always in little endian.
+     * Byte offset of an element is {@code index * elementBytes}.
+     *
+     * @return The data buffer.
+     */
+    @NotNull ByteBuffer data() {
+        if (region == null) throw new IllegalStateException("The off-heap list has been closed.");
+        return data;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void size(final int size) {
+        this.size = size;
+        if (channel != null) region().putLong(8, size);
+    }
+
+    boolean isClosed() {
+        return region == null;
+    }
+
+    /**
+     * Makes sure the storage can hold at least the given number of elements.
+     *
+     * @param minCapacity The minimum amount of elements.
+     */
+    void ensureCapacity(final int minCapacity) {
+        if (minCapacity <= capacity) return;
+        final var grown = (long) capacity + (capacity >> 1);
+        remap(checkedCapacity(elementBytes, Math.max(Math.max(minCapacity, grown), DEFAULT_CAPACITY)));
+    }
+
+    /**
+     * Flushes the changes of a mapped file to the storage device, does nothing for direct memory.
+     */
+    void force() {
+        if (channel != null && region != null) ((MappedByteBuffer) region).force();
+    }
+
+    @Override
+    public void close() {
+        final var current = region;
+        if (current == null) return;
+        region = null;
+        data = null;
+
+        // The memory isn't freed explicitly, buffers handed out as views may still point to it,
+        // it's released by the garbage collector once the last of them is gone
+        if (channel == null) return;
+        try {
+            ((MappedByteBuffer) current).force();
+            channel.close();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private @NotNull ByteBuffer region() {
+        if (region == null) throw new IllegalStateException("The off-heap list has been closed.");
+        return region;
+    }
+
+    private void remap(final int newCapacity) {
+        final var bytes = headerBytes + (long) newCapacity * elementBytes;
+        final ByteBuffer newRegion;
+        if (channel == null) {
+            newRegion = ByteBuffer.allocateDirect((int) bytes);
+            if (data != null) newRegion.put(0, data, 0, size * elementBytes);
+        } else {
+            // Mapping past the end of the file extends it, the old mapping shares the same pages
+            force();
+            try {
+                newRegion = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            } catch (final IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        // Old regions are left to the GC, buffers handed out as views may still point to them
+        newRegion.order(ByteOrder.LITTLE_ENDIAN);
+        this.region = newRegion;
+        this.data = newRegion.slice(headerBytes, (int) bytes - headerBytes).order(ByteOrder.LITTLE_ENDIAN);
+        this.capacity = newCapacity;
+    }
+
+    private void writeHeader() {
+        final var header = region();
+        header.putInt(0, MAGIC);
+        header.putInt(4, elementBytes);
+        header.putLong(8, size);
+    }
+
+    private static int checkedCapacity(final int elementBytes, final long capacity) {
+        final var maxCapacity = (Integer.MAX_VALUE - HEADER_BYTES) / elementBytes;
+        if (capacity > maxCapacity) {
+            throw new IllegalStateException("Off-heap lists of " + elementBytes + " byte elements are limited to " + maxCapacity + " elements.");
+        }
+        return (int) capacity;
+    }
+}
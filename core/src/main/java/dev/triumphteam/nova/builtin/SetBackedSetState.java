@@ -0,0 +1,236 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.AbstractState;
+import dev.triumphteam.nova.ChangeListenerContainer;
+import dev.triumphteam.nova.SetChange;
+import dev.triumphteam.nova.SetChangeListener;
+import dev.triumphteam.nova.SetState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * A {@link SetState} implementation backed by a provided {@link Set} implementation.
+ * An update is triggered only when elements are actually added or removed.
+ * Change listeners receive the added and removed elements,
+ * the changes are only described when there are change listeners.
+ *
+ * @param <T> The type of the elements of the set.
+ */
+public final class SetBackedSetState<T> extends AbstractState implements SetState<T> {
+
+    private final Set<T> backing;
+    private volatile @Nullable ChangeListenerContainer<SetChangeListener<? super T>, SetChange<T>> changeListeners;
+
+    public SetBackedSetState(final @NotNull Set<T> backing) {
+        this.backing = backing;
+    }
+
+    @Override
+    public boolean add(final T t) {
+        if (!backing.add(t)) return false;
+        if (observed()) emit(SetChange.add(Collections.singletonList(t)));
+        trigger();
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(final Object o) {
+        if (!backing.remove(o)) return false;
+        // Only an element of the set could have been removed
+        if (observed()) emit(SetChange.remove(Collections.singletonList((T) o)));
+        trigger();
+        return true;
+    }
+
+    @Override
+    public boolean addAll(final @NotNull Collection<? extends T> c) {
+        if (!observed()) {
+            final var changed = backing.addAll(c);
+            if (changed) trigger();
+            return changed;
+        }
+
+        final var added = new ArrayList<T>();
+        for (final var element : c) {
+            if (backing.add(element)) added.add(element);
+        }
+        if (added.isEmpty()) return false;
+        emit(SetChange.add(added));
+        trigger();
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(final @NotNull Collection<?> c) {
+        return batchRemove(c, false);
+    }
+
+    @Override
+    public boolean retainAll(final @NotNull Collection<?> c) {
+        return batchRemove(c, true);
+    }
+
+    @Override
+    public void clear() {
+        if (backing.isEmpty()) return;
+        if (observed()) {
+            final var removed = new ArrayList<>(backing);
+            backing.clear();
+            emit(SetChange.remove(removed));
+        } else {
+            backing.clear();
+        }
+        trigger();
+    }
+
+    @Override
+    public void addChangeListener(final @NotNull Object stateful, final @NotNull SetChangeListener<? super T> listener) {
+        var container = changeListeners;
+        if (container == null) {
+            synchronized (this) {
+                container = changeListeners;
+                if (container == null) {
+                    container = new ChangeListenerContainer<>(SetChangeListener::onChange);
+                    changeListeners = container;
+                }
+            }
+        }
+        container.addListener(stateful, listener);
+    }
+
+    @Override
+    public boolean removeChangeListener(final @NotNull Object stateful, final @NotNull SetChangeListener<? super T> listener) {
+        final var container = changeListeners;
+        return container != null && container.removeListener(stateful, listener);
+    }
+
+    @Override
+    protected @Nullable ChangeListenerContainer<?, ?> changeListenerContainer() {
+        return changeListeners;
+    }
+
+    @Override
+    public int size() {
+        return backing.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return backing.isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return backing.contains(o);
+    }
+
+    @Override
+    public boolean containsAll(final @NotNull Collection<?> c) {
+        return backing.containsAll(c);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Removing through the iterator triggers the state.
+     */
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        final var iterator = backing.iterator();
+        return new Iterator<>() {
+            private T last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return last = iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                if (observed()) emit(SetChange.remove(Collections.singletonList(last)));
+                trigger();
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Object @NotNull [] toArray() {
+        return backing.toArray();
+    }
+
+    @Override
+    public <A> @NotNull A @NotNull [] toArray(final @NotNull A @NotNull [] a) {
+        return backing.toArray(a);
+    }
+
+    @Override
+    public String toString() {
+        return backing.toString();
+    }
+
+    private boolean batchRemove(final @NotNull Collection<?> c, final boolean retain) {
+        if (!observed()) {
+            final var changed = retain ? backing.retainAll(c) : backing.removeAll(c);
+            if (changed) trigger();
+            return changed;
+        }
+
+        final var removed = new ArrayList<T>();
+        final var iterator = backing.iterator();
+        while (iterator.hasNext()) {
+            final var element = iterator.next();
+            if (c.contains(element) == retain) continue;
+            iterator.remove();
+            removed.add(element);
+        }
+        if (removed.isEmpty()) return false;
+        emit(SetChange.remove(removed));
+        trigger();
+        return true;
+    }
+
+    private boolean observed() {
+        final var container = changeListeners;
+        return container != null && !container.isEmpty();
+    }
+
+    private void emit(final @NotNull SetChange<T> change) {
+        final var container = changeListeners;
+        if (container != null) container.emit(this, change);
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.AbstractState;
+import dev.triumphteam.nova.MutableState;
+import dev.triumphteam.nova.policy.StateMutationPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.SoftReference;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link MutableState} that only holds its value through a {@link SoftReference},
+ * meant for large values that can be rebuilt from their inputs, like rendered lore or layouts.
+ * When the garbage collector clears the value it's rebuilt by the recompute supplier on the next {@link #get()}.
+ * <p>
+ * Regenerating a collected value never triggers, the supplier is expected to rebuild the same value
+ * as long as its inputs didn't change, changes to the inputs must go through {@link #recompute()} instead.
+ * A value given to {@link #set(Object)} can't be rebuilt by the supplier, so it is held strongly
+ * until the next {@link #recompute()}.
+ *
+ * @param <T> The type of the value, never null.
+ */
+public final class SoftMutableState<T> extends AbstractState implements MutableState<T> {
+
+    private final Supplier<? extends T> recompute;
+    private final StateMutationPolicy<T> mutationPolicy;
+
+    private volatile SoftReference<T> reference;
+    // The value given to set, held until the supplier takes over again on recompute
+    private volatile @Nullable T explicit;
+    private long regenerations;
+
+    public SoftMutableState(
+        final @NotNull Supplier<? extends T> recompute,
+        final @NotNull StateMutationPolicy<T> mutationPolicy
+    ) {
+        this.recompute = recompute;
+        this.mutationPolicy = mutationPolicy;
+        store(compute());
+    }
+
+    @Override
+    public T get() {
+        final var explicit = this.explicit;
+        if (explicit != null) return explicit;
+        final var value = reference.get();
+        if (value != null) return value;
+        return regenerate();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The value is held strongly until the next {@link #recompute()}.
+     * A collected value isn't rebuilt to be compared with, the state is triggered instead.
+     */
+    @Override
+    public void set(final T value) {
+        Objects.requireNonNull(value, "Soft states can't hold null values");
+        final var current = current();
+        if (current != null && !mutationPolicy.shouldMutate(current, value)) return;
+
+        explicit = value;
+        store(value);
+        trigger();
+    }
+
+    @Override
+    public T update(final @NotNull Function<T, T> update) {
+        final var newValue = update.apply(get());
+        set(newValue);
+        return get();
+    }
+
+    /**
+     * Rebuilds the value now, used when the inputs of the supplier changed.
+     * A value given to {@link #set(Object)} is replaced and only softly held from now on.
+     * Triggers if the {@link StateMutationPolicy} considers the new value different from the current one,
+     * or if the current value was already collected, since it can no longer be compared.
+     */
+    public void recompute() {
+        final var value = compute();
+        final var current = current();
+        explicit = null;
+        if (current != null && !mutationPolicy.shouldMutate(current, value)) return;
+
+        store(value);
+        trigger();
+    }
+
+    /**
+     * Drops the value as if it was collected, the next {@link #get()} rebuilds it.
+     * A value given to {@link #set(Object)} is kept, the supplier can't rebuild it.
+     */
+    public void evict() {
+        reference.clear();
+    }
+
+    /**
+     * Whether the value is currently held, a collected or evicted value is only rebuilt when next accessed.
+     *
+     * @return Whether the value is still reachable.
+     */
+    public boolean isValuePresent() {
+        return current() != null;
+    }
+
+    /**
+     * The amount of times the value had to be rebuilt after being collected or evicted.
+     *
+     * @return The number of regenerations.
+     */
+    public long getRegenerations() {
+        return regenerations;
+    }
+
+    @Override
+    public @NotNull StateMutationPolicy<T> stateMutationPolicy() {
+        return mutationPolicy;
+    }
+
+    private @Nullable T current() {
+        final var explicit = this.explicit;
+        return explicit != null ? explicit : reference.get();
+    }
+
+    private synchronized T regenerate() {
+        // Another thread might have rebuilt it or set one while waiting for the lock
+        final var present = current();
+        if (present != null) return present;
+
+        // Same inputs, same value, so listeners aren't notified
+        final var value = compute();
+        store(value);
+        regenerations++;
+        return value;
+    }
+
+    private @NotNull T compute() {
+        return Objects.requireNonNull(recompute.get(), "The recompute supplier of a soft state returned null");
+    }
+
+    private void store(final @NotNull T value) {
+        this.reference = new SoftReference<>(value);
+    }
+
+    @Override
+    public String toString() {
+        return "SoftMutableState{" + "value=" + current() + ",mutationPolicy=" + mutationPolicy + "}";
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.ListChange;
+import dev.triumphteam.nova.ListState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A live view of the elements of a {@link ListState} sorted by a comparator.
+ * Added elements are placed with a binary search, after the elements that compare equal to them,
+ * and moves in the source don't affect the view at all.
+ * If an element cannot be found because its sort key changed in place, the view is computed again.
+ */
+public final class SortedListState<T> extends AbstractDerivedListState<T> {
+
+    private final Comparator<? super T> comparator;
+    private final List<T> elements = new ArrayList<>();
+
+    public SortedListState(final @NotNull ListState<T> source, final @NotNull Comparator<? super T> comparator) {
+        super(source);
+        this.comparator = comparator;
+        recompute();
+        listen();
+    }
+
+    @Override
+    @NotNull List<T> elements() {
+        return elements;
+    }
+
+    @Override
+    void recompute() {
+        elements.clear();
+        elements.addAll(source());
+        elements.sort(comparator);
+    }
+
+    @Override
+    boolean apply(final @NotNull ListChange<? extends T> change) {
+        switch (change.type()) {
+            case INSERT: {
+                for (final T element : change.elements()) {
+                    final var at = upperBound(element);
+                    elements.add(at, element);
+                    emit(ListChange.insert(at, Collections.singletonList(element)));
+                }
+                return !change.elements().isEmpty();
+            }
+            case REMOVE: {
+                var changed = false;
+                var stale = false;
+                for (final T element : change.removed()) {
+                    final var at = find(element);
+                    if (at < 0) {
+                        stale = true;
+                        continue;
+                    }
+                    elements.remove(at);
+                    emit(ListChange.remove(at, Collections.singletonList(element)));
+                    changed = true;
+                }
+                if (!stale) return changed;
+                if (changed) trigger();
+                refresh();
+                return false;
+            }
+            case REPLACE: {
+                final T previous = change.removed().get(0);
+                final T element = change.elements().get(0);
+                final var from = find(previous);
+                if (from < 0) {
+                    refresh();
+                    return false;
+                }
+                elements.remove(from);
+                final var to = upperBound(element);
+                elements.add(to, element);
+                if (from == to) {
+                    if (Objects.equals(previous, element)) return false;
+                    emit(ListChange.replace(from, previous, element));
+                    return true;
+                }
+                emit(ListChange.remove(from, Collections.singletonList(previous)));
+                emit(ListChange.insert(to, Collections.singletonList(element)));
+                return true;
+            }
+            case MOVE:
+                // The order of the source is irrelevant
+                return false;
+            default:
+                throw new IllegalArgumentException("Unexpected change " + change + ".");
+        }
+    }
+
+    /**
+     * The position after the last element that compares equal or lower.
+     */
+    private int upperBound(final T element) {
+        var low = 0;
+        var high = elements.size();
+        while (low < high) {
+            final var middle = (low + high) >>> 1;
+            if (comparator.compare(elements.get(middle), element) <= 0) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    /**
+     * The position of the element, looking only through the elements that compare equal to it.
+     */
+    private int find(final T element) {
+        var low = 0;
+        var high = elements.size();
+        while (low < high) {
+            final var middle = (low + high) >>> 1;
+            if (comparator.compare(elements.get(middle), element) < 0) low = middle + 1;
+            else high = middle;
+        }
+
+        var equal = -1;
+        for (int i = low; i < elements.size() && comparator.compare(elements.get(i), element) == 0; i++) {
+            final var candidate = elements.get(i);
+            if (candidate == element) return i;
+            if (equal < 0 && Objects.equals(candidate, element)) equal = i;
+        }
+        return equal;
+    }
+}
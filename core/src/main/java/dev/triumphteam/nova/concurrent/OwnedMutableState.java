@@ -0,0 +1,104 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.concurrent;
+
+import dev.triumphteam.nova.AbstractMutableState;
+import dev.triumphteam.nova.MutableState;
+import dev.triumphteam.nova.policy.StateMutationPolicy;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+/**
+ * A {@link MutableState} bound to a {@link StateOwner}.
+ * Writes from the owner thread are applied directly, writes from other threads are queued in the owner's
+ * mailbox and applied on its next drain, triggering once per drain no matter how many writes were queued.
+ * <p>
+ * The value is meant to be read from the owner thread, other threads may observe a stale value.
+ *
+ * @param <T> The type of the value.
+ */
+public final class OwnedMutableState<T> extends AbstractMutableState<T> {
+
+    private final StateOwner owner;
+    // Only touched by the owner thread
+    private boolean triggerDeferred;
+
+    public OwnedMutableState(
+        final T value,
+        final @NotNull StateMutationPolicy<T> mutationPolicy,
+        final @NotNull StateOwner owner
+    ) {
+        super(value, mutationPolicy);
+        this.owner = owner;
+    }
+
+    /**
+     * {@inheritDoc}
+     * When called outside the owner thread the value is applied on the next drain.
+     */
+    @Override
+    public void set(final T value) {
+        if (owner.isOwnerThread()) {
+            super.set(value);
+            return;
+        }
+
+        owner.execute(() -> applyQueued(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     * When called outside the owner thread the update is applied on the next drain,
+     * and the returned value is the current value instead of the updated one.
+     */
+    @Override
+    public T update(final @NotNull Function<T, T> update) {
+        if (owner.isOwnerThread()) return super.update(update);
+
+        owner.execute(() -> applyQueued(update.apply(get())));
+        return get();
+    }
+
+    /**
+     * The owner of this state.
+     *
+     * @return The {@link StateOwner}.
+     */
+    public @NotNull StateOwner owner() {
+        return owner;
+    }
+
+    @Override
+    public void trigger() {
+        triggerDeferred = false;
+        super.trigger();
+    }
+
+    private void applyQueued(final T value) {
+        if (!mutate(value) || triggerDeferred) return;
+        triggerDeferred = true;
+        owner.deferTrigger(this);
+    }
+}
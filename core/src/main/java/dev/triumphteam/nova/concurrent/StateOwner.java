@@ -0,0 +1,182 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.concurrent;
+
+import dev.triumphteam.nova.State;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The owner of a group of states, usually the thread of a region.
+ * Writes done from the owner thread are applied directly, writes from any other thread are queued into
+ * a lock-free mailbox and applied as one batch the next time the mailbox is drained on the owner thread.
+ * This way the owner can read its states without any locking.
+ * <p>
+ * A drain is scheduled on the owner {@link Executor} whenever the mailbox receives a write,
+ * {@link #drain()} can also be called manually, for example once per tick.
+ *
+ * @see OwnedMutableState
+ */
+public final class StateOwner {
+
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    // Only touched by the owner thread
+    private final List<State> pendingTriggers = new ArrayList<>();
+
+    private final Executor executor;
+    private final BooleanSupplier ownerThread;
+
+    private StateOwner(final @NotNull Executor executor, final @NotNull BooleanSupplier ownerThread) {
+        this.executor = executor;
+        this.ownerThread = ownerThread;
+    }
+
+    /**
+     * Creates a new {@link StateOwner}.
+     *
+     * @param executor    The executor that runs tasks on the owner thread.
+     * @param ownerThread Checks whether the current thread is the owner thread.
+     * @return A new {@link StateOwner}.
+     */
+    public static @NotNull StateOwner of(final @NotNull Executor executor, final @NotNull BooleanSupplier ownerThread) {
+        return new StateOwner(executor, ownerThread);
+    }
+
+    /**
+     * Creates a new {@link StateOwner} owned by the given thread.
+     *
+     * @param executor    The executor that runs tasks on the owner thread.
+     * @param ownerThread The owner thread.
+     * @return A new {@link StateOwner}.
+     */
+    public static @NotNull StateOwner of(final @NotNull Executor executor, final @NotNull Thread ownerThread) {
+        return new StateOwner(executor, () -> Thread.currentThread() == ownerThread);
+    }
+
+    /**
+     * Creates a new {@link StateOwner} owned by the current thread.
+     *
+     * @param executor The executor that runs tasks on the current thread.
+     * @return A new {@link StateOwner}.
+     */
+    public static @NotNull StateOwner ofCurrentThread(final @NotNull Executor executor) {
+        return of(executor, Thread.currentThread());
+    }
+
+    /**
+     * Checks if the current thread is the owner thread.
+     *
+     * @return Whether the current thread is the owner thread.
+     */
+    public boolean isOwnerThread() {
+        return ownerThread.getAsBoolean();
+    }
+
+    /**
+     * Runs the write directly if called from the owner thread, otherwise queues it for the next drain.
+     *
+     * @param write The write to run on the owner thread.
+     */
+    public void execute(final @NotNull Runnable write) {
+        if (isOwnerThread()) {
+            write.run();
+            return;
+        }
+
+        mailbox.add(write);
+        scheduleDrain();
+    }
+
+    /**
+     * Applies all the queued writes, then triggers each of the changed states once.
+     * Must be called from the owner thread.
+     *
+     * @return The amount of writes applied.
+     */
+    public int drain() {
+        if (!isOwnerThread()) throw new IllegalStateException("The mailbox can only be drained from the owner thread.");
+
+        var applied = 0;
+        try {
+            Runnable write;
+            while ((write = mailbox.poll()) != null) {
+                write.run();
+                applied++;
+            }
+        } finally {
+            triggerPending();
+        }
+        return applied;
+    }
+
+    /**
+     * The amount of writes waiting for the next drain.
+     *
+     * @return The size of the mailbox.
+     */
+    public int pendingWrites() {
+        return mailbox.size();
+    }
+
+    /**
+     * Defers the trigger of the state to the end of the current drain.
+     * Must be called from the owner thread, while draining.
+     *
+     * @param state The state that changed.
+     */
+    void deferTrigger(final @NotNull State state) {
+        pendingTriggers.add(state);
+    }
+
+    private void triggerPending() {
+        // Indexed loop, listeners may cause more states to be added
+        for (int i = 0; i < pendingTriggers.size(); i++) {
+            pendingTriggers.get(i).trigger();
+        }
+        pendingTriggers.clear();
+    }
+
+    private void scheduleDrain() {
+        if (!drainScheduled.compareAndSet(false, true)) return;
+        executor.execute(this::scheduledDrain);
+    }
+
+    private void scheduledDrain() {
+        drainScheduled.set(false);
+        try {
+            drain();
+        } finally {
+            // A failed write leaves the rest of the batch behind
+            if (!mailbox.isEmpty()) scheduleDrain();
+        }
+    }
+}
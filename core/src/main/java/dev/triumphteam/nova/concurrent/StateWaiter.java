@@ -0,0 +1,103 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.concurrent;
+
+import dev.triumphteam.nova.MutableState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+/**
+ * A {@link CompletableFuture} completed by a change of a {@link MutableState}.
+ * The waiter is registered as a listener of the state, using itself as the stateful object,
+ * and removes itself as soon as it is done, be it by completion, timeout, cancellation or failure.
+ * <p>
+ * The predicate runs on the thread that triggers the state.
+ *
+ * @param <T> The type of the value of the state.
+ * @see MutableState#nextChange()
+ * @see MutableState#when(Predicate)
+ */
+public final class StateWaiter<T> extends CompletableFuture<T> implements Runnable {
+
+    private final MutableState<T> state;
+    private final @Nullable Predicate<? super T> predicate;
+
+    private StateWaiter(final @NotNull MutableState<T> state, final @Nullable Predicate<? super T> predicate) {
+        this.state = state;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Creates a future completed with the value of the state the next time it is triggered.
+     *
+     * @param state The state to wait for.
+     * @param <T>   The type of the value of the state.
+     * @return A new {@link CompletableFuture}.
+     */
+    public static <T> @NotNull CompletableFuture<T> nextChange(final @NotNull MutableState<T> state) {
+        return register(new StateWaiter<>(state, null));
+    }
+
+    /**
+     * Creates a future completed with the first value of the state that matches the predicate.
+     * If the current value already matches, the future is returned completed.
+     *
+     * @param state     The state to wait for.
+     * @param predicate The condition the value must match.
+     * @param <T>       The type of the value of the state.
+     * @return A new {@link CompletableFuture}.
+     */
+    public static <T> @NotNull CompletableFuture<T> when(
+        final @NotNull MutableState<T> state,
+        final @NotNull Predicate<? super T> predicate
+    ) {
+        final var waiter = register(new StateWaiter<>(state, predicate));
+        // Checked after registering so a change in between is never missed
+        waiter.run();
+        return waiter;
+    }
+
+    private static <T> @NotNull StateWaiter<T> register(final @NotNull StateWaiter<T> waiter) {
+        waiter.state.addListener(waiter, waiter);
+        waiter.whenComplete((ignored, throwable) -> waiter.state.removeListener(waiter, waiter));
+        return waiter;
+    }
+
+    @Override
+    public void run() {
+        if (isDone()) return;
+
+        final var value = state.get();
+        try {
+            if (predicate != null && !predicate.test(value)) return;
+        } catch (final Throwable throwable) {
+            completeExceptionally(throwable);
+            return;
+        }
+        complete(value);
+    }
+}
@@ -0,0 +1,422 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.diff;
+
+import dev.triumphteam.nova.ListChange;
+import dev.triumphteam.nova.ListState;
+import dev.triumphteam.nova.StateDispatcher;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Computes the changes needed to turn a list into another one,
+ * so replacing the contents of a {@link ListState} only notifies what actually changed.
+ * <p>
+ * Without keys, elements are compared with {@link Objects#equals(Object, Object)} and the result is a minimal
+ * script of insertions and removals (Myers' algorithm), with adjacent removal and insertion paired into replacements.
+ * With keys, elements are matched by identity key, so reordered elements are moved instead of removed and added,
+ * keeping the elements in their longest increasing subsequence in place, and elements with the same key
+ * but different values are replaced.
+ * <p>
+ * The changes are relative to the list as it is after the previous changes, same as {@link ListChange}.
+ */
+public final class ListDiff {
+
+    private ListDiff() {}
+
+    /**
+     * Computes the insertions, removals and replacements that turn a list into the other.
+     *
+     * @param from The current list.
+     * @param to   The new list.
+     * @param <T>  The type of the elements.
+     * @return The changes, in order.
+     */
+    public static <T> @NotNull List<ListChange<T>> diff(final @NotNull List<? extends T> from, final @NotNull List<? extends T> to) {
+        final var changes = new ArrayList<ListChange<T>>();
+
+        // Common prefix and suffix are skipped, most updates only touch a small part of the list
+        var start = 0;
+        final var limit = Math.min(from.size(), to.size());
+        while (start < limit && Objects.equals(from.get(start), to.get(start))) start++;
+        var fromEnd = from.size();
+        var toEnd = to.size();
+        while (fromEnd > start && toEnd > start && Objects.equals(from.get(fromEnd - 1), to.get(toEnd - 1))) {
+            fromEnd--;
+            toEnd--;
+        }
+
+        final var a = from.subList(start, fromEnd);
+        final var b = to.subList(start, toEnd);
+        if (a.isEmpty() && b.isEmpty()) return changes;
+        if (a.isEmpty()) {
+            changes.add(ListChange.insert(start, b));
+            return changes;
+        }
+        if (b.isEmpty()) {
+            changes.add(ListChange.remove(start, a));
+            return changes;
+        }
+
+        final var edits = shortestEdit(a, b);
+        collect(a, b, edits, start, changes);
+        return changes;
+    }
+
+    /**
+     * Computes the insertions, removals, moves and replacements that turn a list into the other,
+     * matching elements by key.
+     *
+     * @param from The current list.
+     * @param to   The new list.
+     * @param key  Extracts the identity of an element, keys must be unique within each list.
+     * @param <T>  The type of the elements.
+     * @param <K>  The type of the keys.
+     * @return The changes, in order.
+     * @throws IllegalArgumentException If a list has duplicate keys.
+     */
+    public static <T, K> @NotNull List<ListChange<T>> diff(
+        final @NotNull List<? extends T> from,
+        final @NotNull List<? extends T> to,
+        final @NotNull Function<? super T, ? extends K> key
+    ) {
+        final var changes = new ArrayList<ListChange<T>>();
+
+        final var targetIndexes = new HashMap<K, Integer>(to.size() * 2);
+        for (int i = 0; i < to.size(); i++) {
+            final var elementKey = key.apply(to.get(i));
+            if (targetIndexes.put(elementKey, i) != null) {
+                throw new IllegalArgumentException("Duplicate key '" + elementKey + "' in the new list.");
+            }
+        }
+
+        final var current = new ArrayList<T>(from);
+        final var currentKeys = new ArrayList<K>(from.size());
+        final var currentKeySet = new HashSet<K>(from.size() * 2);
+        for (final var element : from) {
+            final var elementKey = key.apply(element);
+            if (!currentKeySet.add(elementKey)) {
+                throw new IllegalArgumentException("Duplicate key '" + elementKey + "' in the current list.");
+            }
+            currentKeys.add(elementKey);
+        }
+
+        removeMissing(current, currentKeys, targetIndexes, changes);
+
+        final var stable = stableTargets(currentKeys, targetIndexes, to.size());
+
+        // Places the new list from the end, each element goes right before the one placed after it
+        final var pending = new ArrayDeque<T>();
+        var anchor = current.size();
+        for (int i = to.size() - 1; i >= 0; i--) {
+            final T element = to.get(i);
+            final K elementKey = key.apply(element);
+
+            if (!currentKeySet.contains(elementKey)) {
+                current.add(anchor, element);
+                currentKeys.add(anchor, elementKey);
+                pending.addFirst(element);
+                continue;
+            }
+
+            flushInsert(anchor, pending, changes);
+
+            if (stable[i]) {
+                // Stable elements never move, everything between it and the anchor is placed later
+                var index = anchor - 1;
+                while (!Objects.equals(currentKeys.get(index), elementKey)) index--;
+                anchor = index;
+                continue;
+            }
+
+            final var index = currentKeys.indexOf(elementKey);
+            if (index < anchor) anchor--;
+            if (index == anchor) continue;
+
+            final var moved = current.remove(index);
+            currentKeys.remove(index);
+            current.add(anchor, moved);
+            currentKeys.add(anchor, elementKey);
+            changes.add(ListChange.move(index, anchor, moved));
+        }
+        flushInsert(anchor, pending, changes);
+
+        for (int i = 0; i < to.size(); i++) {
+            final var previous = current.get(i);
+            final T element = to.get(i);
+            if (!Objects.equals(previous, element)) changes.add(ListChange.replace(i, previous, element));
+        }
+        return changes;
+    }
+
+    /**
+     * Replaces the contents of the list state with the new list, applying only the changes between them.
+     * Change listeners receive each change and the state is triggered once.
+     *
+     * @param state The list state to update.
+     * @param to    The new contents.
+     * @param <T>   The type of the elements.
+     */
+    public static <T> void apply(final @NotNull ListState<T> state, final @NotNull List<? extends T> to) {
+        applyChanges(state, diff(new ArrayList<>(state), to));
+    }
+
+    /**
+     * Replaces the contents of the list state with the new list, applying only the changes between them,
+     * matching elements by key.
+     * Change listeners receive each change and the state is triggered once.
+     *
+     * @param state The list state to update.
+     * @param to    The new contents.
+     * @param key   Extracts the identity of an element, keys must be unique within each list.
+     * @param <T>   The type of the elements.
+     * @param <K>   The type of the keys.
+     * @throws IllegalArgumentException If a list has duplicate keys.
+     */
+    public static <T, K> void apply(
+        final @NotNull ListState<T> state,
+        final @NotNull List<? extends T> to,
+        final @NotNull Function<? super T, ? extends K> key
+    ) {
+        applyChanges(state, diff(new ArrayList<>(state), to, key));
+    }
+
+    /**
+     * Applies the changes to the list state, triggering it once.
+     *
+     * @param state   The list state to update.
+     * @param changes The changes to apply, in order.
+     * @param <T>     The type of the elements.
+     */
+    public static <T> void applyChanges(final @NotNull ListState<T> state, final @NotNull List<? extends ListChange<? extends T>> changes) {
+        if (changes.isEmpty()) return;
+        StateDispatcher.batch(() -> {
+            for (final var change : changes) {
+                applyChange(state, change);
+            }
+        });
+    }
+
+    private static <T> void applyChange(final @NotNull ListState<T> state, final @NotNull ListChange<? extends T> change) {
+        switch (change.type()) {
+            case INSERT:
+                state.addAll(change.index(), change.elements());
+                break;
+            case REMOVE:
+                state.removeRange(change.index(), change.index() + change.removed().size());
+                break;
+            case REPLACE:
+                state.set(change.index(), change.elements().get(0));
+                break;
+            case MOVE:
+                state.move(change.index(), change.toIndex());
+                break;
+            default:
+                throw new IllegalArgumentException("A reset cannot be applied.");
+        }
+    }
+
+    /**
+     * Finds the shortest edit script with Myers' algorithm.
+     * Returns the edits in order, positive values are insertions of {@code b[value - 1]},
+     * negative values are removals of {@code a[-value - 1]}.
+     */
+    private static int @NotNull [] shortestEdit(final @NotNull List<?> a, final @NotNull List<?> b) {
+        final var n = a.size();
+        final var m = b.size();
+        final var max = n + m;
+        final var offset = max + 1;
+        final var v = new int[2 * max + 3];
+        final var trace = new ArrayList<int[]>();
+
+        int distance = -1;
+        search:
+        for (int d = 0; d <= max; d++) {
+            trace.add(Arrays.copyOfRange(v, offset - d - 1, offset + d + 2));
+            for (int k = -d; k <= d; k += 2) {
+                var x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) ? v[offset + k + 1] : v[offset + k - 1] + 1;
+                var y = x - k;
+                while (x < n && y < m && Objects.equals(a.get(x), b.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    distance = d;
+                    break search;
+                }
+            }
+        }
+
+        final var edits = new int[distance];
+        var x = n;
+        var y = m;
+        for (int d = distance; d > 0; d--) {
+            // The snapshot for d holds the values of d - 1, from k = -d - 1
+            final var previous = trace.get(d);
+            final var k = x - y;
+            final var down = k == -d || (k != d && previous[k - 1 + d + 1] < previous[k + 1 + d + 1]);
+            final var previousK = down ? k + 1 : k - 1;
+            final var previousX = previous[previousK + d + 1];
+            final var previousY = previousX - previousK;
+
+            x = previousX;
+            y = previousY;
+            edits[d - 1] = down ? y + 1 : -(x + 1);
+        }
+        return edits;
+    }
+
+    /**
+     * Groups the edits into hunks of consecutive removals and insertions with nothing kept in between,
+     * the overlapping part of a hunk becomes replacements.
+     */
+    private static <T> void collect(
+        final @NotNull List<? extends T> a,
+        final @NotNull List<? extends T> b,
+        final int @NotNull [] edits,
+        final int start,
+        final @NotNull List<ListChange<T>> changes
+    ) {
+        var removals = 0;
+        var insertions = 0;
+        var i = 0;
+        while (i < edits.length) {
+            // Everything kept so far is matched, so x - removals == y - insertions
+            final int x;
+            final int y;
+            if (edits[i] < 0) {
+                x = -edits[i] - 1;
+                y = x - removals + insertions;
+            } else {
+                y = edits[i] - 1;
+                x = y - insertions + removals;
+            }
+
+            var removed = 0;
+            var inserted = 0;
+            while (i < edits.length) {
+                final var edit = edits[i];
+                if (edit == -(x + removed + 1)) removed++;
+                else if (edit == y + inserted + 1) inserted++;
+                else break;
+                i++;
+            }
+            removals += removed;
+            insertions += inserted;
+
+            final var position = start + y;
+            final var replaced = Math.min(removed, inserted);
+            for (int j = 0; j < replaced; j++) {
+                changes.add(ListChange.replace(position + j, a.get(x + j), b.get(y + j)));
+            }
+            if (removed > replaced) {
+                changes.add(ListChange.remove(position + replaced, a.subList(x + replaced, x + removed)));
+            }
+            if (inserted > replaced) {
+                changes.add(ListChange.insert(position + replaced, b.subList(y + replaced, y + inserted)));
+            }
+        }
+    }
+
+    /**
+     * Removes the elements whose key is not in the new list, from the end so the reported indexes stay valid.
+     */
+    private static <T, K> void removeMissing(
+        final @NotNull List<T> current,
+        final @NotNull List<K> currentKeys,
+        final @NotNull Map<K, Integer> targetIndexes,
+        final @NotNull List<ListChange<T>> changes
+    ) {
+        var end = current.size();
+        while (end > 0) {
+            if (targetIndexes.containsKey(currentKeys.get(end - 1))) {
+                end--;
+                continue;
+            }
+            var start = end - 1;
+            while (start > 0 && !targetIndexes.containsKey(currentKeys.get(start - 1))) start--;
+            final var removed = current.subList(start, end);
+            changes.add(ListChange.remove(start, removed));
+            removed.clear();
+            currentKeys.subList(start, end).clear();
+            end = start;
+        }
+    }
+
+    /**
+     * Marks the target indexes of the elements that keep their relative order, the longest increasing subsequence.
+     */
+    private static <K> boolean @NotNull [] stableTargets(
+        final @NotNull List<K> currentKeys,
+        final @NotNull Map<K, Integer> targetIndexes,
+        final int targetSize
+    ) {
+        final var size = currentKeys.size();
+        final var positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = targetIndexes.get(currentKeys.get(i));
+        }
+
+        // tails[l] is the index of the smallest tail of an increasing subsequence of length l + 1
+        final var tails = new int[size];
+        final var previous = new int[size];
+        var length = 0;
+        for (int i = 0; i < size; i++) {
+            var low = 0;
+            var high = length;
+            while (low < high) {
+                final var middle = (low + high) >>> 1;
+                if (positions[tails[middle]] < positions[i]) low = middle + 1;
+                else high = middle;
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) length++;
+        }
+
+        final var stable = new boolean[targetSize];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            stable[positions[i]] = true;
+        }
+        return stable;
+    }
+
+    private static <T> void flushInsert(final int index, final @NotNull Deque<T> pending, final @NotNull List<ListChange<T>> changes) {
+        if (pending.isEmpty()) return;
+        changes.add(ListChange.insert(index, pending));
+        pending.clear();
+    }
+}
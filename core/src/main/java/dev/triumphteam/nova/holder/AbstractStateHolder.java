@@ -23,21 +23,35 @@
  */
 package dev.triumphteam.nova.holder;
 
+import dev.triumphteam.nova.Int2ObjectMapState;
+import dev.triumphteam.nova.IntListState;
+import dev.triumphteam.nova.IntSetState;
+import dev.triumphteam.nova.KeyedListState;
 import dev.triumphteam.nova.ListState;
+import dev.triumphteam.nova.Long2ObjectMapState;
+import dev.triumphteam.nova.LongListState;
 import dev.triumphteam.nova.MapState;
 import dev.triumphteam.nova.MutableState;
+import dev.triumphteam.nova.SetState;
 import dev.triumphteam.nova.State;
 import dev.triumphteam.nova.builtin.EmptyState;
 import dev.triumphteam.nova.builtin.SimpleMutableState;
+import dev.triumphteam.nova.builtin.SoftMutableState;
+import dev.triumphteam.nova.jfr.NovaRecording;
 import dev.triumphteam.nova.policy.StateMutationPolicy;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
 import java.sql.Array;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * An abstract implementation of the {@link StateHolder} interface,
@@ -61,6 +75,7 @@ public abstract class AbstractStateHolder implements StateHolder {
     @Override
     public <S extends State> @NotNull S remember(final @NotNull S state) {
         states.add(state);
+        NovaRecording.remembered(state, this);
         return state;
     }
 
@@ -102,6 +117,33 @@ public abstract class AbstractStateHolder implements StateHolder {
         return remember(new SimpleMutableState<>(value, mutationPolicy));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <T> MutableState<T> rememberLazy(final @NotNull Supplier<? extends T> initializer) {
+        return remember(MutableState.lazy(initializer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <T> MutableState<T> rememberLazy(
+        final @NotNull Supplier<? extends T> initializer,
+        final @NotNull StateMutationPolicy<T> mutationPolicy
+    ) {
+        return remember(MutableState.lazy(initializer, mutationPolicy));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <T> SoftMutableState<@NotNull T> rememberSoft(final @NotNull Supplier<? extends T> recompute) {
+        return remember(MutableState.soft(recompute));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -143,6 +185,135 @@ public abstract class AbstractStateHolder implements StateHolder {
         return remember(MapState.of(backing));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <T> List<T> rememberLazyList(final @NotNull Supplier<? extends List<T>> backingFactory) {
+        return remember(ListState.lazy(backingFactory));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <K, V> Map<K, V> rememberLazyMap(final @NotNull Supplier<? extends Map<K, V>> backingFactory) {
+        return remember(MapState.lazy(backingFactory));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <T> SetState<T> rememberSet() {
+        return remember(SetState.of());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <T> SetState<T> rememberSet(final @NotNull Set<T> backing) {
+        return remember(SetState.of(backing));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SafeVarargs
+    public final @NotNull <T> SetState<T> rememberSet(final T... elements) {
+        return remember(SetState.of(elements));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <T> SetState<T> rememberLinkedSet() {
+        return remember(SetState.linked());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull IntListState rememberIntList() {
+        return remember(IntListState.of());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull IntListState rememberIntList(final int @NotNull ... values) {
+        return remember(IntListState.of(values));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull LongListState rememberLongList() {
+        return remember(LongListState.of());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull LongListState rememberLongList(final long @NotNull ... values) {
+        return remember(LongListState.of(values));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull IntSetState rememberIntSet() {
+        return remember(IntSetState.of());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull IntSetState rememberIntSet(final int @NotNull ... elements) {
+        return remember(IntSetState.of(elements));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <K, T> KeyedListState<K, T> rememberKeyedList(final @NotNull Function<? super T, ? extends K> keyExtractor) {
+        return remember(KeyedListState.of(keyExtractor));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <V> Int2ObjectMapState<V> rememberInt2ObjectMap() {
+        return remember(Int2ObjectMapState.of());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <V> Long2ObjectMapState<V> rememberLong2ObjectMap() {
+        return remember(Long2ObjectMapState.of());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Unmodifiable @NotNull List<State> rememberedStates() {
+        return Collections.unmodifiableList(states);
+    }
+
     protected @NotNull List<State> getStates() {
         return states;
     }
@@ -0,0 +1,385 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.holder;
+
+import dev.triumphteam.nova.MutableState;
+import dev.triumphteam.nova.State;
+import dev.triumphteam.nova.StateDispatcher;
+import dev.triumphteam.nova.policy.StateMutationPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A {@link StateHolder} that stores the values of its {@link MutableState}s in shared arrays.
+ * Each remembered value takes a slot of the arena, the values, versions, mutation policies and listeners
+ * of all the slots live in a few arrays owned by the holder, the returned state is a small handle to its slot.
+ * Remembering a value doesn't allocate a listener container or a mutation policy per state.
+ * <p>
+ * Like other states, the stateful object a listener is added with is weakly referenced,
+ * once it is collected its listeners stop running and their entries are reused.
+ * Closing the holder frees every slot at once, using a state of a closed holder throws an {@link IllegalStateException}.
+ * <p>
+ * The arena is not thread safe, it is meant for holders confined to a single thread, such as a menu.
+ */
+public abstract class ArenaStateHolder extends AbstractStateHolder implements AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final StateMutationPolicy<?> STRUCTURAL = new StateMutationPolicy.StructuralEquality<>();
+    private static final int[] NO_ENTRIES = new int[0];
+
+    // One entry per state slot
+    private Object[] values;
+    private long[] versions;
+    private StateMutationPolicy<?>[] policies;
+    private int[] firstListeners;
+    private int slots;
+
+    // One entry per listener, linked per slot through nextListeners, free entries are linked from freeListener
+    private WeakReference<?>[] listenerOwners;
+    private Runnable[] listenerActions;
+    private int[] nextListeners;
+    private int listeners;
+    private int freeListener = -1;
+
+    // Entries removed while listeners run, freed once the outermost run is done
+    private int[] releasedListeners = NO_ENTRIES;
+    private int released;
+    private int running;
+
+    private boolean closed;
+
+    protected ArenaStateHolder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an arena with room for the given amount of states before growing.
+     *
+     * @param capacity The initial amount of state slots.
+     */
+    protected ArenaStateHolder(final int capacity) {
+        final var initial = Math.max(capacity, 1);
+        this.values = new Object[initial];
+        this.versions = new long[initial];
+        this.policies = new StateMutationPolicy<?>[initial];
+        this.firstListeners = new int[initial];
+        this.listenerOwners = new WeakReference<?>[initial];
+        this.listenerActions = new Runnable[initial];
+        this.nextListeners = new int[initial];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull <T> MutableState<@NotNull T> remember(final @NotNull T value) {
+        return remember(value, (StateMutationPolicy<T>) STRUCTURAL);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <T> MutableState<@NotNull T> remember(
+        final @NotNull T value,
+        final @NotNull StateMutationPolicy<T> mutationPolicy
+    ) {
+        return remember(allocate(value, mutationPolicy));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull <T> MutableState<@Nullable T> rememberNullable(final @Nullable T value) {
+        return rememberNullable(value, (StateMutationPolicy<T>) STRUCTURAL);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <T> MutableState<@Nullable T> rememberNullable(
+        final @Nullable T value,
+        final @NotNull StateMutationPolicy<T> mutationPolicy
+    ) {
+        return remember(allocate(value, mutationPolicy));
+    }
+
+    /**
+     * The amount of times the value of a state of this arena changed.
+     *
+     * @param state A state remembered by this holder.
+     * @return The version of the state.
+     */
+    public long version(final @NotNull State state) {
+        return versions[slotOf(state)];
+    }
+
+    /**
+     * Whether this holder was closed.
+     *
+     * @return True if closed.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Frees every state slot and listener of the arena at once.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        values = null;
+        versions = null;
+        policies = null;
+        firstListeners = null;
+        listenerOwners = null;
+        listenerActions = null;
+        nextListeners = null;
+        getStates().clear();
+    }
+
+    private <T> @NotNull Handle<T> allocate(final T value, final @NotNull StateMutationPolicy<T> mutationPolicy) {
+        checkOpen();
+        if (slots == values.length) {
+            final var capacity = values.length + (values.length >> 1) + 1;
+            values = Arrays.copyOf(values, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            policies = Arrays.copyOf(policies, capacity);
+            firstListeners = Arrays.copyOf(firstListeners, capacity);
+        }
+
+        final var slot = slots++;
+        values[slot] = value;
+        policies[slot] = mutationPolicy;
+        firstListeners[slot] = -1;
+        return new Handle<>(this, slot);
+    }
+
+    private int slotOf(final @NotNull State state) {
+        if (!(state instanceof Handle) || ((Handle<?>) state).arena != this) {
+            throw new IllegalArgumentException("The state was not remembered by this holder.");
+        }
+        checkOpen();
+        return ((Handle<?>) state).slot;
+    }
+
+    private void checkOpen() {
+        if (closed) throw new IllegalStateException("The state holder was closed.");
+    }
+
+    private void addListener(final int slot, final @NotNull Object stateful, final @NotNull Runnable listener) {
+        checkOpen();
+        final int entry;
+        if (freeListener >= 0) {
+            entry = freeListener;
+            freeListener = nextListeners[entry];
+        } else {
+            if (listeners == listenerOwners.length) {
+                final var capacity = listenerOwners.length + (listenerOwners.length >> 1) + 1;
+                listenerOwners = Arrays.copyOf(listenerOwners, capacity);
+                listenerActions = Arrays.copyOf(listenerActions, capacity);
+                nextListeners = Arrays.copyOf(nextListeners, capacity);
+            }
+            entry = listeners++;
+        }
+
+        listenerOwners[entry] = new WeakReference<>(stateful);
+        listenerActions[entry] = listener;
+        nextListeners[entry] = -1;
+
+        // Appended so listeners run in the order they were added
+        var last = firstListeners[slot];
+        if (last < 0) {
+            firstListeners[slot] = entry;
+            return;
+        }
+        while (nextListeners[last] >= 0) last = nextListeners[last];
+        nextListeners[last] = entry;
+    }
+
+    private boolean removeListener(final int slot, final @NotNull Object stateful, final @NotNull Runnable listener) {
+        checkOpen();
+        var previous = -1;
+        for (int entry = firstListeners[slot]; entry >= 0; previous = entry, entry = nextListeners[entry]) {
+            if (listenerOwners[entry].get() != stateful || !listenerActions[entry].equals(listener)) continue;
+            unlink(slot, previous, entry);
+            return true;
+        }
+        return false;
+    }
+
+    private void runListeners(final int slot) {
+        if (closed) return;
+        running++;
+        try {
+            var entry = firstListeners[slot];
+            while (entry >= 0) {
+                final var owner = listenerOwners[entry];
+                if (owner != null && owner.get() == null) {
+                    expunge(slot, entry);
+                } else {
+                    final var action = listenerActions[entry];
+                    if (action != null) action.run();
+                    if (closed) return;
+                }
+                // Removed entries keep pointing to their successor until the run is done
+                entry = nextListeners[entry];
+            }
+        } finally {
+            if (--running == 0 && !closed) freeReleased();
+        }
+    }
+
+    private void expunge(final int slot, final int entry) {
+        var previous = -1;
+        for (int current = firstListeners[slot]; current >= 0; previous = current, current = nextListeners[current]) {
+            if (current != entry) continue;
+            unlink(slot, previous, entry);
+            return;
+        }
+    }
+
+    private void unlink(final int slot, final int previous, final int entry) {
+        final var next = nextListeners[entry];
+        if (previous < 0) firstListeners[slot] = next;
+        else nextListeners[previous] = next;
+
+        listenerOwners[entry] = null;
+        listenerActions[entry] = null;
+        if (running == 0) {
+            free(entry);
+            return;
+        }
+
+        // A run may still be on this entry, so it can't be reused yet
+        if (released == releasedListeners.length) {
+            releasedListeners = Arrays.copyOf(releasedListeners, released + (released >> 1) + 1);
+        }
+        releasedListeners[released++] = entry;
+    }
+
+    private void freeReleased() {
+        for (int i = 0; i < released; i++) free(releasedListeners[i]);
+        released = 0;
+    }
+
+    private void free(final int entry) {
+        nextListeners[entry] = freeListener;
+        freeListener = entry;
+    }
+
+    /**
+     * The {@link MutableState} handle of an arena slot.
+     * Also runs the listeners of its slot when dispatched.
+     */
+    private static final class Handle<T> implements MutableState<T>, Runnable {
+
+        private final ArenaStateHolder arena;
+        private final int slot;
+
+        private Handle(final @NotNull ArenaStateHolder arena, final int slot) {
+            this.arena = arena;
+            this.slot = slot;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get() {
+            arena.checkOpen();
+            return (T) arena.values[slot];
+        }
+
+        @Override
+        public void set(final T value) {
+            if (!stateMutationPolicy().shouldMutate(get(), value)) return;
+            arena.values[slot] = value;
+            arena.versions[slot]++;
+            trigger();
+        }
+
+        @Override
+        public T update(final @NotNull Function<T, T> update) {
+            set(update.apply(get()));
+            return get();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public StateMutationPolicy<T> stateMutationPolicy() {
+            arena.checkOpen();
+            return (StateMutationPolicy<T>) arena.policies[slot];
+        }
+
+        @Override
+        public void trigger() {
+            arena.checkOpen();
+            StateDispatcher.dispatch(this, this);
+        }
+
+        @Override
+        public void addListener(final @NotNull Object stateful, final @NotNull Runnable listener) {
+            arena.addListener(slot, stateful, listener);
+        }
+
+        @Override
+        public boolean removeListener(final @NotNull Object stateful, final @NotNull Runnable listener) {
+            return arena.removeListener(slot, stateful, listener);
+        }
+
+        @Override
+        public void run() {
+            arena.runListeners(slot);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Handle)) return false;
+            final var that = (Handle<?>) o;
+            return !arena.closed && !that.arena.closed && Objects.equals(get(), that.get());
+        }
+
+        @Override
+        public int hashCode() {
+            return arena.closed ? 0 : Objects.hashCode(get());
+        }
+
+        @Override
+        public String toString() {
+            if (arena.closed) return "MutableState{closed}";
+            return "MutableState{" + "value=" + get() + ",mutationPolicy=" + stateMutationPolicy() + "}";
+        }
+    }
+}
@@ -23,17 +23,29 @@
  */
 package dev.triumphteam.nova.holder;
 
+import dev.triumphteam.nova.Int2ObjectMapState;
+import dev.triumphteam.nova.IntListState;
+import dev.triumphteam.nova.IntSetState;
+import dev.triumphteam.nova.KeyedListState;
 import dev.triumphteam.nova.ListState;
+import dev.triumphteam.nova.Long2ObjectMapState;
+import dev.triumphteam.nova.LongListState;
 import dev.triumphteam.nova.MapState;
 import dev.triumphteam.nova.MutableState;
+import dev.triumphteam.nova.SetState;
 import dev.triumphteam.nova.State;
 import dev.triumphteam.nova.builtin.EmptyState;
+import dev.triumphteam.nova.builtin.SoftMutableState;
 import dev.triumphteam.nova.policy.StateMutationPolicy;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Represents a holder for managing and remembering states.
@@ -110,6 +122,42 @@ public interface StateHolder {
         final @NotNull StateMutationPolicy<T> mutationPolicy
     );
 
+    /**
+     * Make the {@link StateHolder} remember a {@link MutableState} of type {@link T}
+     * whose value is only computed when the state is first accessed.
+     * Using {@link StateMutationPolicy.StructuralEquality}.
+     *
+     * @param initializer Computes the starting value, called at most once.
+     * @param <T>         The type of the value.
+     * @return The newly created {@link MutableState}.
+     */
+    <T> @NotNull MutableState<T> rememberLazy(final @NotNull Supplier<? extends T> initializer);
+
+    /**
+     * Make the {@link StateHolder} remember a {@link MutableState} of type {@link T}
+     * whose value is only computed when the state is first accessed.
+     *
+     * @param initializer    Computes the starting value, called at most once.
+     * @param mutationPolicy The mutation policy to use.
+     * @param <T>            The type of the value.
+     * @return The newly created {@link MutableState}.
+     */
+    <T> @NotNull MutableState<T> rememberLazy(
+        final @NotNull Supplier<? extends T> initializer,
+        final @NotNull StateMutationPolicy<T> mutationPolicy
+    );
+
+    /**
+     * Make the {@link StateHolder} remember a {@link SoftMutableState} of type {@link T}.
+     * The value is only softly held and rebuilt by the supplier after the garbage collector clears it.
+     * Using {@link StateMutationPolicy.StructuralEquality}.
+     *
+     * @param recompute Builds the value, called right away and whenever the value was collected.
+     * @param <T>       The type of the value.
+     * @return The newly created {@link SoftMutableState}.
+     */
+    <T> @NotNull SoftMutableState<@NotNull T> rememberSoft(final @NotNull Supplier<? extends T> recompute);
+
     /**
      * Make the {@link StateHolder} remember a {@link List} of {@link T}.
      *
@@ -154,4 +202,140 @@ public interface StateHolder {
      * @return The newly created {@link MapState} as a {@link Map}.
      */
     <K, V> @NotNull Map<K, V> rememberMap(final @NotNull Map<K, V> backing);
+
+    /**
+     * Make the {@link StateHolder} remember a {@link List} of {@link T} whose backing list is only built when first accessed.
+     *
+     * @param backingFactory Builds the backing list which will be used by the {@link ListState}, called at most once.
+     * @param <T>            The type of the value for the list.
+     * @return The newly created {@link ListState} as a {@link List}.
+     */
+    <T> @NotNull List<T> rememberLazyList(final @NotNull Supplier<? extends List<T>> backingFactory);
+
+    /**
+     * Make the {@link StateHolder} remember a {@link MapState} of key {@link K} and value {@link V}
+     * whose backing map is only built when first accessed.
+     *
+     * @param backingFactory Builds the backing map which will be used by the {@link MapState}, called at most once.
+     * @param <K>            The type of the key for the map.
+     * @param <V>            The type of the value for the map.
+     * @return The newly created {@link MapState} as a {@link Map}.
+     */
+    <K, V> @NotNull Map<K, V> rememberLazyMap(final @NotNull Supplier<? extends Map<K, V>> backingFactory);
+
+    /**
+     * Make the {@link StateHolder} remember a {@link SetState} of {@link T} backed by a {@link java.util.HashSet}.
+     *
+     * @param <T> The type of the elements of the set.
+     * @return The newly created {@link SetState}.
+     */
+    <T> @NotNull SetState<T> rememberSet();
+
+    /**
+     * Make the {@link StateHolder} remember a {@link SetState} of {@link T} from a backing set.
+     *
+     * @param backing The backing set which will be used by the {@link SetState}.
+     * @param <T>     The type of the elements of the set.
+     * @return The newly created {@link SetState}.
+     */
+    <T> @NotNull SetState<T> rememberSet(final @NotNull Set<T> backing);
+
+    /**
+     * Make the {@link StateHolder} remember a {@link SetState} of {@link T} with the given elements,
+     * keeping their insertion order.
+     *
+     * @param elements The starting elements of the {@link SetState}.
+     * @param <T>      The type of the elements of the set.
+     * @return The newly created {@link SetState}.
+     */
+    <T> @NotNull SetState<T> rememberSet(final T... elements);
+
+    /**
+     * Make the {@link StateHolder} remember a {@link SetState} of {@link T} backed by a {@link java.util.LinkedHashSet}.
+     *
+     * @param <T> The type of the elements of the set.
+     * @return The newly created {@link SetState}.
+     */
+    <T> @NotNull SetState<T> rememberLinkedSet();
+
+    /**
+     * Make the {@link StateHolder} remember an {@link IntListState}.
+     *
+     * @return The newly created {@link IntListState}.
+     */
+    @NotNull IntListState rememberIntList();
+
+    /**
+     * Make the {@link StateHolder} remember an {@link IntListState} with the given values.
+     *
+     * @param values The starting values of the {@link IntListState}.
+     * @return The newly created {@link IntListState}.
+     */
+    @NotNull IntListState rememberIntList(final int @NotNull ... values);
+
+    /**
+     * Make the {@link StateHolder} remember a {@link LongListState}.
+     *
+     * @return The newly created {@link LongListState}.
+     */
+    @NotNull LongListState rememberLongList();
+
+    /**
+     * Make the {@link StateHolder} remember a {@link LongListState} with the given values.
+     *
+     * @param values The starting values of the {@link LongListState}.
+     * @return The newly created {@link LongListState}.
+     */
+    @NotNull LongListState rememberLongList(final long @NotNull ... values);
+
+    /**
+     * Make the {@link StateHolder} remember an {@link IntSetState}.
+     *
+     * @return The newly created {@link IntSetState}.
+     */
+    @NotNull IntSetState rememberIntSet();
+
+    /**
+     * Make the {@link StateHolder} remember an {@link IntSetState} with the given elements.
+     *
+     * @param elements The starting elements of the {@link IntSetState}.
+     * @return The newly created {@link IntSetState}.
+     */
+    @NotNull IntSetState rememberIntSet(final int @NotNull ... elements);
+
+    /**
+     * Make the {@link StateHolder} remember a {@link KeyedListState} of type {@link T}.
+     *
+     * @param keyExtractor Extracts the unique key of an element.
+     * @param <K>          The type of the keys.
+     * @param <T>          The type of the elements of the list.
+     * @return The newly created {@link KeyedListState}.
+     */
+    <K, T> @NotNull KeyedListState<K, T> rememberKeyedList(final @NotNull Function<? super T, ? extends K> keyExtractor);
+
+    /**
+     * Make the {@link StateHolder} remember an {@link Int2ObjectMapState} of value {@link V}.
+     *
+     * @param <V> The type of the value for the map.
+     * @return The newly created {@link Int2ObjectMapState}.
+     */
+    <V> @NotNull Int2ObjectMapState<V> rememberInt2ObjectMap();
+
+    /**
+     * Make the {@link StateHolder} remember a {@link Long2ObjectMapState} of value {@link V}.
+     *
+     * @param <V> The type of the value for the map.
+     * @return The newly created {@link Long2ObjectMapState}.
+     */
+    <V> @NotNull Long2ObjectMapState<V> rememberLong2ObjectMap();
+
+    /**
+     * The states remembered by this holder, in the order they were remembered.
+     * Holders that don't keep track of their states return an empty list.
+     *
+     * @return An unmodifiable view of the remembered states.
+     */
+    default @Unmodifiable @NotNull List<State> rememberedStates() {
+        return List.of();
+    }
 }
@@ -0,0 +1,97 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.inspect;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * What the {@link StateInspector} found about a single holder.
+ */
+public final class HolderReport {
+
+    private final String id;
+    private final String type;
+    private final int states;
+    private final int listeners;
+    private final long estimatedBytes;
+
+    HolderReport(
+        final @NotNull String id,
+        final @NotNull String type,
+        final int states,
+        final int listeners,
+        final long estimatedBytes
+    ) {
+        this.id = id;
+        this.type = type;
+        this.states = states;
+        this.listeners = listeners;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Identifies the holder within the report, its type and identity hash.
+     *
+     * @return The id of the holder.
+     */
+    public @NotNull String id() {
+        return id;
+    }
+
+    /**
+     * The class name of the holder.
+     *
+     * @return The type of the holder.
+     */
+    public @NotNull String type() {
+        return type;
+    }
+
+    /**
+     * The amount of states remembered by the holder.
+     *
+     * @return The state count.
+     */
+    public int states() {
+        return states;
+    }
+
+    /**
+     * The amount of listeners of all the states of the holder that could be inspected.
+     *
+     * @return The listener count.
+     */
+    public int listeners() {
+        return listeners;
+    }
+
+    /**
+     * The sum of the estimated bytes of the states of the holder.
+     *
+     * @return The estimated retained bytes.
+     */
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+}
@@ -0,0 +1,255 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.inspect;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * A snapshot of the inspected holders and their states, taken by {@link StateInspector#inspect()}.
+ * States can be ranked by listener count, trigger rate and estimated memory to find leaks and fan-out hotspots,
+ * the whole report can be exported as JSON or as a text dump.
+ */
+public final class InspectionReport {
+
+    private static final Comparator<StateReport> BY_LISTENERS = Comparator.comparingInt(StateReport::listeners).reversed();
+    private static final Comparator<StateReport> BY_TRIGGERS = Comparator.comparingDouble(StateReport::triggersPerSecond)
+        .thenComparingLong(StateReport::triggers)
+        .reversed();
+    private static final Comparator<StateReport> BY_MEMORY = Comparator.comparingLong(StateReport::estimatedBytes).reversed();
+
+    private final Instant time;
+    private final List<HolderReport> holders;
+    private final List<StateReport> states;
+
+    InspectionReport(
+        final @NotNull Instant time,
+        final @NotNull List<HolderReport> holders,
+        final @NotNull List<StateReport> states
+    ) {
+        this.time = time;
+        this.holders = List.copyOf(holders);
+        this.states = List.copyOf(states);
+    }
+
+    /**
+     * When the inspection was done.
+     *
+     * @return The time of the inspection.
+     */
+    public @NotNull Instant time() {
+        return time;
+    }
+
+    /**
+     * The inspected holders, in the order they were registered.
+     *
+     * @return The holder reports.
+     */
+    public @Unmodifiable @NotNull List<HolderReport> holders() {
+        return holders;
+    }
+
+    /**
+     * Every inspected state, in holder order.
+     *
+     * @return The state reports.
+     */
+    public @Unmodifiable @NotNull List<StateReport> states() {
+        return states;
+    }
+
+    /**
+     * The states with the most listeners.
+     *
+     * @param limit The maximum amount of states.
+     * @return The top states by listener count.
+     */
+    public @Unmodifiable @NotNull List<StateReport> topByListeners(final int limit) {
+        return top(BY_LISTENERS, limit);
+    }
+
+    /**
+     * The states triggered the most often.
+     *
+     * @param limit The maximum amount of states.
+     * @return The top states by trigger rate, then trigger count.
+     */
+    public @Unmodifiable @NotNull List<StateReport> topByTriggers(final int limit) {
+        return top(BY_TRIGGERS, limit);
+    }
+
+    /**
+     * The states retaining the most memory.
+     *
+     * @param limit The maximum amount of states.
+     * @return The top states by estimated bytes.
+     */
+    public @Unmodifiable @NotNull List<StateReport> topByMemory(final int limit) {
+        return top(BY_MEMORY, limit);
+    }
+
+    /**
+     * Exports the whole report as JSON.
+     *
+     * @return The JSON report.
+     */
+    public @NotNull String toJson() {
+        final var builder = new StringBuilder();
+        builder.append("{\"time\":");
+        string(builder, time.toString());
+
+        builder.append(",\"holders\":[");
+        for (int i = 0; i < holders.size(); i++) {
+            final var holder = holders.get(i);
+            if (i > 0) builder.append(',');
+            builder.append("{\"id\":");
+            string(builder, holder.id());
+            builder.append(",\"type\":");
+            string(builder, holder.type());
+            builder.append(",\"states\":").append(holder.states());
+            builder.append(",\"listeners\":").append(holder.listeners());
+            builder.append(",\"estimatedBytes\":").append(holder.estimatedBytes());
+            builder.append('}');
+        }
+
+        builder.append("],\"states\":[");
+        for (int i = 0; i < states.size(); i++) {
+            final var state = states.get(i);
+            if (i > 0) builder.append(',');
+            builder.append("{\"id\":");
+            string(builder, state.id());
+            builder.append(",\"type\":");
+            string(builder, state.type());
+            builder.append(",\"holder\":");
+            string(builder, state.holder());
+            builder.append(",\"listeners\":").append(state.listeners());
+            builder.append(",\"listenersByOwnerType\":{");
+            var first = true;
+            for (final var entry : state.listenersByOwnerType().entrySet()) {
+                if (!first) builder.append(',');
+                first = false;
+                string(builder, entry.getKey());
+                builder.append(':').append(entry.getValue());
+            }
+            builder.append("},\"triggers\":").append(state.triggers());
+            builder.append(",\"triggersPerSecond\":").append(String.format(Locale.ROOT, "%.3f", state.triggersPerSecond()));
+            builder.append(",\"estimatedBytes\":").append(state.estimatedBytes());
+            builder.append('}');
+        }
+        return builder.append("]}").toString();
+    }
+
+    /**
+     * Dumps the report as text, with the holders and the top states of each ranking.
+     *
+     * @param limit The maximum amount of states listed in each ranking.
+     * @return The text report.
+     */
+    public @NotNull String toText(final int limit) {
+        final var builder = new StringBuilder();
+        builder.append("Nova state inspection at ").append(time).append('\n');
+        builder.append(holders.size()).append(" holders, ").append(states.size()).append(" states\n");
+
+        builder.append("\nHolders:\n");
+        holders.stream()
+            .sorted(Comparator.comparingLong(HolderReport::estimatedBytes).reversed())
+            .forEach(holder -> builder.append(String.format(
+                Locale.ROOT,
+                "  %s: %d states, %d listeners, ~%d bytes%n",
+                holder.id(), holder.states(), holder.listeners(), holder.estimatedBytes()
+            )));
+
+        builder.append("\nTop states by listeners:\n");
+        topByListeners(limit).forEach(state -> builder.append(String.format(
+            Locale.ROOT,
+            "  %s (%s): %d listeners %s%n",
+            state.id(), state.holder(), state.listeners(), owners(state)
+        )));
+
+        builder.append("\nTop states by triggers:\n");
+        topByTriggers(limit).forEach(state -> builder.append(String.format(
+            Locale.ROOT,
+            "  %s (%s): %.2f/s, %d total%n",
+            state.id(), state.holder(), state.triggersPerSecond(), state.triggers()
+        )));
+
+        builder.append("\nTop states by memory:\n");
+        topByMemory(limit).forEach(state -> builder.append(String.format(
+            Locale.ROOT,
+            "  %s (%s): ~%d bytes%n",
+            state.id(), state.holder(), state.estimatedBytes()
+        )));
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toText(10);
+    }
+
+    private @NotNull List<StateReport> top(final @NotNull Comparator<StateReport> comparator, final int limit) {
+        return states.stream().sorted(comparator).limit(limit).collect(Collectors.toUnmodifiableList());
+    }
+
+    private static @NotNull String owners(final @NotNull StateReport state) {
+        return state.listenersByOwnerType().entrySet().stream()
+            .map(entry -> entry.getKey() + "=" + entry.getValue())
+            .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static void string(final @NotNull StringBuilder builder, final @NotNull String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) builder.append(String.format("\\u%04x", (int) c));
+                    else builder.append(c);
+            }
+        }
+        builder.append('"');
+    }
+}
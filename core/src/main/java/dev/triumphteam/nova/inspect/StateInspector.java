@@ -0,0 +1,189 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.inspect;
+
+import com.google.common.collect.MapMaker;
+import dev.triumphteam.nova.AbstractState;
+import dev.triumphteam.nova.State;
+import dev.triumphteam.nova.builtin.LazyListBackedListState;
+import dev.triumphteam.nova.builtin.LazyMapBackedMapState;
+import dev.triumphteam.nova.holder.StateHolder;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.WeakReference;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Walks registered {@link StateHolder}s and their {@link StateHolder#rememberedStates()}, reporting
+ * the listeners, trigger rate and estimated retained memory of every state.
+ * Holders are weakly referenced, registering them doesn't keep them alive.
+ * Change listeners are counted with the listeners, and lazy states whose contents were never built
+ * are reported without contents instead of being built.
+ * <p>
+ * The inspection reads the states without locking, it should run on the thread that owns the holders
+ * or accept slightly inconsistent numbers.
+ */
+public final class StateInspector {
+
+    // Rough 64-bit JVM sizes with compressed references, only meant to rank states against each other
+    private static final int OBJECT_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int STATE_BYTES = 32;
+    private static final int CONTAINER_BYTES = OBJECT_BYTES * 2;
+    private static final int OWNER_BYTES = OBJECT_BYTES * 2 + 32;
+    private static final int LISTENER_BYTES = OBJECT_BYTES + REFERENCE_BYTES;
+    private static final int LIST_ELEMENT_BYTES = REFERENCE_BYTES + 1;
+    private static final int MAP_ENTRY_BYTES = 32 + REFERENCE_BYTES * 2;
+
+    private static final StateInspector GLOBAL = new StateInspector();
+
+    private final List<WeakReference<StateHolder>> holders = new ArrayList<>();
+    // The trigger count and time of the previous inspection of each state
+    private final Map<State, long[]> previous = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * The inspector shared by the whole application.
+     *
+     * @return The global {@link StateInspector}.
+     */
+    public static @NotNull StateInspector global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Registers a holder to be inspected, until it's unregistered or garbage collected.
+     *
+     * @param holder The holder to inspect.
+     */
+    public synchronized void register(final @NotNull StateHolder holder) {
+        for (final var reference : holders) {
+            if (reference.get() == holder) return;
+        }
+        holders.add(new WeakReference<>(holder));
+    }
+
+    /**
+     * Stops inspecting a holder.
+     *
+     * @param holder The holder to forget.
+     * @return Whether the holder was registered.
+     */
+    public synchronized boolean unregister(final @NotNull StateHolder holder) {
+        final var iterator = holders.iterator();
+        var removed = false;
+        while (iterator.hasNext()) {
+            final var registered = iterator.next().get();
+            if (registered != null && registered != holder) continue;
+            iterator.remove();
+            removed |= registered == holder;
+        }
+        return removed;
+    }
+
+    /**
+     * Inspects every registered holder that is still alive.
+     *
+     * @return The inspection report.
+     */
+    public synchronized @NotNull InspectionReport inspect() {
+        final var now = System.nanoTime();
+        final var holderReports = new ArrayList<HolderReport>();
+        final var stateReports = new ArrayList<StateReport>();
+
+        holders.removeIf(reference -> reference.get() == null);
+        for (final var reference : holders) {
+            final var holder = reference.get();
+            if (holder == null) continue;
+
+            final var holderId = id(holder);
+            final var states = holder.rememberedStates();
+            var listeners = 0;
+            var bytes = 0L;
+            for (final var state : states) {
+                final var report = inspect(state, holderId, now);
+                stateReports.add(report);
+                if (report.listeners() > 0) listeners += report.listeners();
+                bytes += report.estimatedBytes();
+            }
+            holderReports.add(new HolderReport(holderId, holder.getClass().getName(), states.size(), listeners, bytes));
+        }
+
+        return new InspectionReport(Instant.now(), holderReports, stateReports);
+    }
+
+    private @NotNull StateReport inspect(final @NotNull State state, final @NotNull String holderId, final long now) {
+        var bytes = (long) STATE_BYTES + contentBytes(state);
+        if (!(state instanceof AbstractState)) {
+            return new StateReport(id(state), state.getClass().getName(), holderId, -1, Map.of(), -1, 0, bytes);
+        }
+
+        final var abstractState = (AbstractState) state;
+        final var byOwnerType = new TreeMap<String, Integer>();
+        final var counts = new int[2];
+        final ObjIntConsumer<Object> counter = (owner, listeners) -> {
+            byOwnerType.merge(owner.getClass().getName(), listeners, Integer::sum);
+            counts[0]++;
+            counts[1] += listeners;
+        };
+        // Derived views, windows and aggregates listen to the described changes of their sources
+        abstractState.forEachListenerOwner(counter);
+        abstractState.forEachChangeListenerOwner(counter);
+        bytes += CONTAINER_BYTES + (long) counts[0] * OWNER_BYTES + (long) counts[1] * LISTENER_BYTES;
+
+        final var triggers = abstractState.getTriggerCount();
+        final var last = previous.put(state, new long[]{triggers, now});
+        final var rate = last == null || now == last[1] ? 0 : (triggers - last[0]) * 1_000_000_000.0 / (now - last[1]);
+
+        return new StateReport(
+            id(state),
+            state.getClass().getName(),
+            holderId,
+            counts[1],
+            Collections.unmodifiableMap(byOwnerType),
+            triggers,
+            rate,
+            bytes
+        );
+    }
+
+    private static long contentBytes(final @NotNull State state) {
+        // Reading the size of a lazy state would build its contents
+        if (state instanceof LazyListBackedListState && !((LazyListBackedListState<?>) state).isInitialized()) return 0;
+        if (state instanceof LazyMapBackedMapState && !((LazyMapBackedMapState<?, ?>) state).isInitialized()) return 0;
+        if (state instanceof Collection) return OBJECT_BYTES * 2L + (long) ((Collection<?>) state).size() * LIST_ELEMENT_BYTES;
+        if (state instanceof Map) return OBJECT_BYTES * 3L + (long) ((Map<?, ?>) state).size() * MAP_ENTRY_BYTES;
+        return 0;
+    }
+
+    private static @NotNull String id(final @NotNull Object object) {
+        return object.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(object));
+    }
+}
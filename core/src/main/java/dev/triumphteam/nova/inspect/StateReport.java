@@ -0,0 +1,139 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.inspect;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Map;
+
+/**
+ * What the {@link StateInspector} found about a single state.
+ * Listener and trigger information is only available for states built on {@link dev.triumphteam.nova.AbstractState},
+ * other states report {@code -1}.
+ */
+public final class StateReport {
+
+    private final String id;
+    private final String type;
+    private final String holder;
+    private final int listeners;
+    private final Map<String, Integer> listenersByOwnerType;
+    private final long triggers;
+    private final double triggersPerSecond;
+    private final long estimatedBytes;
+
+    StateReport(
+        final @NotNull String id,
+        final @NotNull String type,
+        final @NotNull String holder,
+        final int listeners,
+        final @NotNull Map<String, Integer> listenersByOwnerType,
+        final long triggers,
+        final double triggersPerSecond,
+        final long estimatedBytes
+    ) {
+        this.id = id;
+        this.type = type;
+        this.holder = holder;
+        this.listeners = listeners;
+        this.listenersByOwnerType = listenersByOwnerType;
+        this.triggers = triggers;
+        this.triggersPerSecond = triggersPerSecond;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Identifies the state within the report, its type and identity hash.
+     *
+     * @return The id of the state.
+     */
+    public @NotNull String id() {
+        return id;
+    }
+
+    /**
+     * The class name of the state.
+     *
+     * @return The type of the state.
+     */
+    public @NotNull String type() {
+        return type;
+    }
+
+    /**
+     * The id of the holder that remembered the state.
+     *
+     * @return The id of the holder.
+     */
+    public @NotNull String holder() {
+        return holder;
+    }
+
+    /**
+     * The amount of listeners of the state.
+     *
+     * @return The listener count or {@code -1} if unknown.
+     */
+    public int listeners() {
+        return listeners;
+    }
+
+    /**
+     * The amount of listeners added by each type of stateful object.
+     *
+     * @return The listener count per owner class name.
+     */
+    public @Unmodifiable @NotNull Map<String, Integer> listenersByOwnerType() {
+        return listenersByOwnerType;
+    }
+
+    /**
+     * The amount of times the state was triggered since it was created.
+     *
+     * @return The trigger count or {@code -1} if unknown.
+     */
+    public long triggers() {
+        return triggers;
+    }
+
+    /**
+     * The rate the state was triggered at since the previous inspection, or since it was first inspected.
+     *
+     * @return The triggers per second, {@code 0} on the first inspection of the state.
+     */
+    public double triggersPerSecond() {
+        return triggersPerSecond;
+    }
+
+    /**
+     * A rough estimate of the bytes retained by the state and its listener bookkeeping.
+     * The elements of collection states are counted as references only, the objects they point to are shared.
+     *
+     * @return The estimated retained bytes.
+     */
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.jfr;
+
+import com.google.common.collect.MapMaker;
+import dev.triumphteam.nova.State;
+import jdk.jfr.EventType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Checks whether the nova JFR events are being recorded, so the instrumented paths
+ * can skip creating events entirely when no recording is running.
+ */
+public final class NovaRecording {
+
+    private static final EventType TRIGGER = EventType.getEventType(StateTriggerEvent.class);
+    private static final EventType LISTENER = EventType.getEventType(ListenerExecutionEvent.class);
+    private static final EventType SLOW_LISTENER = EventType.getEventType(SlowListenerEvent.class);
+
+    // Filled even when nothing is recorded, long-lived states are remembered before a recording starts,
+    // weak so the states can still be collected
+    private static final Map<State, Class<?>> HOLDERS = new MapMaker().weakKeys().makeMap();
+
+    private NovaRecording() {}
+
+    /**
+     * Whether {@link StateTriggerEvent}s are being recorded.
+     *
+     * @return True if enabled in a running recording.
+     */
+    public static boolean isTriggerRecorded() {
+        return TRIGGER.isEnabled();
+    }
+
+    /**
+     * Whether {@link ListenerExecutionEvent}s or {@link SlowListenerEvent}s are being recorded.
+     *
+     * @return True if any of them is enabled in a running recording.
+     */
+    public static boolean isListenerRecorded() {
+        return LISTENER.isEnabled() || SLOW_LISTENER.isEnabled();
+    }
+
+    /**
+     * Keeps the holder that remembered the state for its {@link StateTriggerEvent}s.
+     * The holder is kept whether or not a recording is running, so states remembered before a recording
+     * started are still attributed to their holder.
+     *
+     * @param state  The remembered state.
+     * @param holder The holder that remembered it.
+     */
+    public static void remembered(final @NotNull State state, final @NotNull Object holder) {
+        HOLDERS.put(state, holder.getClass());
+    }
+
+    /**
+     * The type of the holder that remembered the state.
+     *
+     * @param state The state.
+     * @return The holder type or {@code null} if unknown.
+     */
+    public static @Nullable Class<?> holderType(final @NotNull State state) {
+        return HOLDERS.get(state);
+    }
+
+    /**
+     * Runs a listener, recording its execution.
+     *
+     * @param owner    The stateful object the listener was added with.
+     * @param listener The listener to run.
+     */
+    public static void runRecorded(final @NotNull Object owner, final @NotNull Runnable listener) {
+        final var execution = new ListenerExecutionEvent();
+        final var slow = new SlowListenerEvent();
+        execution.begin();
+        slow.begin();
+        try {
+            listener.run();
+        } finally {
+            execution.end();
+            slow.end();
+            if (execution.shouldCommit()) {
+                execution.ownerType = owner.getClass();
+                execution.listenerType = listener.getClass();
+                execution.commit();
+            }
+            if (slow.shouldCommit()) {
+                slow.ownerType = owner.getClass();
+                slow.listenerType = listener.getClass();
+                slow.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.model;
+
+import dev.triumphteam.nova.State;
+import dev.triumphteam.nova.StateDispatcher;
+import dev.triumphteam.nova.StateListenerContainer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * The base of the classes generated for {@link Stateful} models.
+ * All the fields of the model live in the generated subclass, this class keeps track of which of them changed
+ * in a dirty bitmask, one bit per field index.
+ * <p>
+ * Every change schedules a single dispatch of the model, changes made while dispatching or inside
+ * {@link StateDispatcher#batch(Runnable)} are merged into it.
+ * The dispatch runs the listeners of the whole model once, then the listeners of each changed field.
+ * While the listeners run, {@link #changes()} tells which fields changed.
+ */
+public abstract class AbstractStatefulModel implements State {
+
+    /**
+     * The maximum amount of fields a model can have, one per bit of the dirty mask.
+     */
+    public static final int MAX_FIELDS = Long.SIZE;
+
+    private final StateListenerContainer listeners = new StateListenerContainer();
+    // Created once so dispatching doesn't allocate
+    private final Runnable dispatch = this::dispatch;
+    private final int fieldCount;
+
+    // Lazily created, most fields are never subscribed to on their own
+    private @Nullable StateListenerContainer @Nullable [] fieldListeners;
+    private long dirty;
+    private long changes;
+
+    /**
+     * Creates a model with the given amount of fields.
+     *
+     * @param fieldCount The amount of fields, at most {@link #MAX_FIELDS}.
+     */
+    protected AbstractStatefulModel(final int fieldCount) {
+        if (fieldCount < 0 || fieldCount > MAX_FIELDS) {
+            throw new IllegalArgumentException("A stateful model must have between 0 and " + MAX_FIELDS + " fields.");
+        }
+        this.fieldCount = fieldCount;
+    }
+
+    /**
+     * The amount of fields of the model.
+     *
+     * @return The field count.
+     */
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * The fields whose change is being dispatched, one bit per field index.
+     * Only meaningful while the listeners of the model are running, it's {@code 0} otherwise.
+     *
+     * @return The changed fields mask.
+     */
+    public long changes() {
+        return changes;
+    }
+
+    /**
+     * Whether the field is part of the change being dispatched.
+     *
+     * @param field The index of the field.
+     * @return True if the field changed.
+     * @see #changes()
+     */
+    public boolean hasChanged(final int field) {
+        return (changes & bit(field)) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Triggering the model manually treats every field as changed.
+     */
+    @Override
+    public void trigger() {
+        dirty |= fieldCount == MAX_FIELDS ? -1L : (1L << fieldCount) - 1;
+        StateDispatcher.dispatch(this, dispatch);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The listener runs once per dispatch, however many fields changed.
+     */
+    @Override
+    public void addListener(final @NotNull Object stateful, final @NotNull Runnable listener) {
+        listeners.addListener(stateful, listener);
+    }
+
+    @Override
+    public boolean removeListener(final @NotNull Object stateful, final @NotNull Runnable listener) {
+        return listeners.removeListener(stateful, listener);
+    }
+
+    /**
+     * Adds a listener that only runs when the given field changes.
+     * The listener is tied to the lifecycle of the {@link Object}, the same as {@link #addListener(Object, Runnable)}.
+     *
+     * @param stateful The {@link Object} object which will be handling this field.
+     * @param field    The index of the field.
+     * @param listener The listener to be called when the field changes.
+     */
+    public void addFieldListener(final @NotNull Object stateful, final int field, final @NotNull Runnable listener) {
+        var containers = fieldListeners;
+        if (containers == null) {
+            containers = new StateListenerContainer[fieldCount];
+            fieldListeners = containers;
+        }
+
+        var container = containers[Objects.checkIndex(field, fieldCount)];
+        if (container == null) {
+            container = new StateListenerContainer();
+            containers[field] = container;
+        }
+        container.addListener(stateful, listener);
+    }
+
+    /**
+     * Removes a listener previously added with {@link #addFieldListener(Object, int, Runnable)}.
+     *
+     * @param stateful The {@link Object} the listener was added with.
+     * @param field    The index of the field.
+     * @param listener The listener to remove.
+     * @return Whether the listener was registered.
+     */
+    public boolean removeFieldListener(final @NotNull Object stateful, final int field, final @NotNull Runnable listener) {
+        final var containers = fieldListeners;
+        if (containers == null) return false;
+        final var container = containers[Objects.checkIndex(field, fieldCount)];
+        return container != null && container.removeListener(stateful, listener);
+    }
+
+    /**
+     * Marks the field as changed and dispatches the model.
+     *
+     * @param field The index of the field.
+     */
+    protected final void fieldChanged(final int field) {
+        dirty |= bit(field);
+        StateDispatcher.dispatch(this, dispatch);
+    }
+
+    /**
+     * Marks the field as changed without dispatching, {@link #flushChanges()} dispatches every marked field at once.
+     *
+     * @param field The index of the field.
+     */
+    protected final void markChanged(final int field) {
+        dirty |= bit(field);
+    }
+
+    /**
+     * Dispatches the fields marked with {@link #markChanged(int)}, if any.
+     */
+    protected final void flushChanges() {
+        if (dirty != 0) StateDispatcher.dispatch(this, dispatch);
+    }
+
+    private void dispatch() {
+        final var mask = dirty;
+        // Changes made by the listeners are dispatched again afterwards
+        dirty = 0;
+        changes = mask;
+        try {
+            listeners.triggerAll();
+
+            final var containers = fieldListeners;
+            if (containers == null) return;
+            for (var remaining = mask; remaining != 0; remaining &= remaining - 1) {
+                final var container = containers[Long.numberOfTrailingZeros(remaining)];
+                if (container != null) container.triggerAll();
+            }
+        } finally {
+            changes = 0;
+        }
+    }
+
+    private long bit(final int field) {
+        return 1L << Objects.checkIndex(field, fieldCount);
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.pool;
+
+import dev.triumphteam.nova.MutableState;
+import dev.triumphteam.nova.State;
+import dev.triumphteam.nova.holder.AbstractStateHolder;
+import dev.triumphteam.nova.policy.StateMutationPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link dev.triumphteam.nova.holder.StateHolder} taken from a {@link StatePool}.
+ * Empty lists and empty maps are remembered over storage from the pool,
+ * closing the holder releases them and returns their storage to the pool.
+ * Values and states remembered from a given backing collection or instance are not pooled, they are only forgotten.
+ * <p>
+ * Using the holder or its pooled states after closing it throws an {@link IllegalStateException}.
+ */
+public final class PooledStateHolder extends AbstractStateHolder implements AutoCloseable {
+
+    private final StatePool pool;
+    private final List<Recyclable> pooled = new ArrayList<>();
+    private boolean closed;
+
+    PooledStateHolder(final @NotNull StatePool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <S extends State> @NotNull S remember(final @NotNull S state) {
+        checkOpen();
+        return super.remember(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <T> MutableState<@NotNull T> remember(
+        final @NotNull T value,
+        final @NotNull StateMutationPolicy<T> mutationPolicy
+    ) {
+        checkOpen();
+        return super.remember(value, mutationPolicy);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <T> MutableState<@Nullable T> rememberNullable(
+        final @Nullable T value,
+        final @NotNull StateMutationPolicy<T> mutationPolicy
+    ) {
+        checkOpen();
+        return super.rememberNullable(value, mutationPolicy);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <T> List<T> rememberList() {
+        checkOpen();
+        return pooled(pool.list());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull <K, V> Map<K, V> rememberMap() {
+        checkOpen();
+        return pooled(pool.map());
+    }
+
+    /**
+     * Whether this holder was closed.
+     *
+     * @return True if closed.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Releases the pooled states of this holder and forgets the others.
+     * The holder is not reused, closing it again does nothing.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        pooled.forEach(pool::release);
+        pooled.clear();
+        getStates().clear();
+    }
+
+    private <S extends State> @NotNull S pooled(final @NotNull S state) {
+        pooled.add((Recyclable) state);
+        return super.remember(state);
+    }
+
+    private void checkOpen() {
+        if (closed) throw new IllegalStateException("The state holder was closed.");
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.pool;
+
+import dev.triumphteam.nova.ListState;
+import dev.triumphteam.nova.MapState;
+import dev.triumphteam.nova.builtin.ListBackedListState;
+import dev.triumphteam.nova.builtin.MapBackedMapState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pool of the storage of list and map states, reused instead of allocated again
+ * when short-lived holders are created and thrown away, such as the holder of a menu that is opened and closed.
+ * <p>
+ * Each thread has its own pools, bounded by the capacity given to the pool,
+ * storage released when their pool is full is left to the garbage collector.
+ * <p>
+ * Only the backing collections are pooled, they keep their capacity, which is what grows with use.
+ * State, holder and mutable state instances are small and never reused, so a reference kept by a previous owner
+ * can never reach the state of the next one: a released list or map state is flagged for good
+ * and any use of it throws an {@link IllegalStateException}.
+ */
+public final class StatePool {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final StatePool SHARED = new StatePool();
+
+    private final int capacity;
+    private final ThreadLocal<Pools> pools = ThreadLocal.withInitial(Pools::new);
+
+    public StatePool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a pool that keeps up to the given amount of each kind of state, per thread.
+     *
+     * @param capacity The maximum amount of released states of each kind kept by each thread.
+     */
+    public StatePool(final int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The capacity must not be negative.");
+        this.capacity = capacity;
+    }
+
+    /**
+     * The pool shared by the whole application, with the default capacity.
+     *
+     * @return The shared {@link StatePool}.
+     */
+    public static @NotNull StatePool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Creates a holder whose states are taken from this pool, closing the holder returns everything.
+     * Holders themselves are not reused, a closed holder stays closed.
+     *
+     * @return An open {@link PooledStateHolder}.
+     */
+    public @NotNull PooledStateHolder holder() {
+        return new PooledStateHolder(this);
+    }
+
+    /**
+     * Creates an empty {@link ListState} over a backing list taken from the pool, or a new one if none is available.
+     *
+     * @param <T> The type of the elements.
+     * @return An empty {@link ListState} with no listeners.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> @NotNull ListState<T> list() {
+        final var backing = (List<T>) pools.get().lists.poll();
+        return new ListBackedListState<>(backing != null ? backing : new ArrayList<>());
+    }
+
+    /**
+     * Creates an empty {@link MapState} over a backing map taken from the pool, or a new one if none is available.
+     *
+     * @param <K> The type of the keys.
+     * @param <V> The type of the values.
+     * @return An empty {@link MapState} with no listeners.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> @NotNull MapState<K, V> map() {
+        final var backing = (Map<K, V>) pools.get().maps.poll();
+        return new MapBackedMapState<>(backing != null ? backing : new HashMap<>());
+    }
+
+    /**
+     * Returns a state taken from this pool.
+     * The state is released right away, its storage is kept for reuse if the pool of the current thread has room for it.
+     *
+     * @param state The state to return.
+     * @return Whether the state was released, false if it was already released.
+     */
+    public boolean release(final @NotNull Recyclable state) {
+        if (state.isReleased()) return false;
+
+        final var pools = this.pools.get();
+        if (state instanceof ListBackedListState) offer(pools.lists, ((ListBackedListState<?>) state).detach());
+        else if (state instanceof MapBackedMapState) offer(pools.maps, ((MapBackedMapState<?, ?>) state).detach());
+        else state.release();
+        return true;
+    }
+
+    private <E> void offer(final @NotNull ArrayDeque<E> pool, final @NotNull E element) {
+        if (pool.size() < capacity) pool.push(element);
+    }
+
+    /**
+     * The pools of a single thread.
+     */
+    private static final class Pools {
+        private final ArrayDeque<List<?>> lists = new ArrayDeque<>();
+        private final ArrayDeque<Map<?, ?>> maps = new ArrayDeque<>();
+    }
+}
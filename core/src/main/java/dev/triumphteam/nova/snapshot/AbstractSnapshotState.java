@@ -0,0 +1,220 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.snapshot;
+
+import dev.triumphteam.nova.AbstractState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Base for states that keep a version of their value per {@link Snapshot}.
+ * The value is held in a chain of immutable records, readers pick the record visible to their snapshot
+ * without locking, writers either commit a new record globally or write a record private to their
+ * {@link MutableSnapshot}.
+ * <p>
+ * Values are copied on write, committed values are never mutated.
+ *
+ * @param <V> The type of the value held by the records.
+ */
+public abstract class AbstractSnapshotState<V> extends AbstractState {
+
+    private volatile StateRecord<V> head;
+
+    protected AbstractSnapshotState(final V value) {
+        this.head = new StateRecord<>(Snapshot.INITIAL_ID, value, null);
+    }
+
+    /**
+     * Creates a copy of the value that can be mutated.
+     *
+     * @param value The value to copy.
+     * @return A mutable copy.
+     */
+    protected abstract V copy(final V value);
+
+    /**
+     * The value visible to the current thread, it must not be mutated.
+     *
+     * @return The readable value.
+     */
+    protected final V readable() {
+        final var snapshot = Snapshot.current();
+        final var current = head;
+        return snapshot == null ? Snapshot.latest(current).value : snapshot.readable(current).value;
+    }
+
+    /**
+     * Replaces the value, triggering if outside of a snapshot.
+     *
+     * @param value The new value.
+     */
+    protected final void replace(final V value) {
+        final var snapshot = writableSnapshot();
+        if (snapshot == null) {
+            synchronized (Snapshot.LOCK) {
+                commit(value);
+            }
+            trigger();
+            return;
+        }
+
+        synchronized (this) {
+            final var own = ownRecord(snapshot);
+            if (own != null) {
+                own.value = value;
+                return;
+            }
+            writeOwn(snapshot, value);
+        }
+    }
+
+    /**
+     * Applies the mutation to a writable copy of the value.
+     * Outside of snapshots the copy is committed and the state triggered if the mutation changed it.
+     *
+     * @param mutation The mutation to apply.
+     * @param changed  Tells from the result of the mutation if the value changed.
+     * @param <R>      The type of the result of the mutation.
+     * @return The result of the mutation.
+     */
+    protected final <R> R modify(
+        final @NotNull Function<? super V, ? extends R> mutation,
+        final @NotNull Predicate<? super R> changed
+    ) {
+        final var snapshot = writableSnapshot();
+        if (snapshot == null) {
+            final R result;
+            final boolean didChange;
+            synchronized (Snapshot.LOCK) {
+                final var copy = copy(latestRecord().value);
+                result = mutation.apply(copy);
+                didChange = changed.test(result);
+                if (didChange) commit(copy);
+            }
+            if (didChange) trigger();
+            return result;
+        }
+
+        synchronized (this) {
+            final var own = ownRecord(snapshot);
+            if (own != null) return mutation.apply(own.value);
+
+            final var copy = copy(snapshot.readable(head).value);
+            final R result = mutation.apply(copy);
+            if (changed.test(result)) writeOwn(snapshot, copy);
+            return result;
+        }
+    }
+
+    /**
+     * The latest committed record.
+     */
+    final @NotNull StateRecord<V> latestRecord() {
+        return Snapshot.latest(head);
+    }
+
+    /**
+     * The amount of records kept, committed or private to a snapshot.
+     */
+    final int records() {
+        var count = 0;
+        for (var record = head; record != null; record = record.next) count++;
+        return count;
+    }
+
+    /**
+     * Removes the records of a snapshot that was disposed without being applied, must hold the lock.
+     */
+    final synchronized void discard(final long snapshotId) {
+        head = rebuild(head, record -> record.id != snapshotId);
+    }
+
+    /**
+     * Drops the committed records no open snapshot can see anymore, must hold the lock.
+     */
+    final synchronized void prune(final long lowestPinned) {
+        // The newest committed record below the lowest pin is the only one still needed among them
+        StateRecord<V> keep = null;
+        var stale = 0;
+        for (var record = head; record != null; record = record.next) {
+            if (record.id >= lowestPinned || Snapshot.isOpen(record.id)) continue;
+            stale++;
+            if (keep == null || record.id > keep.id) keep = record;
+        }
+        if (stale <= 1) return;
+
+        final var kept = keep;
+        head = rebuild(head, record -> record == kept || record.id >= lowestPinned || Snapshot.isOpen(record.id));
+    }
+
+    private @Nullable MutableSnapshot writableSnapshot() {
+        final var snapshot = Snapshot.current();
+        if (snapshot == null) return null;
+        if (snapshot.isReadOnly()) throw new IllegalStateException("Cannot write to a state inside a read-only snapshot.");
+
+        final var mutable = (MutableSnapshot) snapshot;
+        mutable.checkWritable();
+        return mutable;
+    }
+
+    private @Nullable StateRecord<V> ownRecord(final @NotNull MutableSnapshot snapshot) {
+        for (var record = head; record != null; record = record.next) {
+            if (record.id == snapshot.id) return record;
+        }
+        return null;
+    }
+
+    private void writeOwn(final @NotNull MutableSnapshot snapshot, final V value) {
+        snapshot.track(this, snapshot.readable(head).id);
+        head = new StateRecord<>(snapshot.id, value, head);
+    }
+
+    private void commit(final V value) {
+        synchronized (this) {
+            head = new StateRecord<>(Snapshot.nextGlobalId(), value, head);
+            prune(Snapshot.lowestPinned());
+        }
+    }
+
+    private static <V> @Nullable StateRecord<V> rebuild(
+        final @Nullable StateRecord<V> head,
+        final @NotNull Predicate<StateRecord<V>> keep
+    ) {
+        final var kept = new ArrayList<StateRecord<V>>();
+        for (var record = head; record != null; record = record.next) {
+            if (keep.test(record)) kept.add(record);
+        }
+
+        StateRecord<V> result = null;
+        for (int i = kept.size() - 1; i >= 0; i--) {
+            final var record = kept.get(i);
+            result = new StateRecord<>(record.id, record.value, result);
+        }
+        return result;
+    }
+}
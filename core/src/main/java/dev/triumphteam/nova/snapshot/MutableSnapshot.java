@@ -0,0 +1,134 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.snapshot;
+
+import dev.triumphteam.nova.State;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link Snapshot} that can be written to.
+ * Writes done inside it are isolated until {@link #apply()} commits all of them at once,
+ * readers in snapshots taken afterwards see either none or all of them.
+ * <p>
+ * The apply fails if any of the written states was committed by someone else after this snapshot read it,
+ * in which case nothing is committed. Listeners of the written states are triggered once after a successful apply.
+ */
+public final class MutableSnapshot extends Snapshot {
+
+    // The states written by this snapshot, with the id of the record their first write was based on
+    private final Map<AbstractSnapshotState<?>, Long> modified = new LinkedHashMap<>();
+    private boolean applied;
+
+    MutableSnapshot(final long id, final long @NotNull [] invalid) {
+        super(id, invalid);
+    }
+
+    /**
+     * Commits the writes of this snapshot, if there are no conflicts.
+     * Should be called outside of {@link #enter(Runnable)}.
+     *
+     * @return The result of the apply.
+     */
+    public @NotNull SnapshotApplyResult apply() {
+        final List<AbstractSnapshotState<?>> changed;
+        synchronized (Snapshot.LOCK) {
+            if (applied) throw new IllegalStateException("The snapshot was already applied.");
+            if (disposed) throw new IllegalStateException("Cannot apply a disposed snapshot.");
+
+            synchronized (this) {
+                final var conflicts = new ArrayList<State>();
+                modified.forEach((state, base) -> {
+                    if (state.latestRecord().id != base) conflicts.add(state);
+                });
+                if (!conflicts.isEmpty()) return new SnapshotApplyResult(conflicts);
+
+                applied = true;
+                release();
+                changed = new ArrayList<>(modified.keySet());
+                modified.clear();
+            }
+
+            final var lowestPinned = Snapshot.lowestPinned();
+            changed.forEach(state -> state.prune(lowestPinned));
+        }
+
+        Snapshot.runGlobal(() -> changed.forEach(State::trigger));
+        return SnapshotApplyResult.SUCCESS;
+    }
+
+    /**
+     * Whether the snapshot was successfully applied.
+     *
+     * @return True if applied.
+     */
+    public boolean isApplied() {
+        return applied;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Disposes the snapshot, discarding its writes if it was not applied.
+     */
+    @Override
+    public void dispose() {
+        synchronized (Snapshot.LOCK) {
+            if (disposed) return;
+            final List<AbstractSnapshotState<?>> written;
+            synchronized (this) {
+                written = new ArrayList<>(modified.keySet());
+                modified.clear();
+            }
+            // Outside of this snapshot's monitor, writers lock the state first and the snapshot second
+            written.forEach(state -> state.discard(id));
+            release();
+        }
+    }
+
+    /**
+     * Registers the first write of this snapshot to a state.
+     */
+    synchronized void track(final @NotNull AbstractSnapshotState<?> state, final long baseId) {
+        checkWritable();
+        modified.putIfAbsent(state, baseId);
+    }
+
+    void checkWritable() {
+        if (applied) throw new IllegalStateException("Cannot write to an applied snapshot.");
+        if (disposed) throw new IllegalStateException("Cannot write to a disposed snapshot.");
+    }
+
+    @Override
+    boolean isVisible(final long recordId) {
+        return recordId == id || super.isVisible(recordId);
+    }
+}
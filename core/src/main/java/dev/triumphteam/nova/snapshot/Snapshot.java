@@ -0,0 +1,269 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.snapshot;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * An isolated, consistent view of all snapshot states, similar to Compose snapshots.
+ * While a thread is inside a snapshot, see {@link #enter(Supplier)}, every snapshot state it reads returns
+ * the value it had when the snapshot was taken, no matter what other threads commit in the meantime.
+ * Reads never lock.
+ * <p>
+ * Outside of any snapshot, states read their latest committed value.
+ * Snapshots must be disposed when no longer needed, otherwise old values are kept alive.
+ *
+ * @see MutableSnapshot
+ * @see SnapshotMutableState
+ * @see SnapshotListState
+ * @see SnapshotMapState
+ */
+public class Snapshot implements AutoCloseable {
+
+    /**
+     * Guards id assignment, commits and the registry of open snapshots.
+     */
+    static final Object LOCK = new Object();
+
+    private static final ThreadLocal<Snapshot> CURRENT = new ThreadLocal<>();
+    private static final long[] NO_IDS = new long[0];
+
+    // The initial record of every state, visible to all snapshots
+    static final long INITIAL_ID = 0;
+
+    private static long nextId = INITIAL_ID + 1;
+    // Ids of the mutable snapshots that were not applied or disposed yet
+    private static final TreeSet<Long> open = new TreeSet<>();
+    // Same as open, readable without the lock
+    private static volatile long[] openIds = NO_IDS;
+    // The lowest id each snapshot may still need a record for, with the amount of snapshots pinning it
+    private static final TreeMap<Long, Integer> pins = new TreeMap<>();
+
+    final long id;
+    private final long[] invalid;
+    private final long pin;
+    boolean disposed;
+
+    Snapshot(final long id, final long @NotNull [] invalid) {
+        this.id = id;
+        this.invalid = invalid;
+        this.pin = invalid.length == 0 ? id : Math.min(id, invalid[0]);
+        pins.merge(pin, 1, Integer::sum);
+    }
+
+    /**
+     * Takes a read-only snapshot of the current committed values.
+     *
+     * @return A new {@link Snapshot}.
+     */
+    public static @NotNull Snapshot takeSnapshot() {
+        synchronized (LOCK) {
+            return new Snapshot(nextId++, openIds);
+        }
+    }
+
+    /**
+     * Takes a mutable snapshot, writes done inside it are only visible to it until it is applied.
+     *
+     * @return A new {@link MutableSnapshot}.
+     */
+    public static @NotNull MutableSnapshot takeMutableSnapshot() {
+        synchronized (LOCK) {
+            final var snapshot = new MutableSnapshot(nextId++, openIds);
+            open.add(snapshot.id);
+            publishOpen();
+            return snapshot;
+        }
+    }
+
+    /**
+     * Runs the block in a new mutable snapshot, then applies it.
+     *
+     * @param block The block that writes the states.
+     * @return The result of the apply.
+     */
+    public static @NotNull SnapshotApplyResult withMutableSnapshot(final @NotNull Runnable block) {
+        try (final var snapshot = takeMutableSnapshot()) {
+            snapshot.enter(block);
+            return snapshot.apply();
+        }
+    }
+
+    /**
+     * The snapshot the current thread is in.
+     *
+     * @return The current snapshot, or {@code null} if outside of any snapshot.
+     */
+    public static @Nullable Snapshot current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the block inside this snapshot.
+     *
+     * @param block The block to run.
+     * @param <R>   The type of the result.
+     * @return The result of the block.
+     */
+    public final <R> R enter(final @NotNull Supplier<R> block) {
+        if (disposed) throw new IllegalStateException("Cannot enter a disposed snapshot.");
+
+        final var previous = CURRENT.get();
+        if (previous != null && previous != this) throw new IllegalStateException("Snapshots cannot be nested.");
+
+        CURRENT.set(this);
+        try {
+            return block.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Runs the block inside this snapshot.
+     *
+     * @param block The block to run.
+     */
+    public final void enter(final @NotNull Runnable block) {
+        enter(() -> {
+            block.run();
+            return null;
+        });
+    }
+
+    /**
+     * The id of this snapshot, ids grow with every snapshot and every global write.
+     *
+     * @return The id.
+     */
+    public final long id() {
+        return id;
+    }
+
+    /**
+     * Whether states can be written inside this snapshot.
+     *
+     * @return True for read-only snapshots.
+     */
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Releases the snapshot, the values it kept alive can be collected.
+     */
+    public void dispose() {
+        synchronized (LOCK) {
+            if (disposed) return;
+            release();
+        }
+    }
+
+    @Override
+    public final void close() {
+        dispose();
+    }
+
+    /**
+     * Finds the record this snapshot sees.
+     */
+    <V> @NotNull StateRecord<V> readable(final @NotNull StateRecord<V> head) {
+        StateRecord<V> result = null;
+        for (var record = head; record != null; record = record.next) {
+            if (!isVisible(record.id)) continue;
+            if (result == null || record.id > result.id) result = record;
+        }
+        if (result == null) throw new IllegalStateException("The snapshot no longer has a readable record.");
+        return result;
+    }
+
+    boolean isVisible(final long recordId) {
+        return recordId < id && Arrays.binarySearch(invalid, recordId) < 0;
+    }
+
+    /**
+     * Marks the snapshot as disposed and removes it from the registry, must hold the lock.
+     */
+    void release() {
+        disposed = true;
+        pins.computeIfPresent(pin, (ignored, count) -> count == 1 ? null : count - 1);
+        if (open.remove(id)) publishOpen();
+    }
+
+    /**
+     * Finds the latest committed record, the one read outside of snapshots.
+     */
+    static <V> @NotNull StateRecord<V> latest(final @NotNull StateRecord<V> head) {
+        final var uncommitted = openIds;
+        StateRecord<V> result = null;
+        for (var record = head; record != null; record = record.next) {
+            if (Arrays.binarySearch(uncommitted, record.id) >= 0) continue;
+            if (result == null || record.id > result.id) result = record;
+        }
+        if (result == null) throw new IllegalStateException("The state has no committed record.");
+        return result;
+    }
+
+    /**
+     * Claims an id for a write done outside of snapshots, must hold the lock.
+     */
+    static long nextGlobalId() {
+        return nextId++;
+    }
+
+    /**
+     * The lowest id any open snapshot may still need, records committed before it
+     * can be collapsed into the newest of them, must hold the lock.
+     */
+    static long lowestPinned() {
+        return pins.isEmpty() ? nextId : pins.firstKey();
+    }
+
+    static boolean isOpen(final long id) {
+        return Arrays.binarySearch(openIds, id) >= 0;
+    }
+
+    /**
+     * Runs the block outside of any snapshot.
+     */
+    static void runGlobal(final @NotNull Runnable block) {
+        final var previous = CURRENT.get();
+        CURRENT.remove();
+        try {
+            block.run();
+        } finally {
+            if (previous != null) CURRENT.set(previous);
+        }
+    }
+
+    private static void publishOpen() {
+        openIds = open.stream().mapToLong(Long::longValue).toArray();
+    }
+}
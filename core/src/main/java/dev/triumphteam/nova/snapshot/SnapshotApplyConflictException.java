@@ -0,0 +1,54 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.snapshot;
+
+import dev.triumphteam.nova.State;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Thrown when a {@link MutableSnapshot} cannot be applied because states it changed
+ * were committed by someone else in the meantime.
+ */
+public final class SnapshotApplyConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<State> conflicts;
+
+    public SnapshotApplyConflictException(final @NotNull List<@NotNull State> conflicts) {
+        super("The snapshot conflicts with " + conflicts.size() + " state(s) changed by a concurrent commit.");
+        this.conflicts = conflicts;
+    }
+
+    /**
+     * The states that were changed by another commit since the snapshot read them.
+     *
+     * @return The conflicting states.
+     */
+    public @NotNull List<@NotNull State> getConflicts() {
+        return conflicts;
+    }
+}
@@ -0,0 +1,240 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.snapshot;
+
+import dev.triumphteam.nova.ListState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link ListState} whose elements are isolated per {@link Snapshot}.
+ * Every committed write copies the list, so it is best suited for small to medium lists.
+ * Iterators and sub lists are read-only views of the version visible to the current thread,
+ * bulk mutations such as {@link #sort(Comparator)} or {@link #removeIf(Predicate)} copy the list once.
+ * An update is triggered when the list elements change.
+ *
+ * @param <T> The type of the elements of the list.
+ */
+public final class SnapshotListState<T> extends AbstractSnapshotState<List<T>> implements ListState<T> {
+
+    public SnapshotListState() {
+        super(new ArrayList<>());
+    }
+
+    public SnapshotListState(final @NotNull Collection<? extends T> elements) {
+        super(new ArrayList<>(elements));
+    }
+
+    @Override
+    protected List<T> copy(final List<T> value) {
+        return new ArrayList<>(value);
+    }
+
+    @Override
+    public boolean add(final T t) {
+        return modify(list -> list.add(t), ignored -> true);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        return modify(list -> list.remove(o), removed -> removed);
+    }
+
+    @Override
+    public boolean addAll(final @NotNull Collection<? extends T> c) {
+        return modify(list -> list.addAll(c), added -> added);
+    }
+
+    @Override
+    public boolean addAll(final int index, final @NotNull Collection<? extends T> c) {
+        return modify(list -> list.addAll(index, c), added -> added);
+    }
+
+    @Override
+    public boolean removeAll(final @NotNull Collection<?> c) {
+        return modify(list -> list.removeAll(c), removed -> removed);
+    }
+
+    @Override
+    public boolean retainAll(final @NotNull Collection<?> c) {
+        return modify(list -> list.retainAll(c), retained -> retained);
+    }
+
+    @Override
+    public T set(final int index, final T element) {
+        return modify(list -> list.set(index, element), ignored -> true);
+    }
+
+    @Override
+    public void clear() {
+        modify(list -> {
+            list.clear();
+            return null;
+        }, ignored -> true);
+    }
+
+    @Override
+    public T remove(final int index) {
+        return modify(list -> list.remove(index), ignored -> true);
+    }
+
+    @Override
+    public void add(final int index, final T element) {
+        modify(list -> {
+            list.add(index, element);
+            return null;
+        }, ignored -> true);
+    }
+
+    @Override
+    public boolean removeIf(final @NotNull Predicate<? super T> filter) {
+        return modify(list -> list.removeIf(filter), removed -> removed);
+    }
+
+    @Override
+    public void replaceAll(final @NotNull UnaryOperator<T> operator) {
+        modify(list -> {
+            list.replaceAll(operator);
+            return !list.isEmpty();
+        }, replaced -> replaced);
+    }
+
+    @Override
+    public void sort(final @Nullable Comparator<? super T> c) {
+        modify(list -> {
+            list.sort(c);
+            return list.size() > 1;
+        }, sorted -> sorted);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The element is moved within a single copy of the list.
+     */
+    @Override
+    public void move(final int from, final int to) {
+        modify(list -> {
+            Objects.checkIndex(from, list.size());
+            Objects.checkIndex(to, list.size());
+            if (from == to) return false;
+            list.add(to, list.remove(from));
+            return true;
+        }, moved -> moved);
+    }
+
+    @Override
+    public void removeRange(final int fromIndex, final int toIndex) {
+        modify(list -> {
+            Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+            if (fromIndex == toIndex) return false;
+            list.subList(fromIndex, toIndex).clear();
+            return true;
+        }, removed -> removed);
+    }
+
+    @Override
+    public int size() {
+        return readable().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return readable().isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return readable().contains(o);
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return view().iterator();
+    }
+
+    @Override
+    public @NotNull Object @NotNull [] toArray() {
+        return readable().toArray();
+    }
+
+    @Override
+    public <A> @NotNull A @NotNull [] toArray(final @NotNull A @NotNull [] a) {
+        return readable().toArray(a);
+    }
+
+    @Override
+    public boolean containsAll(final @NotNull Collection<?> c) {
+        return readable().containsAll(c);
+    }
+
+    @Override
+    public T get(final int index) {
+        return readable().get(index);
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return readable().indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        return readable().lastIndexOf(o);
+    }
+
+    @Override
+    public @NotNull ListIterator<T> listIterator() {
+        return view().listIterator();
+    }
+
+    @Override
+    public @NotNull ListIterator<T> listIterator(final int index) {
+        return view().listIterator(index);
+    }
+
+    @Override
+    public @NotNull List<T> subList(final int fromIndex, final int toIndex) {
+        return view().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public String toString() {
+        return readable().toString();
+    }
+
+    private @NotNull List<T> view() {
+        return Collections.unmodifiableList(readable());
+    }
+}
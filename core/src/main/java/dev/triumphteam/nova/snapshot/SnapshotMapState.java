@@ -0,0 +1,140 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.snapshot;
+
+import dev.triumphteam.nova.MapState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link MapState} whose entries are isolated per {@link Snapshot}.
+ * Every committed write copies the map, so it is best suited for small to medium maps.
+ * The key, value and entry views are read-only views of the version visible to the current thread,
+ * {@link #replaceAll(BiFunction)} copies the map once.
+ * An update is triggered when elements change.
+ *
+ * @param <K> The type of the key of the map.
+ * @param <V> The type of the value of the map.
+ */
+public final class SnapshotMapState<K, V> extends AbstractSnapshotState<Map<K, V>> implements MapState<K, V> {
+
+    public SnapshotMapState() {
+        super(new HashMap<>());
+    }
+
+    public SnapshotMapState(final @NotNull Map<? extends K, ? extends V> entries) {
+        super(new HashMap<>(entries));
+    }
+
+    @Override
+    protected Map<K, V> copy(final Map<K, V> value) {
+        return new HashMap<>(value);
+    }
+
+    @Override
+    public @Nullable V put(final K key, final V value) {
+        return modify(map -> map.put(key, value), ignored -> true);
+    }
+
+    @Override
+    public V remove(final Object key) {
+        return modify(map -> map.remove(key), ignored -> true);
+    }
+
+    @Override
+    public void putAll(final @NotNull Map<? extends K, ? extends V> m) {
+        modify(map -> {
+            map.putAll(m);
+            return null;
+        }, ignored -> true);
+    }
+
+    @Override
+    public void clear() {
+        modify(map -> {
+            map.clear();
+            return null;
+        }, ignored -> true);
+    }
+
+    @Override
+    public void replaceAll(final @NotNull BiFunction<? super K, ? super V, ? extends V> function) {
+        modify(map -> {
+            map.replaceAll(function);
+            return !map.isEmpty();
+        }, replaced -> replaced);
+    }
+
+    @Override
+    public int size() {
+        return readable().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return readable().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return readable().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return readable().containsValue(value);
+    }
+
+    @Override
+    public V get(final Object key) {
+        return readable().get(key);
+    }
+
+    @Override
+    public @NotNull Set<K> keySet() {
+        return Collections.unmodifiableSet(readable().keySet());
+    }
+
+    @Override
+    public @NotNull Collection<V> values() {
+        return Collections.unmodifiableCollection(readable().values());
+    }
+
+    @Override
+    public @NotNull Set<Entry<K, V>> entrySet() {
+        return Collections.unmodifiableSet(readable().entrySet());
+    }
+
+    @Override
+    public String toString() {
+        return readable().toString();
+    }
+}
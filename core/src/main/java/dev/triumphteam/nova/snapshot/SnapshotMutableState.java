@@ -0,0 +1,90 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.snapshot;
+
+import dev.triumphteam.nova.MutableState;
+import dev.triumphteam.nova.policy.StateMutationPolicy;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+/**
+ * A {@link MutableState} whose value is isolated per {@link Snapshot}.
+ * The value itself should be immutable, it is shared between the snapshots that see it.
+ *
+ * @param <T> The type of the value.
+ */
+public final class SnapshotMutableState<T> extends AbstractSnapshotState<T> implements MutableState<T> {
+
+    private final StateMutationPolicy<T> mutationPolicy;
+
+    public SnapshotMutableState(final T value, final @NotNull StateMutationPolicy<T> mutationPolicy) {
+        super(value);
+        this.mutationPolicy = mutationPolicy;
+    }
+
+    /**
+     * Creates a new {@link SnapshotMutableState}.
+     * Using {@link StateMutationPolicy.StructuralEquality}.
+     *
+     * @param value The starting value of the state.
+     * @param <T>   The type of the value.
+     * @return A new {@link SnapshotMutableState}.
+     */
+    public static <T> @NotNull SnapshotMutableState<T> of(final T value) {
+        return new SnapshotMutableState<>(value, new StateMutationPolicy.StructuralEquality<>());
+    }
+
+    @Override
+    public T get() {
+        return readable();
+    }
+
+    @Override
+    public void set(final T value) {
+        if (!mutationPolicy.shouldMutate(readable(), value)) return;
+        replace(value);
+    }
+
+    @Override
+    public T update(final @NotNull Function<T, T> update) {
+        set(update.apply(get()));
+        return get();
+    }
+
+    @Override
+    public @NotNull StateMutationPolicy<T> stateMutationPolicy() {
+        return mutationPolicy;
+    }
+
+    @Override
+    protected T copy(final T value) {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotMutableState{" + "value=" + get() + ",mutationPolicy=" + mutationPolicy + "}";
+    }
+}
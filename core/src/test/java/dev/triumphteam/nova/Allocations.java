@@ -0,0 +1,83 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the heap allocated by the current thread, through {@link com.sun.management.ThreadMXBean}.
+ */
+public final class Allocations {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    private Allocations() {}
+
+    /**
+     * Runs the given action and returns the amount of bytes the current thread allocated while running it.
+     * Aborts the calling test when the JVM can't measure thread allocations.
+     *
+     * @param action The action to measure.
+     * @return The allocated bytes.
+     */
+    public static long measure(final @NotNull Runnable action) {
+        assumeTrue(THREADS != null && THREADS.isThreadAllocatedMemorySupported(), "Thread allocation measurement is not supported.");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+
+        // Warms up the measurement itself, so its own allocations aren't counted
+        final var start = THREADS.getCurrentThreadAllocatedBytes();
+        final var overhead = THREADS.getCurrentThreadAllocatedBytes() - start;
+
+        final var before = THREADS.getCurrentThreadAllocatedBytes();
+        action.run();
+        final var after = THREADS.getCurrentThreadAllocatedBytes();
+        return Math.max(0, after - before - overhead);
+    }
+
+    /**
+     * Runs the action up to the given amount of rounds and returns the lowest amount of bytes allocated by a round,
+     * stopping early once a round allocates nothing.
+     * A round can pick up a few bytes from the JIT compiler or class loading, an allocating action allocates on every round.
+     *
+     * @param rounds The maximum amount of rounds.
+     * @param action The action to measure.
+     * @return The lowest allocated bytes of a round.
+     */
+    public static long minimum(final int rounds, final @NotNull Runnable action) {
+        var minimum = Long.MAX_VALUE;
+        for (int i = 0; i < rounds && minimum > 0; i++) {
+            minimum = Math.min(minimum, measure(action));
+        }
+        return minimum;
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        final var bean = ManagementFactory.getThreadMXBean();
+        return bean instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) bean : null;
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ChangeListenerContainerTest {
+
+    private final Object owner = new Object();
+    private final List<String> events = new ArrayList<>();
+
+    @Test
+    void deliversEveryChangeInOrder() {
+        final var list = ListState.<String>of();
+        list.addChangeListener(owner, change -> events.add(change.type() + " " + change.index()));
+
+        StateDispatcher.batch(() -> {
+            list.add("a");
+            list.add("b");
+            list.remove(0);
+        });
+
+        assertEquals(List.of("INSERT 0", "INSERT 1", "REMOVE 0"), events);
+    }
+
+    @Test
+    void triggersRaisedByChangeListenersAreQueued() {
+        final var list = ListState.<String>of();
+        final var other = MutableState.of(0);
+        other.addListener(owner, () -> events.add("other"));
+        list.addChangeListener(owner, change -> {
+            other.set(other.get() + 1);
+            events.add("change");
+        });
+        list.addListener(owner, () -> events.add("list"));
+
+        list.add("a");
+
+        assertEquals(List.of("change", "other", "list"), events);
+    }
+
+    @Test
+    void removesChangeListeners() {
+        final var list = ListState.<String>of();
+        final ListChangeListener<String> listener = change -> events.add("change");
+        list.addChangeListener(owner, listener);
+
+        assertTrue(list.removeChangeListener(owner, listener));
+        assertFalse(list.removeChangeListener(owner, listener));
+        list.add("a");
+
+        assertEquals(List.of(), events);
+    }
+
+    @Test
+    void countsListenersPerOwner() {
+        final var container = new ChangeListenerContainer<ListChangeListener<String>, ListChange<String>>(ListChangeListener::onChange);
+        assertTrue(container.isEmpty());
+
+        container.addListener(owner, change -> {});
+        container.addListener(owner, change -> {});
+
+        assertFalse(container.isEmpty());
+        assertEquals(2, container.size());
+        final var owners = new ArrayList<>();
+        container.forEachOwner((stateful, listeners) -> owners.add(stateful));
+        assertEquals(List.of(owner), owners);
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class ParallelDispatchTest {
+
+    private static final int OWNERS = 64;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final List<Object> owners = new ArrayList<>();
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void runsEveryListener() {
+        final var state = parallelState();
+        for (int i = 0; i < OWNERS; i++) addOwner(state, this::slowRun);
+
+        state.trigger();
+
+        assertEquals(OWNERS, runs.get());
+    }
+
+    @Test
+    void errorOnTriggeringThreadWaitsForOtherChunks() {
+        final var state = parallelState();
+        for (int i = 0; i < OWNERS - 1; i++) addOwner(state, this::slowRun);
+        // The last chunk runs on the triggering thread
+        addOwner(state, () -> {
+            throw new ListenerError();
+        });
+
+        assertThrows(ListenerError.class, state::trigger);
+        assertEquals(OWNERS - 1, runs.get());
+    }
+
+    private MutableState<Integer> parallelState() {
+        final var state = MutableState.of(0);
+        ((AbstractState) state).setParallelDispatch(ParallelDispatch.of(8, pool));
+        return state;
+    }
+
+    private void addOwner(final State state, final Runnable listener) {
+        final var owner = new Object();
+        owners.add(owner);
+        state.addListener(owner, listener);
+    }
+
+    private void slowRun() {
+        try {
+            Thread.sleep(2);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        runs.incrementAndGet();
+    }
+
+    private static final class ListenerError extends Error {
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class StateDispatcherTest {
+
+    private static final Object OWNER = new Object();
+
+    @Test
+    void failingListenerDoesNotDropOtherQueuedTriggers() {
+        final var source = MutableState.of(0);
+        final var failing = MutableState.of(0);
+        final var unrelated = MutableState.of(0);
+        final List<String> ran = new ArrayList<>();
+
+        source.addListener(OWNER, () -> {
+            failing.set(source.get());
+            unrelated.set(source.get());
+        });
+        failing.addListener(OWNER, () -> {
+            throw new IllegalStateException("failing");
+        });
+        unrelated.addListener(OWNER, () -> ran.add("unrelated"));
+
+        final var thrown = assertThrows(IllegalStateException.class, () -> source.set(1));
+        assertEquals("failing", thrown.getMessage());
+        assertEquals(List.of("unrelated"), ran);
+        assertFalse(StateDispatcher.isDispatching());
+
+        // Nothing is left queued for the next dispatch
+        ran.clear();
+        unrelated.set(2);
+        assertEquals(List.of("unrelated"), ran);
+    }
+
+    @Test
+    void laterFailuresAreSuppressed() {
+        final var source = MutableState.of(0);
+        final var first = MutableState.of(0);
+        final var second = MutableState.of(0);
+        final var firstFailure = new IllegalStateException("first");
+        final var secondFailure = new IllegalArgumentException("second");
+
+        source.addListener(OWNER, () -> {
+            first.set(source.get());
+            second.set(source.get());
+        });
+        first.addListener(OWNER, () -> {
+            throw firstFailure;
+        });
+        second.addListener(OWNER, () -> {
+            throw secondFailure;
+        });
+
+        final var thrown = assertThrows(IllegalStateException.class, () -> source.set(1));
+        assertSame(firstFailure, thrown);
+        assertEquals(List.of(secondFailure), List.of(thrown.getSuppressed()));
+    }
+
+    @Test
+    void failingBatchStillNotifiesWhatChanged() {
+        final var state = MutableState.of(0);
+        final List<Integer> seen = new ArrayList<>();
+        state.addListener(OWNER, () -> seen.add(state.get()));
+
+        assertThrows(IllegalStateException.class, () -> StateDispatcher.batch(() -> {
+            state.set(1);
+            throw new IllegalStateException("batch");
+        }));
+        assertEquals(List.of(1), seen);
+    }
+}
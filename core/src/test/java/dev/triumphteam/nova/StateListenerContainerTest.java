@@ -0,0 +1,149 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+final class StateListenerContainerTest {
+
+    private final StateListenerContainer container = new StateListenerContainer();
+    private final List<Integer> runs = new ArrayList<>();
+
+    @Test
+    void runsListenersInOrderAcrossManyOwners() {
+        final var owners = owners(1_000);
+        for (int i = 0; i < owners.size(); i++) {
+            final var value = i;
+            container.addListener(owners.get(i), () -> runs.add(value));
+        }
+
+        container.triggerAll();
+
+        assertEquals(1_000, runs.size());
+        for (int i = 0; i < runs.size(); i++) assertEquals(i, runs.get(i));
+    }
+
+    @Test
+    void removesListenersOfManyOwners() {
+        final var owners = owners(20_000);
+        final var listeners = new ArrayList<Runnable>();
+        for (int i = 0; i < owners.size(); i++) {
+            final var value = i;
+            final Runnable listener = () -> runs.add(value);
+            listeners.add(listener);
+            container.addListener(owners.get(i), listener);
+        }
+
+        // Every other owner, so the removed slots are spread out
+        for (int i = 0; i < owners.size(); i += 2) {
+            assertTrue(container.removeListener(owners.get(i), listeners.get(i)));
+        }
+        assertFalse(container.removeListener(owners.get(0), listeners.get(0)));
+        assertEquals(10_000, container.size());
+
+        container.triggerAll();
+        assertEquals(10_000, runs.size());
+        for (int i = 0; i < runs.size(); i++) assertEquals(i * 2 + 1, runs.get(i));
+    }
+
+    @Test
+    void keepsListenersOfTheSameOwnerTogether() {
+        final var first = new Object();
+        final var second = new Object();
+        container.addListener(first, () -> runs.add(1));
+        container.addListener(second, () -> runs.add(2));
+        container.addListener(first, () -> runs.add(3));
+
+        container.triggerAll();
+
+        assertEquals(List.of(1, 3, 2), runs);
+    }
+
+    @Test
+    void keyedListenerReplacesInPlace() {
+        final var owner = new Object();
+        container.addListener(owner, KeyedListener.of("a", () -> runs.add(1)));
+        container.addListener(owner, () -> runs.add(2));
+        container.addListener(owner, KeyedListener.of("a", () -> runs.add(3)));
+
+        container.triggerAll();
+
+        assertEquals(List.of(3, 2), runs);
+        assertEquals(2, container.size());
+    }
+
+    @Test
+    void forgetsCollectedOwners() {
+        final var kept = new Object();
+        container.addListener(kept, () -> runs.add(1));
+        final var collected = addCollectable();
+
+        collect(collected);
+        container.triggerAll();
+
+        assertEquals(List.of(1), runs);
+        assertEquals(1, container.size());
+    }
+
+    @Test
+    void parallelTriggerForgetsCollectedOwners() {
+        container.setParallelDispatch(ParallelDispatch.of(1));
+        final var owners = owners(4);
+        owners.forEach(owner -> container.addListener(owner, () -> {}));
+        final var collected = addCollectable();
+
+        collect(collected);
+        container.triggerAll();
+
+        final var counted = new ArrayList<>();
+        container.forEachOwner((owner, listeners) -> counted.add(owner));
+        assertEquals(owners, counted);
+    }
+
+    private WeakReference<Object> addCollectable() {
+        final var owner = new Object();
+        container.addListener(owner, () -> runs.add(-1));
+        return new WeakReference<>(owner);
+    }
+
+    private static void collect(final WeakReference<Object> reference) {
+        for (int i = 0; i < 10 && reference.get() != null; i++) System.gc();
+        assumeTrue(reference.get() == null, "The owner wasn't collected.");
+    }
+
+    private static List<Object> owners(final int amount) {
+        final var owners = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) owners.add(new Object());
+        return owners;
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+final class StateTest {
+
+    private static final Object OWNER = new Object();
+
+    @Test
+    void stateWithoutRemovalStillWorks() {
+        final var state = new ListeningState();
+        final Runnable listener = () -> {};
+
+        state.addListener(OWNER, listener);
+        assertFalse(state.removeListener(OWNER, listener));
+        assertFalse(state.removeKeyedListener(OWNER, "key"));
+
+        // Keyed listeners fall back to adding, as nothing can be removed
+        state.addListener(OWNER, "key", listener);
+        assertEquals(2, state.listeners.size());
+    }
+
+    /**
+     * A third-party state that only implements the abstract methods of {@link State}.
+     */
+    private static final class ListeningState implements State {
+
+        private final List<Runnable> listeners = new ArrayList<>();
+
+        @Override
+        public void trigger() {
+            listeners.forEach(Runnable::run);
+        }
+
+        @Override
+        public void addListener(final @NotNull Object stateful, final @NotNull Runnable listener) {
+            listeners.add(listener);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Guards the steady state trigger path, setting or triggering a state with a stable set of listeners must not allocate.
+ */
+final class TriggerAllocationTest {
+
+    private static final int LISTENERS = 200;
+    private static final int CALLS = 1_000_000;
+    private static final int WARM_UP = 50_000;
+    private static final int ROUNDS = 3;
+
+    // Listener owners are weakly referenced, they are kept here for the duration of the test
+    private final List<Object> owners = new ArrayList<>();
+    private long runs;
+
+    private MutableState<String> state;
+
+    @BeforeEach
+    void setUp() {
+        state = MutableState.of("a");
+        for (int i = 0; i < LISTENERS; i++) {
+            final var owner = new Object();
+            owners.add(owner);
+            state.addListener(owner, () -> runs++);
+        }
+    }
+
+    @Test
+    void setDoesNotAllocate() {
+        setAlternating(WARM_UP);
+
+        final var allocated = Allocations.minimum(ROUNDS, () -> {
+            runs = 0;
+            setAlternating(CALLS);
+        });
+
+        assertEquals((long) CALLS * LISTENERS, runs);
+        assertEquals(0, allocated, "set allocated " + allocated + " bytes over " + CALLS + " calls.");
+    }
+
+    @Test
+    void triggerDoesNotAllocate() {
+        trigger(WARM_UP);
+
+        final var allocated = Allocations.minimum(ROUNDS, () -> {
+            runs = 0;
+            trigger(CALLS);
+        });
+
+        assertEquals((long) CALLS * LISTENERS, runs);
+        assertEquals(0, allocated, "trigger allocated " + allocated + " bytes over " + CALLS + " calls.");
+    }
+
+    private void setAlternating(final int calls) {
+        for (int i = 0; i < calls; i++) {
+            state.set((i & 1) == 0 ? "b" : "a");
+        }
+    }
+
+    private void trigger(final int calls) {
+        for (int i = 0; i < calls; i++) {
+            state.trigger();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.aggregate;
+
+import dev.triumphteam.nova.ListState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class GroupingAggregatorTest {
+
+    private static final Object OWNER = new Object();
+
+    @Test
+    void groupsFollowTheSource() {
+        final ListState<String> source = ListState.of(new ArrayList<>(List.of("apple", "avocado", "banana")));
+        final var state = AggregateState.of(source, Aggregates.groupingCount((String value) -> value.charAt(0)));
+        assertEquals(Map.of('a', 2, 'b', 1), state.get());
+
+        source.add("cherry");
+        source.remove("banana");
+        source.set(0, "blueberry");
+        assertEquals(Map.of('a', 1, 'b', 1, 'c', 1), state.get());
+
+        source.clear();
+        assertTrue(state.get().isEmpty());
+    }
+
+    @Test
+    void resultIsUpdatedInPlace() {
+        final ListState<String> source = ListState.of(new ArrayList<>(List.of("apple")));
+        final var state = AggregateState.of(source, Aggregates.groupingCount((String value) -> value.charAt(0)));
+        final var result = state.get();
+
+        source.add("banana");
+        assertSame(result, state.get());
+        assertEquals(Map.of('a', 1, 'b', 1), result);
+    }
+
+    @Test
+    void resetOnlyTriggersWhenGroupsChanged() {
+        final ListState<String> source = ListState.of(new ArrayList<>(List.of("apple", "banana")));
+        final var state = AggregateState.of(source, Aggregates.groupingCount((String value) -> value.charAt(0)));
+        final List<Map<Character, Integer>> seen = new ArrayList<>();
+        state.addListener(OWNER, () -> seen.add(Map.copyOf(state.get())));
+
+        // Sorting resets the aggregate, the groups stay the same
+        source.sort(null);
+        assertEquals(List.of(), seen);
+
+        source.replaceAll(value -> "c" + value);
+        assertEquals(Map.of('c', 2), state.get());
+        assertEquals(Map.of('c', 2), seen.get(seen.size() - 1));
+    }
+}
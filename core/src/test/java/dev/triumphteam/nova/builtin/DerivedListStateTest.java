@@ -0,0 +1,92 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.ListChange;
+import dev.triumphteam.nova.ListState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class DerivedListStateTest {
+
+    private static final Object OWNER = new Object();
+
+    @Test
+    void filteredViewFollowsTheSource() {
+        final ListState<Integer> source = ListState.of(new ArrayList<>(List.of(1, 2, 3, 4)));
+        final var even = source.filtered(value -> value % 2 == 0);
+        final List<Integer> mirror = new ArrayList<>(even);
+        even.addChangeListener(OWNER, change -> apply(mirror, change));
+
+        source.add(6);
+        source.remove(Integer.valueOf(2));
+        source.set(0, 8);
+        source.removeIf(value -> value > 5);
+
+        assertEquals(List.of(4), List.copyOf(even));
+        assertEquals(List.copyOf(even), mirror);
+    }
+
+    @Test
+    void sortedViewStaysSorted() {
+        final ListState<String> source = ListState.of(new ArrayList<>(List.of("c", "a")));
+        final var sorted = source.sorted(Comparator.naturalOrder());
+        final List<String> mirror = new ArrayList<>(sorted);
+        sorted.addChangeListener(OWNER, change -> apply(mirror, change));
+
+        source.add("b");
+        source.set(0, "d");
+        source.remove("a");
+
+        assertEquals(List.of("b", "d"), List.copyOf(sorted));
+        assertEquals(List.copyOf(sorted), mirror);
+    }
+
+    /**
+     * Applies a described change to a plain list, the way a listener mirroring the view would.
+     */
+    private static <T> void apply(final List<T> mirror, final ListChange<? extends T> change) {
+        switch (change.type()) {
+            case INSERT:
+                mirror.addAll(change.index(), change.elements());
+                break;
+            case REMOVE:
+                mirror.subList(change.index(), change.index() + change.removed().size()).clear();
+                break;
+            case REPLACE:
+                mirror.set(change.index(), change.elements().get(0));
+                break;
+            case MOVE:
+                mirror.add(change.toIndex(), mirror.remove(change.index()));
+                break;
+            default:
+                throw new AssertionError("Derived views describe their changes, got " + change);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.MapChange;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class Int2ObjectOpenHashMapStateTest {
+
+    private static final Object OWNER = new Object();
+
+    @Test
+    void changesAreDescribed() {
+        final var state = new Int2ObjectOpenHashMapState<String>();
+        final List<String> changes = new ArrayList<>();
+        state.addChangeListener(OWNER, change -> changes.add(change.toString()));
+
+        state.put(0, "zero");
+        state.put(1, "one");
+        state.put(1, "uno");
+        state.remove(0);
+        state.entrySet().iterator().next().setValue("eins");
+
+        assertEquals(
+            List.of(
+                "MapChange{add 0=zero}",
+                "MapChange{add 1=one}",
+                "MapChange{replace 1=one with uno}",
+                "MapChange{remove 0=zero}",
+                "MapChange{replace 1=uno with eins}"
+            ),
+            changes
+        );
+    }
+
+    @Test
+    void removalsThroughTheIteratorAreDescribed() {
+        final var state = new Int2ObjectOpenHashMapState<String>();
+        for (int key = 0; key < 32; key++) state.put(key, "v" + key);
+        final List<MapChange<? extends Integer, ? extends String>> changes = new ArrayList<>();
+        state.addChangeListener(OWNER, changes::add);
+
+        final var iterator = state.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final var entry = iterator.next();
+            if (entry.getKey() % 2 == 0) iterator.remove();
+        }
+
+        assertEquals(16, changes.size());
+        for (final var change : changes) {
+            assertEquals(MapChange.Type.REMOVE, change.type());
+            assertEquals("v" + change.key(), change.previous());
+        }
+        state.clear();
+        assertEquals(32, changes.size());
+    }
+
+    @Test
+    void indexFollowsEachEntry() {
+        final var state = new Int2ObjectOpenHashMapState<String>();
+        state.put(1, "apple");
+        final var index = state.index("letter", (String value) -> value.charAt(0));
+
+        state.put(2, "avocado");
+        state.put(1, "banana");
+        state.remove(2);
+
+        assertEquals(Set.of(), index.get('a'));
+        assertEquals(Set.of(1), index.get('b'));
+        assertEquals(Map.of(1, "banana"), Map.copyOf(state));
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.ListChange;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class KeyedArrayListStateTest {
+
+    private final Object owner = new Object();
+    private final KeyedArrayListState<String, Item> state = new KeyedArrayListState<>(Item::key);
+    private final List<Item> mirror = new ArrayList<>();
+    private final List<ListChange.Type> changes = new ArrayList<>();
+    private int triggers;
+
+    @BeforeEach
+    void setUp() {
+        state.addAll(List.of(new Item("d", 4), new Item("b", 2), new Item("e", 5), new Item("a", 1), new Item("c", 3)));
+        mirror.addAll(state);
+        state.addListener(owner, () -> triggers++);
+        state.addChangeListener(owner, change -> {
+            changes.add(change.type());
+            if (change.type() == ListChange.Type.RESET) {
+                mirror.clear();
+                mirror.addAll(state);
+            } else {
+                change.applyTo(mirror);
+            }
+        });
+    }
+
+    @Test
+    void sortReindexesAndTriggersOnce() {
+        Collections.sort(state, Comparator.comparing(Item::key));
+
+        assertEquals(List.of("a", "b", "c", "d", "e"), keys());
+        for (int i = 0; i < state.size(); i++) assertEquals(i, state.indexOfKey(state.get(i).key()));
+        assertEquals(1, triggers);
+        assertEquals(List.of(ListChange.Type.RESET), changes);
+        assertEquals(List.copyOf(state), mirror);
+    }
+
+    @Test
+    void replaceAllCanSwapKeys() {
+        // Every key moves to another element, which set() would reject one element at a time
+        state.replaceAll(item -> new Item(String.valueOf((char) ('a' + 'e' - item.key().charAt(0))), item.value()));
+
+        assertEquals(List.of("b", "d", "a", "e", "c"), keys());
+        assertEquals(new Item("a", 5), state.getByKey("a"));
+        assertEquals(2, state.indexOfKey("a"));
+        assertEquals(1, triggers);
+        assertEquals(List.copyOf(state), mirror);
+    }
+
+    @Test
+    void replaceAllWithDuplicateKeysLeavesTheListUntouched() {
+        assertThrows(IllegalArgumentException.class, () -> state.replaceAll(item -> new Item("x", item.value())));
+
+        assertEquals(List.of("d", "b", "e", "a", "c"), keys());
+        assertEquals(3, state.indexOfKey("a"));
+        assertFalse(state.containsKey("x"));
+        assertEquals(0, triggers);
+    }
+
+    @Test
+    void removeIfRemovesRangesAndTriggersOnce() {
+        assertTrue(state.removeIf(item -> item.value() != 2 && item.value() != 3));
+
+        assertEquals(List.of("b", "c"), keys());
+        assertEquals(1, state.indexOfKey("c"));
+        assertFalse(state.containsKey("d"));
+        assertEquals(1, triggers);
+        assertEquals(List.copyOf(state), mirror);
+
+        assertFalse(state.removeIf(item -> false));
+        assertEquals(1, triggers);
+    }
+
+    @Test
+    void retainAllKeepsIndexesInSync() {
+        assertTrue(state.retainAll(List.of(new Item("a", 1), new Item("d", 4))));
+
+        assertEquals(List.of("d", "a"), keys());
+        assertEquals(1, state.indexOfKey("a"));
+        assertEquals(1, triggers);
+        assertEquals(List.copyOf(state), mirror);
+    }
+
+    private @NotNull List<String> keys() {
+        final var keys = new ArrayList<String>();
+        state.forEach(item -> keys.add(item.key()));
+        return keys;
+    }
+
+    private record Item(@NotNull String key, int value) {}
+}
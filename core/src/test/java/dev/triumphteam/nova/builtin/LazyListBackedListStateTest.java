@@ -0,0 +1,84 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class LazyListBackedListStateTest {
+
+    private static final Object OWNER = new Object();
+
+    @Test
+    void backingIsBuiltOnceOnFirstAccess() {
+        final var built = new AtomicInteger();
+        final var state = new LazyListBackedListState<String>(() -> {
+            built.incrementAndGet();
+            return new ArrayList<>(List.of("a"));
+        });
+        final var triggers = new AtomicInteger();
+        state.addListener(OWNER, triggers::incrementAndGet);
+        assertFalse(state.isInitialized());
+        assertEquals(0, built.get());
+
+        state.add("b");
+        assertTrue(state.isInitialized());
+        assertEquals(List.of("a", "b"), List.copyOf(state));
+        assertEquals(1, built.get());
+        assertEquals(1, triggers.get());
+    }
+
+    @Test
+    void releasingDoesNotBuildTheBacking() {
+        final var built = new AtomicInteger();
+        final var state = new LazyListBackedListState<String>(() -> {
+            built.incrementAndGet();
+            return new ArrayList<>();
+        });
+
+        state.release();
+        assertTrue(state.isReleased());
+        assertEquals(0, built.get());
+        assertThrows(IllegalStateException.class, state::size);
+    }
+
+    @Test
+    void releasingClearsABuiltBacking() {
+        final var backing = new ArrayList<>(List.of("a"));
+        final var state = new LazyListBackedListState<>(() -> backing);
+        assertEquals(1, state.size());
+
+        state.release();
+        assertTrue(backing.isEmpty());
+        assertFalse(state.isInitialized());
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class LazyMapBackedMapStateTest {
+
+    @Test
+    void backingIsBuiltOnceOnFirstAccess() {
+        final var built = new AtomicInteger();
+        final var state = new LazyMapBackedMapState<String, Integer>(() -> {
+            built.incrementAndGet();
+            return new HashMap<>(Map.of("a", 1));
+        });
+        assertFalse(state.isInitialized());
+
+        state.put("b", 2);
+        assertEquals(Map.of("a", 1, "b", 2), Map.copyOf(state));
+        assertEquals(1, built.get());
+    }
+
+    @Test
+    void releasingDoesNotBuildTheBacking() {
+        final var built = new AtomicInteger();
+        final var state = new LazyMapBackedMapState<String, Integer>(() -> {
+            built.incrementAndGet();
+            return new HashMap<>();
+        });
+
+        state.release();
+        assertTrue(state.isReleased());
+        assertEquals(0, built.get());
+    }
+}
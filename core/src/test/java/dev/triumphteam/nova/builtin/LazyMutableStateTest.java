@@ -0,0 +1,69 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.MutableState;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class LazyMutableStateTest {
+
+    private static final Object OWNER = new Object();
+
+    @Test
+    void valueIsComputedOnceWithoutTriggering() {
+        final var computed = new AtomicInteger();
+        final var state = MutableState.lazy(() -> "value" + computed.incrementAndGet());
+        final var triggers = new AtomicInteger();
+        state.addListener(OWNER, triggers::incrementAndGet);
+        assertFalse(state.isInitialized());
+        assertEquals("LazyMutableState{uninitialized}", state.toString());
+
+        assertEquals("value1", state.get());
+        assertEquals("value1", state.get());
+        assertTrue(state.isInitialized());
+        assertEquals(1, computed.get());
+        assertEquals(0, triggers.get());
+    }
+
+    @Test
+    void settingBeforeReadingSkipsTheInitializerResult() {
+        final var state = MutableState.lazy(() -> "initial");
+        final var triggers = new AtomicInteger();
+        state.addListener(OWNER, triggers::incrementAndGet);
+
+        state.set("set");
+        assertEquals("set", state.get());
+        assertEquals(1, triggers.get());
+
+        // Same as the current value, nothing to notify
+        state.set("set");
+        assertEquals(1, triggers.get());
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.ListState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class ListWindowStateTest {
+
+    private static final Object OWNER = new Object();
+
+    @Test
+    void onlyChangesAffectingTheRangeTrigger() {
+        final ListState<Integer> source = ListState.of(new ArrayList<>(List.of(0, 1, 2, 3, 4, 5)));
+        final var window = source.window(1, 2);
+        final var triggers = new AtomicInteger();
+        window.addListener(OWNER, triggers::incrementAndGet);
+        assertEquals(List.of(1, 2), List.copyOf(window));
+
+        // After the window
+        source.set(4, 40);
+        source.add(6);
+        assertEquals(0, triggers.get());
+
+        // Inside the window and before it, shifting it
+        source.set(2, 20);
+        source.add(0, -1);
+        assertEquals(2, triggers.get());
+        assertEquals(List.of(0, 1), List.copyOf(window));
+    }
+
+    @Test
+    void movingTheWindowShowsTheNewRange() {
+        final ListState<Integer> source = ListState.of(new ArrayList<>(List.of(0, 1, 2)));
+        final var window = source.window(0, 2);
+
+        window.setOffset(2);
+        assertEquals(List.of(2), List.copyOf(window));
+        assertThrows(UnsupportedOperationException.class, () -> window.add(3));
+    }
+}
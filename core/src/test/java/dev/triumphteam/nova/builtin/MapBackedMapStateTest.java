@@ -0,0 +1,64 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.MapState;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final class MapBackedMapStateTest {
+
+    @Test
+    void indexIsReusedByName() {
+        final MapState<String, String> state = MapState.of();
+        state.put("a", "apple");
+
+        // Two different lambdas, as written at two call sites
+        final var first = state.index("letter", (String value) -> value.charAt(0));
+        final var second = state.index("letter", (String value) -> value.charAt(0));
+        assertSame(first, second);
+
+        state.put("b", "avocado");
+        assertEquals(Set.of("a", "b"), second.get('a'));
+    }
+
+    @Test
+    void keyAndValueViewsRemoveThroughTheState() {
+        final MapState<String, Integer> state = MapState.of();
+        state.put("a", 1);
+        state.put("b", 2);
+        final var index = state.index("parity", (Integer value) -> value % 2);
+
+        state.keySet().removeIf("a"::equals);
+        state.values().removeIf(value -> value == 2);
+
+        assertEquals(0, state.size());
+        assertEquals(Set.of(), index.get(0));
+        assertEquals(Set.of(), index.get(1));
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class PrimitiveListStateTest {
+
+    private static final Object OWNER = new Object();
+
+    @Test
+    void intArrayListMovesGaps() {
+        final var state = new IntArrayListState();
+        for (int i = 0; i < 20; i++) state.addInt(i);
+        state.addInt(0, -1);
+        state.addAll(1, List.of(100, 101));
+        state.removeIntAt(3);
+        state.remove(Integer.valueOf(19));
+
+        final var expected = new int[21];
+        expected[0] = -1;
+        expected[1] = 100;
+        expected[2] = 101;
+        for (int i = 3; i < 21; i++) expected[i] = i - 2;
+        assertArrayEquals(expected, state.toIntArray());
+    }
+
+    @Test
+    void longArrayListMovesGaps() {
+        final var state = new LongArrayListState(1L, 2L, 3L);
+        state.addAllLongs(4L, 5L);
+        state.addLong(1, 10L);
+        state.removeLong(3L);
+        state.set(0, 7L);
+
+        assertArrayEquals(new long[]{7L, 10L, 2L, 4L, 5L}, state.toLongArray());
+        assertEquals(List.of(7L, 10L, 2L, 4L, 5L), List.copyOf(state));
+    }
+
+    @Test
+    void bulkOperationsTriggerOnce() {
+        final var state = new IntArrayListState(1, 2, 3, 4, 5, 6);
+        final var triggers = new AtomicInteger();
+        state.addListener(OWNER, triggers::incrementAndGet);
+
+        state.removeAll(List.of(2, 4));
+        assertEquals(1, triggers.get());
+        state.retainAll(List.of(1, 3, 6));
+        assertEquals(2, triggers.get());
+        assertFalse(state.retainAll(List.of(1, 3, 6)));
+        assertEquals(2, triggers.get());
+        state.subList(0, 2).clear();
+        assertEquals(List.of(6), List.copyOf(state));
+    }
+
+    @Test
+    void boxedViewRejectsForeignElements() {
+        final var state = new LongArrayListState(1L, 2L);
+
+        assertFalse(state.contains(1));
+        assertFalse(state.remove("1"));
+        assertEquals(-1, state.indexOf(1));
+        assertThrows(NullPointerException.class, () -> state.add(null));
+        assertEquals(List.of(1L, 2L), List.copyOf(state));
+    }
+
+    @Test
+    void offHeapIntListMovesGaps() {
+        try (final var state = OffHeapIntListState.allocate(2)) {
+            state.addAllInts(1, 2, 3, 4);
+            state.addInt(0, 0);
+            state.addAll(2, List.of(10, 11));
+            state.removeIntAt(1);
+            state.removeAll(List.of(4));
+
+            assertArrayEquals(new int[]{0, 10, 11, 2, 3}, state.toIntArray());
+            assertEquals(List.of(0, 10, 11, 2, 3), List.copyOf(state));
+        }
+    }
+
+    @Test
+    void offHeapLongListWritesTriggerOnce() {
+        try (final var state = OffHeapLongListState.allocate(1)) {
+            final var triggers = new AtomicInteger();
+            state.addListener(OWNER, triggers::incrementAndGet);
+
+            state.addAllLongs(LongBuffer.wrap(new long[]{1L, 2L}));
+            state.write(1, 3, buffer -> buffer.put(new long[]{20L, 30L, 40L}));
+
+            assertEquals(2, triggers.get());
+            assertArrayEquals(new long[]{1L, 20L, 30L, 40L}, state.toLongArray());
+        }
+    }
+
+    @Test
+    void mappedLongListSurvivesReopening(final @TempDir Path directory) throws IOException {
+        final var file = directory.resolve("longs.bin");
+        try (final var state = OffHeapLongListState.mapped(file)) {
+            state.addAllLongs(5L, 6L, 7L);
+            state.removeLong(6L);
+        }
+
+        final var state = OffHeapLongListState.mapped(file);
+        assertArrayEquals(new long[]{5L, 7L}, state.toLongArray());
+        state.close();
+        assertTrue(state.isClosed());
+        assertEquals("OffHeapLongListState{closed}", state.toString());
+    }
+}
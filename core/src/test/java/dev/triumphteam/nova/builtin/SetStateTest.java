@@ -0,0 +1,103 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.IntSetState;
+import dev.triumphteam.nova.SetChange;
+import dev.triumphteam.nova.SetState;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+final class SetStateTest {
+
+    private static final Object OWNER = new Object();
+
+    @Test
+    void setChangesAreDescribed() {
+        final SetState<String> state = SetState.of(new HashSet<>(Set.of("a")));
+        final Set<String> mirror = new HashSet<>(state);
+        state.addChangeListener(OWNER, change -> apply(mirror, change));
+
+        state.add("b");
+        state.add("c");
+        state.remove("a");
+        final var iterator = state.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().equals("b")) iterator.remove();
+        }
+        state.retainAll(Set.of("d"));
+
+        assertEquals(Set.of(), Set.copyOf(state));
+        assertEquals(Set.copyOf(state), mirror);
+    }
+
+    @Test
+    void unchangedSetDoesNotTrigger() {
+        final SetState<String> state = SetState.of(new HashSet<>(Set.of("a")));
+        final var triggers = new AtomicInteger();
+        state.addListener(OWNER, triggers::incrementAndGet);
+
+        state.add("a");
+        state.remove("b");
+        assertEquals(0, triggers.get());
+    }
+
+    @Test
+    void intSetChangesAreDescribed() {
+        final var state = IntSetState.of(0, 1, 2);
+        final Set<Integer> mirror = new HashSet<>(state);
+        state.addChangeListener(OWNER, change -> apply(mirror, change));
+
+        state.addInt(3);
+        state.removeInt(0);
+        assertFalse(state.addInt(1));
+        state.addAllInts(4, 5);
+
+        final var elements = state.toIntArray();
+        Arrays.sort(elements);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, elements);
+        assertEquals(Set.copyOf(state), mirror);
+    }
+
+    private static <T> void apply(final Set<T> mirror, final SetChange<? extends T> change) {
+        switch (change.type()) {
+            case ADD:
+                mirror.addAll(change.elements());
+                break;
+            case REMOVE:
+                change.elements().forEach(mirror::remove);
+                break;
+            default:
+                throw new AssertionError("Sets describe their changes, got " + change);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.builtin;
+
+import dev.triumphteam.nova.MutableState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class SoftMutableStateTest {
+
+    private final Object owner = new Object();
+    private String input = "computed";
+    private int computations;
+    private int triggers;
+    private SoftMutableState<String> state;
+
+    @BeforeEach
+    void setUp() {
+        state = MutableState.soft(() -> {
+            computations++;
+            return new String(input);
+        });
+        state.addListener(owner, () -> triggers++);
+    }
+
+    @Test
+    void regeneratingDoesNotTrigger() {
+        state.evict();
+        assertFalse(state.isValuePresent());
+
+        assertEquals("computed", state.get());
+        assertEquals(1, state.getRegenerations());
+        assertEquals(0, triggers);
+    }
+
+    @Test
+    void explicitValueSurvivesEviction() {
+        state.set("explicit");
+        state.evict();
+
+        assertTrue(state.isValuePresent());
+        assertEquals("explicit", state.get());
+        assertEquals(0, state.getRegenerations());
+        assertEquals(1, triggers);
+    }
+
+    @Test
+    void setDoesNotRegenerateACollectedValue() {
+        state.evict();
+        final var before = computations;
+
+        state.set("explicit");
+
+        assertEquals(before, computations);
+        assertEquals("explicit", state.get());
+        assertEquals(1, triggers);
+    }
+
+    @Test
+    void setWithTheSameValueDoesNotTrigger() {
+        state.set("computed");
+
+        assertEquals(0, triggers);
+    }
+
+    @Test
+    void recomputeReplacesTheExplicitValue() {
+        state.set("explicit");
+        state.recompute();
+
+        assertEquals("computed", state.get());
+        assertEquals(2, triggers);
+
+        state.evict();
+        assertEquals("computed", state.get());
+        assertEquals(2, triggers);
+    }
+
+    @Test
+    void recomputeOnlyTriggersWhenTheValueChanged() {
+        state.recompute();
+        assertEquals(0, triggers);
+
+        input = "changed";
+        state.recompute();
+        assertEquals("changed", state.get());
+        assertEquals(1, triggers);
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.diff;
+
+import dev.triumphteam.nova.ListChange;
+import dev.triumphteam.nova.ListState;
+import dev.triumphteam.nova.builtin.KeyedArrayListState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class ListDiffTest {
+
+    private final Object owner = new Object();
+    private final List<ListChange<? extends String>> changes = new ArrayList<>();
+    private int triggers;
+
+    @Test
+    void diffTurnsOneListIntoTheOther() {
+        final var from = List.of("a", "b", "c", "d", "e");
+        final var to = List.of("a", "x", "c", "e", "f");
+
+        final var mirror = new ArrayList<>(from);
+        ListDiff.diff(from, to).forEach(change -> change.applyTo(mirror));
+
+        assertEquals(to, mirror);
+    }
+
+    @Test
+    void keyedDiffMovesReorderedElements() {
+        final var from = List.of("a", "b", "c", "d");
+        final var to = List.of("d", "a", "b", "c");
+
+        final var diff = ListDiff.diff(from, to, Function.identity());
+
+        assertEquals(1, diff.size());
+        assertEquals(ListChange.Type.MOVE, diff.get(0).type());
+    }
+
+    @Test
+    void removedRangeIsOneChange() {
+        final var state = ListState.of(new ArrayList<>(List.of("a", "b", "c", "d", "e", "f")));
+        observe(state);
+
+        ListDiff.apply(state, List.of("a", "f"));
+
+        assertEquals(List.of("a", "f"), List.copyOf(state));
+        assertEquals(1, changes.size());
+        assertEquals(ListChange.Type.REMOVE, changes.get(0).type());
+        assertEquals(List.of("b", "c", "d", "e"), changes.get(0).removed());
+        assertEquals(1, triggers);
+    }
+
+    @Test
+    void keyedStateRemovesRangesAtOnce() {
+        final var state = new KeyedArrayListState<String, String>(Function.identity());
+        state.addAll(List.of("a", "b", "c", "d", "e"));
+        observe(state);
+
+        ListDiff.apply(state, List.of("a", "e"), Function.identity());
+
+        assertEquals(List.of("a", "e"), List.copyOf(state));
+        assertEquals(1, changes.size());
+        assertEquals(1, state.indexOfKey("e"));
+        assertEquals(1, triggers);
+    }
+
+    @Test
+    void subListClearIsOneChange() {
+        final var state = ListState.of(new ArrayList<>(List.of("a", "b", "c", "d")));
+        observe(state);
+
+        state.subList(1, 3).clear();
+
+        assertEquals(List.of("a", "d"), List.copyOf(state));
+        assertEquals(1, changes.size());
+        assertEquals(1, triggers);
+    }
+
+    private void observe(final ListState<String> state) {
+        state.addListener(owner, () -> triggers++);
+        state.addChangeListener(owner, changes::add);
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.holder;
+
+import dev.triumphteam.nova.Allocations;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the heap allocated by short-lived holders, each remembering a few small states with a listener,
+ * between {@link AbstractStateHolder} and {@link ArenaStateHolder}.
+ */
+final class ArenaAllocationTest {
+
+    private static final int HOLDERS = 10_000;
+    private static final int STATES = 8;
+
+    private static final Object OWNER = new Object();
+    private static final Runnable LISTENER = () -> {};
+
+    @Test
+    void arenaAllocatesLessThanAbstractHolder() {
+        final Supplier<StateHolder> simple = SimpleHolder::new;
+        final Supplier<StateHolder> arena = ArenaHolder::new;
+
+        // Warm up both paths before measuring
+        openHolders(simple, HOLDERS);
+        openHolders(arena, HOLDERS);
+
+        final var simpleBytes = Allocations.measure(() -> openHolders(simple, HOLDERS));
+        final var arenaBytes = Allocations.measure(() -> openHolders(arena, HOLDERS));
+
+        assertTrue(arenaBytes > 0 && simpleBytes > 0, "Remembering states must be measured as allocating.");
+        assertTrue(
+            arenaBytes < simpleBytes * 3 / 4,
+            "Arena allocated " + arenaBytes / HOLDERS + " bytes per holder, abstract holder " + simpleBytes / HOLDERS + "."
+        );
+    }
+
+    private void openHolders(final @NotNull Supplier<StateHolder> factory, final int holders) {
+        for (int i = 0; i < holders; i++) {
+            final var holder = factory.get();
+            for (int j = 0; j < STATES; j++) {
+                final var state = holder.remember(Boolean.FALSE);
+                state.addListener(OWNER, LISTENER);
+                state.set(Boolean.TRUE);
+            }
+            if (holder instanceof ArenaStateHolder) ((ArenaStateHolder) holder).close();
+        }
+    }
+
+    private static final class SimpleHolder extends AbstractStateHolder {}
+
+    private static final class ArenaHolder extends ArenaStateHolder {
+
+        private ArenaHolder() {
+            super(STATES);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.holder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ArenaStateHolderTest {
+
+    private final ArenaHolder holder = new ArenaHolder();
+    private final Object owner = new Object();
+    private final List<String> runs = new ArrayList<>();
+
+    @Test
+    void listenerRemovingTheNextOneKeepsTheRest() {
+        final var state = holder.remember(0);
+        final Runnable second = () -> runs.add("b");
+        state.addListener(owner, () -> {
+            runs.add("a");
+            state.removeListener(owner, second);
+        });
+        state.addListener(owner, second);
+        state.addListener(owner, () -> runs.add("c"));
+
+        state.set(1);
+        assertEquals(List.of("a", "c"), runs);
+
+        runs.clear();
+        state.set(2);
+        assertEquals(List.of("a", "c"), runs);
+    }
+
+    @Test
+    void listenerRemovingItselfKeepsTheRest() {
+        final var state = holder.remember(0);
+        final Runnable[] self = new Runnable[1];
+        self[0] = () -> {
+            runs.add("a");
+            state.removeListener(owner, self[0]);
+        };
+        state.addListener(owner, self[0]);
+        state.addListener(owner, () -> runs.add("b"));
+
+        state.set(1);
+        state.set(2);
+
+        assertEquals(List.of("a", "b", "b"), runs);
+    }
+
+    @Test
+    void removedEntriesAreNotReusedDuringTheRun() {
+        final var state = holder.remember(0);
+        final Runnable second = () -> runs.add("b");
+        state.addListener(owner, () -> {
+            runs.add("a");
+            // The freed entry of "b" must not be handed to "d" while the run still points at it
+            state.removeListener(owner, second);
+            state.addListener(owner, () -> runs.add("d"));
+        });
+        state.addListener(owner, second);
+        state.addListener(owner, () -> runs.add("c"));
+
+        state.set(1);
+        assertEquals(List.of("a", "c", "d"), runs.subList(0, 3));
+
+        runs.clear();
+        state.set(2);
+        assertEquals("a", runs.get(0));
+        assertEquals(List.of("c", "d"), runs.subList(1, 3));
+    }
+
+    @Test
+    void closedHolderRejectsStates() {
+        final var state = holder.remember("value");
+        state.addListener(owner, holder::close);
+
+        state.set("other");
+
+        assertTrue(holder.isClosed());
+        assertThrows(IllegalStateException.class, state::get);
+    }
+
+    private static final class ArenaHolder extends ArenaStateHolder {}
+}
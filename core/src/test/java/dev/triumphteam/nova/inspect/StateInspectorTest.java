@@ -0,0 +1,70 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.inspect;
+
+import dev.triumphteam.nova.ListState;
+import dev.triumphteam.nova.builtin.LazyListBackedListState;
+import dev.triumphteam.nova.holder.AbstractStateHolder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+final class StateInspectorTest {
+
+    private static final Object OWNER = new Object();
+
+    private final StateInspector inspector = new StateInspector();
+    private final AbstractStateHolder holder = new AbstractStateHolder() {};
+
+    @Test
+    void lazyStatesAreNotBuilt() {
+        final var built = new AtomicInteger();
+        final var state = holder.remember(new LazyListBackedListState<String>(() -> {
+            built.incrementAndGet();
+            return new ArrayList<>();
+        }));
+        inspector.register(holder);
+
+        inspector.inspect();
+        assertFalse(state.isInitialized());
+        assertEquals(0, built.get());
+    }
+
+    @Test
+    void changeListenersAreCounted() {
+        final var source = holder.remember(ListState.<String>of());
+        source.addListener(OWNER, () -> {});
+        // The filtered view listens to the changes of the source
+        final var filtered = source.filtered(value -> !value.isEmpty());
+        inspector.register(holder);
+
+        final var report = inspector.inspect().states().get(0);
+        assertEquals(2, report.listeners());
+        assertEquals(1, report.listenersByOwnerType().get(filtered.getClass().getName()));
+    }
+}
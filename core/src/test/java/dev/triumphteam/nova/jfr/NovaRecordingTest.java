@@ -0,0 +1,71 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.jfr;
+
+import dev.triumphteam.nova.MutableState;
+import dev.triumphteam.nova.holder.AbstractStateHolder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final class NovaRecordingTest {
+
+    @Test
+    void holderIsKnownWithoutRecording() {
+        final var holder = new TestHolder();
+        final var state = holder.remember(MutableState.of(0));
+
+        assertSame(TestHolder.class, NovaRecording.holderType(state));
+    }
+
+    @Test
+    void statesRememberedBeforeRecordingReportTheirHolder(final @TempDir Path directory) throws IOException {
+        final var holder = new TestHolder();
+        final var state = holder.remember(MutableState.of(0));
+
+        final var file = directory.resolve("nova.jfr");
+        try (final var recording = new Recording()) {
+            recording.enable(StateTriggerEvent.class).withoutThreshold();
+            recording.start();
+            state.set(1);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final var events = RecordingFile.readAllEvents(file);
+        assertEquals(1, events.size());
+        final RecordedClass holderType = events.get(0).getValue("holderType");
+        assertEquals(TestHolder.class.getName(), holderType.getName());
+    }
+
+    private static final class TestHolder extends AbstractStateHolder {}
+}
@@ -0,0 +1,110 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.pool;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class StatePoolTest {
+
+    private final StatePool pool = new StatePool();
+
+    @Test
+    void staleHolderCloseDoesNotCloseNextHolder() {
+        final var stale = pool.holder();
+        stale.close();
+
+        final var next = pool.holder();
+        stale.close();
+
+        assertNotSame(stale, next);
+        assertFalse(next.isClosed());
+    }
+
+    @Test
+    void staleListDoesNotReachNextOwner() {
+        final var first = pool.holder();
+        final List<String> stale = first.rememberList();
+        stale.add("a");
+        first.close();
+
+        final var second = pool.holder();
+        final List<String> list = second.rememberList();
+        list.add("b");
+
+        assertNotSame(stale, list);
+        assertThrows(IllegalStateException.class, () -> stale.add("c"));
+        assertThrows(IllegalStateException.class, stale::size);
+        assertThrows(IllegalStateException.class, stale::iterator);
+        assertEquals(List.of("b"), list);
+    }
+
+    @Test
+    void staleMapDoesNotReachNextOwner() {
+        final var first = pool.holder();
+        final Map<String, Integer> stale = first.rememberMap();
+        stale.put("a", 1);
+        first.close();
+
+        final var second = pool.holder();
+        final Map<String, Integer> map = second.rememberMap();
+        map.put("b", 2);
+
+        assertThrows(IllegalStateException.class, () -> stale.put("c", 3));
+        assertThrows(IllegalStateException.class, () -> stale.get("b"));
+        assertThrows(IllegalStateException.class, () -> stale.keySet().size());
+        assertEquals(Map.of("b", 2), map);
+    }
+
+    @Test
+    void releasedListDropsItsListeners() {
+        final var holder = pool.holder();
+        final List<String> list = holder.rememberList();
+        final var runs = new int[1];
+        ((Recyclable) list).addListener(this, () -> runs[0]++);
+        list.add("a");
+        holder.close();
+
+        final var next = pool.<String>list();
+        next.add("b");
+
+        assertEquals(1, runs[0]);
+        assertTrue(((Recyclable) list).isReleased());
+    }
+
+    @Test
+    void releasedStateIsReleasedOnce() {
+        final var list = pool.<String>list();
+        assertTrue(pool.release((Recyclable) list));
+        assertFalse(pool.release((Recyclable) list));
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.snapshot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class SnapshotListStateTest {
+
+    private final Object owner = new Object();
+    private final SnapshotListState<Integer> state = new SnapshotListState<>(List.of(3, 1, 4, 1, 5));
+    private int triggers;
+
+    @BeforeEach
+    void setUp() {
+        state.addListener(owner, () -> triggers++);
+    }
+
+    @Test
+    void bulkMutatorsTriggerOnce() {
+        Collections.sort(state, Comparator.naturalOrder());
+        assertEquals(List.of(1, 1, 3, 4, 5), List.copyOf(state));
+        assertEquals(1, triggers);
+
+        state.replaceAll(element -> element * 10);
+        assertEquals(List.of(10, 10, 30, 40, 50), List.copyOf(state));
+        assertEquals(2, triggers);
+
+        assertTrue(state.removeIf(element -> element == 10));
+        assertFalse(state.removeIf(element -> element == 10));
+        assertEquals(List.of(30, 40, 50), List.copyOf(state));
+        assertEquals(3, triggers);
+
+        state.move(0, 2);
+        assertEquals(List.of(40, 50, 30), List.copyOf(state));
+        assertEquals(4, triggers);
+    }
+
+    @Test
+    void mutableSnapshotWritesAreIsolatedUntilApplied() {
+        try (final var snapshot = Snapshot.takeMutableSnapshot()) {
+            snapshot.enter(() -> {
+                state.sort(null);
+                state.removeIf(element -> element == 1);
+                assertEquals(List.of(3, 4, 5), List.copyOf(state));
+            });
+
+            assertEquals(List.of(3, 1, 4, 1, 5), List.copyOf(state));
+            assertEquals(0, triggers);
+
+            assertTrue(snapshot.apply().isSuccess());
+        }
+
+        assertEquals(List.of(3, 4, 5), List.copyOf(state));
+        assertEquals(1, triggers);
+    }
+
+    @Test
+    void readOnlySnapshotKeepsItsVersion() {
+        try (final var snapshot = Snapshot.takeSnapshot()) {
+            state.sort(null);
+
+            snapshot.enter(() -> {
+                assertEquals(List.of(3, 1, 4, 1, 5), List.copyOf(state));
+                assertThrows(IllegalStateException.class, () -> state.removeIf(element -> true));
+            });
+            assertEquals(List.of(1, 1, 3, 4, 5), List.copyOf(state));
+        }
+    }
+
+    @Test
+    void concurrentSnapshotWritesConflict() {
+        try (
+            final var first = Snapshot.takeMutableSnapshot();
+            final var second = Snapshot.takeMutableSnapshot()
+        ) {
+            first.enter(() -> state.add(9));
+            second.enter(() -> state.sort(null));
+
+            assertTrue(first.apply().isSuccess());
+            final var result = second.apply();
+
+            assertFalse(result.isSuccess());
+            assertEquals(List.of(state), result.getConflicts());
+        }
+
+        assertEquals(List.of(3, 1, 4, 1, 5, 9), List.copyOf(state));
+        assertEquals(1, triggers);
+    }
+
+    @Test
+    void oldRecordsArePrunedOnceNoSnapshotNeedsThem() {
+        for (int i = 0; i < 10; i++) state.add(i);
+        assertEquals(1, state.records());
+
+        try (final var snapshot = Snapshot.takeSnapshot()) {
+            for (int i = 0; i < 10; i++) state.add(i);
+            // The version the snapshot reads and every newer one are kept
+            assertEquals(11, state.records());
+            snapshot.enter(() -> assertEquals(15, state.size()));
+        }
+
+        state.add(0);
+        assertEquals(1, state.records());
+        assertEquals(26, state.size());
+    }
+}
@@ -40,12 +40,27 @@ public operator fun <T> MutableState<T>.setValue(thisRef: Any?, property: KPrope
 /** Allows you to use Kotlin's delegate feature to get the state as a [MutableList]. */
 public operator fun <T> ListState<T>.getValue(thisRef: Any?, property: KProperty<*>): MutableList<T> = this
 
+/** Allows you to use Kotlin's delegate feature to get the state as a [MutableSet]. */
+public operator fun <T> SetState<T>.getValue(thisRef: Any?, property: KProperty<*>): MutableSet<T> = this
+
+/** Allows you to use Kotlin's delegate feature to get the state as a [MutableMap]. */
+public operator fun <K, V> MapState<K, V>.getValue(thisRef: Any?, property: KProperty<*>): MutableMap<K, V> = this
+
 /** Creates a [MutableState] with a default value. */
 public fun <T> mutableStateOf(
     value: T,
     mutationPolicy: StateMutationPolicy<T> = StateMutationPolicy.StructuralEquality()
 ): MutableState<T> = SimpleMutableState(value, mutationPolicy)
 
+/**
+ * Creates a [MutableState] whose value is only computed by the [initializer] when first accessed.
+ * Works with the [MutableState] delegates, `var value by lazyMutableStateOf { expensive() }`.
+ */
+public fun <T> lazyMutableStateOf(
+    mutationPolicy: StateMutationPolicy<T> = StateMutationPolicy.StructuralEquality(),
+    initializer: () -> T,
+): MutableState<T> = MutableState.lazy(initializer, mutationPolicy)
+
 /** Creates an empty state. */
 public fun emptyState(): State = State.empty()
 
@@ -58,6 +73,9 @@ public fun <T : Any> mutableListStateOf(backing: MutableList<T> = LinkedList()):
 /** Create a new list state from the given elements. */
 public fun <T : Any> mutableListStateOf(vararg elements: T): ListState<T> = ListState.of(mutableListOf(*elements))
 
+/** Creates a new list state whose backing [MutableList] is only built by the [initializer] when first accessed. */
+public fun <T : Any> lazyListStateOf(initializer: () -> MutableList<T>): ListState<T> = ListState.lazy(initializer)
+
 /** Create a new map state from a backing map. */
 public fun <K : Any, V : Any> mutableMapStateOf(backing: MutableMap<K, V> = mutableMapOf()): MapState<K, V> =
     MapState.of(backing)
@@ -66,7 +84,26 @@ public fun <K : Any, V : Any> mutableMapStateOf(backing: MutableMap<K, V> = muta
 public fun <K : Any, V : Any> mutableMapStateOf(vararg elements: Pair<K, V>): MapState<K, V> =
     MapState.of<K, V>().apply { putAll(elements) }
 
+/** Creates a new map state whose backing [MutableMap] is only built by the [initializer] when first accessed. */
+public fun <K : Any, V : Any> lazyMapStateOf(initializer: () -> MutableMap<K, V>): MapState<K, V> =
+    MapState.lazy(initializer)
+
 /** Make the [StateHolder] remember a [MapState] of key [K] and value [V] from the given values. */
 public fun <K : Any, V : Any> StateHolder.rememberMap(vararg elements: Pair<K, V>): Map<K, V> {
     return rememberMap(mutableMapOf<K, V>().apply { putAll(elements) })
 }
+
+/**
+ * Creates a new set state from the given [backing] [MutableSet].
+ * Or an empty [backing] [LinkedHashSet] if none is given.
+ */
+public fun <T : Any> mutableSetStateOf(backing: MutableSet<T> = linkedSetOf()): SetState<T> = SetState.of(backing)
+
+/** Create a new set state from the given elements, keeping their order. */
+public fun <T : Any> mutableSetStateOf(vararg elements: T): SetState<T> = SetState.of(linkedSetOf(*elements))
+
+/** Create a new int set state from the given elements. */
+public fun mutableIntSetStateOf(vararg elements: Int): IntSetState = IntSetState.of(*elements)
+
+/** Make the [StateHolder] remember a [SetState] of [T] from the given [elements]. */
+public fun <T : Any> StateHolder.rememberSet(elements: Iterable<T>): SetState<T> = rememberSet(elements.toMutableSet())
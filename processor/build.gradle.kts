@@ -0,0 +1,29 @@
+import com.vanniktech.maven.publish.JavaLibrary
+import com.vanniktech.maven.publish.JavadocJar
+import ext.configurePlatform
+
+plugins {
+    id("nova.base")
+    id("nova.library")
+}
+
+dependencies {
+    // The generated sources extend the core models, the tests compile them
+    testImplementation(projects.nova)
+    testImplementation(platform(libs.junit.bom))
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly(libs.junit.launcher)
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+mavenPublishing {
+    configurePlatform(
+        platform = JavaLibrary(
+            javadocJar = JavadocJar.Javadoc(),
+            sourcesJar = true,
+        )
+    )
+}
@@ -0,0 +1,164 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.processor;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.type.TypeKind;
+import java.util.Locale;
+
+/**
+ * A single field of a {@code @Stateful} model, as it will be generated.
+ */
+final class ModelField {
+
+    private final String name;
+    private final String type;
+    private final TypeKind kind;
+    private final String getter;
+    private final boolean override;
+    private final boolean setterOverride;
+    private final Element element;
+
+    ModelField(
+        final @NotNull String name,
+        final @NotNull String type,
+        final @NotNull TypeKind kind,
+        final @NotNull String getter,
+        final boolean override,
+        final @NotNull Element element
+    ) {
+        this(name, type, kind, getter, override, false, element);
+    }
+
+    private ModelField(
+        final @NotNull String name,
+        final @NotNull String type,
+        final @NotNull TypeKind kind,
+        final @NotNull String getter,
+        final boolean override,
+        final boolean setterOverride,
+        final @NotNull Element element
+    ) {
+        this.name = name;
+        this.type = type;
+        this.kind = kind;
+        this.getter = getter;
+        this.override = override;
+        this.setterOverride = setterOverride;
+        this.element = element;
+    }
+
+    /**
+     * A copy of this field whose setter implements a method of the model interface.
+     */
+    @NotNull ModelField withSetterOverride() {
+        return new ModelField(name, type, kind, getter, override, true, element);
+    }
+
+    /**
+     * The name of the field, also used for the constructor parameter.
+     */
+    @NotNull String name() {
+        return name;
+    }
+
+    /**
+     * The source representation of the type of the field.
+     */
+    @NotNull String type() {
+        return type;
+    }
+
+    /**
+     * The name of the accessor, the record component or the interface method.
+     */
+    @NotNull String getter() {
+        return getter;
+    }
+
+    /**
+     * The element the errors of the field are reported on, the record or the interface method.
+     */
+    @NotNull Element element() {
+        return element;
+    }
+
+    /**
+     * Whether the accessor implements a method of the model interface.
+     */
+    boolean override() {
+        return override;
+    }
+
+    /**
+     * Whether the setter implements a method of the model interface.
+     */
+    boolean setterOverride() {
+        return setterOverride;
+    }
+
+    /**
+     * The name of the setter, {@code setName}.
+     */
+    @NotNull String setter() {
+        return "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * The name of the field index constant, {@code NAME} in upper snake case.
+     */
+    @NotNull String constant() {
+        final var builder = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            final var c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(name.charAt(i - 1))) builder.append('_');
+            builder.append(Character.toUpperCase(c));
+        }
+        return builder.toString().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Compares the current value with the given one without boxing, returning a source expression
+     * that is true when they are the same.
+     */
+    @NotNull String sameExpression(final @NotNull String current, final @NotNull String value) {
+        switch (kind) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case CHAR:
+            case INT:
+            case LONG:
+                return current + " == " + value;
+            case FLOAT:
+                return "Float.floatToIntBits(" + current + ") == Float.floatToIntBits(" + value + ")";
+            case DOUBLE:
+                return "Double.doubleToLongBits(" + current + ") == Double.doubleToLongBits(" + value + ")";
+            default:
+                return "java.util.Objects.equals(" + current + ", " + value + ")";
+        }
+    }
+}
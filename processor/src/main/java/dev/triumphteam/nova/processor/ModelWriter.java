@@ -0,0 +1,197 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.processor;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the source of the state class generated for a {@code @Stateful} model.
+ */
+final class ModelWriter {
+
+    private final String packageName;
+    private final String className;
+    private final String modelName;
+    private final boolean record;
+    private final List<ModelField> fields;
+    private final boolean generatedAnnotation;
+    private final StringBuilder builder = new StringBuilder();
+
+    ModelWriter(
+        final @NotNull String packageName,
+        final @NotNull String className,
+        final @NotNull String modelName,
+        final boolean record,
+        final @NotNull List<ModelField> fields,
+        final boolean generatedAnnotation
+    ) {
+        this.packageName = packageName;
+        this.className = className;
+        this.modelName = modelName;
+        this.record = record;
+        this.fields = fields;
+        this.generatedAnnotation = generatedAnnotation;
+    }
+
+    @NotNull String write() {
+        if (!packageName.isEmpty()) line("package " + packageName + ";").line("");
+
+        line("/**");
+        line(" * State class of {@link " + modelName + "}, generated from its {@code @Stateful} annotation.");
+        line(" * Every field has an index constant that can be used with {@link #addFieldListener(Object, int, Runnable)}.");
+        line(" */");
+        if (generatedAnnotation) line("@javax.annotation.processing.Generated(\"" + StatefulProcessor.class.getName() + "\")");
+        line("public final class " + className + " extends " + StatefulProcessor.MODEL
+            + (record ? "" : " implements " + modelName) + " {");
+        line("");
+
+        for (int i = 0; i < fields.size(); i++) {
+            final var field = fields.get(i);
+            line("    /** Index of the {@code " + field.name() + "} field. */");
+            line("    public static final int " + field.constant() + " = " + i + ";");
+        }
+        line("    /** The amount of fields. */");
+        line("    public static final int FIELD_COUNT = " + fields.size() + ";");
+        line("");
+
+        for (final var field : fields) {
+            line("    private " + field.type() + " " + field.name() + ";");
+        }
+        if (!fields.isEmpty()) line("");
+
+        writeConstructor();
+        writeFactory();
+        for (final var field : fields) {
+            writeAccessors(field);
+        }
+        writeSetAll();
+        if (record) writeToRecord();
+        writeToString();
+
+        return line("}").builder.toString();
+    }
+
+    private void writeConstructor() {
+        final var parameters = fields.stream()
+            .map(field -> "final " + field.type() + " " + field.name())
+            .collect(Collectors.joining(", "));
+        line("    public " + className + "(" + parameters + ") {");
+        line("        super(FIELD_COUNT);");
+        for (final var field : fields) {
+            line("        this." + field.name() + " = " + field.name() + ";");
+        }
+        line("    }");
+        line("");
+    }
+
+    private void writeFactory() {
+        line("    /**");
+        line("     * Creates a state with the values of the given model.");
+        line("     *");
+        line("     * @param model The model to copy the values from.");
+        line("     * @return A new {@link " + className + "}.");
+        line("     */");
+        line("    public static " + className + " of(final " + modelName + " model) {");
+        line("        return new " + className + "(" + values("model.") + ");");
+        line("    }");
+        line("");
+    }
+
+    private void writeAccessors(final @NotNull ModelField field) {
+        if (field.override()) line("    @Override");
+        line("    public " + field.type() + " " + field.getter() + "() {");
+        line("        return " + field.name() + ";");
+        line("    }");
+        line("");
+
+        line("    /**");
+        line("     * Sets the {@code " + field.name() + "} field, triggering only if the value changed.");
+        line("     *");
+        line("     * @param " + field.name() + " The new value.");
+        line("     */");
+        if (field.setterOverride()) line("    @Override");
+        line("    public void " + field.setter() + "(final " + field.type() + " " + field.name() + ") {");
+        line("        if (" + field.sameExpression("this." + field.name(), field.name()) + ") return;");
+        line("        this." + field.name() + " = " + field.name() + ";");
+        line("        fieldChanged(" + field.constant() + ");");
+        line("    }");
+        line("");
+    }
+
+    private void writeSetAll() {
+        line("    /**");
+        line("     * Copies every value of the given model, triggering once for all the fields that changed.");
+        line("     *");
+        line("     * @param model$ The model to copy the values from.");
+        line("     */");
+        line("    public void set(final " + modelName + " model$) {");
+        for (final var field : fields) {
+            final var value = "model$." + field.getter() + "()";
+            line("        final " + field.type() + " " + field.name() + " = " + value + ";");
+            line("        if (!(" + field.sameExpression("this." + field.name(), field.name()) + ")) {");
+            line("            this." + field.name() + " = " + field.name() + ";");
+            line("            markChanged(" + field.constant() + ");");
+            line("        }");
+        }
+        line("        flushChanges();");
+        line("    }");
+        line("");
+    }
+
+    private void writeToRecord() {
+        line("    /**");
+        line("     * Creates a record with the current values.");
+        line("     *");
+        line("     * @return A new {@link " + modelName + "}.");
+        line("     */");
+        line("    public " + modelName + " toRecord() {");
+        line("        return new " + modelName + "(" + values("") + ");");
+        line("    }");
+        line("");
+    }
+
+    private void writeToString() {
+        line("    @Override");
+        line("    public String toString() {");
+        final var values = fields.stream()
+            .map(field -> field.name() + "=\" + " + field.name())
+            .collect(Collectors.joining(" + \",", "\"", ""));
+        line("        return \"" + className + "{\" + " + (fields.isEmpty() ? "" : values + " + ") + "\"}\";");
+        line("    }");
+    }
+
+    private @NotNull String values(final @NotNull String receiver) {
+        return fields.stream()
+            .map(field -> receiver.isEmpty() ? field.name() : receiver + field.getter() + "()")
+            .collect(Collectors.joining(", "));
+    }
+
+    private @NotNull ModelWriter line(final @NotNull String line) {
+        builder.append(line).append('\n');
+        return this;
+    }
+}
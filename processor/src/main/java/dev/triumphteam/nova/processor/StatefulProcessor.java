@@ -0,0 +1,367 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the state classes of {@code @Stateful} records and interfaces.
+ * The generated classes extend {@code dev.triumphteam.nova.model.AbstractStatefulModel},
+ * they only use plain fields and typed accessors so nothing is reflected or boxed at runtime.
+ */
+public final class StatefulProcessor extends AbstractProcessor {
+
+    static final String STATEFUL = "dev.triumphteam.nova.model.Stateful";
+    static final String MODEL = "dev.triumphteam.nova.model.AbstractStatefulModel";
+    private static final int MAX_FIELDS = 64;
+    // Members the writer adds next to the accessors, see ModelWriter
+    private static final Set<String> GENERATED_METHODS = Set.of("of", "set", "toRecord", "toString");
+    private static final String FIELD_COUNT = "FIELD_COUNT";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(STATEFUL);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final @NotNull Set<? extends TypeElement> annotations, final @NotNull RoundEnvironment roundEnv) {
+        final var stateful = processingEnv.getElementUtils().getTypeElement(STATEFUL);
+        if (stateful == null) return false;
+
+        for (final var element : roundEnv.getElementsAnnotatedWith(stateful)) {
+            try {
+                generate((TypeElement) element);
+            } catch (final InvalidModelException exception) {
+                error(exception.getMessage(), exception.element == null ? element : exception.element);
+            } catch (final IOException exception) {
+                error("Could not write the state class: " + exception.getMessage(), element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(final @NotNull TypeElement type) throws IOException {
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new InvalidModelException("@Stateful types can't have type parameters.", type);
+        }
+
+        final List<ModelField> fields;
+        if (type.getKind() == ElementKind.RECORD) {
+            fields = recordFields(type);
+        } else if (type.getKind() == ElementKind.INTERFACE) {
+            fields = interfaceFields(type);
+        } else {
+            throw new InvalidModelException("@Stateful can only be used on records and interfaces.", type);
+        }
+
+        if (fields.size() > MAX_FIELDS) {
+            throw new InvalidModelException("@Stateful types can have at most " + MAX_FIELDS + " fields.", type);
+        }
+        checkNames(fields);
+
+        final var packageName = packageOf(type).getQualifiedName().toString();
+        final var className = className(type);
+        final var qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        final var source = new ModelWriter(
+            packageName,
+            className,
+            type.getQualifiedName().toString(),
+            type.getKind() == ElementKind.RECORD,
+            fields,
+            processingEnv.getElementUtils().getTypeElement("javax.annotation.processing.Generated") != null
+        ).write();
+
+        try (final var writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    private @NotNull List<ModelField> recordFields(final @NotNull TypeElement type) {
+        final var fields = new ArrayList<ModelField>();
+        for (final var component : type.getRecordComponents()) {
+            final var name = component.getSimpleName().toString();
+            // Errors go on the record, javac doesn't keep a source position for its components
+            fields.add(new ModelField(name, typeName(component.asType(), component), component.asType().getKind(), name, false, type));
+        }
+        return fields;
+    }
+
+    private @NotNull List<ModelField> interfaceFields(final @NotNull TypeElement type) {
+        final var methods = new LinkedHashMap<String, ExecutableElement>();
+        collectMethods(type, methods);
+
+        final var fields = new LinkedHashMap<String, ModelField>();
+        final var setters = new ArrayList<ExecutableElement>();
+        for (final var method : methods.values()) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) continue;
+            if (!method.getTypeParameters().isEmpty()) {
+                throw new InvalidModelException("@Stateful interface methods can't have type parameters.", method);
+            }
+
+            if (method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID) {
+                final var name = propertyName(method);
+                final var returnType = method.getReturnType();
+                final var previous = fields.put(
+                    name,
+                    new ModelField(name, typeName(returnType, method), returnType.getKind(), method.getSimpleName().toString(), true, method)
+                );
+                if (previous != null) {
+                    throw new InvalidModelException("More than one method maps to the field '" + name + "'.", method);
+                }
+                continue;
+            }
+
+            setters.add(method);
+        }
+
+        // Abstract setters are only allowed if they match a generated one
+        for (final var method : setters) {
+            final var field = fields.values().stream()
+                .filter(candidate -> candidate.setter().contentEquals(method.getSimpleName()))
+                .findFirst()
+                .orElse(null);
+            final var matches = field != null
+                && method.getParameters().size() == 1
+                && method.getReturnType().getKind() == TypeKind.VOID
+                && typeName(method.getParameters().get(0).asType(), method).equals(field.type());
+            if (!matches) {
+                throw new InvalidModelException(
+                    "@Stateful interfaces can only declare accessors without parameters and setters of those accessors.",
+                    method
+                );
+            }
+            fields.put(field.name(), field.withSetterOverride());
+        }
+
+        return new ArrayList<>(fields.values());
+    }
+
+    /**
+     * Checks that the generated accessors, setters and index constants clash neither with each other
+     * nor with the members of the generated class and its {@code AbstractStatefulModel} superclass.
+     */
+    private void checkNames(final @NotNull List<ModelField> fields) {
+        final var reservedMethods = new HashSet<>(GENERATED_METHODS);
+        final var reservedConstants = new HashSet<String>();
+        reservedConstants.add(FIELD_COUNT);
+
+        final var model = processingEnv.getElementUtils().getTypeElement(MODEL);
+        if (model != null) {
+            for (final var member : processingEnv.getElementUtils().getAllMembers(model)) {
+                if (member.getModifiers().contains(Modifier.PRIVATE)) continue;
+                if (member.getKind() == ElementKind.METHOD) reservedMethods.add(member.getSimpleName().toString());
+                else if (member.getKind() == ElementKind.FIELD) reservedConstants.add(member.getSimpleName().toString());
+            }
+        }
+
+        final var methods = new HashMap<String, ModelField>();
+        final var constants = new HashMap<String, ModelField>();
+        for (final var field : fields) {
+            for (final var method : List.of(field.getter(), field.setter())) {
+                if (reservedMethods.contains(method)) {
+                    throw new InvalidModelException(
+                        "The field '" + field.name() + "' would generate the method '" + method + "', which is already a member of the state class.",
+                        field.element()
+                    );
+                }
+                final var previous = methods.putIfAbsent(method, field);
+                if (previous != null && previous != field) {
+                    throw new InvalidModelException(
+                        "The fields '" + previous.name() + "' and '" + field.name() + "' would both generate the method '" + method + "'.",
+                        field.element()
+                    );
+                }
+            }
+
+            final var constant = field.constant();
+            if (reservedConstants.contains(constant)) {
+                throw new InvalidModelException(
+                    "The field '" + field.name() + "' would generate the constant '" + constant + "', which is already a member of the state class.",
+                    field.element()
+                );
+            }
+            final var previous = constants.put(constant, field);
+            if (previous != null) {
+                throw new InvalidModelException(
+                    "The fields '" + previous.name() + "' and '" + field.name() + "' would both generate the constant '" + constant + "'.",
+                    field.element()
+                );
+            }
+        }
+
+        // The private fields share the namespace of the constants
+        for (final var field : fields) {
+            final var constant = constants.get(field.name());
+            if (constant != null) {
+                throw new InvalidModelException(
+                    "The field '" + field.name() + "' has the same name as the constant generated for '" + constant.name() + "'.",
+                    field.element()
+                );
+            }
+        }
+    }
+
+    private void collectMethods(final @NotNull TypeElement type, final @NotNull Map<String, ExecutableElement> methods) {
+        for (final var method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getModifiers().contains(Modifier.STATIC)) continue;
+            methods.putIfAbsent(method.getSimpleName() + signature(method), method);
+        }
+        for (final var superInterface : type.getInterfaces()) {
+            collectMethods((TypeElement) ((DeclaredType) superInterface).asElement(), methods);
+        }
+    }
+
+    private @NotNull String signature(final @NotNull ExecutableElement method) {
+        return method.getParameters().stream()
+            .map(parameter -> processingEnv.getTypeUtils().erasure(parameter.asType()).toString())
+            .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private static @NotNull String propertyName(final @NotNull ExecutableElement method) {
+        final var name = method.getSimpleName().toString();
+        final var prefix = name.startsWith("get") ? 3 : name.startsWith("is") && method.getReturnType().getKind() == TypeKind.BOOLEAN ? 2 : 0;
+        if (prefix == 0 || name.length() == prefix || !Character.isUpperCase(name.charAt(prefix))) return name;
+        return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+    }
+
+    /**
+     * Prints the type as source, without the type annotations that {@link TypeMirror#toString()} may include.
+     */
+    private @NotNull String typeName(final @NotNull TypeMirror type, final @NotNull Element element) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case CHAR:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return type.getKind().name().toLowerCase(Locale.ROOT);
+            case ARRAY:
+                return typeName(((ArrayType) type).getComponentType(), element) + "[]";
+            case DECLARED: {
+                final var declared = (DeclaredType) type;
+                final var name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+                if (declared.getTypeArguments().isEmpty()) return name;
+                return declared.getTypeArguments().stream()
+                    .map(argument -> typeName(argument, element))
+                    .collect(Collectors.joining(", ", name + "<", ">"));
+            }
+            case WILDCARD: {
+                final var wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) return "? extends " + typeName(wildcard.getExtendsBound(), element);
+                if (wildcard.getSuperBound() != null) return "? super " + typeName(wildcard.getSuperBound(), element);
+                return "?";
+            }
+            case TYPEVAR:
+                throw new InvalidModelException("@Stateful fields can't use type variables.", element);
+            default:
+                // Error types are not generated yet, their name is the best there is
+                return type.toString();
+        }
+    }
+
+    private @NotNull String className(final @NotNull TypeElement type) {
+        final var name = annotationName(type);
+        if (name != null && !name.isEmpty()) return name;
+
+        final var builder = new StringBuilder(type.getSimpleName());
+        for (var enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+            builder.insert(0, ((TypeElement) enclosing).getSimpleName());
+        }
+        return builder.append("State").toString();
+    }
+
+    private static @Nullable String annotationName(final @NotNull TypeElement type) {
+        for (final AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(STATEFUL)) continue;
+            for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("name")) return (String) entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private static @NotNull PackageElement packageOf(final @NotNull Element element) {
+        var current = element;
+        while (!(current instanceof PackageElement)) current = current.getEnclosingElement();
+        return (PackageElement) current;
+    }
+
+    private void error(final @NotNull String message, final @NotNull Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * Thrown when a {@code @Stateful} type can't be generated, reported as a compilation error on the element.
+     */
+    private static final class InvalidModelException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient @Nullable Element element;
+
+        private InvalidModelException(final @NotNull String message, final @Nullable Element element) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class StatefulProcessorTest {
+
+    private static final Object OWNER = new Object();
+
+    @TempDir
+    private Path output;
+
+    @Test
+    void generatedRecordStateTriggersChangedFields() throws Exception {
+        final var diagnostics = compile(
+            "test.Point",
+            "package test;\n"
+                + "@dev.triumphteam.nova.model.Stateful\n"
+                + "public record Point(int x, String name) {}\n"
+        );
+        assertEquals(List.of(), diagnostics);
+
+        try (final var loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            final var type = loader.loadClass("test.PointState");
+            final var state = type.getConstructor(int.class, String.class).newInstance(1, "a");
+            final var triggers = new AtomicInteger();
+            final var field = type.getField("X").getInt(null);
+            type.getMethod("addFieldListener", Object.class, int.class, Runnable.class)
+                .invoke(state, OWNER, field, (Runnable) triggers::incrementAndGet);
+
+            type.getMethod("setX", int.class).invoke(state, 1);
+            type.getMethod("setName", String.class).invoke(state, "b");
+            assertEquals(0, triggers.get());
+
+            type.getMethod("setX", int.class).invoke(state, 2);
+            assertEquals(1, triggers.get());
+            assertEquals(2, type.getMethod("x").invoke(state));
+        }
+    }
+
+    @Test
+    void classesAreRejected() {
+        final var diagnostics = compile(
+            "test.Point",
+            "package test;\n"
+                + "@dev.triumphteam.nova.model.Stateful\n"
+                + "public class Point {}\n"
+        );
+
+        assertFalse(diagnostics.isEmpty());
+        assertTrue(diagnostics.get(0).contains("@Stateful can only be used on records and interfaces."), diagnostics.toString());
+    }
+
+    /**
+     * Compiles the source with the processor into the output directory.
+     *
+     * @return The error messages.
+     */
+    private @NotNull List<String> compile(final @NotNull String name, final @NotNull String source) {
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        final var collector = new DiagnosticCollector<JavaFileObject>();
+        final var file = new SimpleJavaFileObject(
+            URI.create("string:///" + name.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+            JavaFileObject.Kind.SOURCE
+        ) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+
+        final var task = compiler.getTask(
+            null,
+            null,
+            collector,
+            List.of("-d", output.toString(), "-classpath", System.getProperty("java.class.path")),
+            null,
+            List.of(file)
+        );
+        task.setProcessors(List.of(new StatefulProcessor()));
+        task.call();
+
+        return collector.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .map(diagnostic -> diagnostic.getMessage(null))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.replication;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A replicated state, keeps the versions of its values and the changes waiting for the next batch.
+ * Every method is called while holding the lock of the {@link Replicator},
+ * received values are only written to the state once the lock is released, so its listeners never run under it.
+ */
+abstract class Channel {
+
+    // Delta kinds, the foreign flag marks a delta written by another node than the one sending the batch
+    static final int VALUE = 0;
+    static final int PUT = 1;
+    static final int REMOVE = 2;
+    static final int FOREIGN = 0x80;
+
+    final String id;
+    final Replicator replicator;
+
+    Channel(final @NotNull String id, final @NotNull Replicator replicator) {
+        this.id = id;
+        this.replicator = replicator;
+    }
+
+    /**
+     * Writes the pending changes and forgets them.
+     *
+     * @param output The output to write to.
+     * @param sender The node sending the batch.
+     * @return The amount of deltas written.
+     * @throws IOException If a value can't be written.
+     */
+    abstract int writePending(final @NotNull DataOutput output, final @NotNull String sender) throws IOException;
+
+    /**
+     * Reads the deltas of a received batch and accepts the ones newer than the local values.
+     * The versions are updated right away, the writes to the state are added to the updates.
+     *
+     * @param input   The input to read from.
+     * @param sender  The node that sent the batch.
+     * @param updates Receives the writes to the state, run once the lock is released.
+     * @throws IOException If the deltas are malformed.
+     */
+    abstract void read(
+        final @NotNull DataInput input,
+        final @NotNull String sender,
+        final @NotNull List<Runnable> updates
+    ) throws IOException;
+
+    /**
+     * Queues every value that has a version again, used to bring other nodes up to date.
+     */
+    abstract void requeue();
+
+    /**
+     * Forgets the pending changes without writing them, used when they can't be encoded.
+     */
+    abstract void dropPending();
+
+    /**
+     * Stops capturing the changes of the state.
+     */
+    abstract void detach();
+
+    static void writeHeader(
+        final @NotNull DataOutput output,
+        final int kind,
+        final @NotNull Version version,
+        final @NotNull String sender
+    ) throws IOException {
+        final var foreign = !version.node().equals(sender);
+        output.writeByte(foreign ? kind | FOREIGN : kind);
+        Codecs.writeVarLong(output, version.counter());
+        if (foreign) output.writeUTF(version.node());
+    }
+
+    static @NotNull Version readVersion(
+        final @NotNull DataInput input,
+        final int header,
+        final @NotNull String sender
+    ) throws IOException {
+        final var counter = Codecs.readVarLong(input);
+        final var node = (header & FOREIGN) != 0 ? input.readUTF() : sender;
+        return new Version(counter, node);
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.replication;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * The built-in {@link ValueCodec}s and the variable length encoding used by the batches.
+ */
+final class Codecs {
+
+    static final ValueCodec<String> STRING = new ValueCodec<>() {
+        @Override
+        public void write(final @NotNull DataOutput output, final @NotNull String value) throws IOException {
+            output.writeUTF(value);
+        }
+
+        @Override
+        public @NotNull String read(final @NotNull DataInput input) throws IOException {
+            return input.readUTF();
+        }
+    };
+
+    static final ValueCodec<Integer> INTEGER = new ValueCodec<>() {
+        @Override
+        public void write(final @NotNull DataOutput output, final @NotNull Integer value) throws IOException {
+            writeVarLong(output, zigZag(value));
+        }
+
+        @Override
+        public @NotNull Integer read(final @NotNull DataInput input) throws IOException {
+            return (int) unZigZag(readVarLong(input));
+        }
+    };
+
+    static final ValueCodec<Long> LONG = new ValueCodec<>() {
+        @Override
+        public void write(final @NotNull DataOutput output, final @NotNull Long value) throws IOException {
+            writeVarLong(output, zigZag(value));
+        }
+
+        @Override
+        public @NotNull Long read(final @NotNull DataInput input) throws IOException {
+            return unZigZag(readVarLong(input));
+        }
+    };
+
+    static final ValueCodec<Double> DOUBLE = new ValueCodec<>() {
+        @Override
+        public void write(final @NotNull DataOutput output, final @NotNull Double value) throws IOException {
+            output.writeDouble(value);
+        }
+
+        @Override
+        public @NotNull Double read(final @NotNull DataInput input) throws IOException {
+            return input.readDouble();
+        }
+    };
+
+    static final ValueCodec<Boolean> BOOLEAN = new ValueCodec<>() {
+        @Override
+        public void write(final @NotNull DataOutput output, final @NotNull Boolean value) throws IOException {
+            output.writeBoolean(value);
+        }
+
+        @Override
+        public @NotNull Boolean read(final @NotNull DataInput input) throws IOException {
+            return input.readBoolean();
+        }
+    };
+
+    static final ValueCodec<UUID> UUID = new ValueCodec<>() {
+        @Override
+        public void write(final @NotNull DataOutput output, final @NotNull UUID value) throws IOException {
+            output.writeLong(value.getMostSignificantBits());
+            output.writeLong(value.getLeastSignificantBits());
+        }
+
+        @Override
+        public @NotNull UUID read(final @NotNull DataInput input) throws IOException {
+            return new UUID(input.readLong(), input.readLong());
+        }
+    };
+
+    private Codecs() {}
+
+    /**
+     * Writes a non-negative number in 7 bit groups, small numbers like versions and sizes take a single byte or two.
+     *
+     * @param output The output to write to.
+     * @param value  The number to write.
+     * @throws IOException If the output fails.
+     */
+    static void writeVarLong(final @NotNull DataOutput output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    static long readVarLong(final @NotNull DataInput input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final var current = input.readUnsignedByte();
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed variable length number.");
+    }
+
+    private static long zigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.replication;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * An in-memory network of {@link LoopbackTransport}s, meant for tests and for running several nodes in one process.
+ * Every batch sent by a transport is delivered right away to all the other connected transports.
+ */
+public final class LoopbackNetwork {
+
+    private final List<LoopbackTransport> transports = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a new transport connected to this network.
+     *
+     * @return A new {@link LoopbackTransport}.
+     */
+    public @NotNull LoopbackTransport connect() {
+        final var transport = new LoopbackTransport(this);
+        transports.add(transport);
+        return transport;
+    }
+
+    void deliver(final @NotNull LoopbackTransport sender, final byte @NotNull [] payload) {
+        for (final var transport : transports) {
+            if (transport != sender) transport.receive(payload.clone());
+        }
+    }
+
+    void disconnect(final @NotNull LoopbackTransport transport) {
+        transports.remove(transport);
+    }
+}
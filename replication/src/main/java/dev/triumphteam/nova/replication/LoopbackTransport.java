@@ -0,0 +1,90 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.replication;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A {@link ReplicationTransport} connected to a {@link LoopbackNetwork}.
+ * Keeps count of the traffic, so tests can check how compact the batches are.
+ */
+public final class LoopbackTransport implements ReplicationTransport {
+
+    private final LoopbackNetwork network;
+    private final AtomicLong sentBatches = new AtomicLong();
+    private final AtomicLong sentBytes = new AtomicLong();
+
+    private volatile @Nullable Consumer<byte[]> receiver;
+    private volatile boolean closed;
+
+    LoopbackTransport(final @NotNull LoopbackNetwork network) {
+        this.network = network;
+    }
+
+    @Override
+    public void send(final byte @NotNull [] payload) {
+        if (closed) throw new IllegalStateException("The transport is closed.");
+        sentBatches.incrementAndGet();
+        sentBytes.addAndGet(payload.length);
+        network.deliver(this, payload);
+    }
+
+    @Override
+    public void setReceiver(final @NotNull Consumer<byte @NotNull []> receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        network.disconnect(this);
+    }
+
+    /**
+     * The amount of batches sent through this transport.
+     *
+     * @return The sent batch count.
+     */
+    public long getSentBatches() {
+        return sentBatches.get();
+    }
+
+    /**
+     * The total size of the batches sent through this transport.
+     *
+     * @return The sent byte count.
+     */
+    public long getSentBytes() {
+        return sentBytes.get();
+    }
+
+    void receive(final byte @NotNull [] payload) {
+        final var current = receiver;
+        if (current != null && !closed) current.accept(payload);
+    }
+}
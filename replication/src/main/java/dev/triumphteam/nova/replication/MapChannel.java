@@ -0,0 +1,191 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.replication;
+
+import dev.triumphteam.nova.MapChange;
+import dev.triumphteam.nova.MapChangeListener;
+import dev.triumphteam.nova.MapState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Replicates a {@link MapState} entry by entry, only the latest value of each changed key is sent per tick.
+ * The versions of removed keys are kept, so an older put can't bring a removed entry back.
+ * <p>
+ * Maps that only report resets, such as snapshot maps, can't tell which keys changed, so a copy of the last
+ * replicated entries is kept for them and every reset compares the whole map against it.
+ * That copy doubles the references held for the map and makes each of its changes cost a full scan,
+ * but it keeps unchanged keys from getting a new version that would beat concurrent remote writes.
+ * Maps that describe their changes drop the copy on their first described change and cost nothing extra.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+final class MapChannel<K, V> extends Channel {
+
+    private final MapState<K, V> state;
+    private final ValueCodec<K> keyCodec;
+    private final ValueCodec<V> valueCodec;
+    private final MapChangeListener<K, V> listener = this::changed;
+
+    private final Map<K, Version> versions = new HashMap<>();
+    // The last entries captured or applied, only kept while the map reports resets instead of describing its changes
+    private @Nullable Map<K, V> known;
+    // The keys changed since the last batch, their values are read from the map when written
+    private final Map<K, Version> pending = new LinkedHashMap<>();
+
+    MapChannel(
+        final @NotNull String id,
+        final @NotNull Replicator replicator,
+        final @NotNull MapState<K, V> state,
+        final @NotNull ValueCodec<K> keyCodec,
+        final @NotNull ValueCodec<V> valueCodec
+    ) {
+        super(id, replicator);
+        this.state = state;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.known = new HashMap<>(state);
+        state.addChangeListener(this, listener);
+    }
+
+    @Override
+    int writePending(final @NotNull DataOutput output, final @NotNull String sender) throws IOException {
+        final var written = pending.size();
+        for (final var entry : pending.entrySet()) {
+            final var key = entry.getKey();
+            final var present = state.containsKey(key);
+            writeHeader(output, present ? PUT : REMOVE, entry.getValue(), sender);
+            keyCodec.write(output, key);
+            if (present) valueCodec.write(output, state.get(key));
+        }
+        pending.clear();
+        return written;
+    }
+
+    @Override
+    void read(final @NotNull DataInput input, final @NotNull String sender, final @NotNull List<Runnable> updates) throws IOException {
+        final var count = Codecs.readVarLong(input);
+        for (long i = 0; i < count; i++) {
+            final var header = input.readUnsignedByte();
+            final var kind = header & ~FOREIGN;
+            if (kind != PUT && kind != REMOVE) throw new IOException("Unexpected delta kind " + header + " for map " + id + ".");
+
+            final var remote = readVersion(input, header, sender);
+            final var key = keyCodec.read(input);
+            final var value = kind == PUT ? valueCodec.read(input) : null;
+            replicator.observe(remote);
+            if (!remote.isNewerThan(versions.get(key))) continue;
+
+            versions.put(key, remote);
+            pending.remove(key);
+            final var known = this.known;
+            if (kind == PUT) {
+                if (known != null) known.put(key, value);
+                updates.add(() -> state.put(key, value));
+            } else {
+                if (known != null) known.remove(key);
+                updates.add(() -> state.remove(key));
+            }
+        }
+    }
+
+    @Override
+    void requeue() {
+        if (versions.isEmpty()) return;
+        pending.putAll(versions);
+        replicator.markDirty(this);
+    }
+
+    @Override
+    void dropPending() {
+        pending.clear();
+    }
+
+    @Override
+    void detach() {
+        state.removeChangeListener(this, listener);
+    }
+
+    private void changed(final @NotNull MapChange<? extends K, ? extends V> change) {
+        // Entries written while applying a batch are already up to date
+        if (replicator.isApplying()) return;
+
+        synchronized (replicator.lock) {
+            if (change.type() == MapChange.Type.RESET) {
+                reset();
+                return;
+            }
+
+            // The map describes its changes, the copy of its entries is no longer needed
+            known = null;
+            if (change.type() == MapChange.Type.REPLACE && Objects.equals(change.previous(), change.value())) return;
+            markChanged(change.key());
+        }
+    }
+
+    private void reset() {
+        final var known = this.known;
+        if (known == null) {
+            // Only after described changes, nothing to compare with, so every key gets a new version once
+            final var keys = new HashSet<K>(state.keySet());
+            keys.addAll(versions.keySet());
+            keys.forEach(this::markChanged);
+            this.known = new HashMap<>(state);
+            return;
+        }
+
+        // Only the keys that differ from the known entries are sent
+        final var keys = new HashSet<K>(state.keySet());
+        keys.addAll(known.keySet());
+        for (final var key : keys) {
+            if (state.containsKey(key)) {
+                final var value = state.get(key);
+                if (known.containsKey(key) && Objects.equals(known.get(key), value)) continue;
+                known.put(key, value);
+            } else {
+                if (!known.containsKey(key)) continue;
+                known.remove(key);
+            }
+            markChanged(key);
+        }
+    }
+
+    private void markChanged(final K key) {
+        final var version = replicator.nextVersion();
+        versions.put(key, version);
+        pending.put(key, version);
+        replicator.markDirty(this);
+    }
+}
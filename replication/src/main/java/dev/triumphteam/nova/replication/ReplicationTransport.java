@@ -0,0 +1,59 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.replication;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries the encoded delta batches of a {@link Replicator} between nodes, usually on top of an existing messaging layer.
+ * A batch sent by a node must reach every other node, the node that sent it doesn't need to receive it back.
+ * Batches may arrive in any order and more than once, conflicts are resolved by the versions inside them.
+ *
+ * @see LoopbackNetwork
+ */
+public interface ReplicationTransport extends AutoCloseable {
+
+    /**
+     * Sends an encoded batch to the other nodes.
+     *
+     * @param payload The encoded batch, must not be modified after being sent.
+     */
+    void send(final byte @NotNull [] payload);
+
+    /**
+     * Sets where the batches received from other nodes go, replacing the previous receiver.
+     * The receiver may be called from any thread.
+     *
+     * @param receiver Receives the encoded batches.
+     */
+    void setReceiver(final @NotNull Consumer<byte @NotNull []> receiver);
+
+    /**
+     * Stops sending and receiving batches.
+     */
+    @Override
+    default void close() {}
+}
@@ -0,0 +1,401 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.replication;
+
+import dev.triumphteam.nova.MapState;
+import dev.triumphteam.nova.MutableState;
+import dev.triumphteam.nova.StateDispatcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps {@link MutableState}s and {@link MapState}s equal across several nodes, for example servers behind a proxy.
+ * <p>
+ * The effective changes of the replicated states are captured by their listeners and sent once per {@link #tick()},
+ * as one batch holding the latest value of every changed state or map entry with its version.
+ * Versions are Lamport counters tied to the node that wrote them, the greatest version wins,
+ * so every node ends up with the same values no matter the order the batches arrive in.
+ * <p>
+ * States are identified by the id given when replicating them, which must be the same on every node.
+ * Batches received before a state is replicated on this node are kept and applied once it is.
+ * Received batches are applied on the thread calling {@link #tick()}, which should be the thread mutating the states.
+ * Batches are decoded under the lock of the replicator, the received values are written to the states
+ * after releasing it, so the listeners of the states never run while holding the lock.
+ *
+ * @see ReplicationTransport
+ */
+public final class Replicator implements AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(Replicator.class.getName());
+
+    private static final int FORMAT = 1;
+    // Bodies received for a state that isn't replicated here yet, kept per state
+    private static final int MAX_ORPHANED_BODIES = 64;
+
+    final Object lock = new Object();
+
+    private final String nodeId;
+    private final ReplicationTransport transport;
+    private final Map<String, Channel> channels = new HashMap<>();
+    private final Set<Channel> dirty = new LinkedHashSet<>();
+    private final Map<String, Queue<Orphan>> orphans = new HashMap<>();
+    private final Queue<byte[]> inbound = new ConcurrentLinkedQueue<>();
+
+    private long clock;
+    private volatile @Nullable Thread applyingThread;
+    private volatile boolean closed;
+
+    private Replicator(final @NotNull String nodeId, final @NotNull ReplicationTransport transport) {
+        this.nodeId = nodeId;
+        this.transport = transport;
+        transport.setReceiver(inbound::add);
+    }
+
+    /**
+     * Creates a new replicator for this node.
+     *
+     * @param nodeId    The unique id of this node, also used to break ties between equal versions.
+     * @param transport The transport carrying the batches to the other nodes.
+     * @return A new {@link Replicator}.
+     */
+    public static @NotNull Replicator create(final @NotNull String nodeId, final @NotNull ReplicationTransport transport) {
+        return new Replicator(nodeId, transport);
+    }
+
+    /**
+     * Starts replicating the value of a {@link MutableState}.
+     *
+     * @param id    The id of the state, the same on every node.
+     * @param state The state to replicate.
+     * @param codec Writes and reads the value.
+     * @param <T>   The type of the value.
+     */
+    public <T> void replicate(final @NotNull String id, final @NotNull MutableState<T> state, final @NotNull ValueCodec<T> codec) {
+        final var updates = new ArrayList<Runnable>();
+        synchronized (lock) {
+            checkAvailable(id);
+            register(new ValueChannel<>(id, this, state, codec), updates);
+        }
+        apply(updates);
+    }
+
+    /**
+     * Starts replicating the entries of a {@link MapState}, each entry is versioned on its own,
+     * so different nodes can change different keys of the same map.
+     *
+     * @param id         The id of the state, the same on every node.
+     * @param state      The state to replicate.
+     * @param keyCodec   Writes and reads the keys.
+     * @param valueCodec Writes and reads the values.
+     * @param <K>        The type of the keys.
+     * @param <V>        The type of the values.
+     */
+    public <K, V> void replicate(
+        final @NotNull String id,
+        final @NotNull MapState<K, V> state,
+        final @NotNull ValueCodec<K> keyCodec,
+        final @NotNull ValueCodec<V> valueCodec
+    ) {
+        final var updates = new ArrayList<Runnable>();
+        synchronized (lock) {
+            checkAvailable(id);
+            register(new MapChannel<>(id, this, state, keyCodec, valueCodec), updates);
+        }
+        apply(updates);
+    }
+
+    /**
+     * Stops replicating the state with the given id, its pending changes are dropped.
+     *
+     * @param id The id of the state.
+     * @return Whether a state was replicated with the id.
+     */
+    public boolean stopReplicating(final @NotNull String id) {
+        synchronized (lock) {
+            final var channel = channels.remove(id);
+            if (channel == null) return false;
+            channel.detach();
+            dirty.remove(channel);
+            return true;
+        }
+    }
+
+    /**
+     * Applies the batches received since the last tick, then sends the changes captured since the last tick as one batch.
+     * Meant to be called once per server tick.
+     */
+    public void tick() {
+        if (closed) throw new IllegalStateException("The replicator is closed.");
+        receive();
+        flush();
+    }
+
+    /**
+     * Queues every value known to this node for the next batch, with their original versions.
+     * Used to bring a node that just joined up to date, nodes that are already up to date ignore them.
+     */
+    public void resync() {
+        synchronized (lock) {
+            channels.values().forEach(Channel::requeue);
+        }
+    }
+
+    /**
+     * Whether there are changes waiting for the next {@link #tick()}.
+     *
+     * @return True if there are pending changes.
+     */
+    public boolean hasPendingChanges() {
+        synchronized (lock) {
+            return !dirty.isEmpty();
+        }
+    }
+
+    /**
+     * The id of this node.
+     *
+     * @return The node id.
+     */
+    public @NotNull String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Stops replicating every state and closes the transport, pending changes are dropped.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) return;
+            closed = true;
+            channels.values().forEach(Channel::detach);
+            channels.clear();
+            dirty.clear();
+            orphans.clear();
+        }
+        transport.close();
+    }
+
+    @NotNull Version nextVersion() {
+        return new Version(++clock, nodeId);
+    }
+
+    void observe(final @NotNull Version version) {
+        if (version.counter() > clock) clock = version.counter();
+    }
+
+    void markDirty(final @NotNull Channel channel) {
+        dirty.add(channel);
+    }
+
+    boolean isApplying() {
+        return applyingThread == Thread.currentThread();
+    }
+
+    private void checkAvailable(final @NotNull String id) {
+        if (closed) throw new IllegalStateException("The replicator is closed.");
+        if (channels.containsKey(id)) throw new IllegalArgumentException("A state is already replicated with the id '" + id + "'.");
+    }
+
+    private void register(final @NotNull Channel channel, final @NotNull List<Runnable> updates) {
+        channels.put(channel.id, channel);
+
+        final var waiting = orphans.remove(channel.id);
+        if (waiting == null) return;
+        for (final var orphan : waiting) {
+            readBody(channel, orphan.body, orphan.sender, updates);
+        }
+    }
+
+    private void receive() {
+        byte[] payload;
+        while ((payload = inbound.poll()) != null) {
+            final var updates = new ArrayList<Runnable>();
+            synchronized (lock) {
+                readBatch(payload, updates);
+            }
+            apply(updates);
+        }
+    }
+
+    /**
+     * Sends the pending changes of every dirty channel.
+     * A channel whose changes can't be encoded drops them, since they would fail again on every tick,
+     * the other channels are still sent and the failure is thrown afterwards.
+     */
+    private void flush() {
+        final byte[] payload;
+        final var failures = new ArrayList<ReplicationException>();
+        synchronized (lock) {
+            if (dirty.isEmpty()) return;
+            payload = writeBatch(failures);
+            dirty.clear();
+        }
+        if (payload != null) transport.send(payload);
+        if (failures.isEmpty()) return;
+
+        final var failure = failures.get(0);
+        for (int i = 1; i < failures.size(); i++) failure.addSuppressed(failures.get(i));
+        throw failure;
+    }
+
+    private byte @Nullable [] writeBatch(final @NotNull List<ReplicationException> failures) {
+        final var chunks = new ArrayList<byte[]>(dirty.size());
+        for (final var channel : dirty) {
+            try {
+                final var chunk = writeChunk(channel);
+                if (chunk != null) chunks.add(chunk);
+            } catch (final IOException exception) {
+                channel.dropPending();
+                failures.add(new ReplicationException("Failed to encode the pending changes of '" + channel.id + "'.", exception));
+            }
+        }
+        if (chunks.isEmpty()) return null;
+
+        try {
+            final var bytes = new ByteArrayOutputStream();
+            final var output = new DataOutputStream(bytes);
+            output.writeByte(FORMAT);
+            output.writeUTF(nodeId);
+            Codecs.writeVarLong(output, chunks.size());
+            for (final var chunk : chunks) {
+                output.write(chunk);
+            }
+            return bytes.toByteArray();
+        } catch (final IOException exception) {
+            failures.add(new ReplicationException("Failed to encode the batch header.", exception));
+            return null;
+        }
+    }
+
+    /**
+     * Encodes the id and the body of a channel, or returns null if it has nothing pending.
+     */
+    private byte @Nullable [] writeChunk(final @NotNull Channel channel) throws IOException {
+        final var deltas = new ByteArrayOutputStream();
+        final var count = channel.writePending(new DataOutputStream(deltas), nodeId);
+        if (count == 0) return null;
+
+        final var body = new ByteArrayOutputStream(deltas.size() + 2);
+        Codecs.writeVarLong(new DataOutputStream(body), count);
+        deltas.writeTo(body);
+
+        final var chunk = new ByteArrayOutputStream(body.size() + channel.id.length() + 4);
+        final var output = new DataOutputStream(chunk);
+        output.writeUTF(channel.id);
+        Codecs.writeVarLong(output, body.size());
+        body.writeTo(chunk);
+        return chunk.toByteArray();
+    }
+
+    private void readBatch(final byte @NotNull [] payload, final @NotNull List<Runnable> updates) {
+        try {
+            final var input = new DataInputStream(new ByteArrayInputStream(payload));
+            final var format = input.readUnsignedByte();
+            if (format != FORMAT) throw new IOException("Unsupported batch format " + format + ".");
+
+            final var sender = input.readUTF();
+            if (sender.equals(nodeId)) return;
+
+            final var count = Codecs.readVarLong(input);
+            for (long i = 0; i < count; i++) {
+                final var id = input.readUTF();
+                // Checked against what's left of the payload before allocating, the length comes from the network
+                final var length = Codecs.readVarLong(input);
+                if (length < 0 || length > input.available()) {
+                    throw new IOException("The body of '" + id + "' claims " + length + " bytes, only " + input.available() + " are left.");
+                }
+                final var body = new byte[(int) length];
+                input.readFully(body);
+
+                final var channel = channels.get(id);
+                if (channel != null) {
+                    readBody(channel, body, sender, updates);
+                    continue;
+                }
+
+                final var waiting = orphans.computeIfAbsent(id, ignored -> new ArrayDeque<>());
+                if (waiting.size() == MAX_ORPHANED_BODIES) waiting.poll();
+                waiting.add(new Orphan(sender, body));
+            }
+        } catch (final IOException exception) {
+            LOGGER.log(System.Logger.Level.WARNING, "Dropped a malformed replication batch.", exception);
+        }
+    }
+
+    private void readBody(
+        final @NotNull Channel channel,
+        final byte @NotNull [] body,
+        final @NotNull String sender,
+        final @NotNull List<Runnable> updates
+    ) {
+        try {
+            channel.read(new DataInputStream(new ByteArrayInputStream(body)), sender, updates);
+        } catch (final IOException exception) {
+            LOGGER.log(System.Logger.Level.WARNING, "Dropped malformed changes for the replicated state '" + channel.id + "'.", exception);
+        }
+    }
+
+    /**
+     * Writes the received values to their states, flagging the current thread as applying received changes.
+     * Called without holding the lock, the triggers are batched so each state runs its listeners once per received batch.
+     */
+    private void apply(final @NotNull List<Runnable> updates) {
+        if (updates.isEmpty()) return;
+
+        final var previous = applyingThread;
+        applyingThread = Thread.currentThread();
+        try {
+            StateDispatcher.batch(() -> updates.forEach(Runnable::run));
+        } finally {
+            applyingThread = previous;
+        }
+    }
+
+    private static final class Orphan {
+
+        private final String sender;
+        private final byte[] body;
+
+        private Orphan(final @NotNull String sender, final byte @NotNull [] body) {
+            this.sender = sender;
+            this.body = body;
+        }
+    }
+}
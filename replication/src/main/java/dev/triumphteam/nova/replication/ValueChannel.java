@@ -0,0 +1,122 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.replication;
+
+import dev.triumphteam.nova.MutableState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Replicates a {@link MutableState}, only the latest value of a tick is sent.
+ *
+ * @param <T> The type of the value.
+ */
+final class ValueChannel<T> extends Channel {
+
+    private final MutableState<T> state;
+    private final ValueCodec<T> codec;
+    private final Runnable listener = this::changed;
+
+    // The last value captured or applied, a trigger leaving the value equal to it isn't an effective change
+    private T lastKnown;
+    private @Nullable Version version;
+    private boolean pending;
+
+    ValueChannel(
+        final @NotNull String id,
+        final @NotNull Replicator replicator,
+        final @NotNull MutableState<T> state,
+        final @NotNull ValueCodec<T> codec
+    ) {
+        super(id, replicator);
+        this.state = state;
+        this.codec = codec;
+        this.lastKnown = state.get();
+        state.addListener(this, listener);
+    }
+
+    @Override
+    int writePending(final @NotNull DataOutput output, final @NotNull String sender) throws IOException {
+        if (!pending || version == null) return 0;
+        pending = false;
+
+        writeHeader(output, VALUE, version, sender);
+        codec.write(output, lastKnown);
+        return 1;
+    }
+
+    @Override
+    void read(final @NotNull DataInput input, final @NotNull String sender, final @NotNull List<Runnable> updates) throws IOException {
+        final var count = Codecs.readVarLong(input);
+        for (long i = 0; i < count; i++) {
+            final var header = input.readUnsignedByte();
+            if ((header & ~FOREIGN) != VALUE) throw new IOException("Unexpected delta kind " + header + " for value " + id + ".");
+
+            final var remote = readVersion(input, header, sender);
+            final var value = codec.read(input);
+            replicator.observe(remote);
+            if (!remote.isNewerThan(version)) continue;
+
+            version = remote;
+            pending = false;
+            lastKnown = value;
+            updates.add(() -> state.set(value));
+        }
+    }
+
+    @Override
+    void requeue() {
+        if (version == null) return;
+        pending = true;
+        replicator.markDirty(this);
+    }
+
+    @Override
+    void dropPending() {
+        pending = false;
+    }
+
+    @Override
+    void detach() {
+        state.removeListener(this, listener);
+    }
+
+    private void changed() {
+        synchronized (replicator.lock) {
+            final var value = state.get();
+            if (Objects.equals(value, lastKnown)) return;
+
+            lastKnown = value;
+            version = replicator.nextVersion();
+            pending = true;
+            replicator.markDirty(this);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.replication;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Writes and reads the values of a replicated state, the values must be equal after a round trip.
+ * Encodings should be compact, they are sent for every change of the value.
+ *
+ * @param <T> The type of the values.
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * A codec for {@link String}s, using modified UTF-8.
+     *
+     * @return The codec.
+     */
+    static @NotNull ValueCodec<String> string() {
+        return Codecs.STRING;
+    }
+
+    /**
+     * A codec for {@link Integer}s.
+     *
+     * @return The codec.
+     */
+    static @NotNull ValueCodec<Integer> integer() {
+        return Codecs.INTEGER;
+    }
+
+    /**
+     * A codec for {@link Long}s.
+     *
+     * @return The codec.
+     */
+    static @NotNull ValueCodec<Long> longs() {
+        return Codecs.LONG;
+    }
+
+    /**
+     * A codec for {@link Double}s.
+     *
+     * @return The codec.
+     */
+    static @NotNull ValueCodec<Double> doubles() {
+        return Codecs.DOUBLE;
+    }
+
+    /**
+     * A codec for {@link Boolean}s.
+     *
+     * @return The codec.
+     */
+    static @NotNull ValueCodec<Boolean> bool() {
+        return Codecs.BOOLEAN;
+    }
+
+    /**
+     * A codec for {@link UUID}s.
+     *
+     * @return The codec.
+     */
+    static @NotNull ValueCodec<UUID> uuid() {
+        return Codecs.UUID;
+    }
+
+    /**
+     * A codec for the constants of an enum, written by ordinal, so every node must use the same enum.
+     *
+     * @param type The enum class.
+     * @param <E>  The type of the enum.
+     * @return The codec.
+     */
+    static <E extends Enum<E>> @NotNull ValueCodec<E> enumeration(final @NotNull Class<E> type) {
+        final var constants = type.getEnumConstants();
+        return new ValueCodec<>() {
+            @Override
+            public void write(final @NotNull DataOutput output, final @NotNull E value) throws IOException {
+                output.writeShort(value.ordinal());
+            }
+
+            @Override
+            public @NotNull E read(final @NotNull DataInput input) throws IOException {
+                return constants[input.readUnsignedShort()];
+            }
+        };
+    }
+
+    /**
+     * Wraps a codec to also accept {@code null} values.
+     *
+     * @param codec The codec of the non-null values.
+     * @param <T>   The type of the values.
+     * @return The codec.
+     */
+    static <T> @NotNull ValueCodec<@Nullable T> nullable(final @NotNull ValueCodec<T> codec) {
+        return new ValueCodec<>() {
+            @Override
+            public void write(final @NotNull DataOutput output, final @Nullable T value) throws IOException {
+                output.writeBoolean(value != null);
+                if (value != null) codec.write(output, value);
+            }
+
+            @Override
+            public @Nullable T read(final @NotNull DataInput input) throws IOException {
+                return input.readBoolean() ? codec.read(input) : null;
+            }
+        };
+    }
+
+    /**
+     * Writes the value.
+     *
+     * @param output The output to write to.
+     * @param value  The value to write.
+     * @throws IOException If the output fails.
+     */
+    void write(final @NotNull DataOutput output, final T value) throws IOException;
+
+    /**
+     * Reads a value written by {@link #write(DataOutput, Object)}.
+     *
+     * @param input The input to read from.
+     * @return The read value.
+     * @throws IOException If the input fails or is malformed.
+     */
+    T read(final @NotNull DataInput input) throws IOException;
+}
@@ -0,0 +1,72 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.replication;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The version of a replicated value, a Lamport counter with the node that wrote it breaking ties,
+ * the greatest version wins.
+ */
+final class Version implements Comparable<Version> {
+
+    private final long counter;
+    private final String node;
+
+    Version(final long counter, final @NotNull String node) {
+        this.counter = counter;
+        this.node = node;
+    }
+
+    long counter() {
+        return counter;
+    }
+
+    @NotNull String node() {
+        return node;
+    }
+
+    @Override
+    public int compareTo(final @NotNull Version other) {
+        final var compared = Long.compare(counter, other.counter);
+        if (compared != 0) return compared;
+        return node.compareTo(other.node);
+    }
+
+    /**
+     * Whether this version wins against the current one, when there is one.
+     *
+     * @param current The current version or null if the value was never written.
+     * @return True if this version is newer.
+     */
+    boolean isNewerThan(final @Nullable Version current) {
+        return current == null || compareTo(current) > 0;
+    }
+
+    @Override
+    public String toString() {
+        return counter + "@" + node;
+    }
+}
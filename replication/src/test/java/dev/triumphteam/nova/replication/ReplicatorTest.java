@@ -0,0 +1,191 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2024 TriumphTeam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.nova.replication;
+
+import dev.triumphteam.nova.MapState;
+import dev.triumphteam.nova.MutableState;
+import dev.triumphteam.nova.snapshot.SnapshotMapState;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class ReplicatorTest {
+
+    private final LoopbackNetwork network = new LoopbackNetwork();
+    private final List<Replicator> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(Replicator::close);
+    }
+
+    @Test
+    void valueReachesTheOtherNode() {
+        final var a = node("a");
+        final var b = node("b");
+        final var first = MutableState.of("initial");
+        final var second = MutableState.of("initial");
+        a.replicate("value", first, ValueCodec.string());
+        b.replicate("value", second, ValueCodec.string());
+
+        first.set("changed");
+        tickAll();
+
+        assertEquals("changed", second.get());
+    }
+
+    @Test
+    void concurrentWritesConverge() {
+        final var a = node("a");
+        final var b = node("b");
+        final var first = MutableState.of(0);
+        final var second = MutableState.of(0);
+        a.replicate("value", first, ValueCodec.integer());
+        b.replicate("value", second, ValueCodec.integer());
+
+        first.set(1);
+        second.set(2);
+        tickAll();
+        tickAll();
+
+        assertEquals(first.get(), second.get());
+    }
+
+    @Test
+    void mapEntriesChangedOnDifferentNodesAreMerged() {
+        final var a = node("a");
+        final var b = node("b");
+        final MapState<String, Integer> first = MapState.of();
+        final MapState<String, Integer> second = MapState.of();
+        a.replicate("map", first, ValueCodec.string(), ValueCodec.integer());
+        b.replicate("map", second, ValueCodec.string(), ValueCodec.integer());
+
+        first.put("one", 1);
+        second.put("two", 2);
+        tickAll();
+        first.remove("one");
+        tickAll();
+
+        assertEquals(Map.of("two", 2), Map.copyOf(first));
+        assertEquals(Map.of("two", 2), Map.copyOf(second));
+    }
+
+    @Test
+    void resetOnlyMapsOnlySendChangedKeys() {
+        final var a = node("a");
+        final var b = node("b");
+        final var first = new SnapshotMapState<String, String>(Map.of("one", "a1", "two", "b1"));
+        final var second = new SnapshotMapState<String, String>(Map.of("one", "a1", "two", "b1"));
+        a.replicate("map", first, ValueCodec.string(), ValueCodec.string());
+        b.replicate("map", second, ValueCodec.string(), ValueCodec.string());
+
+        // Each reset must not give the key the other node changed a newer version than the other write
+        first.put("one", "a2");
+        second.put("two", "b2");
+        tickAll();
+        tickAll();
+
+        assertEquals(Map.of("one", "a2", "two", "b2"), Map.copyOf(first));
+        assertEquals(Map.of("one", "a2", "two", "b2"), Map.copyOf(second));
+    }
+
+    @Test
+    void bodyLongerThanThePayloadIsDropped() throws IOException {
+        final var b = node("b");
+        final var state = MutableState.of("initial");
+        b.replicate("value", state, ValueCodec.string());
+
+        final var bytes = new ByteArrayOutputStream();
+        final var output = new DataOutputStream(bytes);
+        output.writeByte(1);
+        output.writeUTF("evil");
+        Codecs.writeVarLong(output, 1);
+        output.writeUTF("value");
+        Codecs.writeVarLong(output, Integer.MAX_VALUE - 8);
+        network.connect().send(bytes.toByteArray());
+
+        assertDoesNotThrow(b::tick);
+        assertEquals("initial", state.get());
+    }
+
+    @Test
+    void unencodableChangesDoNotHoldBackTheOthers() {
+        final var a = node("a");
+        final var b = node("b");
+        final var broken = MutableState.of("initial");
+        final var first = MutableState.of("initial");
+        final var second = MutableState.of("initial");
+        a.replicate("broken", broken, new FailingCodec());
+        a.replicate("value", first, ValueCodec.string());
+        b.replicate("value", second, ValueCodec.string());
+
+        broken.set("changed");
+        first.set("changed");
+
+        assertThrows(ReplicationException.class, a::tick);
+        b.tick();
+        assertEquals("changed", second.get());
+
+        // The broken changes were dropped, they don't fail every tick
+        assertFalse(a.hasPendingChanges());
+        assertDoesNotThrow(a::tick);
+    }
+
+    private @NotNull Replicator node(final @NotNull String id) {
+        final var node = Replicator.create(id, network.connect());
+        nodes.add(node);
+        return node;
+    }
+
+    private void tickAll() {
+        nodes.forEach(Replicator::tick);
+    }
+
+    private static final class FailingCodec implements ValueCodec<String> {
+
+        @Override
+        public void write(final @NotNull DataOutput output, final String value) throws IOException {
+            throw new IOException("Can't encode " + value + ".");
+        }
+
+        @Override
+        public String read(final @NotNull DataInput input) throws IOException {
+            return input.readUTF();
+        }
+    }
+}
@@ -27,3 +27,9 @@ includeProject("core") {
 includeProject("kotlin") {
     name = "$base-kotlin"
 }
+includeProject("processor") {
+    name = "$base-processor"
+}
+includeProject("replication") {
+    name = "$base-replication"
+}